@@ -0,0 +1,40 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ActorInterceptor;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Audit log of degree, role, thesis and author changes.
+ *
+ * <p>Enabled with {@code tims.audit.enabled=true}. Changes are attributed to the value of the
+ * {@code X-Actor} header if it was set by one of {@code tims.audit.trusted-proxies}, are marked as
+ * unverified if the header came from any other client, and are attributed to the client address
+ * without it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tims.audit.enabled", havingValue = "true")
+public class AuditConfig implements WebMvcConfigurer {
+
+  private final String actorHeader;
+
+  private final Set<String> trustedProxies;
+
+  public AuditConfig(
+      @Value("${tims.audit.actor-header:X-Actor}") String actorHeader,
+      @Value("${tims.audit.trusted-proxies:}") Set<String> trustedProxies
+  ) {
+    this.actorHeader = actorHeader;
+    this.trustedProxies = trustedProxies;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new ActorInterceptor(actorHeader, trustedProxies))
+        .addPathPatterns("/api/**");
+  }
+}
@@ -0,0 +1,63 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.DeadlineAwareTransactionManager;
+import com.portfolio.dev.thesisinfomgmt.utilities.DeadlineInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request deadline, propagated from the HTTP request down to the JDBC query timeout.
+ *
+ * <p>The default deadline is {@code tims.deadline.default-ms}. Clients can choose another one with
+ * the {@code X-Request-Timeout-Ms} header, up to {@code tims.deadline.max-ms}. Document uploads
+ * and downloads have no deadline, since their duration depends on the size of the document and the
+ * speed of the client.
+ */
+@Configuration
+public class DeadlineConfig implements WebMvcConfigurer {
+
+  private final String timeoutHeader;
+
+  private final long defaultTimeoutMs;
+
+  private final long maxTimeoutMs;
+
+  public DeadlineConfig(
+      @Value("${tims.deadline.header:X-Request-Timeout-Ms}") String timeoutHeader,
+      @Value("${tims.deadline.default-ms:30000}") long defaultTimeoutMs,
+      @Value("${tims.deadline.max-ms:60000}") long maxTimeoutMs
+  ) {
+    this.timeoutHeader = timeoutHeader;
+    this.defaultTimeoutMs = defaultTimeoutMs;
+    this.maxTimeoutMs = maxTimeoutMs;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new DeadlineInterceptor(timeoutHeader, defaultTimeoutMs, maxTimeoutMs))
+        .addPathPatterns("/api/**")
+        .excludePathPatterns("/api/theses/*/document");
+  }
+
+  /**
+   * Replaces the auto-configured JPA transaction manager
+   *
+   * @param transactionManagerCustomizers customizers applied by Spring Boot
+   * @return deadline aware transaction manager
+   */
+  @Bean
+  public JpaTransactionManager transactionManager(
+      ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers
+  ) {
+    JpaTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+    transactionManagerCustomizers.ifAvailable(
+        customizers -> customizers.customize(transactionManager));
+    return transactionManager;
+  }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.FileRegionHttpMessageConverter;
+import java.nio.file.Paths;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * File store of thesis documents.
+ *
+ * <p>Documents are stored below {@code tims.documents.root}, in {@code tims.documents.shard-depth}
+ * levels of directories named after {@code tims.documents.shard-width} characters of their key.
+ */
+@Configuration
+public class DocumentStoreConfig implements WebMvcConfigurer {
+
+  /**
+   * Creates the document store
+   *
+   * @param root       root directory of the store
+   * @param shardDepth number of directory levels below the root
+   * @param shardWidth number of key characters naming each directory level
+   * @return document store
+   */
+  @Bean
+  public DocumentStore documentStore(
+      @Value("${tims.documents.root:data/documents}") String root,
+      @Value("${tims.documents.shard-depth:2}") int shardDepth,
+      @Value("${tims.documents.shard-width:2}") int shardWidth
+  ) {
+    return new DocumentStore(Paths.get(root), shardDepth, shardWidth);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(0, new FileRegionHttpMessageConverter());
+  }
+}
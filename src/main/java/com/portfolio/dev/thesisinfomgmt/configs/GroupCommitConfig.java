@@ -0,0 +1,64 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.services.DegreeService;
+import com.portfolio.dev.thesisinfomgmt.services.RoleService;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.GroupCommitBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Group commit of degree and role creation: concurrent create requests are collected for a few
+ * milliseconds or up to a batch size and inserted in a single transaction.
+ *
+ * <p>Enabled with {@code tims.group-commit.enabled=true}. Without these batchers, every create
+ * request runs in its own transaction.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tims.group-commit.enabled", havingValue = "true")
+public class GroupCommitConfig {
+
+  private final MeterRegistry meterRegistry;
+
+  private final int maxBatchSize;
+
+  private final long maxDelayMs;
+
+  private final long batchTimeoutMs;
+
+  private final int queueCapacity;
+
+  public GroupCommitConfig(
+      MeterRegistry meterRegistry,
+      @Value("${tims.group-commit.max-batch-size:100}") int maxBatchSize,
+      @Value("${tims.group-commit.max-delay-ms:2}") long maxDelayMs,
+      @Value("${tims.group-commit.batch-timeout-ms:10000}") long batchTimeoutMs,
+      @Value("${tims.group-commit.queue-capacity:1000}") int queueCapacity
+  ) {
+    this.meterRegistry = meterRegistry;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayMs = maxDelayMs;
+    this.batchTimeoutMs = batchTimeoutMs;
+    this.queueCapacity = queueCapacity;
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public GroupCommitBatcher<Attributed<DegreeDTO>, CreateResultDTO<DegreeDTO>>
+      degreeCreateBatcher(DegreeService degreeService) {
+    return new GroupCommitBatcher<>("degrees", maxBatchSize, maxDelayMs, batchTimeoutMs,
+        queueCapacity, degreeService::createDegrees, meterRegistry);
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public GroupCommitBatcher<Attributed<RoleDTO>, CreateResultDTO<RoleDTO>>
+      roleCreateBatcher(RoleService roleService) {
+    return new GroupCommitBatcher<>("roles", maxBatchSize, maxDelayMs, batchTimeoutMs,
+        queueCapacity, roleService::createRoles, meterRegistry);
+  }
+}
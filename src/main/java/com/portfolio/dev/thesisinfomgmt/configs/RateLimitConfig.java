@@ -0,0 +1,70 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.RateLimitInterceptor;
+import com.portfolio.dev.thesisinfomgmt.utilities.TokenBucketRateLimiter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-client rate limiting of write requests, one token bucket per client and route group.
+ *
+ * <p>Enabled with {@code tims.rate-limit.enabled=true}. Each route group is configured with
+ * {@code tims.rate-limit.<group>.capacity} and {@code tims.rate-limit.<group>.refill-per-second}.
+ * Clients are identified by remote address unless {@code tims.rate-limit.client-key-header} names
+ * an API key header validated by a gateway in front of the application. The batch lookups of
+ * degrees and roles are POST requests only to carry their ids in the body, they are reads and are
+ * not limited.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tims.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig implements WebMvcConfigurer {
+
+  private final Environment environment;
+
+  private final String clientKeyHeader;
+
+  private final long idleTimeoutSeconds;
+
+  private final int maxClients;
+
+  public RateLimitConfig(
+      Environment environment,
+      @Value("${tims.rate-limit.client-key-header:}") String clientKeyHeader,
+      @Value("${tims.rate-limit.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+      @Value("${tims.rate-limit.max-clients:100000}") int maxClients
+  ) {
+    this.environment = environment;
+    this.clientKeyHeader = StringUtils.isNotBlank(clientKeyHeader) ? clientKeyHeader : null;
+    this.idleTimeoutSeconds = idleTimeoutSeconds;
+    this.maxClients = maxClients;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(createInterceptor("degrees"))
+        .addPathPatterns("/api/degrees", "/api/degrees/**")
+        .excludePathPatterns("/api/degrees/batch");
+    registry.addInterceptor(createInterceptor("roles"))
+        .addPathPatterns("/api/roles", "/api/roles/**")
+        .excludePathPatterns("/api/roles/batch");
+    registry.addInterceptor(createInterceptor("theses"))
+        .addPathPatterns("/api/theses", "/api/theses/**");
+    registry.addInterceptor(createInterceptor("authors"))
+        .addPathPatterns("/api/authors", "/api/authors/**");
+  }
+
+  private RateLimitInterceptor createInterceptor(String routeGroup) {
+    String prefix = "tims.rate-limit." + routeGroup;
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+        environment.getProperty(prefix + ".capacity", Integer.class, 20),
+        environment.getProperty(prefix + ".refill-per-second", Double.class, 5.0),
+        idleTimeoutSeconds,
+        maxClients);
+    return new RateLimitInterceptor(routeGroup, clientKeyHeader, rateLimiter);
+  }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Non-blocking database access for the reactive read API.
+ *
+ * <p>Enabled with {@code tims.reactive.enabled=true}. Uses its own R2DBC connection pool next to
+ * the JDBC one, so the reactive endpoints never wait for a JDBC connection or a request thread.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tims.reactive.enabled", havingValue = "true")
+public class ReactiveConfig implements DisposableBean {
+
+  // Not exposed as a bean, a ConnectionFactory bean makes Spring Boot skip the JDBC DataSource
+  private ConnectionPool connectionPool;
+
+  /**
+   * Creates the database client on top of a pooled R2DBC connection factory
+   *
+   * @param url      R2DBC connection URL
+   * @param username database user
+   * @param password database password
+   * @param poolSize maximum number of pooled connections
+   * @return reactive database client
+   */
+  @Bean
+  public DatabaseClient reactiveDatabaseClient(
+      @Value("${tims.reactive.r2dbc.url}") String url,
+      @Value("${tims.reactive.r2dbc.username}") String username,
+      @Value("${tims.reactive.r2dbc.password}") String password,
+      @Value("${tims.reactive.r2dbc.pool-size:10}") int poolSize
+  ) {
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+        .option(USER, username)
+        .option(PASSWORD, password)
+        .build();
+    ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+        .builder(ConnectionFactories.get(options))
+        .maxSize(poolSize)
+        .build();
+    connectionPool = new ConnectionPool(configuration);
+    return DatabaseClient.create(connectionPool);
+  }
+
+  @Override
+  public void destroy() {
+    if (connectionPool != null) {
+      connectionPool.dispose();
+    }
+  }
+}
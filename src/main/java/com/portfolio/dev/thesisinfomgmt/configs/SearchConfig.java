@@ -0,0 +1,52 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.PdfTextExtractor;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Full-text search index of theses.
+ *
+ * <p>The index is kept below {@code tims.search.directory}. Title and abstract matches weigh
+ * {@code tims.search.title-weight} and {@code tims.search.abstract-weight} times as much as
+ * matches in the text of documents, of which the first {@code tims.search.max-content-chars}
+ * characters are indexed.
+ */
+@Configuration
+public class SearchConfig {
+
+  /**
+   * Opens the search index, which is committed and closed on shutdown
+   *
+   * @param directory          directory of the index
+   * @param titleWeight        weight of title matches
+   * @param abstractWeight     weight of abstract matches
+   * @param maxHighlightLength number of leading characters of each field which are highlighted
+   * @return search index
+   */
+  @Bean(destroyMethod = "close")
+  public SearchIndex searchIndex(
+      @Value("${tims.search.directory:data/search}") String directory,
+      @Value("${tims.search.title-weight:3}") float titleWeight,
+      @Value("${tims.search.abstract-weight:2}") float abstractWeight,
+      @Value("${tims.search.max-highlight-chars:100000}") int maxHighlightLength
+  ) {
+    return new SearchIndex(Paths.get(directory), titleWeight, abstractWeight, maxHighlightLength);
+  }
+
+  /**
+   * Creates the extractor of document text
+   *
+   * @param maxContentChars maximum number of characters extracted from a document
+   * @return PDF text extractor
+   */
+  @Bean
+  public PdfTextExtractor pdfTextExtractor(
+      @Value("${tims.search.max-content-chars:1000000}") int maxContentChars
+  ) {
+    return new PdfTextExtractor(maxContentChars);
+  }
+}
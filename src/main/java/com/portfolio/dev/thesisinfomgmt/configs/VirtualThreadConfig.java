@@ -0,0 +1,108 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs servlet request handling, and with it the service layer, on virtual threads.
+ *
+ * <p>Enabled with {@code tims.virtual-threads.enabled=true} and requires running on Java 21 or
+ * newer. The application is still compiled for Java 11, so virtual threads are created through
+ * reflection. Tomcat's thread pool no longer limits concurrency in this mode. Keep
+ * {@code tims.async.enabled=false} so that handlers run directly on the virtual request thread
+ * instead of hopping to the platform-thread database executor.
+ *
+ * <p>The MySQL driver (Connector/J 8.0) guards its socket I/O with {@code synchronized}, which
+ * pins a virtual thread to its carrier thread for the duration of each query. Virtual threads
+ * waiting for a connection are not pinned, since Hikari parks them, so at most one carrier per
+ * pooled connection is pinned, and the {@link
+ * com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor} permits cap the virtual threads
+ * doing database work at the pool size. The scheduler therefore gets one carrier per CPU core
+ * plus one per pooled connection, so that pinned queries never starve the other virtual threads
+ * and the connection pool stays the real limit. An explicit
+ * {@code jdk.virtualThreadScheduler.parallelism} is left as is.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tims.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+  public VirtualThreadConfig(
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+  ) {
+    // Read once when the first virtual thread is created, which happens below
+    reserveCarrierThreads(connectionPoolSize);
+  }
+
+  /**
+   * Replaces Tomcat's request thread pool with a virtual thread per request
+   *
+   * @return protocol handler customizer
+   */
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    ExecutorService executor = newVirtualThreadPerTaskExecutor();
+    return protocolHandler -> protocolHandler.setExecutor(executor);
+  }
+
+  /**
+   * Runs Spring MVC async processing (e.g. streaming responses) on virtual threads
+   *
+   * @return application task executor
+   */
+  @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+  public AsyncTaskExecutor applicationTaskExecutor() {
+    return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+  }
+
+  /**
+   * Sizes the virtual thread scheduler so that every pooled connection can pin a carrier thread
+   * while a carrier per CPU core stays available, unless the parallelism was set explicitly
+   *
+   * @param connectionPoolSize maximum number of pooled connections
+   */
+  static void reserveCarrierThreads(int connectionPoolSize) {
+    if (System.getProperty(PARALLELISM_PROPERTY) == null) {
+      System.setProperty(PARALLELISM_PROPERTY,
+          Integer.toString(Runtime.getRuntime().availableProcessors() + connectionPoolSize));
+    }
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for each task
+   *
+   * @return virtual thread executor
+   * @throws IllegalStateException if the running JDK does not support virtual threads
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw unsupported(e);
+    } catch (InvocationTargetException e) {
+      // Java 19 and 20 have virtual threads only as a preview feature
+      if (e.getCause() instanceof UnsupportedOperationException) {
+        throw unsupported(e);
+      }
+      throw new IllegalStateException("Could not create virtual thread executor.", e);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create virtual thread executor.", e);
+    }
+  }
+
+  private static IllegalStateException unsupported(ReflectiveOperationException e) {
+    return new IllegalStateException("Virtual threads require Java 21 or newer, running on Java "
+        + Runtime.version().feature() + ".", e);
+  }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.EXPORT;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.services.AuditService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/audit")
+@ConditionalOnProperty(name = "tims.audit.enabled", havingValue = "true")
+public class AuditController {
+
+  private final AuditService auditService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public AuditController(AuditService auditService, DatabaseExecutor databaseExecutor) {
+    this.auditService = auditService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves audit records written after a sequence
+   *
+   * @param entityType optional type of the changed entities
+   * @param entityId   optional id of the changed entity
+   * @param actor      optional actor of the changes
+   * @param since      sequence of the last record already received
+   * @param limit      maximum number of records to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves audit records.",
+      description = "Retrieves the audit records of degree, role, thesis and author changes"
+          + " written after the given sequence, oldest first. Records become visible shortly"
+          + " after the change was committed, once the background writer has appended them to the"
+          + " audit log.",
+      tags = "Audit")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Audit records successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuditPageDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"records\": ["
+                + "        {"
+                + "            \"sequence\": 42,"
+                + "            \"timestamp\": \"2022-09-01T08:00:00Z\","
+                + "            \"actor\": \"registrar-sync\","
+                + "            \"entityType\": \"DEGREE\","
+                + "            \"changeType\": \"UPDATED\","
+                + "            \"entityId\": 1,"
+                + "            \"before\": {"
+                + "                \"id\": 1,"
+                + "                \"abbr\": \"BSCS\","
+                + "                \"name\": \"BS Computer Science\""
+                + "            },"
+                + "            \"after\": {"
+                + "                \"id\": 1,"
+                + "                \"abbr\": \"BSCS\","
+                + "                \"name\": \"Bachelor of Science in Computer Science\""
+                + "            }"
+                + "        }"
+                + "    ],"
+                + "    \"sequence\": 42,"
+                + "    \"hasMore\": false"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Audit records were not retrieved since"
+          + " the limit is out of range.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 1000.\""
+                + "}")))
+  })
+  @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getAuditRecords(
+      @Parameter(name = "entityType", description = "Type of the changed entities")
+      @RequestParam(name = "entityType", required = false) EntityType entityType,
+      @Parameter(name = "entityId", description = "Id of the changed entity")
+      @RequestParam(name = "entityId", required = false) Long entityId,
+      @Parameter(name = "actor", description = "Actor of the changes")
+      @RequestParam(name = "actor", required = false) String actor,
+      @Parameter(name = "since", description = "Sequence of the last record already received")
+      @RequestParam(name = "since", defaultValue = "0") long since,
+      @Parameter(name = "limit", description = "Maximum number of records to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "100") int limit
+  ) {
+    // Scanning the audit log is long-running like an export
+    return databaseExecutor.submit(EXPORT, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validateChangesLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      AuditPageDTO records = auditService.getRecords(entityType, entityId, actor, since, limit);
+      return ResponseEntity.ok(records);
+    });
+  }
+}
@@ -0,0 +1,331 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.services.AuthorService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/authors")
+public class AuthorController {
+
+  private final AuthorService authorService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public AuthorController(AuthorService authorService, DatabaseExecutor databaseExecutor) {
+    this.authorService = authorService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves a page of authors
+   *
+   * @param afterId id of the last author of the previous page
+   * @param limit   maximum number of authors to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a page of authors.",
+      description = "Retrieves authors ordered by id. The next page is retrieved by sending the"
+          + " returned cursor as 'after'; it is null on the last page.",
+      tags = "Author")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Authors successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = KeysetPageDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"firstName\": \"Juan\","
+                + "            \"lastName\": \"Dela Cruz\","
+                + "            \"email\": \"juan.delacruz@example.edu\""
+                + "        }"
+                + "    ],"
+                + "    \"nextCursor\": \"1\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Authors were not retrieved due to an"
+          + " invalid limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 100.\""
+                + "}")))
+  })
+  @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getAuthors(
+      @Parameter(name = "after", description = "Cursor returned with the previous page")
+      @RequestParam(name = "after", defaultValue = "0") long afterId,
+      @Parameter(name = "limit", description = "Maximum number of authors to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validatePageLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      KeysetPageDTO<AuthorDTO> authors = authorService.getAuthors(afterId, limit);
+      return ResponseEntity.ok(authors);
+    });
+  }
+
+  /**
+   * Creates a new author
+   *
+   * @param newAuthor author details
+   * @return 201 / CREATED if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Creates a new author.",
+      description = "Creates a new author for Thesis Information Management System.",
+      tags = "Author")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Author successfully created.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Author was not created due to some"
+          + " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author last name is required.\""
+                + "}")))
+  })
+  @PostMapping(value = "",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> createAuthor(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "New author request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class,
+                  requiredProperties = { "firstName", "lastName" }),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}")))
+      @RequestBody AuthorDTO newAuthor
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate new author details
+      ValidationResponse validationResponse = authorService.validateAuthor(newAuthor);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      // Create the new author
+      AuthorDTO createdAuthor = authorService.createAuthor(newAuthor);
+      return ResponseEntity.status(HttpStatus.CREATED).body(createdAuthor);
+    });
+  }
+
+  /**
+   * Retrieves an author
+   *
+   * @param authorId id of the author to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves an author.",
+      description = "Retrieves an author for Thesis Information Management System.",
+      tags = "Author")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Author successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Author to be retrieved not found.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getAuthor(
+      @Parameter(name = "id", description = "Id of the author to be retrieved")
+      @PathVariable(name = "id") long authorId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<AuthorDTO> retrievedAuthor = authorService.getAuthor(authorId);
+      if (retrievedAuthor.isPresent()) {
+        return ResponseEntity.ok(retrievedAuthor.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(AUTHOR_NOT_FOUND, authorId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Updates an author
+   *
+   * @param authorId      id of the author to be updated
+   * @param updatedAuthor updated author details
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Updates an author.",
+      description = "Updates an author for Thesis Information Management System.",
+      tags = "Author")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Author successfully updated.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Author was not updated due to some"
+          + " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author first name is required.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Author was not updated due to resource"
+          + " does not exists.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author with id '1' not found.\""
+                + "}")))
+  })
+  @PutMapping(value = "/{id}",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> updateAuthor(
+      @Parameter(name = "id", description = "Id of the author to be updated.")
+      @PathVariable(name = "id") long authorId,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Updated author request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class,
+                  requiredProperties = { "firstName", "lastName" }),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}")))
+      @RequestBody AuthorDTO updatedAuthor
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate author details
+      ValidationResponse validationResponse = authorService.validateAuthor(updatedAuthor);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      Optional<AuthorDTO> optUpdatedAuthor = authorService.updateAuthor(authorId, updatedAuthor);
+      if (optUpdatedAuthor.isPresent()) {
+        return ResponseEntity.ok(optUpdatedAuthor.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(AUTHOR_NOT_FOUND, authorId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Deletes an author
+   *
+   * @param authorId id of the author to be deleted
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Deletes an author.",
+      description = "Deletes an author and removes it from the author lists of its theses.",
+      tags = "Author")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Author successfully deleted.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = AuthorDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"firstName\": \"Juan\","
+                + "    \"lastName\": \"Dela Cruz\","
+                + "    \"email\": \"juan.delacruz@example.edu\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Author was not deleted due to resource"
+          + " does not exists.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author with id '1' not found.\""
+                + "}")))
+  })
+  @DeleteMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> deleteAuthor(
+      @Parameter(name = "id", description = "Id of the author to be deleted.")
+      @PathVariable(name = "id") long authorId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<AuthorDTO> deletedAuthor = authorService.deleteAuthor(authorId);
+      if (deletedAuthor.isPresent()) {
+        return ResponseEntity.ok(deletedAuthor.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(AUTHOR_NOT_FOUND, authorId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import com.portfolio.dev.thesisinfomgmt.services.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+  private final ChangeFeedService changeFeedService;
+
+  public ChangeFeedController(
+      ChangeFeedService changeFeedService
+  ) {
+    this.changeFeedService = changeFeedService;
+  }
+
+  /**
+   * Streams degree, role, thesis and author changes as Server-Sent Events
+   *
+   * @param lastEventId id of the last event received, sent by the browser on reconnection
+   * @return 200 / OK with an open event stream. Every other results indicates an error.
+   */
+  @Operation(summary = "Streams degree, role, thesis and author changes.",
+      description = "Streams every committed create, update and delete of degrees, roles, theses"
+          + " and authors as Server-Sent Events named 'change'. Reconnecting clients resume from"
+          + " Last-Event-ID. If the missed events are no longer buffered, or the id was issued"
+          + " before a restart, a 'reset' event is sent instead and the client should reload its"
+          + " data.",
+      tags = "Change Feed")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Change stream successfully opened.",
+          content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+              examples = @ExampleObject(value =
+                  "id:l7h1s0g0-1\n"
+                + "event:change\n"
+                + "data:{"
+                + "\"sequence\":1,"
+                + "\"entityType\":\"DEGREE\","
+                + "\"changeType\":\"CREATED\","
+                + "\"entityId\":1,"
+                + "\"data\":{\"id\":1,\"abbr\":\"BSCS\","
+                + "\"name\":\"Bachelor of Science in Computer Science\"},"
+                + "\"timestamp\":\"2022-09-01T00:00:00Z\"}\n")))
+  })
+  @GetMapping(value = "/stream", produces = { MediaType.TEXT_EVENT_STREAM_VALUE })
+  public SseEmitter streamChanges(
+      @Parameter(name = "Last-Event-ID", description = "Id of the last event received")
+      @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+  ) {
+    return changeFeedService.subscribe(lastEventId);
+  }
+}
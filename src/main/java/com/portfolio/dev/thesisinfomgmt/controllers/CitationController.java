@@ -0,0 +1,380 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CITATION_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CITATION_RELOAD_IN_PROGRESS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CITATION_SELF;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CITATION_THESIS_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationGraphStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationNeighbourDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.RelatedThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCitationDTO;
+import com.portfolio.dev.thesisinfomgmt.services.CitationGraphService;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisCitationService;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Direction;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Relation;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/citations")
+public class CitationController {
+
+  private final ThesisCitationService thesisCitationService;
+
+  private final CitationGraphService citationGraphService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public CitationController(
+      ThesisCitationService thesisCitationService,
+      CitationGraphService citationGraphService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.thesisCitationService = thesisCitationService;
+    this.citationGraphService = citationGraphService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Adds a citation of a thesis by another thesis
+   *
+   * @param thesisId      id of the citing thesis
+   * @param citedThesisId id of the cited thesis
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Adds a citation of a thesis by another thesis.",
+      description = "Records that a thesis cites another thesis. Adding an existing citation"
+          + " leaves it unchanged.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Citation successfully added.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisCitationDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"citingThesisId\": 1,"
+                + "    \"citedThesisId\": 42,"
+                + "    \"createdAt\": \"2022-09-01T08:00:00Z\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Citation was not added since a thesis"
+          + " cannot cite itself.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis cannot cite itself.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Citing or cited thesis does not exist.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' or cited thesis with id '42' not"
+                + " found.\""
+                + "}")))
+  })
+  @PutMapping(value = "/theses/{id}/cites/{citedId}",
+      produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> addCitation(
+      @Parameter(name = "id", description = "Id of the citing thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "citedId", description = "Id of the cited thesis")
+      @PathVariable(name = "citedId") long citedThesisId
+  ) {
+    if (thesisId == citedThesisId) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+          .body(new ErrorMessage(CITATION_SELF)));
+    }
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisCitationDTO> citation =
+          thesisCitationService.addCitation(thesisId, citedThesisId);
+      if (citation.isPresent()) {
+        return ResponseEntity.ok(citation.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(
+            String.format(CITATION_THESIS_NOT_FOUND, thesisId, citedThesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Removes a citation of a thesis by another thesis
+   *
+   * @param thesisId      id of the citing thesis
+   * @param citedThesisId id of the cited thesis
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Removes a citation of a thesis by another thesis.",
+      description = "Removes the record that a thesis cites another thesis, leaving both theses"
+          + " unchanged.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Citation successfully removed.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisCitationDTO.class))),
+      @ApiResponse(responseCode = "404", description = "Citation does not exist.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' does not cite thesis with id '42'.\""
+                + "}")))
+  })
+  @DeleteMapping(value = "/theses/{id}/cites/{citedId}",
+      produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> removeCitation(
+      @Parameter(name = "id", description = "Id of the citing thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "citedId", description = "Id of the cited thesis")
+      @PathVariable(name = "citedId") long citedThesisId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisCitationDTO> citation =
+          thesisCitationService.removeCitation(thesisId, citedThesisId);
+      if (citation.isPresent()) {
+        return ResponseEntity.ok(citation.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(
+            String.format(CITATION_NOT_FOUND, thesisId, citedThesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Retrieves the theses reachable from a thesis by following citations
+   *
+   * @param thesisId  id of the thesis
+   * @param direction direction of the followed citations
+   * @param hops      maximum number of citations followed
+   * @param limit     maximum number of theses to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves the citation neighbours of a thesis.",
+      description = "Retrieves the theses the thesis cites, the theses citing it, or both, and"
+          + " so on up to the given number of hops, nearest first and then by id. Citations"
+          + " are answered from the citation graph in memory, to which committed changes are"
+          + " applied in the background, usually within milliseconds.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Neighbours successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = CitationNeighbourDTO.class)),
+              examples = @ExampleObject(value =
+                  "["
+                + "    {"
+                + "        \"thesisId\": 42,"
+                + "        \"hops\": 1"
+                + "    },"
+                + "    {"
+                + "        \"thesisId\": 7,"
+                + "        \"hops\": 2"
+                + "    }"
+                + "]"))),
+      @ApiResponse(responseCode = "400", description = "Neighbours were not retrieved due to"
+          + " invalid hops or limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Hops must be between 1 and 3.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis does not exist.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses/{id}/neighbours", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getNeighbours(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "direction", description = "Direction of the followed citations")
+      @RequestParam(name = "direction", defaultValue = "CITES") Direction direction,
+      @Parameter(name = "hops", description = "Maximum number of citations followed")
+      @RequestParam(name = "hops", defaultValue = "1") int hops,
+      @Parameter(name = "limit", description = "Maximum number of theses to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested hops and limit
+      ValidationResponse validationResponse = ValidationHelper.validateCitationHops(hops);
+      if (validationResponse.getValidationResult() == ValidationResult.OK) {
+        validationResponse = ValidationHelper.validatePageLimit(limit);
+      }
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      Optional<List<CitationNeighbourDTO>> neighbours =
+          citationGraphService.getNeighbours(thesisId, direction, hops, limit);
+      if (!neighbours.isPresent()) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId)));
+      }
+      return ResponseEntity.ok(neighbours.get());
+    });
+  }
+
+  /**
+   * Retrieves the theses most related to a thesis by shared citations
+   *
+   * @param thesisId id of the thesis
+   * @param relation shared citations counted
+   * @param limit    maximum number of theses to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves the theses related to a thesis.",
+      description = "Retrieves the theses most often cited together with the thesis"
+          + " (CO_CITATION), citing the most theses it cites as well (COUPLING), or by the sum"
+          + " of both (BOTH), most related first. Citations are answered from the citation graph"
+          + " in memory, to which committed changes are applied in the background.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Related theses successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = RelatedThesisDTO.class)),
+              examples = @ExampleObject(value =
+                  "["
+                + "    {"
+                + "        \"thesisId\": 42,"
+                + "        \"score\": 12"
+                + "    }"
+                + "]"))),
+      @ApiResponse(responseCode = "400", description = "Related theses were not retrieved due"
+          + " to an invalid limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 100.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis does not exist.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses/{id}/related", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getRelated(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "relation", description = "Shared citations counted")
+      @RequestParam(name = "relation", defaultValue = "BOTH") Relation relation,
+      @Parameter(name = "limit", description = "Maximum number of theses to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validatePageLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      Optional<List<RelatedThesisDTO>> related =
+          citationGraphService.getRelated(thesisId, relation, limit);
+      if (!related.isPresent()) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId)));
+      }
+      return ResponseEntity.ok(related.get());
+    });
+  }
+
+  /**
+   * Retrieves the status of the citation graph
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of the citation graph.",
+      description = "Retrieves the number of theses and citations in the citation graph, its"
+          + " memory size, and the number of changed theses waiting to be applied.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = CitationGraphStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"theses\": 118230,"
+                + "    \"citations\": 2405113,"
+                + "    \"sizeInBytes\": 20186608,"
+                + "    \"pendingTheses\": 0,"
+                + "    \"reloading\": false,"
+                + "    \"lastReloadCompletedAt\": \"2022-09-01T08:00:04Z\""
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<CitationGraphStatusDTO> getStatus() {
+    return ResponseEntity.ok(citationGraphService.getStatus());
+  }
+
+  /**
+   * Starts a reload of the citation graph
+   *
+   * @return 202 / ACCEPTED if started. Every other result indicates an error.
+   */
+  @Operation(summary = "Reloads the citation graph.",
+      description = "Starts reading every citation from the database into a new citation graph"
+          + " in the background, which replaces the current one once loaded. Citations keep"
+          + " being answered from the current graph meanwhile.",
+      tags = "Citations")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Reload successfully started.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = CitationGraphStatusDTO.class))),
+      @ApiResponse(responseCode = "409", description = "Reload was not started since one is"
+          + " already running.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Citation graph is already being reloaded.\""
+                + "}")))
+  })
+  @PostMapping(value = "/reload", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> reload() {
+    if (!citationGraphService.startReload()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(new ErrorMessage(CITATION_RELOAD_IN_PROGRESS));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(citationGraphService.getStatus());
+  }
+}
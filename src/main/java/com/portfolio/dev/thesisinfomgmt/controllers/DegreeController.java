@@ -1,10 +1,25 @@
 package com.portfolio.dev.thesisinfomgmt.controllers;
 
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NAME_REQUIRED;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.IdempotencyStore.IDEMPOTENCY_KEY_HEADER;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.BULK;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.EXPORT;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchRequestDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.services.DegreeService;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.GroupCommitBatcher;
+import com.portfolio.dev.thesisinfomgmt.utilities.IdempotencyStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +30,12 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.security.Principal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,7 +45,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -35,10 +56,24 @@ public class DegreeController {
 
   private final DegreeService degreeService;
 
+  private final IdempotencyStore idempotencyStore;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  private final GroupCommitBatcher<Attributed<DegreeDTO>, CreateResultDTO<DegreeDTO>>
+      createBatcher;
+
   public DegreeController(
-      DegreeService degreeService
+      DegreeService degreeService,
+      IdempotencyStore idempotencyStore,
+      DatabaseExecutor databaseExecutor,
+      ObjectProvider<GroupCommitBatcher<Attributed<DegreeDTO>, CreateResultDTO<DegreeDTO>>>
+          createBatcher
   ) {
     this.degreeService = degreeService;
+    this.idempotencyStore = idempotencyStore;
+    this.databaseExecutor = databaseExecutor;
+    this.createBatcher = createBatcher.getIfAvailable();
   }
 
   /**
@@ -63,15 +98,171 @@ public class DegreeController {
                 + "]")))
   })
   @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> getAllDegrees() {
-    List<DegreeDTO> retrievedDegrees = degreeService.getAllDegrees();
-    return ResponseEntity.ok().body(retrievedDegrees);
+  public CompletableFuture<ResponseEntity<Object>> getAllDegrees() {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      List<DegreeDTO> retrievedDegrees = degreeService.getAllDegrees();
+      return ResponseEntity.ok().body(retrievedDegrees);
+    });
+  }
+
+  /**
+   * Retrieves multiple degrees by their ids
+   *
+   * @param degreeIds ids of the degrees to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves multiple degrees by their ids.",
+      description = "Retrieves multiple degrees in a single call. Ids without a matching degree are"
+          + " reported in the response instead of failing the whole call.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Degrees successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchResultDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"abbr\": \"BSCS\","
+                + "            \"name\": \"Bachelor of Science in Computer Science\""
+                + "        }"
+                + "    ],"
+                + "    \"missingIds\": [3]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Degrees were not retrieved due to" +
+          " invalid list of ids.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"At least one id is required.\""
+                + "}")))
+  })
+  @GetMapping(value = "", params = "ids", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getDegrees(
+      @Parameter(name = "ids", description = "Comma separated ids of the degrees to be retrieved")
+      @RequestParam(name = "ids") List<Long> degreeIds
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> batchGetDegrees(degreeIds));
+  }
+
+  /**
+   * Retrieves multiple degrees by their ids, for id lists too long for a query string
+   *
+   * @param batchRequest ids of the degrees to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves multiple degrees by their ids.",
+      description = "Same as retrieving degrees by ids, but accepts the ids in the request body"
+          + " for lists too long for a query string.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Degrees successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchResultDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"abbr\": \"BSCS\","
+                + "            \"name\": \"Bachelor of Science in Computer Science\""
+                + "        }"
+                + "    ],"
+                + "    \"missingIds\": [3]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Degrees were not retrieved due to" +
+          " invalid list of ids.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"At least one id is required.\""
+                + "}")))
+  })
+  @PostMapping(value = "/batch",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getDegreesBatch(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Ids of the degrees to be retrieved", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchRequestDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"ids\": [1, 2, 3]"
+                + "}")))
+      @RequestBody BatchRequestDTO batchRequest
+  ) {
+    return databaseExecutor.submit(BULK, () -> batchGetDegrees(batchRequest.getIds()));
+  }
+
+  /**
+   * Retrieves the degrees changed since a version
+   *
+   * @param sinceVersion change version already known to the client
+   * @param limit        maximum number of changes to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves degree changes since a version.",
+      description = "Retrieves only the degrees inserted, updated or deleted since the given change"
+          + " version, together with the version to be used on the next call. Without a version,"
+          + " all existing degrees are returned.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Degree changes successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ChangeSetDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"upserted\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"abbr\": \"BSCS\","
+                + "            \"name\": \"Bachelor of Science in Computer Science\""
+                + "        }"
+                + "    ],"
+                + "    \"deletedIds\": [2],"
+                + "    \"version\": 42,"
+                + "    \"hasMore\": false"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Degree changes were not retrieved due to"
+          + " invalid limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 1000.\""
+                + "}")))
+  })
+  @GetMapping(value = "/changes", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getDegreeChanges(
+      @Parameter(name = "since", description = "Change version already known to the client")
+      @RequestParam(name = "since", required = false) Long sinceVersion,
+      @Parameter(name = "limit", description = "Maximum number of changes to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "500") int limit
+  ) {
+    return databaseExecutor.submit(EXPORT, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validateChangesLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      ChangeSetDTO<DegreeDTO> changes = degreeService.getDegreeChanges(sinceVersion, limit);
+      return ResponseEntity.ok(changes);
+    });
   }
 
   /**
    * Creates a new degree
    *
-   * @param newDegree degree details
+   * @param newDegree      degree details
+   * @param idempotencyKey optional key identifying retries of the same request
+   * @param principal      authenticated client, scopes the idempotency key if present
    * @return 201 / CREATED if successful. Every other results indicates an error.
    */
   @Operation(summary = "Creates a new degree.",
@@ -94,12 +285,39 @@ public class DegreeController {
               examples = @ExampleObject(value =
                   "{"
                 + "    \"message\": \"Degree with abbreviation '<ABBR>' already exists.\""
+                + "}"))),
+      @ApiResponse(responseCode = "409", description = "Degree was not created since a request"
+          + " with the same Idempotency-Key is still in progress.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"A request with the same Idempotency-Key is still in"
+                + " progress.\""
+                + "}"))),
+      @ApiResponse(responseCode = "422", description = "Degree was not created since the"
+          + " Idempotency-Key was already used for a different request.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Idempotency-Key was already used for a different"
+                + " request.\""
+                + "}"))),
+      @ApiResponse(responseCode = "503", description = "Degree was not created since too many"
+          + " requests with an Idempotency-Key are in progress.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Too many requests with an Idempotency-Key are in"
+                + " progress, please retry later.\""
                 + "}")))
   })
   @PostMapping(value = "",
       produces = { MediaType.APPLICATION_JSON_VALUE },
       consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> createDegree(
+  public CompletableFuture<ResponseEntity<Object>> createDegree(
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
           description = "New degree request data", required = true,
           content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -111,20 +329,17 @@ public class DegreeController {
                 + "    \"abbr\": \"BSCS\","
                 + "    \"name\": \"Bachelor of Science in Computer Science\""
                 + "}")))
-      @RequestBody DegreeDTO newDegree
+      @RequestBody DegreeDTO newDegree,
+      @Parameter(name = IDEMPOTENCY_KEY_HEADER, description = "Unique key of the request. Retries"
+          + " with the same key replay the first response instead of creating the degree again.")
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      Principal principal
   ) {
-    // Validate new degree details
-    ValidationResponse validationResponse =
-        degreeService.validateDegree(newDegree.getId(), newDegree);
-    if (validationResponse.getValidationResult() == ValidationResult.NG) {
-      return ResponseEntity
-          .status(validationResponse.getHttpStatus())
-          .body(validationResponse.getErrorMessage());
+    if (idempotencyKey == null) {
+      return submitCreateDegree(newDegree);
     }
-
-    // Create the new degree
-    DegreeDTO createdDegree = degreeService.createDegree(newDegree);
-    return ResponseEntity.status(HttpStatus.CREATED).body(createdDegree);
+    return idempotencyStore.execute(principal != null ? principal.getName() : null,
+        "POST /api/degrees " + idempotencyKey, newDegree, () -> submitCreateDegree(newDegree));
   }
 
   /**
@@ -155,17 +370,19 @@ public class DegreeController {
                 + "}")))
   })
   @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> getDegree(
+  public CompletableFuture<ResponseEntity<Object>> getDegree(
       @Parameter(name = "id", description = "Id of the degree to be retrieved")
       @PathVariable(name = "id") long degreeId
   ) {
-    Optional<DegreeDTO> retrievedDegree = degreeService.getDegree(degreeId);
-    if (retrievedDegree.isPresent()) {
-      return ResponseEntity.ok(retrievedDegree.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
-    }
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<DegreeDTO> retrievedDegree = degreeService.getDegree(degreeId);
+      if (retrievedDegree.isPresent()) {
+        return ResponseEntity.ok(retrievedDegree.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
   }
 
   /**
@@ -208,7 +425,7 @@ public class DegreeController {
   @PutMapping(value = "/{id}",
       produces = { MediaType.APPLICATION_JSON_VALUE },
       consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> updateDegree(
+  public CompletableFuture<ResponseEntity<Object>> updateDegree(
       @Parameter(name = "id", description = "Id of the degree to be updated.")
       @PathVariable(name = "id") long degreeId,
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -224,21 +441,94 @@ public class DegreeController {
                 + "}")))
       @RequestBody DegreeDTO updatedDegree
   ) {
-    // Validate degree details
-    ValidationResponse validationResponse = degreeService.validateDegree(degreeId, updatedDegree);
-    if (validationResponse.getValidationResult() == ValidationResult.NG) {
-      return ResponseEntity
-          .status(validationResponse.getHttpStatus())
-          .body(validationResponse.getErrorMessage());
-    }
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate degree details
+      ValidationResponse validationResponse = degreeService.validateDegree(degreeId, updatedDegree);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
 
-    Optional<DegreeDTO> optUpdatedDegree = degreeService.updateDegree(degreeId, updatedDegree);
-    if (optUpdatedDegree.isPresent()) {
-      return ResponseEntity.ok(optUpdatedDegree.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
-    }
+      Optional<DegreeDTO> optUpdatedDegree = degreeService.updateDegree(degreeId, updatedDegree);
+      if (optUpdatedDegree.isPresent()) {
+        return ResponseEntity.ok(optUpdatedDegree.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Inserts a degree or updates the existing one with the same abbreviation
+   *
+   * @param abbr         abbreviation of the degree, matched case-insensitively
+   * @param upsertDegree degree details
+   * @return 201 / CREATED if inserted, 200 / OK if updated. Every other result indicates an
+   *     error.
+   */
+  @Operation(summary = "Inserts or updates a degree by abbreviation.",
+      description = "Inserts a degree or updates the existing one with the same abbreviation"
+          + " (case-insensitive) for Thesis Information Management System.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Existing degree successfully updated.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DegreeDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"abbr\": \"BSCS\","
+                + "    \"name\": \"Bachelor of Science in Computer Science\""
+                + "}"))),
+      @ApiResponse(responseCode = "201", description = "Degree successfully created.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DegreeDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"abbr\": \"BSCS\","
+                + "    \"name\": \"Bachelor of Science in Computer Science\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Degree was not upserted due to some" +
+          " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Degree name is required.\""
+                + "}")))
+  })
+  @PutMapping(value = "/by-abbr/{abbr}",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> upsertDegree(
+      @Parameter(name = "abbr", description = "Abbreviation of the degree to be upserted.")
+      @PathVariable(name = "abbr") String abbr,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Upserted degree request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DegreeDTO.class,
+                  requiredProperties = { "name" }),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"name\": \"Bachelor of Science in Computer Science\""
+                + "}")))
+      @RequestBody DegreeDTO upsertDegree
+  ) {
+    return databaseExecutor.submit(BULK, () -> {
+      // Validate degree details, the abbreviation is taken from the path
+      upsertDegree.setAbbr(abbr);
+      if (StringUtils.isEmpty(upsertDegree.getName())) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(new ErrorMessage(DEGREE_NAME_REQUIRED));
+      }
+
+      UpsertResultDTO<DegreeDTO> upsertResult = degreeService.upsertDegree(abbr, upsertDegree);
+      HttpStatus status = upsertResult.isCreated() ? HttpStatus.CREATED : HttpStatus.OK;
+      return ResponseEntity.status(status).body(upsertResult.getItem());
+    });
   }
 
   /**
@@ -266,19 +556,74 @@ public class DegreeController {
               examples = @ExampleObject(value =
                   "{"
                 + "    \"message\": \"Degree with id '1' not found.\""
+                + "}"))),
+      @ApiResponse(responseCode = "409", description = "Degree was not deleted since theses still"
+          + " reference it.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Degree with id '1' is still referenced by theses.\""
                 + "}")))
   })
   @DeleteMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> deleteDegree(
+  public CompletableFuture<ResponseEntity<Object>> deleteDegree(
       @Parameter(name = "id", description = "Id of the degree to be deleted.")
       @PathVariable(name = "id") long degreeId
   ) {
-    Optional<DegreeDTO> deletedDegree = degreeService.deleteDegree(degreeId);
-    if (deletedDegree.isPresent()) {
-      return ResponseEntity.ok(deletedDegree.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<DegreeDTO> deletedDegree = degreeService.deleteDegree(degreeId);
+      if (deletedDegree.isPresent()) {
+        return ResponseEntity.ok(deletedDegree.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  private ResponseEntity<Object> batchGetDegrees(List<Long> degreeIds) {
+    // Validate requested ids
+    ValidationResponse validationResponse = ValidationHelper.validateBatchIds(degreeIds);
+    if (validationResponse.getValidationResult() == ValidationResult.NG) {
+      return ResponseEntity
+          .status(validationResponse.getHttpStatus())
+          .body(validationResponse.getErrorMessage());
+    }
+
+    BatchResultDTO<DegreeDTO> retrievedDegrees = degreeService.getDegrees(degreeIds);
+    return ResponseEntity.ok(retrievedDegrees);
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> submitCreateDegree(DegreeDTO newDegree) {
+    if (createBatcher == null) {
+      return databaseExecutor.submit(INTERACTIVE, () -> createDegree(newDegree));
     }
+
+    // Group commit, the degree is validated and inserted together with concurrent requests
+    return createBatcher.submit(Attributed.ofCurrent(newDegree)).thenApply(result -> {
+      ValidationResponse validationResponse = result.getValidationResponse();
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+      return ResponseEntity.status(HttpStatus.CREATED).body(result.getItem());
+    });
+  }
+
+  private ResponseEntity<Object> createDegree(DegreeDTO newDegree) {
+    // Validate new degree details
+    ValidationResponse validationResponse =
+        degreeService.validateDegree(newDegree.getId(), newDegree);
+    if (validationResponse.getValidationResult() == ValidationResult.NG) {
+      return ResponseEntity
+          .status(validationResponse.getHttpStatus())
+          .body(validationResponse.getErrorMessage());
+    }
+
+    // Create the new degree
+    DegreeDTO createdDegree = degreeService.createDegree(newDegree);
+    return ResponseEntity.status(HttpStatus.CREATED).body(createdDegree);
   }
 }
@@ -0,0 +1,108 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_CONTENT_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentContentDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisDocumentService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/documents")
+public class DocumentController {
+
+  private final ThesisDocumentService thesisDocumentService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public DocumentController(
+      ThesisDocumentService thesisDocumentService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.thesisDocumentService = thesisDocumentService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Checks whether content is already stored
+   *
+   * @param sha256 SHA-256 hash of the content
+   * @return 200 / OK if the content is stored. Every other result indicates an error.
+   */
+  @Operation(summary = "Checks whether content is already stored.",
+      description = "Checks by its SHA-256 hash whether the content of a document is already"
+          + " stored, so uploading it again with the hash only links it. Also answers HEAD"
+          + " requests, without a body.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Content is stored.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DocumentContentDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"sha256\": \"3fa2c0e7b4d1...\","
+                + "    \"size\": 2481152"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Hash is invalid.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"SHA-256 hash must be 64 lowercase hexadecimal"
+                + " characters.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Content is not stored.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Content with SHA-256 hash '3fa2c0e7b4d1...' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/{sha256}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getContent(
+      @Parameter(name = "sha256", description = "SHA-256 hash of the content, in lowercase hex")
+      @PathVariable(name = "sha256") String sha256
+  ) {
+    // Validate hash
+    ValidationResponse validationResponse = ValidationHelper.validateSha256(sha256);
+    if (validationResponse.getValidationResult() == ValidationResult.NG) {
+      return CompletableFuture.completedFuture(ResponseEntity
+          .status(validationResponse.getHttpStatus())
+          .body(validationResponse.getErrorMessage()));
+    }
+
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<StoredContent> content = thesisDocumentService.findContent(sha256);
+      if (content.isPresent()) {
+        return ResponseEntity.ok(
+            new DocumentContentDTO(content.get().getKey(), content.get().getSize()));
+      } else {
+        ErrorMessage errorMessage =
+            new ErrorMessage(String.format(DOCUMENT_CONTENT_NOT_FOUND, sha256));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+}
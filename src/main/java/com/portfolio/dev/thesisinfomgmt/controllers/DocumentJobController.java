@@ -0,0 +1,218 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_JOB_NOT_DEAD;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_JOB_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentJobDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentPipelineStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import com.portfolio.dev.thesisinfomgmt.services.DocumentProcessingService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/document-jobs")
+public class DocumentJobController {
+
+  private final DocumentProcessingService documentProcessingService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public DocumentJobController(
+      DocumentProcessingService documentProcessingService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.documentProcessingService = documentProcessingService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves a page of document jobs in a status
+   *
+   * @param status  status of the jobs
+   * @param afterId thesis id of the last job of the previous page
+   * @param limit   maximum number of jobs to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a page of document jobs.",
+      description = "Retrieves the processing jobs of thesis documents in a status, by default"
+          + " the jobs given up after failing too often, ordered by thesis id. The next page is"
+          + " retrieved by sending the returned cursor as 'after'; it is null on the last page.",
+      tags = "Document Processing")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Document jobs successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = KeysetPageDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"thesisId\": 1,"
+                + "            \"status\": \"DEAD\","
+                + "            \"stage\": \"EXTRACT\","
+                + "            \"attempts\": 5,"
+                + "            \"nextAttemptAt\": \"2022-09-01T08:15:30Z\","
+                + "            \"lastError\": \"java.io.IOException: Error: End-of-File,"
+                + " expected line\","
+                + "            \"updatedAt\": \"2022-09-01T08:07:30Z\""
+                + "        }"
+                + "    ],"
+                + "    \"nextCursor\": \"1\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Document jobs were not retrieved due to"
+          + " an invalid limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 100.\""
+                + "}")))
+  })
+  @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getJobs(
+      @Parameter(name = "status", description = "Status of the jobs")
+      @RequestParam(name = "status", defaultValue = "DEAD") Status status,
+      @Parameter(name = "after", description = "Cursor returned with the previous page")
+      @RequestParam(name = "after", defaultValue = "0") long afterId,
+      @Parameter(name = "limit", description = "Maximum number of jobs to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validatePageLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      KeysetPageDTO<DocumentJobDTO> jobs =
+          documentProcessingService.getJobs(status, afterId, limit);
+      return ResponseEntity.ok(jobs);
+    });
+  }
+
+  /**
+   * Retries a document job which was given up
+   *
+   * @param thesisId id of the thesis
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retries a document job.",
+      description = "Puts the processing job of a thesis document, which was given up after"
+          + " failing too often, back into processing with its attempts reset.",
+      tags = "Document Processing")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Document job successfully retried.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DocumentJobDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"thesisId\": 1,"
+                + "    \"status\": \"PENDING\","
+                + "    \"stage\": \"EXTRACT\","
+                + "    \"attempts\": 0,"
+                + "    \"nextAttemptAt\": \"2022-09-02T09:00:00Z\","
+                + "    \"lastError\": \"java.io.IOException: Error: End-of-File,"
+                + " expected line\","
+                + "    \"updatedAt\": \"2022-09-02T09:00:00Z\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis has no document job.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' has no document job.\""
+                + "}"))),
+      @ApiResponse(responseCode = "409", description = "Document job was not retried since it"
+          + " has not been given up.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Document job of thesis with id '1' has not been given"
+                + " up.\""
+                + "}")))
+  })
+  @PostMapping(value = "/{id}/retry", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> retryJob(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      if (!documentProcessingService.retryJob(thesisId)) {
+        if (!documentProcessingService.getJob(thesisId).isPresent()) {
+          return ResponseEntity.status(HttpStatus.NOT_FOUND)
+              .body(new ErrorMessage(String.format(DOCUMENT_JOB_NOT_FOUND, thesisId)));
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(new ErrorMessage(String.format(DOCUMENT_JOB_NOT_DEAD, thesisId)));
+      }
+
+      Optional<DocumentJobDTO> job = documentProcessingService.getJob(thesisId);
+      return ResponseEntity.ok(job.orElse(null));
+    });
+  }
+
+  /**
+   * Retrieves the status of the document processing pipeline
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of document processing.",
+      description = "Retrieves the number of document jobs in each status, and for each stage of"
+          + " the pipeline its queued and active documents and the documents it processed and"
+          + " failed since startup.",
+      tags = "Document Processing")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DocumentPipelineStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"pendingJobs\": 42,"
+                + "    \"runningJobs\": 20,"
+                + "    \"doneJobs\": 11873,"
+                + "    \"deadJobs\": 3,"
+                + "    \"stages\": ["
+                + "        {"
+                + "            \"name\": \"extract\","
+                + "            \"workers\": 2,"
+                + "            \"queued\": 16,"
+                + "            \"queueCapacity\": 16,"
+                + "            \"active\": 2,"
+                + "            \"processed\": 1502,"
+                + "            \"failed\": 4"
+                + "        }"
+                + "    ]"
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<DocumentPipelineStatusDTO>> getStatus() {
+    return databaseExecutor.submit(INTERACTIVE,
+        () -> ResponseEntity.ok(documentProcessingService.getStatus()));
+  }
+}
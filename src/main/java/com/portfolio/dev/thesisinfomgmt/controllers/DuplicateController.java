@@ -0,0 +1,191 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DUPLICATE_RESCAN_IN_PROGRESS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicateStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicatesDTO;
+import com.portfolio.dev.thesisinfomgmt.services.NearDuplicateService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/duplicates")
+public class DuplicateController {
+
+  private final NearDuplicateService nearDuplicateService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public DuplicateController(
+      NearDuplicateService nearDuplicateService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.nearDuplicateService = nearDuplicateService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves the near-duplicates of a thesis
+   *
+   * @param thesisId  id of the thesis
+   * @param threshold minimum similarity of the candidates
+   * @param limit     maximum number of candidates to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves the near-duplicates of a thesis.",
+      description = "Retrieves the theses whose abstract or document text shares at least the"
+          + " given share of word sequences with the one of the thesis, most similar first."
+          + " Similarities are estimated from MinHash signatures and only theses likely above"
+          + " about 0.4 are compared, so lower thresholds do not find every pair.",
+      tags = "Duplicates")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Near-duplicates successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = NearDuplicatesDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"thesisId\": 1,"
+                + "    \"abstractIndexed\": true,"
+                + "    \"documentIndexed\": true,"
+                + "    \"candidates\": ["
+                + "        {"
+                + "            \"thesisId\": 42,"
+                + "            \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "            \"source\": \"document\","
+                + "            \"similarity\": 0.9375"
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Near-duplicates were not retrieved due"
+          + " to an invalid threshold or limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Threshold must be greater than 0 and at most 1.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis does not exist.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getNearDuplicates(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "threshold", description = "Minimum similarity, between 0 and 1")
+      @RequestParam(name = "threshold", defaultValue = "0.8") double threshold,
+      @Parameter(name = "limit", description = "Maximum number of candidates to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested threshold and limit
+      ValidationResponse validationResponse =
+          ValidationHelper.validateSimilarityThreshold(threshold);
+      if (validationResponse.getValidationResult() == ValidationResult.OK) {
+        validationResponse = ValidationHelper.validatePageLimit(limit);
+      }
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      Optional<NearDuplicatesDTO> duplicates =
+          nearDuplicateService.findCandidates(thesisId, threshold, limit);
+      if (!duplicates.isPresent()) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId)));
+      }
+      return ResponseEntity.ok(duplicates.get());
+    });
+  }
+
+  /**
+   * Retrieves the status of near-duplicate detection
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of near-duplicate detection.",
+      description = "Retrieves the number of fingerprinted abstracts and document texts and of"
+          + " changed theses waiting to be fingerprinted, and the progress of the last rescan.",
+      tags = "Duplicates")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = NearDuplicateStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"indexedAbstracts\": 118230,"
+                + "    \"indexedDocuments\": 97412,"
+                + "    \"pendingTheses\": 0,"
+                + "    \"rescanning\": false,"
+                + "    \"lastRescanStartedAt\": \"2022-09-01T08:00:00Z\","
+                + "    \"lastRescanCompletedAt\": \"2022-09-01T08:06:12Z\","
+                + "    \"lastRescanTheses\": 120000"
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<NearDuplicateStatusDTO> getStatus() {
+    return ResponseEntity.ok(nearDuplicateService.getStatus());
+  }
+
+  /**
+   * Starts a rescan of every thesis
+   *
+   * @return 202 / ACCEPTED if started. Every other result indicates an error.
+   */
+  @Operation(summary = "Rescans every thesis for near-duplicates.",
+      description = "Starts fingerprinting the abstract and document text of every thesis again"
+          + " in the background, in parallel. Near-duplicates keep being answered from the"
+          + " current fingerprints meanwhile. The progress can be followed with the status of"
+          + " near-duplicate detection.",
+      tags = "Duplicates")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Rescan successfully started.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = NearDuplicateStatusDTO.class))),
+      @ApiResponse(responseCode = "409", description = "Rescan was not started since one is"
+          + " already running.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Theses are already being rescanned for near-duplicates.\""
+                + "}")))
+  })
+  @PostMapping(value = "/rescan", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> rescan() {
+    if (!nearDuplicateService.startRescan()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(new ErrorMessage(DUPLICATE_RESCAN_IN_PROGRESS));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(nearDuplicateService.getStatus());
+  }
+}
@@ -0,0 +1,150 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.FACET_RELOAD_IN_PROGRESS;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetCountsDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetIndexStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisFacetService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/facets")
+public class FacetController {
+
+  private final ThesisFacetService thesisFacetService;
+
+  public FacetController(ThesisFacetService thesisFacetService) {
+    this.thesisFacetService = thesisFacetService;
+  }
+
+  /**
+   * Counts theses per facet value
+   *
+   * @param degreeIds selected degree ids
+   * @param years     selected publication years
+   * @param roleIds   selected author role ids
+   * @return 200 / OK
+   */
+  @Operation(summary = "Counts theses per degree, year and author role.",
+      description = "Counts the theses matching the selected degrees, years and author roles, and"
+          + " for every degree, year and role the theses matching the selection of the other two."
+          + " Any selected value of a facet matches; every facet with a selection has to match."
+          + " Counts are answered from memory and follow thesis changes within moments.",
+      tags = "Facets")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Theses successfully counted.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = FacetCountsDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"total\": 148,"
+                + "    \"degrees\": ["
+                + "        { \"value\": 1, \"count\": 148 },"
+                + "        { \"value\": 2, \"count\": 97 }"
+                + "    ],"
+                + "    \"years\": ["
+                + "        { \"value\": 2022, \"count\": 61 },"
+                + "        { \"value\": 2021, \"count\": 87 }"
+                + "    ],"
+                + "    \"roles\": ["
+                + "        { \"value\": 1, \"count\": 148 },"
+                + "        { \"value\": 2, \"count\": 120 }"
+                + "    ]"
+                + "}")))
+  })
+  @GetMapping(value = "/theses", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<FacetCountsDTO> countTheses(
+      @Parameter(name = "degreeId", description = "Selected degree ids")
+      @RequestParam(name = "degreeId", required = false) List<Long> degreeIds,
+      @Parameter(name = "year", description = "Selected publication years")
+      @RequestParam(name = "year", required = false) List<Long> years,
+      @Parameter(name = "roleId", description = "Selected ids of roles of the authors")
+      @RequestParam(name = "roleId", required = false) List<Long> roleIds
+  ) {
+    return ResponseEntity.ok(
+        thesisFacetService.countFacets(toSet(degreeIds), toSet(years), toSet(roleIds)));
+  }
+
+  /**
+   * Retrieves the status of the facet index
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of the facet index.",
+      description = "Retrieves the number of indexed theses and of changed theses waiting to be"
+          + " indexed, and the memory held by the index per facet.",
+      tags = "Facets")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = FacetIndexStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"indexedTheses\": 120000,"
+                + "    \"pendingTheses\": 0,"
+                + "    \"reloading\": false,"
+                + "    \"lastReloadCompletedAt\": \"2022-09-01T08:00:04Z\","
+                + "    \"sizeInBytes\": 48312,"
+                + "    \"facetValues\": { \"degree\": 24, \"year\": 40, \"role\": 3 },"
+                + "    \"facetBytes\": { \"degree\": 9120, \"year\": 14608, \"role\": 24480 }"
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<FacetIndexStatusDTO> getStatus() {
+    return ResponseEntity.ok(thesisFacetService.getStatus());
+  }
+
+  /**
+   * Starts a reload of the facet index
+   *
+   * @return 202 / ACCEPTED if started. Every other result indicates an error.
+   */
+  @Operation(summary = "Reloads the facet index.",
+      description = "Starts loading the facets of every thesis from the database again in the"
+          + " background. Counts keep being answered from the current index meanwhile.",
+      tags = "Facets")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Reload successfully started.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = FacetIndexStatusDTO.class))),
+      @ApiResponse(responseCode = "409", description = "Reload was not started since one is"
+          + " already running.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Facet index is already being reloaded.\""
+                + "}")))
+  })
+  @PostMapping(value = "/reload", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> reload() {
+    if (!thesisFacetService.startReload()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(new ErrorMessage(FACET_RELOAD_IN_PROGRESS));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(thesisFacetService.getStatus());
+  }
+
+  private static Set<Long> toSet(List<Long> values) {
+    return values != null ? new HashSet<>(values) : Collections.emptySet();
+  }
+}
@@ -0,0 +1,84 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEADLINE_EXCEEDED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.RATE_LIMIT_EXCEEDED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.SERVICE_BUSY;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.utilities.DeadlineExceededException;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
+import com.portfolio.dev.thesisinfomgmt.utilities.RateLimitExceededException;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  private final long retryAfterSeconds;
+
+  public GlobalExceptionHandler(
+      @Value("${tims.overload.retry-after-seconds:1}") long retryAfterSeconds
+  ) {
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * Handles requests rejected since the concurrency limit or the executor queue is full
+   *
+   * @param e rejection exception
+   * @return 503 / SERVICE UNAVAILABLE with Retry-After
+   */
+  @ExceptionHandler(RejectedExecutionException.class)
+  public ResponseEntity<Object> handleRejectedExecution(RejectedExecutionException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(new ErrorMessage(SERVICE_BUSY));
+  }
+
+  /**
+   * Handles requests rejected since the client exceeded its rate limit
+   *
+   * @param e rate limit exception
+   * @return 429 / TOO MANY REQUESTS with Retry-After
+   */
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<Object> handleRateLimitExceeded(RateLimitExceededException e) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+        .body(new ErrorMessage(RATE_LIMIT_EXCEEDED));
+  }
+
+  /**
+   * Handles deletions of entities which are still referenced
+   *
+   * @param e in use exception
+   * @return 409 / CONFLICT
+   */
+  @ExceptionHandler(EntityInUseException.class)
+  public ResponseEntity<Object> handleEntityInUse(EntityInUseException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorMessage(e.getMessage()));
+  }
+
+  /**
+   * Handles requests which ran out of time, before or while querying the database
+   *
+   * @param e timeout exception
+   * @return 504 / GATEWAY TIMEOUT
+   */
+  @ExceptionHandler({
+      DeadlineExceededException.class,
+      TransactionTimedOutException.class,
+      QueryTimeoutException.class
+  })
+  public ResponseEntity<Object> handleDeadlineExceeded(RuntimeException e) {
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+        .body(new ErrorMessage(DEADLINE_EXCEEDED));
+  }
+}
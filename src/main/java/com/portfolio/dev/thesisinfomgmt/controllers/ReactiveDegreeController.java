@@ -0,0 +1,103 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NOT_FOUND;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.services.ReactiveDegreeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive/degrees")
+@ConditionalOnProperty(name = "tims.reactive.enabled", havingValue = "true")
+public class ReactiveDegreeController {
+
+  private final ReactiveDegreeService reactiveDegreeService;
+
+  public ReactiveDegreeController(ReactiveDegreeService reactiveDegreeService) {
+    this.reactiveDegreeService = reactiveDegreeService;
+  }
+
+  /**
+   * Streams all degrees
+   *
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Streams list of all degrees.",
+      description = "Retrieves all degrees without blocking on the database. By default they are"
+          + " streamed as application/x-ndjson, one degree per line as rows are read, at the pace"
+          + " the client consumes them. Request application/json for a single array instead.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Degrees successfully retrieved.",
+          content = {
+              @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(schema = @Schema(implementation = DegreeDTO.class))),
+              @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(implementation = DegreeDTO.class),
+                  examples = @ExampleObject(value =
+                      "{\"id\": 1, \"abbr\": \"BSCS\","
+                    + " \"name\": \"Bachelor of Science in Computer Science\"}\n"))
+          })
+  })
+  @GetMapping(value = "",
+      produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+  public Flux<DegreeDTO> getAllDegrees() {
+    return reactiveDegreeService.getAllDegrees();
+  }
+
+  /**
+   * Retrieves a degree
+   *
+   * @param degreeId id of the degree to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a degree.",
+      description = "Retrieves a degree without blocking on the database.",
+      tags = "Degree")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Degree successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = DegreeDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"abbr\": \"BSCS\","
+                + "    \"name\": \"Bachelor of Science in Computer Science\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Degree to be retrieved not found.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Degree with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public Mono<ResponseEntity<Object>> getDegree(
+      @Parameter(name = "id", description = "Id of the degree to be retrieved")
+      @PathVariable(name = "id") long degreeId
+  ) {
+    return reactiveDegreeService.getDegree(degreeId)
+        .<ResponseEntity<Object>>map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorMessage(String.format(DEGREE_NOT_FOUND, degreeId))));
+  }
+}
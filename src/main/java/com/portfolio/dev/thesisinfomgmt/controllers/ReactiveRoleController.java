@@ -0,0 +1,102 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NOT_FOUND;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ReactiveRoleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive/roles")
+@ConditionalOnProperty(name = "tims.reactive.enabled", havingValue = "true")
+public class ReactiveRoleController {
+
+  private final ReactiveRoleService reactiveRoleService;
+
+  public ReactiveRoleController(ReactiveRoleService reactiveRoleService) {
+    this.reactiveRoleService = reactiveRoleService;
+  }
+
+  /**
+   * Streams all roles
+   *
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Streams list of all roles.",
+      description = "Retrieves all roles without blocking on the database. By default they are"
+          + " streamed as application/x-ndjson, one role per line as rows are read, at the pace"
+          + " the client consumes them. Request application/json for a single array instead.",
+      tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Roles successfully retrieved.",
+          content = {
+              @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(schema = @Schema(implementation = RoleDTO.class))),
+              @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(implementation = RoleDTO.class),
+                  examples = @ExampleObject(value =
+                      "{\"id\": 1, \"name\": \"Unique Role Name\","
+                    + " \"description\": \"This is a role description.\"}\n"))
+          })
+  })
+  @GetMapping(value = "",
+      produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+  public Flux<RoleDTO> getAllRoles() {
+    return reactiveRoleService.getAllRoles();
+  }
+
+  /**
+   * Retrieves a role
+   *
+   * @param roleId id of the role to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a role.",
+      description = "Retrieves a role without blocking on the database.", tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Role successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = RoleDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"name\": \"Unique Role Name\",\n"
+                + "    \"description\": \"This is a role description.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Role to be retrieved not found.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Role with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public Mono<ResponseEntity<Object>> getRole(
+      @Parameter(name = "id", description = "Id of the role to be retrieved")
+      @PathVariable(name = "id") long roleId
+  ) {
+    return reactiveRoleService.getRole(roleId)
+        .<ResponseEntity<Object>>map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId))));
+  }
+}
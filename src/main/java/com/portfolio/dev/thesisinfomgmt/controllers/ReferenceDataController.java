@@ -0,0 +1,121 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ReferenceDataDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ReferenceDataService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reference-data")
+public class ReferenceDataController {
+
+  private final ReferenceDataService referenceDataService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public ReferenceDataController(
+      ReferenceDataService referenceDataService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.referenceDataService = referenceDataService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves all lookup tables in a single payload
+   *
+   * @param ifNoneMatch ETags of the client copies, if any
+   * @return 200 / OK if successful, 304 / NOT MODIFIED if the client copy is up-to-date.
+   *     Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves all reference data.",
+      description = "Retrieves every lookup table (degrees and roles) of Thesis Information"
+          + " Management System in a single versioned payload. The response carries an ETag so"
+          + " that clients can revalidate their copy with If-None-Match.",
+      tags = "Reference Data")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Reference data successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ReferenceDataDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"version\": \"1-l7h1s0g0-42\","
+                + "    \"degrees\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"abbr\": \"BSCS\","
+                + "            \"name\": \"Bachelor of Science in Computer Science\""
+                + "        }"
+                + "    ],"
+                + "    \"roles\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"name\": \"Unique Role Name\",\n"
+                + "            \"description\": \"This is a role description.\""
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "304", description = "Reference data was not modified since"
+          + " the version identified by If-None-Match.")
+  })
+  @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getReferenceData(
+      @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "ETag of the client copy")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    // An up-to-date client copy is confirmed without reading the lookup tables
+    String currentETag = toETag(referenceDataService.getVersion());
+    if (matches(ifNoneMatch, currentETag)) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(currentETag)
+          .cacheControl(CacheControl.noCache())
+          .build());
+    }
+
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      ReferenceDataDTO referenceData = referenceDataService.getReferenceData();
+      return ResponseEntity.ok()
+          .eTag(toETag(referenceData.getVersion()))
+          .cacheControl(CacheControl.noCache())
+          .body(referenceData);
+    });
+  }
+
+  private static String toETag(String version) {
+    return "\"" + version + "\"";
+  }
+
+  private static boolean matches(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmed = candidate.trim();
+      if (trimmed.startsWith("W/")) {
+        trimmed = trimmed.substring(2);
+      }
+      if (trimmed.equals(eTag) || trimmed.equals("*")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
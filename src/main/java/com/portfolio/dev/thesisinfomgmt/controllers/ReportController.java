@@ -0,0 +1,210 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.REPORT_RECONCILIATION_IN_PROGRESS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCountDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisReportStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Dimension;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisReportService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+  private final ThesisReportService thesisReportService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public ReportController(
+      ThesisReportService thesisReportService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.thesisReportService = thesisReportService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves the number of theses per degree and year
+   *
+   * @param fromYear optional first year
+   * @param toYear   optional last year
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves the number of theses per degree and year.",
+      description = "Retrieves the number of theses of every degree in every year with at least"
+          + " one thesis, newest year first. Counts are maintained by every thesis write and"
+          + " read without counting the theses.",
+      tags = "Reports")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Counts successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = ThesisCountDTO.class)),
+              examples = @ExampleObject(value =
+                  "["
+                + "    {"
+                + "        \"id\": 1,"
+                + "        \"name\": \"Bachelor of Science in Computer Science\","
+                + "        \"year\": 2022,"
+                + "        \"theses\": 48"
+                + "    }"
+                + "]"))),
+      @ApiResponse(responseCode = "400", description = "Counts were not retrieved due to an"
+          + " invalid range of years.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"From year must not be after to year.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses-by-degree", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getThesesByDegree(
+      @Parameter(name = "fromYear", description = "First year, inclusive")
+      @RequestParam(name = "fromYear", required = false) Integer fromYear,
+      @Parameter(name = "toYear", description = "Last year, inclusive")
+      @RequestParam(name = "toYear", required = false) Integer toYear
+  ) {
+    return getThesisCounts(Dimension.DEGREE, fromYear, toYear);
+  }
+
+  /**
+   * Retrieves the number of theses per role and year
+   *
+   * @param fromYear optional first year
+   * @param toYear   optional last year
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves the number of theses per role and year.",
+      description = "Retrieves the number of theses with at least one author in every role, e.g."
+          + " with an adviser, in every year with at least one such thesis, newest year first."
+          + " Counts are maintained by every thesis write and read without counting the theses.",
+      tags = "Reports")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Counts successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = ThesisCountDTO.class)),
+              examples = @ExampleObject(value =
+                  "["
+                + "    {"
+                + "        \"id\": 2,"
+                + "        \"name\": \"Adviser\","
+                + "        \"year\": 2022,"
+                + "        \"theses\": 46"
+                + "    }"
+                + "]"))),
+      @ApiResponse(responseCode = "400", description = "Counts were not retrieved due to an"
+          + " invalid range of years.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"From year must not be after to year.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses-by-role", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getThesesByRole(
+      @Parameter(name = "fromYear", description = "First year, inclusive")
+      @RequestParam(name = "fromYear", required = false) Integer fromYear,
+      @Parameter(name = "toYear", description = "Last year, inclusive")
+      @RequestParam(name = "toYear", required = false) Integer toYear
+  ) {
+    return getThesisCounts(Dimension.ROLE, fromYear, toYear);
+  }
+
+  /**
+   * Retrieves the status of the report counts
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of the report counts.",
+      description = "Retrieves whether the report counts are being reconciled with the theses,"
+          + " and the result of the last reconciliation.",
+      tags = "Reports")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisReportStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"reconciling\": false,"
+                + "    \"lastReconciliationCompletedAt\": \"2022-09-01T08:00:02Z\","
+                + "    \"lastCorrectedCounts\": 0"
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<ThesisReportStatusDTO> getStatus() {
+    return ResponseEntity.ok(thesisReportService.getStatus());
+  }
+
+  /**
+   * Starts a reconciliation of the report counts
+   *
+   * @return 202 / ACCEPTED if started. Every other result indicates an error.
+   */
+  @Operation(summary = "Reconciles the report counts.",
+      description = "Starts recounting every report count from the theses in the background and"
+          + " corrects the wrong ones, one degree or role at a time. Thesis writes of the degree"
+          + " or role being recounted wait for it to complete.",
+      tags = "Reports")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Reconciliation successfully started.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisReportStatusDTO.class))),
+      @ApiResponse(responseCode = "409", description = "Reconciliation was not started since one"
+          + " is already running.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Report counts are already being reconciled.\""
+                + "}")))
+  })
+  @PostMapping(value = "/reconcile", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> reconcile() {
+    if (!thesisReportService.startReconciliation()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(new ErrorMessage(REPORT_RECONCILIATION_IN_PROGRESS));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(thesisReportService.getStatus());
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> getThesisCounts(
+      Dimension dimension, Integer fromYear, Integer toYear) {
+
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested years
+      ValidationResponse validationResponse =
+          ValidationHelper.validateYearRange(fromYear, toYear);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      return ResponseEntity.ok(thesisReportService.getThesisCounts(dimension, fromYear, toYear));
+    });
+  }
+}
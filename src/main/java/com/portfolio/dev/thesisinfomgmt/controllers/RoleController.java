@@ -1,10 +1,25 @@
 package com.portfolio.dev.thesisinfomgmt.controllers;
 
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NAME_REQUIRED;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.IdempotencyStore.IDEMPOTENCY_KEY_HEADER;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.BULK;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.EXPORT;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchRequestDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
 import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.services.RoleService;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.GroupCommitBatcher;
+import com.portfolio.dev.thesisinfomgmt.utilities.IdempotencyStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +30,12 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.security.Principal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,7 +45,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -35,10 +56,23 @@ public class RoleController {
 
   private final RoleService roleService;
 
+  private final IdempotencyStore idempotencyStore;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  private final GroupCommitBatcher<Attributed<RoleDTO>, CreateResultDTO<RoleDTO>> createBatcher;
+
   public RoleController(
-      RoleService roleService
+      RoleService roleService,
+      IdempotencyStore idempotencyStore,
+      DatabaseExecutor databaseExecutor,
+      ObjectProvider<GroupCommitBatcher<Attributed<RoleDTO>, CreateResultDTO<RoleDTO>>>
+          createBatcher
   ) {
     this.roleService = roleService;
+    this.idempotencyStore = idempotencyStore;
+    this.databaseExecutor = databaseExecutor;
+    this.createBatcher = createBatcher.getIfAvailable();
   }
 
   /**
@@ -63,15 +97,171 @@ public class RoleController {
                 + "]")))
   })
   @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> getAllRoles() {
-    List<RoleDTO> retrievedRoles = roleService.getAllRoles();
-    return ResponseEntity.ok().body(retrievedRoles);
+  public CompletableFuture<ResponseEntity<Object>> getAllRoles() {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      List<RoleDTO> retrievedRoles = roleService.getAllRoles();
+      return ResponseEntity.ok().body(retrievedRoles);
+    });
+  }
+
+  /**
+   * Retrieves multiple roles by their ids
+   *
+   * @param roleIds ids of the roles to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves multiple roles by their ids.",
+      description = "Retrieves multiple roles in a single call. Ids without a matching role are"
+          + " reported in the response instead of failing the whole call.",
+      tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Roles successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchResultDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"name\": \"Unique Role Name\",\n"
+                + "            \"description\": \"This is a role description.\""
+                + "        }"
+                + "    ],"
+                + "    \"missingIds\": [3]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Roles were not retrieved due to" +
+          " invalid list of ids.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"At least one id is required.\""
+                + "}")))
+  })
+  @GetMapping(value = "", params = "ids", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getRoles(
+      @Parameter(name = "ids", description = "Comma separated ids of the roles to be retrieved")
+      @RequestParam(name = "ids") List<Long> roleIds
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> batchGetRoles(roleIds));
+  }
+
+  /**
+   * Retrieves multiple roles by their ids, for id lists too long for a query string
+   *
+   * @param batchRequest ids of the roles to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves multiple roles by their ids.",
+      description = "Same as retrieving roles by ids, but accepts the ids in the request body"
+          + " for lists too long for a query string.",
+      tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Roles successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchResultDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"name\": \"Unique Role Name\",\n"
+                + "            \"description\": \"This is a role description.\""
+                + "        }"
+                + "    ],"
+                + "    \"missingIds\": [3]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Roles were not retrieved due to" +
+          " invalid list of ids.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"At least one id is required.\""
+                + "}")))
+  })
+  @PostMapping(value = "/batch",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getRolesBatch(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Ids of the roles to be retrieved", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = BatchRequestDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"ids\": [1, 2, 3]"
+                + "}")))
+      @RequestBody BatchRequestDTO batchRequest
+  ) {
+    return databaseExecutor.submit(BULK, () -> batchGetRoles(batchRequest.getIds()));
+  }
+
+  /**
+   * Retrieves the roles changed since a version
+   *
+   * @param sinceVersion change version already known to the client
+   * @param limit        maximum number of changes to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves role changes since a version.",
+      description = "Retrieves only the roles inserted, updated or deleted since the given change"
+          + " version, together with the version to be used on the next call. Without a version,"
+          + " all existing roles are returned.",
+      tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Role changes successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ChangeSetDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"upserted\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"name\": \"Unique Role Name\",\n"
+                + "            \"description\": \"This is a role description.\""
+                + "        }"
+                + "    ],"
+                + "    \"deletedIds\": [2],"
+                + "    \"version\": 42,"
+                + "    \"hasMore\": false"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Role changes were not retrieved due to"
+          + " invalid limit.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 1000.\""
+                + "}")))
+  })
+  @GetMapping(value = "/changes", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getRoleChanges(
+      @Parameter(name = "since", description = "Change version already known to the client")
+      @RequestParam(name = "since", required = false) Long sinceVersion,
+      @Parameter(name = "limit", description = "Maximum number of changes to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "500") int limit
+  ) {
+    return databaseExecutor.submit(EXPORT, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validateChangesLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      ChangeSetDTO<RoleDTO> changes = roleService.getRoleChanges(sinceVersion, limit);
+      return ResponseEntity.ok(changes);
+    });
   }
 
   /**
    * Creates new role
    *
-   * @param newRole role details
+   * @param newRole        role details
+   * @param idempotencyKey optional key identifying retries of the same request
+   * @param principal      authenticated client, scopes the idempotency key if present
    * @return 201 / CREATED if successful. Every other results indicates an error.
    */
   @Operation(summary = "Creates a new role.",
@@ -93,12 +283,39 @@ public class RoleController {
               examples = @ExampleObject(value =
                   "{"
                 + "    \"message\": \"Role with name '<Name>' already exists.\""
+                + "}"))),
+      @ApiResponse(responseCode = "409", description = "Role was not created since a request"
+          + " with the same Idempotency-Key is still in progress.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"A request with the same Idempotency-Key is still in"
+                + " progress.\""
+                + "}"))),
+      @ApiResponse(responseCode = "422", description = "Role was not created since the"
+          + " Idempotency-Key was already used for a different request.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Idempotency-Key was already used for a different"
+                + " request.\""
+                + "}"))),
+      @ApiResponse(responseCode = "503", description = "Role was not created since too many"
+          + " requests with an Idempotency-Key are in progress.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Too many requests with an Idempotency-Key are in"
+                + " progress, please retry later.\""
                 + "}")))
   })
   @PostMapping(value = "",
       produces = { MediaType.APPLICATION_JSON_VALUE },
       consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> createRole(
+  public CompletableFuture<ResponseEntity<Object>> createRole(
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
           description = "New role request data", required = true,
           content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -110,19 +327,17 @@ public class RoleController {
                 + "    \"name\": \"Researcher\",\n"
                 + "    \"description\": \"Researcher of the thesis / dissertation.\""
                 + "}")))
-      @RequestBody RoleDTO newRole
+      @RequestBody RoleDTO newRole,
+      @Parameter(name = IDEMPOTENCY_KEY_HEADER, description = "Unique key of the request. Retries"
+          + " with the same key replay the first response instead of creating the role again.")
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      Principal principal
   ) {
-    // Validate new role details
-    ValidationResponse validationResponse = roleService.validateRole(newRole.getId(), newRole);
-    if (validationResponse.getValidationResult() == ValidationResult.NG) {
-      return ResponseEntity
-          .status(validationResponse.getHttpStatus())
-          .body(validationResponse.getErrorMessage());
+    if (idempotencyKey == null) {
+      return submitCreateRole(newRole);
     }
-
-    // Create the new role
-    RoleDTO createdRole = roleService.createRole(newRole);
-    return ResponseEntity.status(HttpStatus.CREATED).body(createdRole);
+    return idempotencyStore.execute(principal != null ? principal.getName() : null,
+        "POST /api/roles " + idempotencyKey, newRole, () -> submitCreateRole(newRole));
   }
 
   /**
@@ -152,17 +367,19 @@ public class RoleController {
                 + "}")))
   })
   @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> getRole(
+  public CompletableFuture<ResponseEntity<Object>> getRole(
       @Parameter(name = "id", description = "Id of the role to be retrieved")
       @PathVariable(name = "id") long roleId
   ) {
-    Optional<RoleDTO> retrievedRole = roleService.getRole(roleId);
-    if (retrievedRole.isPresent()) {
-      return ResponseEntity.ok(retrievedRole.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
-    }
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<RoleDTO> retrievedRole = roleService.getRole(roleId);
+      if (retrievedRole.isPresent()) {
+        return ResponseEntity.ok(retrievedRole.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
   }
 
   /**
@@ -204,7 +421,7 @@ public class RoleController {
   @PutMapping(value = "/{id}",
       produces = { MediaType.APPLICATION_JSON_VALUE },
       consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> updateRole(
+  public CompletableFuture<ResponseEntity<Object>> updateRole(
       @Parameter(name = "id", description = "Id of the role to be updated.")
       @PathVariable(name = "id") long roleId,
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -219,21 +436,93 @@ public class RoleController {
                 + "}")))
       @RequestBody RoleDTO updatedRole
   ) {
-    // Validate role details
-    ValidationResponse validationResponse = roleService.validateRole(roleId, updatedRole);
-    if (validationResponse.getValidationResult() == ValidationResult.NG) {
-      return ResponseEntity
-          .status(validationResponse.getHttpStatus())
-          .body(validationResponse.getErrorMessage());
-    }
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate role details
+      ValidationResponse validationResponse = roleService.validateRole(roleId, updatedRole);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
 
-    Optional<RoleDTO> optUpdatedRole = roleService.updateRole(roleId, updatedRole);
-    if (optUpdatedRole.isPresent()) {
-      return ResponseEntity.ok(optUpdatedRole.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
-    }
+      Optional<RoleDTO> optUpdatedRole = roleService.updateRole(roleId, updatedRole);
+      if (optUpdatedRole.isPresent()) {
+        return ResponseEntity.ok(optUpdatedRole.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Inserts a role or updates the existing one with the same name
+   *
+   * @param name       name of the role, matched case-insensitively
+   * @param upsertRole role details
+   * @return 201 / CREATED if inserted, 200 / OK if updated. Every other result indicates an
+   *     error.
+   */
+  @Operation(summary = "Inserts or updates a role by name.",
+      description = "Inserts a role or updates the existing one with the same name"
+          + " (case-insensitive) for Thesis Information Management System.",
+      tags = "Role")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Existing role successfully updated.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = RoleDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"name\": \"Researcher\",\n"
+                + "    \"description\": \"Researcher of the thesis / dissertation.\""
+                + "}"))),
+      @ApiResponse(responseCode = "201", description = "Role successfully created.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = RoleDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"name\": \"Researcher\",\n"
+                + "    \"description\": \"Researcher of the thesis / dissertation.\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Role was not upserted due to some" +
+          " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Role name is required.\""
+                + "}")))
+  })
+  @PutMapping(value = "/by-name/{name}",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> upsertRole(
+      @Parameter(name = "name", description = "Name of the role to be upserted.")
+      @PathVariable(name = "name") String name,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Upserted role request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = RoleDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"description\": \"Researcher of the thesis / dissertation.\""
+                + "}")))
+      @RequestBody RoleDTO upsertRole
+  ) {
+    return databaseExecutor.submit(BULK, () -> {
+      // Validate role details, the name is taken from the path
+      upsertRole.setName(name);
+      if (StringUtils.isBlank(name)) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(new ErrorMessage(ROLE_NAME_REQUIRED));
+      }
+
+      UpsertResultDTO<RoleDTO> upsertResult = roleService.upsertRole(name, upsertRole);
+      HttpStatus status = upsertResult.isCreated() ? HttpStatus.CREATED : HttpStatus.OK;
+      return ResponseEntity.status(status).body(upsertResult.getItem());
+    });
   }
 
   /**
@@ -261,19 +550,73 @@ public class RoleController {
               examples = @ExampleObject(value =
                   "{"
                 + "    \"message\": \"Role with id '1' not found.\""
+                + "}"))),
+      @ApiResponse(responseCode = "409", description = "Role was not deleted since theses still"
+          + " reference it.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Role with id '1' is still held by thesis authors.\""
                 + "}")))
   })
   @DeleteMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<Object> deleteRole(
+  public CompletableFuture<ResponseEntity<Object>> deleteRole(
       @Parameter(name = "id", description = "Id of the role to be deleted.")
       @PathVariable(name = "id") long roleId
   ) {
-    Optional<RoleDTO> deletedRole = roleService.deleteRole(roleId);
-    if (deletedRole.isPresent()) {
-      return ResponseEntity.ok(deletedRole.get());
-    } else {
-      ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
-      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<RoleDTO> deletedRole = roleService.deleteRole(roleId);
+      if (deletedRole.isPresent()) {
+        return ResponseEntity.ok(deletedRole.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(ROLE_NOT_FOUND, roleId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  private ResponseEntity<Object> batchGetRoles(List<Long> roleIds) {
+    // Validate requested ids
+    ValidationResponse validationResponse = ValidationHelper.validateBatchIds(roleIds);
+    if (validationResponse.getValidationResult() == ValidationResult.NG) {
+      return ResponseEntity
+          .status(validationResponse.getHttpStatus())
+          .body(validationResponse.getErrorMessage());
     }
+
+    BatchResultDTO<RoleDTO> retrievedRoles = roleService.getRoles(roleIds);
+    return ResponseEntity.ok(retrievedRoles);
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> submitCreateRole(RoleDTO newRole) {
+    if (createBatcher == null) {
+      return databaseExecutor.submit(INTERACTIVE, () -> createRole(newRole));
+    }
+
+    // Group commit, the role is validated and inserted together with concurrent requests
+    return createBatcher.submit(Attributed.ofCurrent(newRole)).thenApply(result -> {
+      ValidationResponse validationResponse = result.getValidationResponse();
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+      return ResponseEntity.status(HttpStatus.CREATED).body(result.getItem());
+    });
+  }
+
+  private ResponseEntity<Object> createRole(RoleDTO newRole) {
+    // Validate new role details
+    ValidationResponse validationResponse = roleService.validateRole(newRole.getId(), newRole);
+    if (validationResponse.getValidationResult() == ValidationResult.NG) {
+      return ResponseEntity
+          .status(validationResponse.getHttpStatus())
+          .body(validationResponse.getErrorMessage());
+    }
+
+    // Create the new role
+    RoleDTO createdRole = roleService.createRole(newRole);
+    return ResponseEntity.status(HttpStatus.CREATED).body(createdRole);
   }
 }
@@ -0,0 +1,206 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.SEARCH_CURSOR_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.SEARCH_REBUILD_IN_PROGRESS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.SEARCH_TEXT_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.SearchIndexStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisSearchService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+  private final ThesisSearchService thesisSearchService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public SearchController(
+      ThesisSearchService thesisSearchService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.thesisSearchService = thesisSearchService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Searches theses
+   *
+   * @param text     search text
+   * @param degreeId optional id of the degree of the theses
+   * @param year     optional publication year of the theses
+   * @param after    optional cursor returned with the previous page
+   * @param limit    maximum number of hits to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Searches theses.",
+      description = "Searches the titles, abstracts and document text of theses, most relevant"
+          + " first, optionally filtered by degree and year. All words have to match; '|' matches"
+          + " either word, '-' excludes a word, quotes match a phrase and '*' a prefix. Matches"
+          + " are highlighted with <mark> in passages of each field with a match. The next page"
+          + " is retrieved by sending the returned cursor as 'after'; it is null on the last page."
+          + " Changes of theses and documents are found a few seconds after they are saved.",
+      tags = "Search")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Theses successfully searched.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = KeysetPageDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,"
+                + "            \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "            \"year\": 2022,"
+                + "            \"degreeId\": 1,"
+                + "            \"score\": 4.2131,"
+                + "            \"highlights\": {"
+                + "                \"title\": \"<mark>Keyset</mark> Pagination of Large"
+                + " Catalogues\","
+                + "                \"content\": \"... using a <mark>keyset</mark> instead of an"
+                + " offset ...\""
+                + "            }"
+                + "        }"
+                + "    ],"
+                + "    \"nextCursor\": \"NDA4NmRjMzM6MQ\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Theses were not searched due to a"
+          + " missing search text, an invalid limit or cursor.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Search text is required.\""
+                + "}")))
+  })
+  @GetMapping(value = "/theses", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> searchTheses(
+      @Parameter(name = "q", description = "Search text")
+      @RequestParam(name = "q", required = false) String text,
+      @Parameter(name = "degreeId", description = "Id of the degree of the theses")
+      @RequestParam(name = "degreeId", required = false) Long degreeId,
+      @Parameter(name = "year", description = "Publication year of the theses")
+      @RequestParam(name = "year", required = false) Integer year,
+      @Parameter(name = "after", description = "Cursor returned with the previous page")
+      @RequestParam(name = "after", required = false) String after,
+      @Parameter(name = "limit", description = "Maximum number of hits to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    // Searches do not use the database, but are bounded like any other interactive request
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate search text
+      if (StringUtils.isBlank(text)) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(new ErrorMessage(SEARCH_TEXT_REQUIRED));
+      }
+
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validatePageLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      // Validate cursor
+      SearchCursor cursor = null;
+      if (after != null) {
+        Optional<SearchCursor> decodedCursor = SearchCursor.decode(after);
+        if (!decodedCursor.isPresent()) {
+          return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+              .body(new ErrorMessage(SEARCH_CURSOR_INVALID));
+        }
+        cursor = decodedCursor.get();
+      }
+
+      return ResponseEntity.ok(thesisSearchService.search(text, degreeId, year, cursor, limit));
+    });
+  }
+
+  /**
+   * Retrieves the status of the search index
+   *
+   * @return 200 / OK
+   */
+  @Operation(summary = "Retrieves the status of the search index.",
+      description = "Retrieves the number of indexed theses and of changed theses waiting to be"
+          + " indexed, and the progress of the last rebuild.",
+      tags = "Search")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Status successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = SearchIndexStatusDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"indexedTheses\": 120000,"
+                + "    \"pendingTheses\": 0,"
+                + "    \"rebuilding\": false,"
+                + "    \"lastRebuildStartedAt\": \"2022-09-01T08:00:00Z\","
+                + "    \"lastRebuildCompletedAt\": \"2022-09-01T08:12:31Z\","
+                + "    \"lastRebuildTheses\": 120000"
+                + "}")))
+  })
+  @GetMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<SearchIndexStatusDTO> getStatus() {
+    return ResponseEntity.ok(thesisSearchService.getStatus());
+  }
+
+  /**
+   * Starts a rebuild of the search index
+   *
+   * @return 202 / ACCEPTED if started. Every other result indicates an error.
+   */
+  @Operation(summary = "Rebuilds the search index.",
+      description = "Starts indexing every thesis again in the background, in parallel. Searches"
+          + " keep being answered from the current index meanwhile. Theses which no longer exist"
+          + " are removed from the index once the rebuild completes. The progress can be followed"
+          + " with the status of the search index.",
+      tags = "Search")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Rebuild successfully started.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = SearchIndexStatusDTO.class))),
+      @ApiResponse(responseCode = "409", description = "Rebuild was not started since one is"
+          + " already running.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Search index is already being rebuilt.\""
+                + "}")))
+  })
+  @PostMapping(value = "/rebuild", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> rebuild() {
+    if (!thesisSearchService.startRebuild()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(new ErrorMessage(SEARCH_REBUILD_IN_PROGRESS));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(thesisSearchService.getStatus());
+  }
+}
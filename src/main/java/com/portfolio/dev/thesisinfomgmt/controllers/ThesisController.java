@@ -0,0 +1,445 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.PAGE_CURSOR_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/theses")
+public class ThesisController {
+
+  private final ThesisService thesisService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public ThesisController(ThesisService thesisService, DatabaseExecutor databaseExecutor) {
+    this.thesisService = thesisService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Retrieves a page of theses
+   *
+   * @param degreeId    optional id of the degree of the theses
+   * @param year        optional publication year of the theses
+   * @param titlePrefix optional beginning of the titles
+   * @param sort        browse order
+   * @param after       optional cursor returned with the previous page
+   * @param limit       maximum number of theses to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a page of theses.",
+      description = "Browses the thesis catalogue newest first, by title or by id, optionally"
+          + " filtered by degree, year and title prefix. The next page is retrieved by sending the"
+          + " returned cursor as 'after' with the same sort; it is null on the last page. Listed"
+          + " theses include their degree and authors, but not their abstracts.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Theses successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = KeysetPageDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"items\": ["
+                + "        {"
+                + "            \"id\": 1,\n"
+                + "            \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "            \"abstractText\": null,"
+                + "            \"year\": 2022,"
+                + "            \"degreeId\": 1,"
+                + "            \"degree\": {"
+                + "                \"id\": 1,"
+                + "                \"abbr\": \"BSCS\","
+                + "                \"name\": \"Bachelor of Science in Computer Science\""
+                + "            },"
+                + "            \"authors\": ["
+                + "                {"
+                + "                    \"authorId\": 1,"
+                + "                    \"roleId\": 1,"
+                + "                    \"authorName\": \"Juan Dela Cruz\","
+                + "                    \"roleName\": \"Author\""
+                + "                }"
+                + "            ]"
+                + "        }"
+                + "    ],"
+                + "    \"nextCursor\": \"WUVBUjoxOjIwMjI6\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Theses were not retrieved due to an"
+          + " invalid limit or cursor.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Limit must be between 1 and 100.\""
+                + "}")))
+  })
+  @GetMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getTheses(
+      @Parameter(name = "degreeId", description = "Id of the degree of the theses")
+      @RequestParam(name = "degreeId", required = false) Long degreeId,
+      @Parameter(name = "year", description = "Publication year of the theses")
+      @RequestParam(name = "year", required = false) Integer year,
+      @Parameter(name = "title", description = "Beginning of the titles")
+      @RequestParam(name = "title", required = false) String titlePrefix,
+      @Parameter(name = "sort", description = "Browse order")
+      @RequestParam(name = "sort", defaultValue = "YEAR") ThesisSort sort,
+      @Parameter(name = "after", description = "Cursor returned with the previous page")
+      @RequestParam(name = "after", required = false) String after,
+      @Parameter(name = "limit", description = "Maximum number of theses to be retrieved")
+      @RequestParam(name = "limit", defaultValue = "20") int limit
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate requested limit
+      ValidationResponse validationResponse = ValidationHelper.validatePageLimit(limit);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      // Validate cursor, which only applies to the sort it was issued for
+      ThesisCursor cursor = null;
+      if (after != null) {
+        Optional<ThesisCursor> decodedCursor = ThesisCursor.decode(after, sort);
+        if (!decodedCursor.isPresent()) {
+          return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+              .body(new ErrorMessage(PAGE_CURSOR_INVALID));
+        }
+        cursor = decodedCursor.get();
+      }
+
+      KeysetPageDTO<ThesisDTO> theses =
+          thesisService.getTheses(degreeId, year, titlePrefix, sort, cursor, limit);
+      return ResponseEntity.ok(theses);
+    });
+  }
+
+  /**
+   * Creates a new thesis
+   *
+   * @param newThesis thesis details
+   * @return 201 / CREATED if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Creates a new thesis.",
+      description = "Creates a new thesis for Thesis Information Management System.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Thesis successfully created.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"degree\": {"
+                + "        \"id\": 1,"
+                + "        \"abbr\": \"BSCS\","
+                + "        \"name\": \"Bachelor of Science in Computer Science\""
+                + "    },"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1,"
+                + "            \"authorName\": \"Juan Dela Cruz\","
+                + "            \"roleName\": \"Author\""
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Thesis was not created due to some"
+          + " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Degree with id '1' not found.\""
+                + "}")))
+  })
+  @PostMapping(value = "",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> createThesis(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "New thesis request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class,
+                  requiredProperties = { "title", "year", "degreeId" }),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1"
+                + "        }"
+                + "    ]"
+                + "}")))
+      @RequestBody ThesisDTO newThesis
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate new thesis details
+      ValidationResponse validationResponse = thesisService.validateThesis(newThesis);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      // Create the new thesis
+      ThesisDTO createdThesis = thesisService.createThesis(newThesis);
+      return ResponseEntity.status(HttpStatus.CREATED).body(createdThesis);
+    });
+  }
+
+  /**
+   * Retrieves a thesis
+   *
+   * @param thesisId id of the thesis to be retrieved
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Retrieves a thesis.",
+      description = "Retrieves a thesis including its abstract for Thesis Information Management"
+          + " System.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Thesis successfully retrieved.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"degree\": {"
+                + "        \"id\": 1,"
+                + "        \"abbr\": \"BSCS\","
+                + "        \"name\": \"Bachelor of Science in Computer Science\""
+                + "    },"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1,"
+                + "            \"authorName\": \"Juan Dela Cruz\","
+                + "            \"roleName\": \"Author\""
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis to be retrieved not found.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> getThesis(
+      @Parameter(name = "id", description = "Id of the thesis to be retrieved")
+      @PathVariable(name = "id") long thesisId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisDTO> retrievedThesis = thesisService.getThesis(thesisId);
+      if (retrievedThesis.isPresent()) {
+        return ResponseEntity.ok(retrievedThesis.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Updates a thesis
+   *
+   * @param thesisId      id of the thesis to be updated
+   * @param updatedThesis updated thesis details
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Updates a thesis.",
+      description = "Updates a thesis for Thesis Information Management System. The authors of"
+          + " the thesis are replaced by the given ones, or left unchanged if none are given.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Thesis successfully updated.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"title\": \"Keyset Pagination of Very Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"degree\": {"
+                + "        \"id\": 1,"
+                + "        \"abbr\": \"BSCS\","
+                + "        \"name\": \"Bachelor of Science in Computer Science\""
+                + "    },"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1,"
+                + "            \"authorName\": \"Juan Dela Cruz\","
+                + "            \"roleName\": \"Author\""
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Thesis was not updated due to some"
+          + " invalid details.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Author with id '1' not found.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis was not updated due to resource"
+          + " does not exists.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @PutMapping(value = "/{id}",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> updateThesis(
+      @Parameter(name = "id", description = "Id of the thesis to be updated.")
+      @PathVariable(name = "id") long thesisId,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Updated thesis request data", required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class,
+                  requiredProperties = { "title", "year", "degreeId" }),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"title\": \"Keyset Pagination of Very Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1"
+                + "        }"
+                + "    ]"
+                + "}")))
+      @RequestBody ThesisDTO updatedThesis
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      // Validate thesis details
+      ValidationResponse validationResponse = thesisService.validateThesis(updatedThesis);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage());
+      }
+
+      Optional<ThesisDTO> optUpdatedThesis = thesisService.updateThesis(thesisId, updatedThesis);
+      if (optUpdatedThesis.isPresent()) {
+        return ResponseEntity.ok(optUpdatedThesis.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  /**
+   * Deletes a thesis
+   *
+   * @param thesisId id of the thesis to be deleted
+   * @return 200 / OK if successful. Every other results indicates an error.
+   */
+  @Operation(summary = "Deletes a thesis.",
+      description = "Deletes a thesis for Thesis Information Management System.", tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Thesis successfully deleted.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"id\": 1,\n"
+                + "    \"title\": \"Keyset Pagination of Large Catalogues\","
+                + "    \"abstractText\": \"This thesis studies...\","
+                + "    \"year\": 2022,"
+                + "    \"degreeId\": 1,"
+                + "    \"degree\": {"
+                + "        \"id\": 1,"
+                + "        \"abbr\": \"BSCS\","
+                + "        \"name\": \"Bachelor of Science in Computer Science\""
+                + "    },"
+                + "    \"authors\": ["
+                + "        {"
+                + "            \"authorId\": 1,"
+                + "            \"roleId\": 1,"
+                + "            \"authorName\": \"Juan Dela Cruz\","
+                + "            \"roleName\": \"Author\""
+                + "        }"
+                + "    ]"
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis was not deleted due to resource"
+          + " does not exists.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}")))
+  })
+  @DeleteMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> deleteThesis(
+      @Parameter(name = "id", description = "Id of the thesis to be deleted.")
+      @PathVariable(name = "id") long thesisId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisDTO> deletedThesis = thesisService.deleteThesis(thesisId);
+      if (deletedThesis.isPresent()) {
+        return ResponseEntity.ok(deletedThesis.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+}
@@ -0,0 +1,304 @@
+package com.portfolio.dev.thesisinfomgmt.controllers;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_CONTENT_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_HASH_MISMATCH;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MAX_FILE_NAME_LENGTH;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_DOCUMENT_EMPTY;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_DOCUMENT_FILE_NAME_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_DOCUMENT_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_DOCUMENT_TOO_LARGE;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDocumentDTO;
+import com.portfolio.dev.thesisinfomgmt.services.ThesisDocumentService;
+import com.portfolio.dev.thesisinfomgmt.utilities.DatabaseExecutor;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import com.portfolio.dev.thesisinfomgmt.utilities.RangeRequestHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/theses/{id}/document")
+public class ThesisDocumentController {
+
+  private final ThesisDocumentService thesisDocumentService;
+
+  private final DatabaseExecutor databaseExecutor;
+
+  public ThesisDocumentController(
+      ThesisDocumentService thesisDocumentService,
+      DatabaseExecutor databaseExecutor
+  ) {
+    this.thesisDocumentService = thesisDocumentService;
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  /**
+   * Uploads the document of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @param fileName optional file name of the document
+   * @param sha256   optional SHA-256 hash of the content
+   * @param content  content of the document
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Uploads the document of a thesis.",
+      description = "Uploads the PDF document of a thesis as the request body, replacing its"
+          + " previous document. Downloads of the previous document which already started are"
+          + " not affected. With the SHA-256 hash of the content, content which is already stored"
+          + " is not uploaded again: if it is stored, the request body is ignored and can be left"
+          + " empty, otherwise the uploaded content is checked against the hash.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Document successfully uploaded.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDocumentDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"thesisId\": 1,"
+                + "    \"fileName\": \"keyset-pagination.pdf\","
+                + "    \"size\": 2481152,"
+                + "    \"uploadedAt\": \"2022-09-01T08:00:00Z\""
+                + "}"))),
+      @ApiResponse(responseCode = "400", description = "Document was not uploaded due to an"
+          + " invalid file name or hash, an empty document, or content not matching the hash.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"File name must not exceed 255 characters.\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Document was not uploaded due to the"
+          + " thesis does not exists, or since only the hash was sent for content which is not"
+          + " stored.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' not found.\""
+                + "}"))),
+      @ApiResponse(responseCode = "413", description = "Document was not uploaded since it"
+          + " exceeds the maximum document size.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Document exceeds the maximum document size.\""
+                + "}")))
+  })
+  @PutMapping(value = "",
+      produces = { MediaType.APPLICATION_JSON_VALUE },
+      consumes = { MediaType.APPLICATION_PDF_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> uploadDocument(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = "fileName", description = "File name of the document")
+      @RequestParam(name = "fileName", required = false) String fileName,
+      @Parameter(name = "sha256", description = "SHA-256 hash of the content, in lowercase hex")
+      @RequestParam(name = "sha256", required = false) String sha256,
+      InputStream content
+  ) {
+    // Validate file name
+    String documentFileName =
+        StringUtils.isBlank(fileName) ? "thesis-" + thesisId + ".pdf" : fileName.trim();
+    if (documentFileName.length() > MAX_FILE_NAME_LENGTH) {
+      ErrorMessage errorMessage = new ErrorMessage(
+          String.format(THESIS_DOCUMENT_FILE_NAME_INVALID, MAX_FILE_NAME_LENGTH));
+      return CompletableFuture.completedFuture(
+          ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorMessage));
+    }
+
+    if (sha256 != null) {
+      // Validate hash
+      ValidationResponse validationResponse = ValidationHelper.validateSha256(sha256);
+      if (validationResponse.getValidationResult() == ValidationResult.NG) {
+        return CompletableFuture.completedFuture(ResponseEntity
+            .status(validationResponse.getHttpStatus())
+            .body(validationResponse.getErrorMessage()));
+      }
+
+      // Content which is already stored is not read again
+      Optional<StoredContent> knownContent =
+          databaseExecutor.call(INTERACTIVE, () -> thesisDocumentService.findContent(sha256));
+      if (knownContent.isPresent()) {
+        return saveDocument(thesisId, documentFileName, knownContent.get());
+      }
+    }
+
+    // Stream the content to disk on the request thread, so slow uploads hold no database thread
+    Optional<StoredContent> storedContent = thesisDocumentService.storeContent(content);
+    if (!storedContent.isPresent()) {
+      return CompletableFuture.completedFuture(ResponseEntity
+          .status(HttpStatus.PAYLOAD_TOO_LARGE)
+          .body(new ErrorMessage(THESIS_DOCUMENT_TOO_LARGE)));
+    }
+
+    // Validate content, unreferenced content is left to the sweeper
+    if (storedContent.get().getSize() == 0) {
+      return CompletableFuture.completedFuture(sha256 != null
+          ? ResponseEntity.status(HttpStatus.NOT_FOUND)
+              .body(new ErrorMessage(String.format(DOCUMENT_CONTENT_NOT_FOUND, sha256)))
+          : ResponseEntity.status(HttpStatus.BAD_REQUEST)
+              .body(new ErrorMessage(THESIS_DOCUMENT_EMPTY)));
+    }
+    if (sha256 != null && !sha256.equals(storedContent.get().getKey())) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+          .body(new ErrorMessage(String.format(DOCUMENT_HASH_MISMATCH, sha256))));
+    }
+
+    return saveDocument(thesisId, documentFileName, storedContent.get());
+  }
+
+  /**
+   * Downloads the document of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @param range    optional byte range to be downloaded
+   * @param ifRange  optional ETag or Last-Modified date the range applies to
+   * @return 200 / OK or 206 / PARTIAL CONTENT if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Downloads the document of a thesis.",
+      description = "Downloads the PDF document of a thesis, or a single byte range of it with the"
+          + " Range header. Interrupted downloads can be resumed with a Range starting after the"
+          + " bytes received, and an If-Range with the ETag received, so the full document is"
+          + " sent instead if it was replaced in the meantime.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Document successfully downloaded.",
+          content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE)),
+      @ApiResponse(responseCode = "206", description = "Byte range of the document successfully"
+          + " downloaded.",
+          content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE)),
+      @ApiResponse(responseCode = "404", description = "Thesis has no document.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' has no document.\""
+                + "}"))),
+      @ApiResponse(responseCode = "416", description = "Byte range starts beyond the end of the"
+          + " document.")
+  })
+  @GetMapping(value = "",
+      produces = { MediaType.APPLICATION_PDF_VALUE, MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Object> downloadDocument(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId,
+      @Parameter(name = HttpHeaders.RANGE, description = "Byte range to be downloaded")
+      @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+      @Parameter(name = HttpHeaders.IF_RANGE,
+          description = "ETag or Last-Modified date the range applies to")
+      @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange
+  ) {
+    // Not answered asynchronously, since Tomcat only uses sendfile for the initial dispatch
+    Optional<ThesisDocumentDTO> document =
+        databaseExecutor.call(INTERACTIVE, () -> thesisDocumentService.getDocument(thesisId));
+    if (!document.isPresent()) {
+      ErrorMessage errorMessage =
+          new ErrorMessage(String.format(THESIS_DOCUMENT_NOT_FOUND, thesisId));
+      return ResponseEntity.status(HttpStatus.NOT_FOUND)
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(errorMessage);
+    }
+
+    ThesisDocumentDTO thesisDocument = document.get();
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_PDF);
+    headers.setContentDisposition(ContentDisposition.inline()
+        .filename(thesisDocument.getFileName(), StandardCharsets.UTF_8)
+        .build());
+    headers.setETag("\"" + thesisDocument.getStorageKey() + "\"");
+    headers.setLastModified(thesisDocument.getUploadedAt());
+    return RangeRequestHelper.serveFile(headers,
+        thesisDocumentService.getContentFile(thesisDocument), thesisDocument.getSize(),
+        range, ifRange);
+  }
+
+  /**
+   * Deletes the document of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @return 200 / OK if successful. Every other result indicates an error.
+   */
+  @Operation(summary = "Deletes the document of a thesis.",
+      description = "Deletes the document of a thesis, leaving the thesis itself unchanged.",
+      tags = "Thesis")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Document successfully deleted.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ThesisDocumentDTO.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"thesisId\": 1,"
+                + "    \"fileName\": \"keyset-pagination.pdf\","
+                + "    \"size\": 2481152,"
+                + "    \"uploadedAt\": \"2022-09-01T08:00:00Z\""
+                + "}"))),
+      @ApiResponse(responseCode = "404", description = "Thesis has no document.",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ErrorMessage.class),
+              examples = @ExampleObject(value =
+                  "{"
+                + "    \"message\": \"Thesis with id '1' has no document.\""
+                + "}")))
+  })
+  @DeleteMapping(value = "", produces = { MediaType.APPLICATION_JSON_VALUE })
+  public CompletableFuture<ResponseEntity<Object>> deleteDocument(
+      @Parameter(name = "id", description = "Id of the thesis")
+      @PathVariable(name = "id") long thesisId
+  ) {
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisDocumentDTO> deletedDocument = thesisDocumentService.deleteDocument(thesisId);
+      if (deletedDocument.isPresent()) {
+        return ResponseEntity.ok(deletedDocument.get());
+      } else {
+        ErrorMessage errorMessage =
+            new ErrorMessage(String.format(THESIS_DOCUMENT_NOT_FOUND, thesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> saveDocument(
+      long thesisId, String fileName, StoredContent content) {
+
+    return databaseExecutor.submit(INTERACTIVE, () -> {
+      Optional<ThesisDocumentDTO> savedDocument =
+          thesisDocumentService.saveDocument(thesisId, fileName, content);
+      if (savedDocument.isPresent()) {
+        return ResponseEntity.ok(savedDocument.get());
+      } else {
+        ErrorMessage errorMessage = new ErrorMessage(String.format(THESIS_NOT_FOUND, thesisId));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
+      }
+    });
+  }
+}
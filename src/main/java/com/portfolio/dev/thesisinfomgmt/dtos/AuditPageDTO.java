@@ -0,0 +1,27 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditPageDTO {
+
+  /**
+   * Matching audit records, oldest first
+   */
+  private List<AuditRecordDTO> records;
+
+  /**
+   * Sequence to be sent as 'since' on the next call
+   */
+  private long sequence;
+
+  /**
+   * Whether more matching records may be available after this sequence
+   */
+  private boolean hasMore;
+}
@@ -0,0 +1,39 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecordDTO {
+
+  /**
+   * Position of the record in the audit log, assigned when it is written
+   */
+  private long sequence;
+
+  private Instant timestamp;
+
+  private String actor;
+
+  private EntityType entityType;
+
+  private ChangeType changeType;
+
+  private long entityId;
+
+  /**
+   * Entity before the change, null for creations
+   */
+  private Object before;
+
+  /**
+   * Entity after the change, null for deletions
+   */
+  private Object after;
+}
@@ -0,0 +1,30 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class AuthorDTO {
+
+  /**
+   * Creates a new Author DTO based on the given Author Entity
+   *
+   * @param author author entity
+   */
+  public AuthorDTO(Author author) {
+    this.setId(author.getId());
+    this.setFirstName(author.getFirstName());
+    this.setLastName(author.getLastName());
+    this.setEmail(author.getEmail());
+  }
+
+  private long id;
+
+  private String firstName;
+
+  private String lastName;
+
+  private String email;
+}
@@ -0,0 +1,14 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+
+  private List<Long> ids;
+}
@@ -0,0 +1,22 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO<T> {
+
+  /**
+   * Resources found, in the order their ids were requested
+   */
+  private List<T> items;
+
+  /**
+   * Requested ids which have no matching resource
+   */
+  private List<Long> missingIds;
+}
@@ -0,0 +1,29 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDTO {
+
+  /**
+   * Position of the event in the change feed, used as the SSE event id
+   */
+  private long sequence;
+
+  private EntityType entityType;
+
+  private ChangeType changeType;
+
+  private long entityId;
+
+  private Object data;
+
+  private Instant timestamp;
+}
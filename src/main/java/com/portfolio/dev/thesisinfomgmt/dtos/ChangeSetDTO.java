@@ -0,0 +1,32 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDTO<T> {
+
+  /**
+   * Resources inserted or updated since the requested version
+   */
+  private List<T> upserted;
+
+  /**
+   * Ids of the resources deleted since the requested version
+   */
+  private List<Long> deletedIds;
+
+  /**
+   * Version to be sent as 'since' on the next call
+   */
+  private long version;
+
+  /**
+   * Whether more changes are available after this version
+   */
+  private boolean hasMore;
+}
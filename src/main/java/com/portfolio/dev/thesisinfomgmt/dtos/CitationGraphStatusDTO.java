@@ -0,0 +1,42 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CitationGraphStatusDTO {
+
+  /**
+   * Number of theses citing or cited by another thesis
+   */
+  private int theses;
+
+  /**
+   * Number of citations in the graph
+   */
+  private int citations;
+
+  /**
+   * Memory held by the graph
+   */
+  private long sizeInBytes;
+
+  /**
+   * Number of changed theses waiting to be applied to the graph
+   */
+  private int pendingTheses;
+
+  /**
+   * Whether the graph is being reloaded
+   */
+  private boolean reloading;
+
+  /**
+   * End of the last completed reload, null if none completed since startup
+   */
+  private Instant lastReloadCompletedAt;
+}
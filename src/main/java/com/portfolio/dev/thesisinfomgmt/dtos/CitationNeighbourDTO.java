@@ -0,0 +1,18 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CitationNeighbourDTO {
+
+  private long thesisId;
+
+  /**
+   * Number of citations followed to reach the thesis
+   */
+  private int hops;
+}
@@ -0,0 +1,19 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateResultDTO<T> {
+
+  /**
+   * Created resource, null if validation failed
+   */
+  private T item;
+
+  private ValidationResponse validationResponse;
+}
@@ -0,0 +1,21 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentContentDTO {
+
+  /**
+   * SHA-256 hash of the content, in lowercase hex
+   */
+  private String sha256;
+
+  /**
+   * Size of the content in bytes
+   */
+  private long size;
+}
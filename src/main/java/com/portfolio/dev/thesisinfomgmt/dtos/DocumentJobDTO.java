@@ -0,0 +1,56 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Stage;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class DocumentJobDTO {
+
+  /**
+   * Creates a new Document Job DTO based on the given Document Job Entity
+   *
+   * @param documentJob document job entity
+   */
+  public DocumentJobDTO(DocumentJob documentJob) {
+    this.setThesisId(documentJob.getThesisId());
+    this.setStorageKey(documentJob.getStorageKey());
+    this.setStatus(documentJob.getStatus());
+    this.setStage(documentJob.getStage());
+    this.setAttempts(documentJob.getAttempts());
+    this.setNextAttemptAt(documentJob.getNextAttemptAt());
+    this.setLastError(documentJob.getLastError());
+    this.setUpdatedAt(documentJob.getUpdatedAt());
+  }
+
+  private long thesisId;
+
+  /**
+   * Key of the processed content in the document store
+   */
+  @JsonIgnore
+  private String storageKey;
+
+  private Status status;
+
+  /**
+   * Stage of the last failure, null if the job never failed
+   */
+  private Stage stage;
+
+  /**
+   * Number of failed attempts
+   */
+  private int attempts;
+
+  private Instant nextAttemptAt;
+
+  private String lastError;
+
+  private Instant updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentPipelineStatusDTO {
+
+  /**
+   * Number of jobs waiting to be processed, including failed jobs waiting to be retried
+   */
+  private long pendingJobs;
+
+  /**
+   * Number of jobs in the pipeline
+   */
+  private long runningJobs;
+
+  private long doneJobs;
+
+  /**
+   * Number of jobs which failed too often and wait to be retried manually
+   */
+  private long deadJobs;
+
+  /**
+   * Stages of the pipeline, in processing order
+   */
+  private List<PipelineStageStatusDTO> stages;
+}
@@ -0,0 +1,25 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCandidateDTO {
+
+  private long thesisId;
+
+  private String title;
+
+  /**
+   * Text found similar, either "abstract" or "document"
+   */
+  private String source;
+
+  /**
+   * Estimated share of word shingles the texts have in common, between 0 and 1
+   */
+  private double similarity;
+}
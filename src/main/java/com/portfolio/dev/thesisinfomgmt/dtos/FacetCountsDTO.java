@@ -0,0 +1,32 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsDTO {
+
+  /**
+   * Number of theses matching the whole selection
+   */
+  private int total;
+
+  /**
+   * Theses per degree matching the selected years and roles, most theses first
+   */
+  private List<FacetValueDTO> degrees;
+
+  /**
+   * Theses per year matching the selected degrees and roles, latest year first
+   */
+  private List<FacetValueDTO> years;
+
+  /**
+   * Theses per author role matching the selected degrees and years, most theses first
+   */
+  private List<FacetValueDTO> roles;
+}
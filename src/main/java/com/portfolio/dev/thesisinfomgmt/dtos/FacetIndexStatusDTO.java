@@ -0,0 +1,48 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetIndexStatusDTO {
+
+  /**
+   * Number of indexed theses
+   */
+  private int indexedTheses;
+
+  /**
+   * Number of changed theses waiting to be indexed
+   */
+  private int pendingTheses;
+
+  /**
+   * Whether the index is being reloaded from the database
+   */
+  private boolean reloading;
+
+  /**
+   * End of the last completed reload, null if none completed since startup
+   */
+  private Instant lastReloadCompletedAt;
+
+  /**
+   * Memory held by the bitmaps of the index in bytes
+   */
+  private long sizeInBytes;
+
+  /**
+   * Number of distinct values per facet
+   */
+  private Map<String, Integer> facetValues;
+
+  /**
+   * Memory held by the bitmaps of each facet in bytes
+   */
+  private Map<String, Long> facetBytes;
+}
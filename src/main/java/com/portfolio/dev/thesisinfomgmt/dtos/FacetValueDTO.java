@@ -0,0 +1,21 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValueDTO {
+
+  /**
+   * Id of the degree or role, or the year
+   */
+  private long value;
+
+  /**
+   * Number of theses with the value
+   */
+  private int count;
+}
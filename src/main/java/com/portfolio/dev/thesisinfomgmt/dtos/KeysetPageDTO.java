@@ -0,0 +1,22 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageDTO<T> {
+
+  /**
+   * Resources of the page, in the requested order
+   */
+  private List<T> items;
+
+  /**
+   * Cursor to be sent as 'after' to retrieve the next page, null on the last page
+   */
+  private String nextCursor;
+}
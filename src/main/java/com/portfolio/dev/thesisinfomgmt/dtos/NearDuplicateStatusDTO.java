@@ -0,0 +1,47 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateStatusDTO {
+
+  /**
+   * Number of theses whose abstract is fingerprinted
+   */
+  private int indexedAbstracts;
+
+  /**
+   * Number of theses whose document text is fingerprinted
+   */
+  private int indexedDocuments;
+
+  /**
+   * Number of changed theses waiting to be fingerprinted
+   */
+  private int pendingTheses;
+
+  /**
+   * Whether the corpus is being rescanned
+   */
+  private boolean rescanning;
+
+  /**
+   * Start of the last rescan, null if none started since startup
+   */
+  private Instant lastRescanStartedAt;
+
+  /**
+   * End of the last completed rescan, null if none completed since startup
+   */
+  private Instant lastRescanCompletedAt;
+
+  /**
+   * Number of theses fingerprinted by the last completed rescan
+   */
+  private long lastRescanTheses;
+}
@@ -0,0 +1,30 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicatesDTO {
+
+  private long thesisId;
+
+  /**
+   * Whether the abstract of the thesis is fingerprinted, false if it has none
+   */
+  private boolean abstractIndexed;
+
+  /**
+   * Whether the document text of the thesis is fingerprinted, false if it has no document or its
+   * text is not extracted yet
+   */
+  private boolean documentIndexed;
+
+  /**
+   * Candidates above the threshold, most similar first
+   */
+  private List<DuplicateCandidateDTO> candidates;
+}
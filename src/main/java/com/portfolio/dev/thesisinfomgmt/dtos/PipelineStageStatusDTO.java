@@ -0,0 +1,51 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.StageStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PipelineStageStatusDTO {
+
+  /**
+   * Creates a new Pipeline Stage Status DTO based on the given stage status
+   *
+   * @param stageStatus current state of the stage
+   */
+  public PipelineStageStatusDTO(StageStatus stageStatus) {
+    this.setName(stageStatus.getName());
+    this.setWorkers(stageStatus.getWorkers());
+    this.setQueued(stageStatus.getQueued());
+    this.setQueueCapacity(stageStatus.getQueueCapacity());
+    this.setActive(stageStatus.getActive());
+    this.setProcessed(stageStatus.getProcessed());
+    this.setFailed(stageStatus.getFailed());
+  }
+
+  private String name;
+
+  private int workers;
+
+  /**
+   * Documents waiting for the stage
+   */
+  private int queued;
+
+  private int queueCapacity;
+
+  /**
+   * Documents being processed by the stage
+   */
+  private int active;
+
+  /**
+   * Documents processed by the stage since startup
+   */
+  private long processed;
+
+  /**
+   * Documents which failed in the stage since startup
+   */
+  private long failed;
+}
@@ -0,0 +1,21 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataDTO {
+
+  /**
+   * Version of the whole payload, changes whenever any of the lookup tables changes
+   */
+  private String version;
+
+  private List<DegreeDTO> degrees;
+
+  private List<RoleDTO> roles;
+}
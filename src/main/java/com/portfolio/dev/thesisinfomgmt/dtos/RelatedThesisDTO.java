@@ -0,0 +1,19 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedThesisDTO {
+
+  private long thesisId;
+
+  /**
+   * Number of theses citing both theses plus number of theses cited by both, depending on the
+   * requested relation
+   */
+  private int score;
+}
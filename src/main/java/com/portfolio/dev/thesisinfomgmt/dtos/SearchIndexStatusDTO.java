@@ -0,0 +1,42 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatusDTO {
+
+  /**
+   * Number of theses which can be found
+   */
+  private int indexedTheses;
+
+  /**
+   * Number of changed theses waiting to be indexed
+   */
+  private int pendingTheses;
+
+  /**
+   * Whether the index is being rebuilt
+   */
+  private boolean rebuilding;
+
+  /**
+   * Start of the last rebuild, null if the index was never rebuilt since startup
+   */
+  private Instant lastRebuildStartedAt;
+
+  /**
+   * End of the last completed rebuild, null if none completed since startup
+   */
+  private Instant lastRebuildCompletedAt;
+
+  /**
+   * Number of theses indexed by the last completed rebuild
+   */
+  private long lastRebuildTheses;
+}
@@ -0,0 +1,37 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisAuthorDTO {
+
+  /**
+   * Creates a new Thesis Author DTO based on the given Thesis Author Entity
+   *
+   * @param thesisAuthor thesis author entity, with its author and role loaded
+   */
+  public ThesisAuthorDTO(ThesisAuthor thesisAuthor) {
+    this.setAuthorId(thesisAuthor.getAuthor().getId());
+    this.setRoleId(thesisAuthor.getRole().getId());
+    this.setAuthorName(thesisAuthor.getAuthor().getFirstName() + " "
+        + thesisAuthor.getAuthor().getLastName());
+    this.setRoleName(thesisAuthor.getRole().getName());
+  }
+
+  private long authorId;
+
+  private long roleId;
+
+  /**
+   * Full name of the author, ignored on input
+   */
+  private String authorName;
+
+  /**
+   * Name of the role, ignored on input
+   */
+  private String roleName;
+}
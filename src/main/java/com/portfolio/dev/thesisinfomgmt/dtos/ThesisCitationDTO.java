@@ -0,0 +1,28 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCitation;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisCitationDTO {
+
+  /**
+   * Creates a new Thesis Citation DTO based on the given Thesis Citation Entity
+   *
+   * @param thesisCitation thesis citation entity
+   */
+  public ThesisCitationDTO(ThesisCitation thesisCitation) {
+    this.setCitingThesisId(thesisCitation.getCitingThesisId());
+    this.setCitedThesisId(thesisCitation.getCitedThesisId());
+    this.setCreatedAt(thesisCitation.getCreatedAt());
+  }
+
+  private long citingThesisId;
+
+  private long citedThesisId;
+
+  private Instant createdAt;
+}
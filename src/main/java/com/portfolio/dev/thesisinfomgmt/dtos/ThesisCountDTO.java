@@ -0,0 +1,37 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisCountDTO {
+
+  /**
+   * Creates a new Thesis Count DTO based on the given Thesis Count Entity
+   *
+   * @param thesisCount thesis count entity
+   * @param name        name of the degree or role
+   */
+  public ThesisCountDTO(ThesisCount thesisCount, String name) {
+    this.setId(thesisCount.getValueId());
+    this.setName(name);
+    this.setYear(thesisCount.getYear());
+    this.setTheses(thesisCount.getTheses());
+  }
+
+  /**
+   * Id of the degree or role
+   */
+  private long id;
+
+  /**
+   * Name of the degree or role, null if deleted since
+   */
+  private String name;
+
+  private int year;
+
+  private long theses;
+}
@@ -0,0 +1,65 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisDTO {
+
+  /**
+   * Creates a new Thesis DTO based on the given Thesis Entity
+   *
+   * @param thesis thesis entity, with its degree and authors loaded
+   */
+  public ThesisDTO(Thesis thesis) {
+    this.setId(thesis.getId());
+    this.setTitle(thesis.getTitle());
+    this.setAbstractText(thesis.getAbstractText());
+    this.setYear(thesis.getYear());
+    this.setDegreeId(thesis.getDegree().getId());
+    this.setDegree(new DegreeDTO(thesis.getDegree()));
+    this.setAuthors(thesis.getAuthors().stream()
+        .map(ThesisAuthorDTO::new)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Creates a new Thesis DTO without abstract, degree and authors, as selected when browsing the
+   * catalogue
+   *
+   * @param id       thesis id
+   * @param title    thesis title
+   * @param year     publication year
+   * @param degreeId id of the degree
+   */
+  public ThesisDTO(long id, String title, int year, long degreeId) {
+    this.setId(id);
+    this.setTitle(title);
+    this.setYear(year);
+    this.setDegreeId(degreeId);
+  }
+
+  private long id;
+
+  private String title;
+
+  private String abstractText;
+
+  private Integer year;
+
+  private long degreeId;
+
+  /**
+   * Degree of the thesis, ignored on input
+   */
+  private DegreeDTO degree;
+
+  /**
+   * Authors of the thesis in order, left unchanged on update if null
+   */
+  private List<ThesisAuthorDTO> authors;
+}
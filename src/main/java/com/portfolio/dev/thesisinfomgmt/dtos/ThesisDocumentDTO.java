@@ -0,0 +1,42 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisDocumentDTO {
+
+  /**
+   * Creates a new Thesis Document DTO based on the given Thesis Document Entity
+   *
+   * @param thesisDocument thesis document entity
+   */
+  public ThesisDocumentDTO(ThesisDocument thesisDocument) {
+    this.setThesisId(thesisDocument.getThesisId());
+    this.setFileName(thesisDocument.getFileName());
+    this.setSize(thesisDocument.getSize());
+    this.setStorageKey(thesisDocument.getStorageKey());
+    this.setUploadedAt(thesisDocument.getUploadedAt());
+  }
+
+  private long thesisId;
+
+  private String fileName;
+
+  /**
+   * Size of the document in bytes
+   */
+  private long size;
+
+  /**
+   * Key of the content in the document store, which changes with every upload
+   */
+  @JsonIgnore
+  private String storageKey;
+
+  private Instant uploadedAt;
+}
@@ -0,0 +1,27 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThesisReportStatusDTO {
+
+  /**
+   * Whether the counts are being reconciled
+   */
+  private boolean reconciling;
+
+  /**
+   * End of the last completed reconciliation, null if none completed since startup
+   */
+  private Instant lastReconciliationCompletedAt;
+
+  /**
+   * Number of counts the last completed reconciliation found wrong
+   */
+  private int lastCorrectedCounts;
+}
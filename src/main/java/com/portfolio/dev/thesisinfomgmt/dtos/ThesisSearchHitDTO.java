@@ -0,0 +1,44 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex.SearchHit;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ThesisSearchHitDTO {
+
+  /**
+   * Creates a new Thesis Search Hit DTO based on the given hit of the search index
+   *
+   * @param searchHit hit of the search index
+   */
+  public ThesisSearchHitDTO(SearchHit searchHit) {
+    this.setId(searchHit.getId());
+    this.setTitle(searchHit.getTitle());
+    this.setYear(searchHit.getYear());
+    this.setDegreeId(searchHit.getDegreeId());
+    this.setScore(searchHit.getScore());
+    this.setHighlights(searchHit.getHighlights());
+  }
+
+  private long id;
+
+  private String title;
+
+  private int year;
+
+  private long degreeId;
+
+  /**
+   * Relevance of the thesis, only comparable between hits of the same search
+   */
+  private float score;
+
+  /**
+   * Passages of the title, abstract and content with the matches marked, of the fields with a
+   * match only
+   */
+  private Map<String, String> highlights;
+}
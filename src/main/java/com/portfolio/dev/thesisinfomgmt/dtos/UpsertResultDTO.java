@@ -0,0 +1,18 @@
+package com.portfolio.dev.thesisinfomgmt.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpsertResultDTO<T> {
+
+  private T item;
+
+  /**
+   * True if the resource was inserted, false if an existing one was updated
+   */
+  private boolean created;
+}
@@ -0,0 +1,36 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+@Entity
+@Table(indexes = @Index(name = "idx_author_name", columnList = "last_name, first_name, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class Author {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private long id;
+
+  @Column(name = "first_name", nullable = false)
+  private String firstName;
+
+  @Column(name = "last_name", nullable = false)
+  private String lastName;
+
+  private String email;
+}
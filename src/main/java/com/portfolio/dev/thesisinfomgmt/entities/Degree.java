@@ -1,16 +1,28 @@
 package com.portfolio.dev.thesisinfomgmt.entities;
 
+import java.util.Locale;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.With;
+import org.hibernate.annotations.Where;
 
 @Entity
+@Table(
+    indexes = @Index(name = "idx_degree_change_version", columnList = "change_version"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_degree_abbr_key", columnNames = "abbr_key"))
+@Where(clause = "deleted = false")
 @NoArgsConstructor
 @AllArgsConstructor
 @Setter
@@ -25,4 +37,39 @@ public class Degree {
   private String abbr;
 
   private String name;
+
+  /**
+   * Version of the last change to this row, increases monotonically across all changes
+   */
+  @Column(name = "change_version", nullable = false)
+  private long changeVersion;
+
+  /**
+   * Tombstone flag, deleted rows are kept so that delta sync clients learn about the deletion
+   */
+  @Column(nullable = false)
+  private boolean deleted;
+
+  /**
+   * Normalized (lower case) abbr, unique among rows which are not deleted
+   */
+  @Column(name = "abbr_key")
+  private String abbrKey;
+
+  /**
+   * Normalizes the given abbr the same way as the unique key column
+   *
+   * @param abbr degree abbr
+   * @return normalized abbr
+   */
+  public static String normalizeAbbr(String abbr) {
+    return abbr == null ? null : abbr.toLowerCase(Locale.ROOT);
+  }
+
+  @PrePersist
+  @PreUpdate
+  void updateNaturalKey() {
+    // Tombstones release their key so that the abbr can be used again
+    abbrKey = deleted ? null : normalizeAbbr(abbr);
+  }
 }
@@ -0,0 +1,49 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Content of the document store, shared by every thesis document with the same content.
+ */
+@Entity
+@Table(name = "document_content",
+    indexes = @Index(name = "idx_document_content_ref_count", columnList = "ref_count, hash"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class DocumentContent {
+
+  /**
+   * SHA-256 hash of the content, which is its key in the document store
+   */
+  @Id
+  @Column(length = 64)
+  private String hash;
+
+  @Column(name = "file_size", nullable = false)
+  private long size;
+
+  /**
+   * Number of thesis documents with this content
+   */
+  @Column(name = "ref_count", nullable = false)
+  private int refCount;
+
+  /**
+   * When the last thesis document with this content was replaced or deleted
+   */
+  @Column(name = "released_at")
+  private Instant releasedAt;
+}
@@ -0,0 +1,88 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Processing of the document of a thesis, from the extraction of its text to its indexing. A
+ * thesis has at most one job, which is reset whenever its document is replaced.
+ */
+@Entity
+@Table(name = "document_job",
+    indexes = @Index(name = "idx_document_job_status", columnList = "status, next_attempt_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class DocumentJob {
+
+  public enum Status {
+    /**
+     * Waiting to be processed, at the next attempt time
+     */
+    PENDING,
+    /**
+     * Being processed
+     */
+    RUNNING,
+    DONE,
+    /**
+     * Failed too often, left for inspection until retried
+     */
+    DEAD
+  }
+
+  public enum Stage {
+    EXTRACT,
+    NORMALIZE,
+    INDEX
+  }
+
+  @Id
+  @Column(name = "thesis_id")
+  private long thesisId;
+
+  /**
+   * Key of the content to be processed
+   */
+  @Column(name = "storage_key", nullable = false, length = 64)
+  private String storageKey;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Status status;
+
+  /**
+   * Stage of the last failure, null if the job never failed
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16)
+  private Stage stage;
+
+  /**
+   * Number of failed attempts
+   */
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private Instant nextAttemptAt;
+
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+}
@@ -1,16 +1,28 @@
 package com.portfolio.dev.thesisinfomgmt.entities;
 
+import java.util.Locale;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.With;
+import org.hibernate.annotations.Where;
 
 @Entity
+@Table(
+    indexes = @Index(name = "idx_role_change_version", columnList = "change_version"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_role_name_key", columnNames = "name_key"))
+@Where(clause = "deleted = false")
 @NoArgsConstructor
 @AllArgsConstructor
 @Setter
@@ -25,4 +37,39 @@ public class Role {
   private String name;
 
   private String description;
+
+  /**
+   * Version of the last change to this row, increases monotonically across all changes
+   */
+  @Column(name = "change_version", nullable = false)
+  private long changeVersion;
+
+  /**
+   * Tombstone flag, deleted rows are kept so that delta sync clients learn about the deletion
+   */
+  @Column(nullable = false)
+  private boolean deleted;
+
+  /**
+   * Normalized (lower case) name, unique among rows which are not deleted
+   */
+  @Column(name = "name_key")
+  private String nameKey;
+
+  /**
+   * Normalizes the given name the same way as the unique key column
+   *
+   * @param name role name
+   * @return normalized name
+   */
+  public static String normalizeName(String name) {
+    return name == null ? null : name.toLowerCase(Locale.ROOT);
+  }
+
+  @PrePersist
+  @PreUpdate
+  void updateNaturalKey() {
+    // Tombstones release their key so that the name can be used again
+    nameKey = deleted ? null : normalizeName(name);
+  }
 }
@@ -0,0 +1,73 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Thesis of the catalogue.
+ *
+ * <p>Every browse order has an index ending with the id, which is the tie-breaker of the keyset
+ * pagination, so a page is a single index range scan at any depth. The year indexes are descending
+ * like the newest first browse order.
+ *
+ * <p>Associations are lazy. Reads which need them load them with an entity graph, or in batches
+ * of {@code hibernate.default_batch_fetch_size}, so that the number of queries does not grow with
+ * the number of theses.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_thesis_year", columnList = "publication_year DESC, id DESC"),
+    @Index(name = "idx_thesis_degree_year",
+        columnList = "degree_id, publication_year DESC, id DESC"),
+    @Index(name = "idx_thesis_title", columnList = "title, id"),
+    @Index(name = "idx_thesis_degree_title", columnList = "degree_id, title, id"),
+    @Index(name = "idx_thesis_year_title", columnList = "publication_year, title, id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class Thesis {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private long id;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Lob
+  @Column(name = "abstract_text")
+  private String abstractText;
+
+  @Column(name = "publication_year", nullable = false)
+  private int year;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "degree_id", nullable = false)
+  private Degree degree;
+
+  @OneToMany(mappedBy = "thesis", cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy("position")
+  private List<ThesisAuthor> authors = new ArrayList<>();
+}
@@ -0,0 +1,58 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Author of a thesis in a role, e.g. as adviser or panelist. An author may take several roles on
+ * the same thesis.
+ */
+@Entity
+@Table(
+    name = "thesis_author",
+    indexes = @Index(name = "idx_thesis_author_author", columnList = "author_id"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_thesis_author_role",
+        columnNames = { "thesis_id", "author_id", "role_id" }))
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class ThesisAuthor {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "thesis_id", nullable = false)
+  private Thesis thesis;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "author_id", nullable = false)
+  private Author author;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "role_id", nullable = false)
+  private Role role;
+
+  /**
+   * Position of the author in the author list of the thesis
+   */
+  @Column(nullable = false)
+  private int position;
+}
@@ -0,0 +1,58 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Citation of a thesis by another thesis. A thesis cites another one at most once.
+ */
+@Entity
+@Table(name = "thesis_citation",
+    indexes = @Index(name = "idx_thesis_citation_cited", columnList = "cited_thesis_id"))
+@IdClass(ThesisCitation.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class ThesisCitation {
+
+  /**
+   * Primary key of a citation
+   */
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Getter
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long citingThesisId;
+
+    private long citedThesisId;
+  }
+
+  @Id
+  @Column(name = "citing_thesis_id")
+  private long citingThesisId;
+
+  @Id
+  @Column(name = "cited_thesis_id")
+  private long citedThesisId;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,73 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.io.Serializable;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Number of theses of a year with a degree, or with at least one author in a role. Maintained by
+ * the thesis writes themselves, so that reports read one row per group instead of every thesis.
+ */
+@Entity
+@Table(name = "thesis_count")
+@IdClass(ThesisCount.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class ThesisCount {
+
+  public enum Dimension {
+    DEGREE,
+    ROLE
+  }
+
+  /**
+   * Primary key of a count, in the order thesis writes lock counts
+   */
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Getter
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Dimension dimension;
+
+    private long valueId;
+
+    private int year;
+  }
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16)
+  private Dimension dimension;
+
+  /**
+   * Id of the degree or role
+   */
+  @Id
+  @Column(name = "value_id")
+  private long valueId;
+
+  @Id
+  @Column(name = "publication_year")
+  private int year;
+
+  @Column(nullable = false)
+  private long theses;
+}
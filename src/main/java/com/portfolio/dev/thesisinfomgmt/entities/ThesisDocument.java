@@ -0,0 +1,42 @@
+package com.portfolio.dev.thesisinfomgmt.entities;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.With;
+
+/**
+ * Document of a thesis. Only its details are kept in the database, its content is kept in the
+ * document store under the storage key.
+ */
+@Entity
+@Table(name = "thesis_document")
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@With
+public class ThesisDocument {
+
+  @Id
+  @Column(name = "thesis_id")
+  private long thesisId;
+
+  @Column(name = "file_name", nullable = false)
+  private String fileName;
+
+  @Column(name = "file_size", nullable = false)
+  private long size;
+
+  @Column(name = "storage_key", nullable = false, length = 64)
+  private String storageKey;
+
+  @Column(name = "uploaded_at", nullable = false)
+  private Instant uploadedAt;
+}
@@ -0,0 +1,92 @@
+package com.portfolio.dev.thesisinfomgmt.events;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.RequestActor;
+import lombok.Getter;
+
+/**
+ * Published by the service layer whenever a degree, role, thesis or author is successfully
+ * created, updated or deleted. Listeners interested only in committed changes should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ */
+@Getter
+public class EntityChangeEvent {
+
+  public enum EntityType {
+    DEGREE,
+    ROLE,
+    THESIS,
+    AUTHOR
+  }
+
+  public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  private final EntityType entityType;
+
+  private final ChangeType changeType;
+
+  private final long entityId;
+
+  /**
+   * DTO of the entity after the change, or the deleted entity for deletions
+   */
+  private final Object data;
+
+  /**
+   * DTO of the entity before the change, null for creations
+   */
+  private final Object before;
+
+  /**
+   * Actor of the request which made the change, null if not made by a request
+   */
+  private final String actor;
+
+  /**
+   * Creates an event for a change made by the actor bound to the current thread
+   *
+   * @param entityType type of the changed entity
+   * @param changeType type of the change
+   * @param entityId   id of the changed entity
+   * @param before     entity before the change, null for creations
+   * @param data       entity after the change, or the deleted entity for deletions
+   */
+  public EntityChangeEvent(
+      EntityType entityType,
+      ChangeType changeType,
+      long entityId,
+      Object before,
+      Object data
+  ) {
+    this(entityType, changeType, entityId, before, data, RequestActor.current().orElse(null));
+  }
+
+  /**
+   * Creates an event for a change made by the given actor
+   *
+   * @param entityType type of the changed entity
+   * @param changeType type of the change
+   * @param entityId   id of the changed entity
+   * @param before     entity before the change, null for creations
+   * @param data       entity after the change, or the deleted entity for deletions
+   * @param actor      actor of the request which made the change, or null
+   */
+  public EntityChangeEvent(
+      EntityType entityType,
+      ChangeType changeType,
+      long entityId,
+      Object before,
+      Object data,
+      String actor
+  ) {
+    this.entityType = entityType;
+    this.changeType = changeType;
+    this.entityId = entityId;
+    this.before = before;
+    this.data = data;
+    this.actor = actor;
+  }
+}
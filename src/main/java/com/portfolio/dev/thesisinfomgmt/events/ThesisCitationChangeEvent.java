@@ -0,0 +1,24 @@
+package com.portfolio.dev.thesisinfomgmt.events;
+
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the service layer whenever a citation between theses is added or removed.
+ * Listeners interested only in committed changes should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ */
+@Getter
+@AllArgsConstructor
+public class ThesisCitationChangeEvent {
+
+  private final long citingThesisId;
+
+  private final long citedThesisId;
+
+  /**
+   * {@link ChangeType#CREATED} when a citation is added, {@link ChangeType#DELETED} when removed
+   */
+  private final ChangeType changeType;
+}
@@ -0,0 +1,27 @@
+package com.portfolio.dev.thesisinfomgmt.events;
+
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the service layer whenever the document of a thesis is successfully saved or
+ * deleted. Listeners interested only in committed changes should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ */
+@Getter
+@AllArgsConstructor
+public class ThesisDocumentChangeEvent {
+
+  private final long thesisId;
+
+  /**
+   * {@link ChangeType#UPDATED} when a document is saved, whether or not the thesis had one before
+   */
+  private final ChangeType changeType;
+
+  /**
+   * Key of the content of the document after the change, null for deletions
+   */
+  private final String storageKey;
+}
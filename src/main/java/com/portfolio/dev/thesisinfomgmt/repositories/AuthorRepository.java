@@ -0,0 +1,20 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuthorRepository extends JpaRepository<Author, Long> {
+
+  /**
+   * Retrieves the authors after an id, using the primary key as keyset
+   *
+   * @param afterId  id of the last author of the previous page
+   * @param pageable maximum number of authors to be retrieved
+   * @return authors ordered by id
+   */
+  List<Author> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+}
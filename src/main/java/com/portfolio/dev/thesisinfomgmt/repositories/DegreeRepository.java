@@ -1,12 +1,75 @@
 package com.portfolio.dev.thesisinfomgmt.repositories;
 
 import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DegreeRepository extends JpaRepository<Degree, Long> {
 
+  /**
+   * Retrieves a degree and locks it until the end of the transaction
+   *
+   * @param id id of the degree
+   * @return optional degree
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<Degree> findForUpdateById(long id);
+
   Optional<Degree> findFirstByAbbrEqualsIgnoreCase(String abbr);
+
+  /**
+   * Retrieves the rows changed within a version range, including deleted rows (tombstones)
+   *
+   * @param sinceVersion exclusive lower bound of the change version
+   * @param untilVersion inclusive upper bound of the change version
+   * @param limit        maximum number of rows to be retrieved
+   * @return changed rows ordered by change version
+   */
+  @Query(value = "SELECT * FROM degree WHERE change_version > :since AND change_version <= :until"
+      + " ORDER BY change_version LIMIT :limit", nativeQuery = true)
+  List<Degree> findChanges(@Param("since") long sinceVersion, @Param("until") long untilVersion,
+      @Param("limit") int limit);
+
+  /**
+   * Retrieves the highest change version, including deleted rows (tombstones)
+   *
+   * @return highest change version, or 0 if there are no rows
+   */
+  @Query(value = "SELECT COALESCE(MAX(change_version), 0) FROM degree", nativeQuery = true)
+  long findMaxChangeVersion();
+
+  /**
+   * Retrieves a degree by its normalized abbr, using the unique key
+   *
+   * @param abbrKey normalized abbr
+   * @return optional degree
+   */
+  Optional<Degree> findByAbbrKey(String abbrKey);
+
+  /**
+   * Retrieves the degrees holding any of the given normalized abbrs, using the unique key
+   *
+   * @param abbrKeys normalized abbrs
+   * @return matching degrees
+   */
+  List<Degree> findAllByAbbrKeyIn(Collection<String> abbrKeys);
+
+  /**
+   * Fills the normalized abbr of rows created before the column existed
+   *
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query(value = "UPDATE degree SET abbr_key = LOWER(abbr)"
+      + " WHERE abbr_key IS NULL AND abbr IS NOT NULL AND deleted = false", nativeQuery = true)
+  int backfillAbbrKeys();
 }
@@ -0,0 +1,92 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentContent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, String> {
+
+  /**
+   * Adds a reference to a content, creating the content if it has none yet. A single statement,
+   * so concurrent uploads of the same content for different theses never conflict.
+   *
+   * @param hash SHA-256 hash of the content
+   * @param size size of the content in bytes
+   * @return number of affected rows
+   */
+  @Modifying
+  @Query(value = "INSERT INTO document_content (hash, file_size, ref_count, released_at)"
+      + " VALUES (:hash, :size, 1, NULL)"
+      + " ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL",
+      nativeQuery = true)
+  int addReference(@Param("hash") String hash, @Param("size") long size);
+
+  /**
+   * Removes a reference to a content
+   *
+   * @param hash SHA-256 hash of the content
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentContent c SET c.refCount = c.refCount - 1"
+      + " WHERE c.hash = :hash AND c.refCount > 0")
+  int removeReference(@Param("hash") String hash);
+
+  /**
+   * Marks a content as released if its last reference was removed
+   *
+   * @param hash       SHA-256 hash of the content
+   * @param releasedAt point in time of the release
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentContent c SET c.releasedAt = :releasedAt"
+      + " WHERE c.hash = :hash AND c.refCount = 0")
+  int markReleased(@Param("hash") String hash, @Param("releasedAt") Instant releasedAt);
+
+  /**
+   * Retrieves the hashes of contents released before a point in time, using the hash as keyset
+   *
+   * @param cutoff    point in time
+   * @param afterHash hash of the last content of the previous page
+   * @param pageable  maximum number of hashes to be retrieved
+   * @return hashes in ascending order
+   */
+  @Query("SELECT c.hash FROM DocumentContent c WHERE c.refCount = 0 AND c.releasedAt < :cutoff"
+      + " AND c.hash > :afterHash ORDER BY c.hash")
+  List<String> findReleasedBefore(
+      @Param("cutoff") Instant cutoff,
+      @Param("afterHash") String afterHash,
+      Pageable pageable);
+
+  /**
+   * Deletes a content if it is still released since before a point in time
+   *
+   * @param hash   SHA-256 hash of the content
+   * @param cutoff point in time
+   * @return number of deleted rows
+   */
+  @Modifying
+  @Query("DELETE FROM DocumentContent c"
+      + " WHERE c.hash = :hash AND c.refCount = 0 AND c.releasedAt < :cutoff")
+  int deleteReleasedBefore(@Param("hash") String hash, @Param("cutoff") Instant cutoff);
+
+  /**
+   * Creates the contents of documents uploaded before contents were counted
+   *
+   * @return number of created rows
+   */
+  @Modifying
+  @Query(value = "INSERT INTO document_content (hash, file_size, ref_count)"
+      + " SELECT d.storage_key, MAX(d.file_size), COUNT(*) FROM thesis_document d"
+      + " WHERE NOT EXISTS (SELECT 1 FROM document_content c WHERE c.hash = d.storage_key)"
+      + " GROUP BY d.storage_key", nativeQuery = true)
+  int backfillContents();
+}
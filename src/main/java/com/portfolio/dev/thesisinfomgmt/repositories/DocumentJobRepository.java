@@ -0,0 +1,164 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Stage;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentJobRepository extends JpaRepository<DocumentJob, Long> {
+
+  /**
+   * Creates the pending job of a thesis, or resets its job to process other content. A single
+   * statement, so it never conflicts with a job being created concurrently.
+   *
+   * @param thesisId   id of the thesis
+   * @param storageKey key of the content to be processed
+   * @param now        current point in time
+   * @return number of affected rows
+   */
+  @Modifying
+  @Query(value = "INSERT INTO document_job (thesis_id, storage_key, status, stage, attempts,"
+      + " next_attempt_at, last_error, updated_at)"
+      + " VALUES (:thesisId, :storageKey, 'PENDING', NULL, 0, :now, NULL, :now)"
+      + " ON DUPLICATE KEY UPDATE storage_key = :storageKey, status = 'PENDING', stage = NULL,"
+      + " attempts = 0, next_attempt_at = :now, last_error = NULL, updated_at = :now",
+      nativeQuery = true)
+  int upsertPending(
+      @Param("thesisId") long thesisId,
+      @Param("storageKey") String storageKey,
+      @Param("now") Instant now);
+
+  /**
+   * Retrieves pending jobs due for an attempt, the longest waiting first
+   *
+   * @param now      current point in time
+   * @param pageable maximum number of jobs to be retrieved
+   * @return due jobs
+   */
+  @Query("SELECT j FROM DocumentJob j WHERE j.status = 'PENDING' AND j.nextAttemptAt <= :now"
+      + " ORDER BY j.nextAttemptAt")
+  List<DocumentJob> findDue(@Param("now") Instant now, Pageable pageable);
+
+  /**
+   * Retrieves jobs in a status, using the thesis id as keyset
+   *
+   * @param status        status of the jobs
+   * @param afterThesisId thesis id of the last job of the previous page
+   * @param pageable      maximum number of jobs to be retrieved
+   * @return jobs in thesis id order
+   */
+  @Query("SELECT j FROM DocumentJob j WHERE j.status = :status AND j.thesisId > :afterThesisId"
+      + " ORDER BY j.thesisId")
+  List<DocumentJob> findByStatus(
+      @Param("status") Status status,
+      @Param("afterThesisId") long afterThesisId,
+      Pageable pageable);
+
+  /**
+   * Counts the jobs in a status
+   *
+   * @param status status of the jobs
+   * @return number of jobs
+   */
+  long countByStatus(Status status);
+
+  /**
+   * Marks a pending job as running, unless it was claimed or reset meanwhile
+   *
+   * @param thesisId   id of the thesis
+   * @param storageKey key of the content read with the job
+   * @param now        current point in time
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentJob j SET j.status = 'RUNNING', j.updatedAt = :now"
+      + " WHERE j.thesisId = :thesisId AND j.storageKey = :storageKey AND j.status = 'PENDING'")
+  int claim(
+      @Param("thesisId") long thesisId,
+      @Param("storageKey") String storageKey,
+      @Param("now") Instant now);
+
+  /**
+   * Marks a running job as done, unless it was reset to other content meanwhile
+   *
+   * @param thesisId   id of the thesis
+   * @param storageKey key of the processed content
+   * @param now        current point in time
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentJob j SET j.status = 'DONE', j.updatedAt = :now"
+      + " WHERE j.thesisId = :thesisId AND j.storageKey = :storageKey AND j.status = 'RUNNING'")
+  int complete(
+      @Param("thesisId") long thesisId,
+      @Param("storageKey") String storageKey,
+      @Param("now") Instant now);
+
+  /**
+   * Records a failed attempt of a running job, unless it was reset to other content meanwhile
+   *
+   * @param thesisId      id of the thesis
+   * @param storageKey    key of the content which failed
+   * @param status        pending to be retried, or dead
+   * @param stage         stage which failed
+   * @param lastError     error of the attempt
+   * @param nextAttemptAt point in time of the next attempt
+   * @param now           current point in time
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentJob j SET j.status = :status, j.stage = :stage,"
+      + " j.attempts = j.attempts + 1, j.lastError = :lastError,"
+      + " j.nextAttemptAt = :nextAttemptAt, j.updatedAt = :now"
+      + " WHERE j.thesisId = :thesisId AND j.storageKey = :storageKey AND j.status = 'RUNNING'")
+  int fail(
+      @Param("thesisId") long thesisId,
+      @Param("storageKey") String storageKey,
+      @Param("status") Status status,
+      @Param("stage") Stage stage,
+      @Param("lastError") String lastError,
+      @Param("nextAttemptAt") Instant nextAttemptAt,
+      @Param("now") Instant now);
+
+  /**
+   * Puts a dead job back to pending, with its attempts reset
+   *
+   * @param thesisId id of the thesis
+   * @param now      current point in time
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentJob j SET j.status = 'PENDING', j.attempts = 0,"
+      + " j.nextAttemptAt = :now, j.updatedAt = :now"
+      + " WHERE j.thesisId = :thesisId AND j.status = 'DEAD'")
+  int retry(@Param("thesisId") long thesisId, @Param("now") Instant now);
+
+  /**
+   * Puts every running job back to pending, for jobs interrupted by a stop of the process
+   *
+   * @param now current point in time
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("UPDATE DocumentJob j SET j.status = 'PENDING', j.updatedAt = :now"
+      + " WHERE j.status = 'RUNNING'")
+  int resetRunning(@Param("now") Instant now);
+
+  /**
+   * Deletes the job of a thesis, if it has one
+   *
+   * @param thesisId id of the thesis
+   * @return number of deleted rows
+   */
+  @Modifying
+  @Query("DELETE FROM DocumentJob j WHERE j.thesisId = :thesisId")
+  int deleteByThesisId(@Param("thesisId") long thesisId);
+}
@@ -1,12 +1,75 @@
 package com.portfolio.dev.thesisinfomgmt.repositories;
 
 import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+  /**
+   * Retrieves a role and locks it until the end of the transaction
+   *
+   * @param id id of the role
+   * @return optional role
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<Role> findForUpdateById(long id);
+
   Optional<Role> findFirstByNameEqualsIgnoreCase(String name);
+
+  /**
+   * Retrieves the rows changed within a version range, including deleted rows (tombstones)
+   *
+   * @param sinceVersion exclusive lower bound of the change version
+   * @param untilVersion inclusive upper bound of the change version
+   * @param limit        maximum number of rows to be retrieved
+   * @return changed rows ordered by change version
+   */
+  @Query(value = "SELECT * FROM role WHERE change_version > :since AND change_version <= :until"
+      + " ORDER BY change_version LIMIT :limit", nativeQuery = true)
+  List<Role> findChanges(@Param("since") long sinceVersion, @Param("until") long untilVersion,
+      @Param("limit") int limit);
+
+  /**
+   * Retrieves the highest change version, including deleted rows (tombstones)
+   *
+   * @return highest change version, or 0 if there are no rows
+   */
+  @Query(value = "SELECT COALESCE(MAX(change_version), 0) FROM role", nativeQuery = true)
+  long findMaxChangeVersion();
+
+  /**
+   * Retrieves a role by its normalized name, using the unique key
+   *
+   * @param nameKey normalized name
+   * @return optional role
+   */
+  Optional<Role> findByNameKey(String nameKey);
+
+  /**
+   * Retrieves the roles holding any of the given normalized names, using the unique key
+   *
+   * @param nameKeys normalized names
+   * @return matching roles
+   */
+  List<Role> findAllByNameKeyIn(Collection<String> nameKeys);
+
+  /**
+   * Fills the normalized name of rows created before the column existed
+   *
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query(value = "UPDATE role SET name_key = LOWER(name)"
+      + " WHERE name_key IS NULL AND name IS NOT NULL AND deleted = false", nativeQuery = true)
+  int backfillNameKeys();
 }
@@ -0,0 +1,68 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThesisAuthorRepository extends JpaRepository<ThesisAuthor, Long> {
+
+  /**
+   * Retrieves the authors of multiple theses together with their authors and roles, in a single
+   * query
+   *
+   * @param thesisIds ids of the theses
+   * @return authors of the theses ordered by thesis and position
+   */
+  @EntityGraph(attributePaths = { "author", "role" })
+  List<ThesisAuthor> findAllByThesisIdInOrderByThesisIdAscPositionAsc(
+      Collection<Long> thesisIds);
+
+  /**
+   * Retrieves the authors of multiple theses, without their authors and roles
+   *
+   * @param thesisIds ids of the theses
+   * @return authors of the theses
+   */
+  List<ThesisAuthor> findAllByThesisIdIn(Collection<Long> thesisIds);
+
+  /**
+   * @param roleId id of the role
+   * @return whether any thesis has an author in the role
+   */
+  boolean existsByRoleId(long roleId);
+
+  /**
+   * Removes an author from every thesis
+   *
+   * @param authorId id of the author
+   * @return number of removed thesis authors
+   */
+  @Modifying
+  @Query("DELETE FROM ThesisAuthor ta WHERE ta.author.id = :authorId")
+  int deleteAllByAuthorId(@Param("authorId") long authorId);
+
+  /**
+   * Retrieves the ids of the roles held by any thesis author
+   *
+   * @return role ids
+   */
+  @Query("SELECT DISTINCT ta.role.id FROM ThesisAuthor ta")
+  List<Long> findRoleIds();
+
+  /**
+   * Counts the theses with at least one author in a role, per year
+   *
+   * @param roleId id of the role
+   * @return year and number of theses of every year with theses
+   */
+  @Query("SELECT t.year, COUNT(DISTINCT t.id) FROM ThesisAuthor ta JOIN ta.thesis t"
+      + " WHERE ta.role.id = :roleId GROUP BY t.year")
+  List<Object[]> countThesesByYearOfRole(@Param("roleId") long roleId);
+}
@@ -0,0 +1,76 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCitation;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCitation.Key;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThesisCitationRepository extends JpaRepository<ThesisCitation, Key> {
+
+  /**
+   * Adds a citation unless it already exists. A single statement, so it never conflicts with the
+   * same citation being added concurrently.
+   *
+   * @param citingThesisId id of the citing thesis
+   * @param citedThesisId  id of the cited thesis
+   * @param now            current point in time
+   * @return number of inserted rows, 0 if the citation existed
+   */
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO thesis_citation (citing_thesis_id, cited_thesis_id,"
+      + " created_at) VALUES (:citingThesisId, :citedThesisId, :now)",
+      nativeQuery = true)
+  int insertIgnore(
+      @Param("citingThesisId") long citingThesisId,
+      @Param("citedThesisId") long citedThesisId,
+      @Param("now") Instant now);
+
+  /**
+   * Retrieves a batch of citations as pairs of citing and cited thesis id, using both ids as
+   * keyset
+   *
+   * @param afterCitingThesisId citing thesis id of the last citation of the previous batch
+   * @param afterCitedThesisId  cited thesis id of the last citation of the previous batch
+   * @param pageable            maximum number of citations to be retrieved
+   * @return pairs of ids in citing and cited thesis id order
+   */
+  @Query("SELECT c.citingThesisId, c.citedThesisId FROM ThesisCitation c"
+      + " WHERE c.citingThesisId > :afterCiting"
+      + " OR (c.citingThesisId = :afterCiting AND c.citedThesisId > :afterCited)"
+      + " ORDER BY c.citingThesisId, c.citedThesisId")
+  List<Object[]> findBatchAfter(
+      @Param("afterCiting") long afterCitingThesisId,
+      @Param("afterCited") long afterCitedThesisId,
+      Pageable pageable);
+
+  /**
+   * Retrieves the citations made by multiple theses as pairs of citing and cited thesis id, in a
+   * single query
+   *
+   * @param citingThesisIds ids of the citing theses
+   * @return pairs of ids
+   */
+  @Query("SELECT c.citingThesisId, c.citedThesisId FROM ThesisCitation c"
+      + " WHERE c.citingThesisId IN :citingThesisIds")
+  List<Object[]> findAllByCitingThesisIdIn(
+      @Param("citingThesisIds") Collection<Long> citingThesisIds);
+
+  /**
+   * Removes every citation made by or of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @return number of removed citations
+   */
+  @Modifying
+  @Query("DELETE FROM ThesisCitation c"
+      + " WHERE c.citingThesisId = :thesisId OR c.citedThesisId = :thesisId")
+  int deleteAllByThesisId(@Param("thesisId") long thesisId);
+}
@@ -0,0 +1,113 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Dimension;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Key;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThesisCountRepository extends JpaRepository<ThesisCount, Key> {
+
+  /**
+   * Retrieves the non-zero counts of a dimension within a range of years
+   *
+   * @param dimension dimension of the counts
+   * @param fromYear  first year, inclusive
+   * @param toYear    last year, inclusive
+   * @return counts, newest year first and then by degree or role id
+   */
+  @Query("SELECT c FROM ThesisCount c WHERE c.dimension = :dimension"
+      + " AND c.year BETWEEN :fromYear AND :toYear AND c.theses > 0"
+      + " ORDER BY c.year DESC, c.valueId")
+  List<ThesisCount> findAllByDimension(
+      @Param("dimension") Dimension dimension,
+      @Param("fromYear") int fromYear,
+      @Param("toYear") int toYear);
+
+  /**
+   * Adds to a count, creating it if it does not exist. A single statement, so concurrent writes of
+   * the same group wait for each other instead of failing.
+   *
+   * @param dimension name of the dimension of the count
+   * @param valueId   id of the degree or role
+   * @param year      publication year
+   * @param delta     number of theses added, negative if removed
+   * @return number of affected rows
+   */
+  @Modifying
+  @Query(value = "INSERT INTO thesis_count (dimension, value_id, publication_year, theses)"
+      + " VALUES (:dimension, :valueId, :year, :delta)"
+      + " ON DUPLICATE KEY UPDATE theses = theses + :delta",
+      nativeQuery = true)
+  int addTheses(
+      @Param("dimension") String dimension,
+      @Param("valueId") long valueId,
+      @Param("year") int year,
+      @Param("delta") long delta);
+
+  /**
+   * Sets a count, creating it if it does not exist
+   *
+   * @param dimension name of the dimension of the count
+   * @param valueId   id of the degree or role
+   * @param year      publication year
+   * @param theses    number of theses
+   * @return number of affected rows
+   */
+  @Modifying
+  @Query(value = "INSERT INTO thesis_count (dimension, value_id, publication_year, theses)"
+      + " VALUES (:dimension, :valueId, :year, :theses)"
+      + " ON DUPLICATE KEY UPDATE theses = :theses",
+      nativeQuery = true)
+  int setTheses(
+      @Param("dimension") String dimension,
+      @Param("valueId") long valueId,
+      @Param("year") int year,
+      @Param("theses") long theses);
+
+  /**
+   * Removes a count
+   *
+   * @param dimension dimension of the count
+   * @param valueId   id of the degree or role
+   * @param year      publication year
+   * @return number of removed counts
+   */
+  @Modifying
+  @Query("DELETE FROM ThesisCount c WHERE c.dimension = :dimension AND c.valueId = :valueId"
+      + " AND c.year = :year")
+  int deleteCount(
+      @Param("dimension") Dimension dimension,
+      @Param("valueId") long valueId,
+      @Param("year") int year);
+
+  /**
+   * Retrieves the ids of the degrees or roles with counts
+   *
+   * @param dimension dimension of the counts
+   * @return degree or role ids
+   */
+  @Query("SELECT DISTINCT c.valueId FROM ThesisCount c WHERE c.dimension = :dimension")
+  List<Long> findValueIds(@Param("dimension") Dimension dimension);
+
+  /**
+   * Retrieves the counts of a degree or role and locks them together with the gaps between them,
+   * so that no count of the degree or role can be changed or created until the transaction ends
+   *
+   * @param dimension name of the dimension of the counts
+   * @param valueId   id of the degree or role
+   * @return year and number of theses of every count, in key order
+   */
+  @Query(value = "SELECT publication_year, theses FROM thesis_count"
+      + " WHERE dimension = :dimension AND value_id = :valueId"
+      + " ORDER BY publication_year FOR UPDATE",
+      nativeQuery = true)
+  List<Object[]> findGroupForUpdate(
+      @Param("dimension") String dimension,
+      @Param("valueId") long valueId);
+}
@@ -0,0 +1,10 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThesisDocumentRepository extends JpaRepository<ThesisDocument, Long> {
+
+}
@@ -0,0 +1,68 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThesisRepository extends JpaRepository<Thesis, Long>, ThesisRepositoryCustom {
+
+  /**
+   * Retrieves a thesis together with its degree, authors and their roles, in a single query
+   *
+   * @param id id of the thesis
+   * @return optional thesis
+   */
+  @EntityGraph(attributePaths = { "degree", "authors", "authors.author", "authors.role" })
+  Optional<Thesis> findWithAuthorsById(long id);
+
+  /**
+   * Retrieves a thesis and locks it until the end of the transaction
+   *
+   * @param id id of the thesis
+   * @return optional thesis
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<Thesis> findForUpdateById(long id);
+
+  /**
+   * @param degreeId id of the degree
+   * @return whether any thesis is of the degree
+   */
+  boolean existsByDegreeId(long degreeId);
+
+  /**
+   * Retrieves the theses following an id in id order, without their degrees and authors
+   *
+   * @param afterId  id of the last thesis of the previous batch, 0 for the first batch
+   * @param pageable maximum number of theses, as the size of the first page
+   * @return batch of theses
+   */
+  @Query("SELECT t FROM Thesis t WHERE t.id > :afterId ORDER BY t.id")
+  List<Thesis> findBatchAfter(@Param("afterId") long afterId, Pageable pageable);
+
+  /**
+   * Retrieves the ids of the degrees of any thesis, from the degree and year index
+   *
+   * @return degree ids
+   */
+  @Query("SELECT DISTINCT t.degree.id FROM Thesis t")
+  List<Long> findDegreeIds();
+
+  /**
+   * Counts the theses of a degree per year, from the degree and year index
+   *
+   * @param degreeId id of the degree
+   * @return year and number of theses of every year with theses
+   */
+  @Query("SELECT t.year, COUNT(t) FROM Thesis t WHERE t.degree.id = :degreeId GROUP BY t.year")
+  List<Object[]> countByYearOfDegree(@Param("degreeId") long degreeId);
+}
@@ -0,0 +1,23 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import java.util.List;
+
+public interface ThesisRepositoryCustom {
+
+  /**
+   * Retrieves a page of theses after a position of the browse order, without their abstracts
+   *
+   * @param degreeId    optional id of the degree
+   * @param year        optional publication year
+   * @param titlePrefix optional beginning of the title
+   * @param sort        browse order
+   * @param after       optional position of the last thesis of the previous page
+   * @param limit       maximum number of theses to be retrieved
+   * @return theses in browse order
+   */
+  List<ThesisDTO> findPage(Long degreeId, Integer year, String titlePrefix, ThesisSort sort,
+      ThesisCursor after, int limit);
+}
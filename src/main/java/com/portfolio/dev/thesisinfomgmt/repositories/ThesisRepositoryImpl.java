@@ -0,0 +1,99 @@
+package com.portfolio.dev.thesisinfomgmt.repositories;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+/**
+ * Keyset pagination of the thesis catalogue.
+ *
+ * <p>A page continues right after the sort key and id of the last thesis of the previous page
+ * instead of skipping an offset, so every page is a range scan of one of the indexes of
+ * {@link Thesis} reading only the rows it returns, however deep into the catalogue it is. No
+ * total count is computed since that would scan every matching row.
+ */
+public class ThesisRepositoryImpl implements ThesisRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<ThesisDTO> findPage(Long degreeId, Integer year, String titlePrefix,
+      ThesisSort sort, ThesisCursor after, int limit) {
+
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ThesisDTO> query = cb.createQuery(ThesisDTO.class);
+    Root<Thesis> thesis = query.from(Thesis.class);
+    Path<Long> id = thesis.get("id");
+    Path<Integer> thesisYear = thesis.get("year");
+    Path<String> title = thesis.get("title");
+    // Reads the foreign key column without joining the degree
+    Path<Long> thesisDegreeId = thesis.get("degree").get("id");
+
+    // Abstracts are left out since they are large and not shown when browsing
+    query.select(cb.construct(ThesisDTO.class, id, title, thesisYear, thesisDegreeId));
+
+    // Equality filters come first in the composite indexes
+    List<Predicate> predicates = new ArrayList<>();
+    if (degreeId != null) {
+      predicates.add(cb.equal(thesisDegreeId, degreeId));
+    }
+    if (year != null) {
+      predicates.add(cb.equal(thesisYear, year));
+    }
+    if (titlePrefix != null && !titlePrefix.isEmpty()) {
+      predicates.add(cb.like(title, escapeLike(titlePrefix) + "%", '\\'));
+    }
+
+    // Continue after the last thesis of the previous page, with the id breaking ties. The
+    // redundant bound on the sort key lets the planner start the index range at that key
+    switch (sort) {
+      case YEAR:
+        if (after != null) {
+          predicates.add(cb.lessThanOrEqualTo(thesisYear, after.getYear()));
+          predicates.add(cb.or(
+              cb.lessThan(thesisYear, after.getYear()),
+              cb.and(cb.equal(thesisYear, after.getYear()), cb.lessThan(id, after.getId()))));
+        }
+        query.orderBy(cb.desc(thesisYear), cb.desc(id));
+        break;
+      case TITLE:
+        if (after != null) {
+          predicates.add(cb.greaterThanOrEqualTo(title, after.getTitle()));
+          predicates.add(cb.or(
+              cb.greaterThan(title, after.getTitle()),
+              cb.and(cb.equal(title, after.getTitle()), cb.greaterThan(id, after.getId()))));
+        }
+        query.orderBy(cb.asc(title), cb.asc(id));
+        break;
+      default:
+        if (after != null) {
+          predicates.add(cb.greaterThan(id, after.getId()));
+        }
+        query.orderBy(cb.asc(id));
+        break;
+    }
+
+    query.where(predicates.toArray(new Predicate[0]));
+    return entityManager.createQuery(query)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
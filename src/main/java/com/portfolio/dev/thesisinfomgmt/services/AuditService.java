@@ -0,0 +1,21 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditPageDTO;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+
+public interface AuditService {
+
+  /**
+   * Retrieves audit records written after the given sequence, oldest first
+   *
+   * @param entityType optional type of the changed entities
+   * @param entityId   optional id of the changed entity
+   * @param actor      optional actor of the changes
+   * @param since      sequence of the last record already received, 0 to start from the oldest
+   *                   record kept
+   * @param limit      maximum number of records to be returned
+   * @return page of matching audit records
+   */
+  AuditPageDTO getRecords(
+      EntityType entityType, Long entityId, String actor, long since, int limit);
+}
@@ -0,0 +1,213 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditRecordDTO;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.utilities.SegmentedLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Audit log of every committed degree, role, thesis and author change.
+ *
+ * <p>Changes are put on a lock-free queue by the committing thread and appended to a
+ * {@link SegmentedLog} by a single background writer, so requests never wait for the disk. Appended
+ * records survive a crash of the process right away, and are written through to the disk every
+ * {@code tims.audit.flush-interval-ms}. If the writer falls behind by more than
+ * {@code tims.audit.queue-capacity} records, the committing thread does not wait for room: the
+ * record is dropped, counted and logged with the change it describes, so that the gap in the audit
+ * log can be reconstructed.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tims.audit.enabled", havingValue = "true")
+public class AuditServiceImpl implements AuditService, DisposableBean {
+
+  private final ObjectMapper objectMapper;
+
+  private final SegmentedLog auditLog;
+
+  private final Queue<AuditRecordDTO> queue = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Number of records in the queue, which does not know its size in constant time
+   */
+  private final AtomicInteger queued = new AtomicInteger();
+
+  private final int queueCapacity;
+
+  private final AtomicLong written = new AtomicLong();
+
+  private final AtomicLong dropped = new AtomicLong();
+
+  private final long flushIntervalNanos;
+
+  private final Thread writer;
+
+  private volatile boolean running = true;
+
+  public AuditServiceImpl(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${tims.audit.directory:data/audit}") String directory,
+      @Value("${tims.audit.segment-size-mb:64}") int segmentSizeMb,
+      @Value("${tims.audit.max-segments:16}") int maxSegments,
+      @Value("${tims.audit.queue-capacity:100000}") int queueCapacity,
+      @Value("${tims.audit.flush-interval-ms:1000}") long flushIntervalMs
+  ) {
+    this.objectMapper = objectMapper;
+    this.auditLog = new SegmentedLog(Paths.get(directory), segmentSizeMb << 20, maxSegments);
+    this.queueCapacity = queueCapacity;
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+    Gauge.builder("tims.audit.queued", queued, AtomicInteger::get)
+        .description("Audit records waiting to be written")
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.audit.written", written, AtomicLong::get)
+        .description("Audit records written to the audit log")
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.audit.dropped", dropped, AtomicLong::get)
+        .description("Audit records dropped since the writer fell behind")
+        .register(meterRegistry);
+
+    writer = new Thread(this::run, "audit-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Queues a committed change for the audit log
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntityChange(EntityChangeEvent event) {
+    Object after = event.getChangeType() == ChangeType.DELETED ? null : event.getData();
+    AuditRecordDTO record = new AuditRecordDTO(0, Instant.now(), event.getActor(),
+        event.getEntityType(), event.getChangeType(), event.getEntityId(), event.getBefore(),
+        after);
+
+    if (!reserveSlot()) {
+      log.error("Audit writer is behind, dropped audit record of {} {} {} by {} ({} dropped so"
+          + " far)", record.getChangeType(), record.getEntityType(), record.getEntityId(),
+          record.getActor(), dropped.incrementAndGet());
+      return;
+    }
+    queue.offer(record);
+    LockSupport.unpark(writer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public AuditPageDTO getRecords(
+      EntityType entityType, Long entityId, String actor, long since, int limit) {
+
+    // Records are appended in order, so a page ends at the last record visited
+    List<AuditRecordDTO> records = new ArrayList<>();
+    long[] lastSequence = { since };
+    boolean[] hasMore = { false };
+    auditLog.read(since, (sequence, payload) -> {
+      AuditRecordDTO record = readRecord(sequence, payload);
+      if ((entityType == null || record.getEntityType() == entityType)
+          && (entityId == null || record.getEntityId() == entityId)
+          && (actor == null || actor.equals(record.getActor()))) {
+        if (records.size() == limit) {
+          hasMore[0] = true;
+          return false;
+        }
+        records.add(record);
+      }
+      lastSequence[0] = sequence;
+      return true;
+    });
+    return new AuditPageDTO(records, lastSequence[0], hasMore[0]);
+  }
+
+  @Override
+  public void destroy() {
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Reserves room for a record in the queue without waiting, the committing thread must not block
+   *
+   * @return true if reserved, false if the queue is full
+   */
+  private boolean reserveSlot() {
+    if (queued.incrementAndGet() > queueCapacity) {
+      queued.decrementAndGet();
+      LockSupport.unpark(writer);
+      return false;
+    }
+    return true;
+  }
+
+  private void run() {
+    long forceAt = System.nanoTime() + flushIntervalNanos;
+    while (running || !queue.isEmpty()) {
+      AuditRecordDTO record = queue.poll();
+      if (record != null) {
+        queued.decrementAndGet();
+        append(record);
+      } else {
+        LockSupport.parkNanos(this, flushIntervalNanos);
+      }
+      if (System.nanoTime() - forceAt >= 0) {
+        auditLog.force();
+        forceAt = System.nanoTime() + flushIntervalNanos;
+      }
+    }
+    auditLog.close();
+  }
+
+  private void append(AuditRecordDTO record) {
+    try {
+      auditLog.append(objectMapper.writeValueAsBytes(record));
+      written.incrementAndGet();
+    } catch (JsonProcessingException | IllegalArgumentException | UncheckedIOException e) {
+      log.error("Could not write audit record of {} {} {}", record.getChangeType(),
+          record.getEntityType(), record.getEntityId(), e);
+    }
+  }
+
+  private AuditRecordDTO readRecord(long sequence, byte[] payload) {
+    try {
+      AuditRecordDTO record = objectMapper.readValue(payload, AuditRecordDTO.class);
+      record.setSequence(sequence);
+      return record;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read audit record " + sequence, e);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import java.util.Optional;
+
+public interface AuthorService {
+
+  /**
+   * Retrieves a page of authors ordered by id
+   *
+   * @param afterId id of the last author of the previous page, 0 for the first page
+   * @param limit   maximum number of authors to be retrieved
+   * @return authors together with the cursor of the next page
+   */
+  KeysetPageDTO<AuthorDTO> getAuthors(long afterId, int limit);
+
+  /**
+   * Retrieves an author
+   *
+   * @param authorId id of the author to be retrieved
+   * @return optional retrieved author
+   */
+  Optional<AuthorDTO> getAuthor(long authorId);
+
+  /**
+   * Creates an author
+   *
+   * @param authorDTO author to be created
+   * @return created author
+   */
+  AuthorDTO createAuthor(AuthorDTO authorDTO);
+
+  /**
+   * Updates an author
+   *
+   * @param authorId  id of the author to be updated
+   * @param authorDTO updated author details
+   * @return optional updated author
+   */
+  Optional<AuthorDTO> updateAuthor(long authorId, AuthorDTO authorDTO);
+
+  /**
+   * Deletes an author and removes it from its theses
+   *
+   * @param authorId id of the author to be deleted
+   * @return optional deleted author
+   */
+  Optional<AuthorDTO> deleteAuthor(long authorId);
+
+  /**
+   * Validate author details
+   *
+   * @param authorDTO author to be validated
+   * @return validation response
+   */
+  ValidationResponse validateAuthor(AuthorDTO authorDTO);
+}
@@ -0,0 +1,160 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_FIRST_NAME_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_LAST_NAME_REQUIRED;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.repositories.AuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.MapperHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AuthorServiceImpl implements AuthorService {
+
+  private final AuthorRepository authorRepository;
+
+  private final ThesisAuthorRepository thesisAuthorRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public AuthorServiceImpl(
+      AuthorRepository authorRepository,
+      ThesisAuthorRepository thesisAuthorRepository,
+      ApplicationEventPublisher eventPublisher
+  ) {
+    this.authorRepository = authorRepository;
+    this.thesisAuthorRepository = thesisAuthorRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public KeysetPageDTO<AuthorDTO> getAuthors(long afterId, int limit) {
+
+    // Fetch one more author than requested to know whether there is a next page
+    List<AuthorDTO> authors = authorRepository
+        .findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit + 1))
+        .stream()
+        .map(AuthorDTO::new)
+        .collect(Collectors.toList());
+    if (authors.size() <= limit) {
+      return new KeysetPageDTO<>(authors, null);
+    }
+
+    authors = authors.subList(0, limit);
+    return new KeysetPageDTO<>(authors, Long.toString(authors.get(limit - 1).getId()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<AuthorDTO> getAuthor(long authorId) {
+
+    Optional<Author> author = authorRepository.findById(authorId);
+    return author.map(AuthorDTO::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public AuthorDTO createAuthor(AuthorDTO authorDTO) {
+
+    Author author = authorRepository.save(MapperHelper.mapToAuthor(authorDTO));
+    AuthorDTO createdAuthor = new AuthorDTO(author);
+    publishChange(ChangeType.CREATED, null, createdAuthor);
+    return createdAuthor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<AuthorDTO> updateAuthor(long authorId, AuthorDTO authorDTO) {
+
+    Optional<Author> author = authorRepository.findById(authorId);
+    if (author.isPresent()) {
+      Author updatedAuthor = author.get();
+      AuthorDTO before = new AuthorDTO(updatedAuthor);
+      updatedAuthor.setFirstName(authorDTO.getFirstName());
+      updatedAuthor.setLastName(authorDTO.getLastName());
+      updatedAuthor.setEmail(authorDTO.getEmail());
+      updatedAuthor = authorRepository.save(updatedAuthor);
+      AuthorDTO updatedAuthorDTO = new AuthorDTO(updatedAuthor);
+      publishChange(ChangeType.UPDATED, before, updatedAuthorDTO);
+      return Optional.of(updatedAuthorDTO);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<AuthorDTO> deleteAuthor(long authorId) {
+
+    Optional<Author> author = authorRepository.findById(authorId);
+    if (author.isPresent()) {
+      // Remove the author from all theses with a single statement
+      thesisAuthorRepository.deleteAllByAuthorId(authorId);
+      authorRepository.delete(author.get());
+      AuthorDTO deletedAuthor = new AuthorDTO(author.get());
+      publishChange(ChangeType.DELETED, deletedAuthor, deletedAuthor);
+      return Optional.of(deletedAuthor);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ValidationResponse validateAuthor(AuthorDTO authorDTO) {
+
+    // Check if first name is empty
+    if (StringUtils.isBlank(authorDTO.getFirstName())) {
+      return ValidationResponse.badRequest(AUTHOR_FIRST_NAME_REQUIRED);
+    }
+
+    // Check if last name is empty
+    if (StringUtils.isBlank(authorDTO.getLastName())) {
+      return ValidationResponse.badRequest(AUTHOR_LAST_NAME_REQUIRED);
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Publishes an author change, delivered to transactional listeners once committed
+   *
+   * @param changeType type of the change
+   * @param before     author before the change, null for creations
+   * @param authorDTO  changed author
+   */
+  private void publishChange(ChangeType changeType, AuthorDTO before, AuthorDTO authorDTO) {
+    eventPublisher.publishEvent(new EntityChangeEvent(
+        EntityType.AUTHOR, changeType, authorDTO.getId(), before, authorDTO));
+  }
+}
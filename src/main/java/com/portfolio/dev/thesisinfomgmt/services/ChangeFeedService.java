@@ -0,0 +1,27 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeEventDTO;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ChangeFeedService {
+
+  /**
+   * Subscribes to the change feed
+   *
+   * @param lastEventId id of the last event received by the client, or null for a new
+   *                    subscription
+   * @return emitter streaming the change events
+   */
+  SseEmitter subscribe(String lastEventId);
+
+  /**
+   * Retrieves the buffered change events after the given sequence
+   *
+   * @param lastSequence sequence of the last event already received
+   * @return optional list of change events, empty if the events after the given sequence are no
+   *     longer (or not yet) buffered and the client has to reload its data
+   */
+  Optional<List<ChangeEventDTO>> getChangesSince(long lastSequence);
+}
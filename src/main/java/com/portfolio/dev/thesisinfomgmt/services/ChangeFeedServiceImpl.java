@@ -0,0 +1,237 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeEventDTO;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService, DisposableBean {
+
+  static final String CHANGE_EVENT_NAME = "change";
+  static final String RESET_EVENT_NAME = "reset";
+
+  /**
+   * Identifies this run of the feed, sequences restart at 1 on every boot so event ids are sent as
+   * {@code <epoch>-<sequence>} and ids from a previous run are answered with a reset
+   */
+  private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+  /**
+   * Ring buffer of the most recent events, the event with sequence n is stored at n % length. An
+   * empty buffer disables replay, reconnecting clients that missed events are always reset.
+   */
+  private final ChangeEventDTO[] buffer;
+
+  /**
+   * Sequence to be assigned to the next event, guarded by this
+   */
+  private long nextSequence = 1;
+
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+  /**
+   * Single thread delivering events so that every subscriber receives them in order
+   */
+  private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "change-feed-dispatcher");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final long emitterTimeout;
+
+  public ChangeFeedServiceImpl(
+      @Value("${tims.change-feed.buffer-size:1024}") int bufferSize,
+      @Value("${tims.change-feed.emitter-timeout-ms:1800000}") long emitterTimeout
+  ) {
+    if (bufferSize < 0) {
+      throw new IllegalArgumentException("Change feed buffer size must not be negative.");
+    }
+    this.buffer = new ChangeEventDTO[bufferSize];
+    this.emitterTimeout = emitterTimeout;
+  }
+
+  /**
+   * Appends a committed change to the feed and delivers it to every subscriber
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onEntityChange(EntityChangeEvent event) {
+    // Queued while holding the sequence lock, so events are dispatched in sequence order and
+    // subscribers never skip an event as already delivered
+    ChangeEventDTO changeEvent = append(event);
+    dispatcher.execute(() -> {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.send(changeEvent);
+      }
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SseEmitter subscribe(String lastEventId) {
+
+    SseEmitter emitter = new SseEmitter(emitterTimeout);
+    Subscriber subscriber = new Subscriber(emitter);
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> subscribers.remove(subscriber));
+    emitter.onError(error -> subscribers.remove(subscriber));
+
+    // Replay and registration run on the dispatcher so no event is missed in between
+    dispatcher.execute(() -> {
+      if (lastEventId != null) {
+        OptionalLong lastSequence = parseSequence(lastEventId);
+        Optional<List<ChangeEventDTO>> missedEvents = lastSequence.isPresent()
+            ? getChangesSince(lastSequence.getAsLong())
+            : Optional.empty();
+        if (missedEvents.isPresent()) {
+          missedEvents.get().forEach(subscriber::send);
+        } else {
+          subscriber.reset(currentSequence());
+        }
+      } else {
+        subscriber.lastSequence = currentSequence();
+      }
+      if (subscriber.open) {
+        subscribers.add(subscriber);
+      }
+    });
+    return emitter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized Optional<List<ChangeEventDTO>> getChangesSince(long lastSequence) {
+
+    long oldestSequence = Math.max(1, nextSequence - buffer.length);
+    if (lastSequence >= nextSequence || lastSequence < oldestSequence - 1) {
+      return Optional.empty();
+    }
+
+    List<ChangeEventDTO> changes = new ArrayList<>();
+    for (long sequence = lastSequence + 1; sequence < nextSequence; sequence++) {
+      changes.add(buffer[(int) (sequence % buffer.length)]);
+    }
+    return Optional.of(changes);
+  }
+
+  /**
+   * Formats the SSE event id of the given sequence
+   *
+   * @param sequence event sequence
+   * @return event id
+   */
+  String toEventId(long sequence) {
+    return epoch + "-" + sequence;
+  }
+
+  /**
+   * Parses the sequence out of an SSE event id issued by this run of the feed
+   *
+   * @param eventId event id sent by the client
+   * @return optional sequence, empty if the id is malformed or was issued before a restart
+   */
+  OptionalLong parseSequence(String eventId) {
+    String prefix = epoch + "-";
+    if (!eventId.startsWith(prefix)) {
+      return OptionalLong.empty();
+    }
+    try {
+      return OptionalLong.of(Long.parseLong(eventId.substring(prefix.length())));
+    } catch (NumberFormatException e) {
+      return OptionalLong.empty();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    dispatcher.shutdownNow();
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+  }
+
+  private synchronized ChangeEventDTO append(EntityChangeEvent event) {
+    ChangeEventDTO changeEvent = new ChangeEventDTO(nextSequence, event.getEntityType(),
+        event.getChangeType(), event.getEntityId(), event.getData(), Instant.now());
+    if (buffer.length > 0) {
+      buffer[(int) (nextSequence % buffer.length)] = changeEvent;
+    }
+    nextSequence++;
+    return changeEvent;
+  }
+
+  private synchronized long currentSequence() {
+    return nextSequence - 1;
+  }
+
+  /**
+   * SSE subscriber, only accessed from the dispatcher thread
+   */
+  private class Subscriber {
+
+    private final SseEmitter emitter;
+
+    private long lastSequence;
+
+    private boolean open = true;
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    void send(ChangeEventDTO changeEvent) {
+      // Skip events already delivered by the replay
+      if (!open || changeEvent.getSequence() <= lastSequence) {
+        return;
+      }
+      try {
+        emitter.send(SseEmitter.event()
+            .id(toEventId(changeEvent.getSequence()))
+            .name(CHANGE_EVENT_NAME)
+            .data(changeEvent, MediaType.APPLICATION_JSON));
+        lastSequence = changeEvent.getSequence();
+      } catch (IOException | IllegalStateException e) {
+        close(e);
+      }
+    }
+
+    void reset(long sequence) {
+      try {
+        emitter.send(SseEmitter.event()
+            .id(toEventId(sequence))
+            .name(RESET_EVENT_NAME)
+            .data(sequence));
+        lastSequence = sequence;
+      } catch (IOException | IllegalStateException e) {
+        close(e);
+      }
+    }
+
+    private void close(Exception e) {
+      log.debug("Dropping change feed subscriber: {}", e.getMessage());
+      open = false;
+      subscribers.remove(this);
+      emitter.completeWithError(e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationGraphStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationNeighbourDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RelatedThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Direction;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Relation;
+import java.util.List;
+import java.util.Optional;
+
+public interface CitationGraphService {
+
+  /**
+   * Retrieves the theses reachable from a thesis by following citations, nearest first
+   *
+   * @param thesisId  id of the thesis
+   * @param direction direction of the followed citations
+   * @param maxHops   maximum number of citations followed
+   * @param limit     maximum number of theses to be retrieved
+   * @return reachable theses, empty if the thesis does not exist
+   */
+  Optional<List<CitationNeighbourDTO>> getNeighbours(
+      long thesisId, Direction direction, int maxHops, int limit);
+
+  /**
+   * Retrieves the theses sharing the most citing or cited theses with a thesis
+   *
+   * @param thesisId id of the thesis
+   * @param relation shared citations counted
+   * @param limit    maximum number of theses to be retrieved
+   * @return related theses, most related first, empty if the thesis does not exist
+   */
+  Optional<List<RelatedThesisDTO>> getRelated(long thesisId, Relation relation, int limit);
+
+  /**
+   * Starts reloading the graph from the database in the background
+   *
+   * @return whether the reload started, false if one is already running
+   */
+  boolean startReload();
+
+  /**
+   * Retrieves the status of the citation graph
+   *
+   * @return status of the graph
+   */
+  CitationGraphStatusDTO getStatus();
+}
@@ -0,0 +1,352 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationGraphStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationNeighbourDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RelatedThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisCitationChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisCitationRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Direction;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Neighbours;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Related;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Relation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Citation graph between theses, kept in memory as an immutable {@link CitationGraph} which
+ * queries read without locking.
+ *
+ * <p>Committed citation changes queue the citing thesis, and deleted theses are queued for
+ * removal. A background indexer applies the queued theses in batches of up to
+ * {@value #APPLY_BATCH_SIZE}, reading the current citations of the changed theses in one query
+ * and replacing the graph with one copying every other citation, so changes arriving faster than
+ * they are applied are merged into fewer copies. A reload reads every citation into a new graph,
+ * which replaces the current one on the indexer, so that changes applied meanwhile are not lost
+ * but applied again afterwards. It runs on startup.
+ */
+@Slf4j
+@Service
+public class CitationGraphServiceImpl implements CitationGraphService, DisposableBean {
+
+  private static final int APPLY_BATCH_SIZE = 1000;
+
+  private static final int RELOAD_BATCH_SIZE = 10000;
+
+  private final ThesisCitationRepository thesisCitationRepository;
+
+  private final ThesisRepository thesisRepository;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private volatile CitationGraph graph = CitationGraph.EMPTY;
+
+  /**
+   * Theses whose citations changed, waiting to be applied
+   */
+  private final Set<Long> changedTheses = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Deleted theses, waiting to be removed
+   */
+  private final Set<Long> deletedTheses = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Theses changed or deleted while a reload is running, which the reload may have read as they
+   * were before the change
+   */
+  private final Set<Long> changedDuringReload = ConcurrentHashMap.newKeySet();
+
+  private final Set<Long> deletedDuringReload = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Whether the indexer has a batch queued which has not started yet
+   */
+  private final AtomicBoolean applyQueued = new AtomicBoolean();
+
+  private final AtomicBoolean reloading = new AtomicBoolean();
+
+  private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "citations-indexer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private volatile Instant lastReloadCompletedAt;
+
+  public CitationGraphServiceImpl(
+      ThesisCitationRepository thesisCitationRepository,
+      ThesisRepository thesisRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry
+  ) {
+    this.thesisCitationRepository = thesisCitationRepository;
+    this.thesisRepository = thesisRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.readOnlyTransaction.setReadOnly(true);
+
+    Gauge.builder("tims.citations.pending", this, service -> service.getPendingTheses())
+        .description("Changed theses waiting to be applied to the citation graph")
+        .register(meterRegistry);
+    Gauge.builder("tims.citations.theses", this, service -> service.graph.getTheses())
+        .description("Theses citing or cited by another thesis")
+        .register(meterRegistry);
+    Gauge.builder("tims.citations.edges", this, service -> service.graph.getCitations())
+        .description("Citations in the citation graph")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Loads the graph once the application is ready
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadGraph() {
+    startReload();
+  }
+
+  /**
+   * Queues the citing thesis of a committed citation change
+   *
+   * @param event thesis citation change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCitationChange(ThesisCitationChangeEvent event) {
+    enqueue(event.getCitingThesisId(), changedTheses, changedDuringReload);
+  }
+
+  /**
+   * Queues a committed thesis deletion
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS
+        && event.getChangeType() == ChangeType.DELETED) {
+      enqueue(event.getEntityId(), deletedTheses, deletedDuringReload);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<List<CitationNeighbourDTO>> getNeighbours(
+      long thesisId, Direction direction, int maxHops, int limit) {
+
+    if (!thesisRepository.existsById(thesisId)) {
+      return Optional.empty();
+    }
+    Neighbours neighbours = graph.neighbours(thesisId, direction, maxHops, limit);
+    List<CitationNeighbourDTO> neighbourDTOs = new ArrayList<>(neighbours.getIds().length);
+    for (int i = 0; i < neighbours.getIds().length; i++) {
+      neighbourDTOs.add(
+          new CitationNeighbourDTO(neighbours.getIds()[i], neighbours.getHops()[i]));
+    }
+    return Optional.of(neighbourDTOs);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<List<RelatedThesisDTO>> getRelated(
+      long thesisId, Relation relation, int limit) {
+
+    if (!thesisRepository.existsById(thesisId)) {
+      return Optional.empty();
+    }
+    Related related = graph.related(thesisId, relation, limit);
+    List<RelatedThesisDTO> relatedDTOs = new ArrayList<>(related.getIds().length);
+    for (int i = 0; i < related.getIds().length; i++) {
+      relatedDTOs.add(new RelatedThesisDTO(related.getIds()[i], related.getScores()[i]));
+    }
+    return Optional.of(relatedDTOs);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean startReload() {
+    if (!reloading.compareAndSet(false, true)) {
+      return false;
+    }
+    Thread thread = new Thread(this::reload, "citations-reload");
+    thread.setDaemon(true);
+    thread.start();
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CitationGraphStatusDTO getStatus() {
+    CitationGraph current = graph;
+    return new CitationGraphStatusDTO(current.getTheses(), current.getCitations(),
+        current.getSizeInBytes(), getPendingTheses(), reloading.get(), lastReloadCompletedAt);
+  }
+
+  @Override
+  public void destroy() {
+    indexer.shutdownNow();
+  }
+
+  /**
+   * Replaces the citations of changed theses by their current ones and removes deleted theses
+   *
+   * @param changedThesisIds ids of the theses whose citations changed
+   * @param deletedThesisIds ids of the deleted theses
+   */
+  void applyChanges(Collection<Long> changedThesisIds, Collection<Long> deletedThesisIds) {
+    CitationGraph.Builder citations = new CitationGraph.Builder();
+    if (!changedThesisIds.isEmpty()) {
+      List<Object[]> rows = readOnlyTransaction.execute(status ->
+          thesisCitationRepository.findAllByCitingThesisIdIn(changedThesisIds));
+      if (rows != null) {
+        for (Object[] row : rows) {
+          citations.add((Long) row[0], (Long) row[1]);
+        }
+      }
+    }
+    graph = graph.withChanges(toArray(changedThesisIds), citations.build(),
+        toArray(deletedThesisIds));
+  }
+
+  /**
+   * Reads every citation into a new graph, in batches
+   *
+   * @return graph of every citation
+   */
+  CitationGraph readGraph() {
+    CitationGraph.Builder builder = new CitationGraph.Builder();
+    long afterCiting = 0;
+    long afterCited = 0;
+    List<Object[]> batch;
+    do {
+      long batchAfterCiting = afterCiting;
+      long batchAfterCited = afterCited;
+      batch = readOnlyTransaction.execute(status -> thesisCitationRepository.findBatchAfter(
+          batchAfterCiting, batchAfterCited, PageRequest.of(0, RELOAD_BATCH_SIZE)));
+      for (Object[] row : batch) {
+        builder.add((Long) row[0], (Long) row[1]);
+      }
+      if (!batch.isEmpty()) {
+        Object[] last = batch.get(batch.size() - 1);
+        afterCiting = (Long) last[0];
+        afterCited = (Long) last[1];
+      }
+    } while (batch.size() == RELOAD_BATCH_SIZE);
+    return builder.build();
+  }
+
+  private void enqueue(long thesisId, Set<Long> queue, Set<Long> duringReload) {
+    if (reloading.get()) {
+      duringReload.add(thesisId);
+    }
+    queue.add(thesisId);
+    scheduleApply();
+  }
+
+  private void scheduleApply() {
+    if (applyQueued.compareAndSet(false, true)) {
+      indexer.execute(this::applyPending);
+    }
+  }
+
+  private void applyPending() {
+    // Changes from now on schedule another batch, since they may not be taken below
+    applyQueued.set(false);
+    List<Long> changed = take(changedTheses);
+    List<Long> deleted = take(deletedTheses);
+    if (changed.isEmpty() && deleted.isEmpty()) {
+      return;
+    }
+    try {
+      applyChanges(changed, deleted);
+    } catch (RuntimeException e) {
+      log.error("Could not apply citations of {} changed and {} deleted theses",
+          changed.size(), deleted.size(), e);
+    }
+    if (!changedTheses.isEmpty() || !deletedTheses.isEmpty()) {
+      scheduleApply();
+    }
+  }
+
+  private void reload() {
+    long startedAt = System.currentTimeMillis();
+    CitationGraph reloaded = null;
+    try {
+      reloaded = readGraph();
+      log.info("Loaded {} citations of {} theses in {} ms", reloaded.getCitations(),
+          reloaded.getTheses(), System.currentTimeMillis() - startedAt);
+    } catch (RuntimeException e) {
+      log.error("Could not reload citation graph", e);
+    } finally {
+      // Replaced on the indexer, between batches, which then applies the changes made meanwhile
+      CitationGraph result = reloaded;
+      indexer.execute(() -> finishReload(result));
+    }
+  }
+
+  private void finishReload(CitationGraph reloaded) {
+    if (reloaded != null) {
+      graph = reloaded;
+      lastReloadCompletedAt = Instant.now();
+    }
+    reloading.set(false);
+    requeue(changedDuringReload, changedTheses);
+    requeue(deletedDuringReload, deletedTheses);
+    scheduleApply();
+  }
+
+  private int getPendingTheses() {
+    return changedTheses.size() + deletedTheses.size();
+  }
+
+  private static void requeue(Set<Long> duringReload, Set<Long> queue) {
+    Iterator<Long> changed = duringReload.iterator();
+    while (changed.hasNext()) {
+      queue.add(changed.next());
+      changed.remove();
+    }
+  }
+
+  private static List<Long> take(Set<Long> queue) {
+    List<Long> taken = new ArrayList<>();
+    Iterator<Long> queued = queue.iterator();
+    while (queued.hasNext() && taken.size() < APPLY_BATCH_SIZE) {
+      taken.add(queued.next());
+      queued.remove();
+    }
+    return taken;
+  }
+
+  private static long[] toArray(Collection<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).toArray();
+  }
+}
@@ -1,6 +1,12 @@
 package com.portfolio.dev.thesisinfomgmt.services;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +28,14 @@ public interface DegreeService {
    */
   DegreeDTO createDegree(DegreeDTO degreeDTO);
 
+  /**
+   * Creates multiple degrees in a single transaction, each of them validated on its own
+   *
+   * @param degreeDTOs degrees to be created, each attributed to the actor who submitted it
+   * @return for each degree in the given order, either the created degree or why it was invalid
+   */
+  List<CreateResultDTO<DegreeDTO>> createDegrees(List<Attributed<DegreeDTO>> degreeDTOs);
+
   /**
    * Retrieves a degree
    *
@@ -30,6 +44,23 @@ public interface DegreeService {
    */
   Optional<DegreeDTO> getDegree(long degreeId);
 
+  /**
+   * Retrieves multiple degrees in a single query
+   *
+   * @param degreeIds ids of the degrees to be retrieved
+   * @return found degrees in requested order, together with the ids that were not found
+   */
+  BatchResultDTO<DegreeDTO> getDegrees(List<Long> degreeIds);
+
+  /**
+   * Retrieves the degrees inserted, updated or deleted since a change version
+   *
+   * @param sinceVersion change version already known to the client, or null for a full sync
+   * @param limit        maximum number of changes to be retrieved
+   * @return changes together with the version to be used for the next call
+   */
+  ChangeSetDTO<DegreeDTO> getDegreeChanges(Long sinceVersion, int limit);
+
   /**
    * Updates a degree
    *
@@ -39,11 +70,21 @@ public interface DegreeService {
    */
   Optional<DegreeDTO> updateDegree(long degreeId, DegreeDTO degreeDTO);
 
+  /**
+   * Inserts a degree or updates the existing one with the same abbreviation (case-insensitive)
+   *
+   * @param abbr      degree abbreviation, the natural key of the degree
+   * @param degreeDTO degree details
+   * @return upserted degree and whether it was created
+   */
+  UpsertResultDTO<DegreeDTO> upsertDegree(String abbr, DegreeDTO degreeDTO);
+
   /**
    * Deletes a degree
    *
    * @param degreeId id of the degree to be deleted
    * @return optional deleted degree
+   * @throws EntityInUseException if theses still reference the degree
    */
   Optional<DegreeDTO> deleteDegree(long degreeId);
 
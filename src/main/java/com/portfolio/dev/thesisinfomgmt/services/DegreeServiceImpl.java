@@ -2,28 +2,88 @@ package com.portfolio.dev.thesisinfomgmt.services;
 
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_ABBR_ALREADY_EXISTS;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_ABBR_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_IN_USE;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NAME_REQUIRED;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
 import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.MapperHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.RequestActor;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 public class DegreeServiceImpl implements DegreeService {
 
+  private static final int MAX_UPSERT_ATTEMPTS = 2;
+
   private final DegreeRepository degreeRepository;
 
+  private final ThesisRepository thesisRepository;
+
+  private final ChangeVersionGenerator changeVersionGenerator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   public DegreeServiceImpl(
-      DegreeRepository degreeRepository
+      DegreeRepository degreeRepository,
+      ThesisRepository thesisRepository,
+      ChangeVersionGenerator changeVersionGenerator,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher
   ) {
     this.degreeRepository = degreeRepository;
+    this.thesisRepository = thesisRepository;
+    this.changeVersionGenerator = changeVersionGenerator;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Fills the normalized abbr of existing rows, which is needed by upserts
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillAbbrKeys() {
+    try {
+      transactionTemplate.executeWithoutResult(status -> degreeRepository.backfillAbbrKeys());
+    } catch (DataIntegrityViolationException e) {
+      log.warn("Could not fill normalized degree abbrs, existing degrees have duplicate abbrs", e);
+    }
   }
 
   /**
@@ -42,11 +102,35 @@ public class DegreeServiceImpl implements DegreeService {
    * {@inheritDoc}
    */
   @Override
+  @Transactional
   public DegreeDTO createDegree(DegreeDTO degreeDTO) {
 
     Degree degree = MapperHelper.mapToDegree(degreeDTO);
+    degree.setChangeVersion(changeVersionGenerator.nextVersion());
     degree = degreeRepository.save(degree);
-    return new DegreeDTO(degree);
+    DegreeDTO createdDegree = new DegreeDTO(degree);
+    publishChange(ChangeType.CREATED, null, createdDegree);
+    return createdDegree;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<CreateResultDTO<DegreeDTO>> createDegrees(List<Attributed<DegreeDTO>> degreeDTOs) {
+
+    try {
+      return transactionTemplate.execute(status -> doCreateDegrees(degreeDTOs));
+    } catch (DataIntegrityViolationException e) {
+      // A degree of the batch was created concurrently by another request, create them one by one
+      // so that only the conflicting degrees fail
+      List<CreateResultDTO<DegreeDTO>> results = new ArrayList<>();
+      for (Attributed<DegreeDTO> degreeDTO : degreeDTOs) {
+        results.add(RequestActor.callAs(
+            degreeDTO.getActor(), () -> createDegreeIsolated(degreeDTO.getItem())));
+      }
+      return results;
+    }
   }
 
   /**
@@ -63,15 +147,72 @@ public class DegreeServiceImpl implements DegreeService {
    * {@inheritDoc}
    */
   @Override
+  public BatchResultDTO<DegreeDTO> getDegrees(List<Long> degreeIds) {
+
+    // Fetch all distinct ids in one IN query
+    Set<Long> requestedIds = new LinkedHashSet<>(degreeIds);
+    Map<Long, Degree> degrees = degreeRepository.findAllById(requestedIds)
+        .stream()
+        .collect(Collectors.toMap(Degree::getId, Function.identity()));
+
+    List<DegreeDTO> foundDegrees = new ArrayList<>();
+    List<Long> missingIds = new ArrayList<>();
+    for (Long degreeId : requestedIds) {
+      Degree degree = degrees.get(degreeId);
+      if (degree != null) {
+        foundDegrees.add(new DegreeDTO(degree));
+      } else {
+        missingIds.add(degreeId);
+      }
+    }
+    return new BatchResultDTO<>(foundDegrees, missingIds);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ChangeSetDTO<DegreeDTO> getDegreeChanges(Long sinceVersion, int limit) {
+
+    // Changes above the high-water mark may still be followed by earlier uncommitted versions
+    long highWaterMark = changeVersionGenerator.getHighWaterMark();
+    boolean fullSync = sinceVersion == null;
+    List<Degree> changes = degreeRepository.findChanges(
+        fullSync ? -1 : sinceVersion, highWaterMark, limit);
+
+    List<DegreeDTO> upsertedDegrees = new ArrayList<>();
+    List<Long> deletedIds = new ArrayList<>();
+    for (Degree degree : changes) {
+      if (!degree.isDeleted()) {
+        upsertedDegrees.add(new DegreeDTO(degree));
+      } else if (!fullSync) {
+        deletedIds.add(degree.getId());
+      }
+    }
+
+    boolean hasMore = changes.size() == limit;
+    long version = hasMore ? changes.get(changes.size() - 1).getChangeVersion() : highWaterMark;
+    return new ChangeSetDTO<>(upsertedDegrees, deletedIds, version, hasMore);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
   public Optional<DegreeDTO> updateDegree(long degreeId, DegreeDTO degreeDTO) {
 
     Optional<Degree> degree = degreeRepository.findById(degreeId);
     if (degree.isPresent()) {
       Degree updatedDegree = degree.get();
+      DegreeDTO before = new DegreeDTO(updatedDegree);
       updatedDegree.setAbbr(degreeDTO.getAbbr());
       updatedDegree.setName(degreeDTO.getName());
+      updatedDegree.setChangeVersion(changeVersionGenerator.nextVersion());
       updatedDegree = degreeRepository.save(updatedDegree);
-      return Optional.of(new DegreeDTO(updatedDegree));
+      DegreeDTO updatedDegreeDTO = new DegreeDTO(updatedDegree);
+      publishChange(ChangeType.UPDATED, before, updatedDegreeDTO);
+      return Optional.of(updatedDegreeDTO);
     } else {
       return Optional.empty();
     }
@@ -81,12 +222,43 @@ public class DegreeServiceImpl implements DegreeService {
    * {@inheritDoc}
    */
   @Override
+  public UpsertResultDTO<DegreeDTO> upsertDegree(String abbr, DegreeDTO degreeDTO) {
+
+    // A concurrent insert of the same abbr violates the unique key, the retry then finds and
+    // updates the row inserted by the other request
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> doUpsertDegree(abbr, degreeDTO));
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_UPSERT_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
   public Optional<DegreeDTO> deleteDegree(long degreeId) {
 
-    Optional<Degree> degree = degreeRepository.findById(degreeId);
+    // The lock keeps theses from taking up the degree until the tombstone is committed
+    Optional<Degree> degree = degreeRepository.findForUpdateById(degreeId);
     if (degree.isPresent()) {
-      degreeRepository.deleteById(degreeId);
-      return degree.map(DegreeDTO::new);
+      if (thesisRepository.existsByDegreeId(degreeId)) {
+        throw new EntityInUseException(String.format(DEGREE_IN_USE, degreeId));
+      }
+
+      // Keep a tombstone so that delta sync clients learn about the deletion
+      Degree tombstone = degree.get();
+      tombstone.setDeleted(true);
+      tombstone.setChangeVersion(changeVersionGenerator.nextVersion());
+      degreeRepository.save(tombstone);
+      DegreeDTO deletedDegree = new DegreeDTO(tombstone);
+      publishChange(ChangeType.DELETED, deletedDegree, deletedDegree);
+      return Optional.of(deletedDegree);
     } else {
       return Optional.empty();
     }
@@ -117,4 +289,132 @@ public class DegreeServiceImpl implements DegreeService {
 
     return ValidationResponse.ok();
   }
+
+  private List<CreateResultDTO<DegreeDTO>> doCreateDegrees(List<Attributed<DegreeDTO>> degreeDTOs) {
+
+    // Look up the abbrs of the whole batch in one query through the unique key
+    Set<String> abbrKeys = degreeDTOs.stream()
+        .map(Attributed::getItem)
+        .map(DegreeDTO::getAbbr)
+        .filter(StringUtils::isNotEmpty)
+        .map(Degree::normalizeAbbr)
+        .collect(Collectors.toSet());
+    Map<String, Long> existingAbbrKeys = new HashMap<>();
+    if (!abbrKeys.isEmpty()) {
+      degreeRepository.findAllByAbbrKeyIn(abbrKeys)
+          .forEach(degree -> existingAbbrKeys.put(degree.getAbbrKey(), degree.getId()));
+    }
+    Set<String> batchAbbrKeys = new HashSet<>();
+
+    // Validate each degree against the existing ones and the ones before it in the batch
+    List<CreateResultDTO<DegreeDTO>> results = new ArrayList<>();
+    List<Degree> newDegrees = new ArrayList<>();
+    for (Attributed<DegreeDTO> attributedDegree : degreeDTOs) {
+      DegreeDTO degreeDTO = attributedDegree.getItem();
+      ValidationResponse validationResponse =
+          validateNewDegree(degreeDTO, existingAbbrKeys, batchAbbrKeys);
+      results.add(new CreateResultDTO<>(null, validationResponse));
+      if (validationResponse.getValidationResult() == ValidationResult.OK) {
+        Degree degree = MapperHelper.mapToDegree(degreeDTO);
+        degree.setChangeVersion(changeVersionGenerator.nextVersion());
+        newDegrees.add(degree);
+      }
+    }
+
+    // Insert all valid degrees with batched statements
+    Iterator<Degree> createdDegrees = degreeRepository.saveAllAndFlush(newDegrees).iterator();
+    for (int i = 0; i < results.size(); i++) {
+      CreateResultDTO<DegreeDTO> result = results.get(i);
+      if (result.getValidationResponse().getValidationResult() == ValidationResult.OK) {
+        DegreeDTO createdDegree = new DegreeDTO(createdDegrees.next());
+        result.setItem(createdDegree);
+        // Attributed to the request which submitted the degree, not to the batch
+        publishChange(ChangeType.CREATED, null, createdDegree, degreeDTOs.get(i).getActor());
+      }
+    }
+    return results;
+  }
+
+  private ValidationResponse validateNewDegree(
+      DegreeDTO degreeDTO, Map<String, Long> existingAbbrKeys, Set<String> batchAbbrKeys) {
+
+    // Check if abbreviation is empty
+    if (StringUtils.isEmpty(degreeDTO.getAbbr())) {
+      return ValidationResponse.badRequest(DEGREE_ABBR_REQUIRED);
+    }
+
+    // Check if name is empty
+    if (StringUtils.isEmpty(degreeDTO.getName())) {
+      return ValidationResponse.badRequest(DEGREE_NAME_REQUIRED);
+    }
+
+    // Check if abbreviation already exists with different id or earlier in the same batch
+    String abbrKey = Degree.normalizeAbbr(degreeDTO.getAbbr());
+    Long existingId = existingAbbrKeys.get(abbrKey);
+    if ((existingId != null && existingId != degreeDTO.getId()) || !batchAbbrKeys.add(abbrKey)) {
+      return ValidationResponse.badRequest(
+          String.format(DEGREE_ABBR_ALREADY_EXISTS, degreeDTO.getAbbr()));
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  private CreateResultDTO<DegreeDTO> createDegreeIsolated(DegreeDTO degreeDTO) {
+
+    try {
+      return transactionTemplate.execute(status -> {
+        ValidationResponse validationResponse = validateDegree(degreeDTO.getId(), degreeDTO);
+        if (validationResponse.getValidationResult() == ValidationResult.NG) {
+          return new CreateResultDTO<>(null, validationResponse);
+        }
+        return new CreateResultDTO<>(createDegree(degreeDTO), validationResponse);
+      });
+    } catch (DataIntegrityViolationException e) {
+      return new CreateResultDTO<>(null, ValidationResponse.badRequest(
+          String.format(DEGREE_ABBR_ALREADY_EXISTS, degreeDTO.getAbbr())));
+    }
+  }
+
+  private UpsertResultDTO<DegreeDTO> doUpsertDegree(String abbr, DegreeDTO degreeDTO) {
+
+    // Single lookup through the unique key, then insert or update
+    Optional<Degree> existingDegree = degreeRepository.findByAbbrKey(Degree.normalizeAbbr(abbr));
+    DegreeDTO before = existingDegree.map(DegreeDTO::new).orElse(null);
+    Degree degree = existingDegree.orElseGet(Degree::new);
+    degree.setAbbr(abbr);
+    degree.setName(degreeDTO.getName());
+    degree.setChangeVersion(changeVersionGenerator.nextVersion());
+    degree = degreeRepository.saveAndFlush(degree);
+
+    DegreeDTO upsertedDegree = new DegreeDTO(degree);
+    ChangeType changeType = existingDegree.isPresent() ? ChangeType.UPDATED : ChangeType.CREATED;
+    publishChange(changeType, before, upsertedDegree);
+    return new UpsertResultDTO<>(upsertedDegree, !existingDegree.isPresent());
+  }
+
+  /**
+   * Publishes a degree change, delivered to transactional listeners once committed
+   *
+   * @param changeType type of the change
+   * @param before     degree before the change, null for creations
+   * @param degreeDTO  changed degree
+   */
+  private void publishChange(ChangeType changeType, DegreeDTO before, DegreeDTO degreeDTO) {
+    publishChange(changeType, before, degreeDTO, RequestActor.current().orElse(null));
+  }
+
+  /**
+   * Publishes a degree change made by the given actor, delivered to transactional listeners once
+   * committed
+   *
+   * @param changeType type of the change
+   * @param before     degree before the change, null for creations
+   * @param degreeDTO  changed degree
+   * @param actor      actor of the request which made the change, or null
+   */
+  private void publishChange(
+      ChangeType changeType, DegreeDTO before, DegreeDTO degreeDTO, String actor) {
+    eventPublisher.publishEvent(new EntityChangeEvent(
+        EntityType.DEGREE, changeType, degreeDTO.getId(), before, degreeDTO, actor));
+  }
 }
@@ -0,0 +1,43 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentJobDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentPipelineStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import java.util.Optional;
+
+public interface DocumentProcessingService {
+
+  /**
+   * Retrieves a page of document jobs in a status
+   *
+   * @param status  status of the jobs
+   * @param afterId thesis id of the last job of the previous page
+   * @param limit   maximum number of jobs to be retrieved
+   * @return jobs ordered by thesis id, together with the cursor of the next page
+   */
+  KeysetPageDTO<DocumentJobDTO> getJobs(Status status, long afterId, int limit);
+
+  /**
+   * Retrieves the document job of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @return optional document job
+   */
+  Optional<DocumentJobDTO> getJob(long thesisId);
+
+  /**
+   * Puts a dead document job back into processing
+   *
+   * @param thesisId id of the thesis
+   * @return whether the job was retried, false if it does not exist or is not dead
+   */
+  boolean retryJob(long thesisId);
+
+  /**
+   * Retrieves the status of the document processing pipeline
+   *
+   * @return job counts and state of every stage
+   */
+  DocumentPipelineStatusDTO getStatus();
+}
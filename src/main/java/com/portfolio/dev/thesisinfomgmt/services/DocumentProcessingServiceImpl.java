@@ -0,0 +1,353 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentJobDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DocumentPipelineStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.PipelineStageStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Stage;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisDocumentChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.PdfTextExtractor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline;
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.Listener;
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.StageDefinition;
+import com.portfolio.dev.thesisinfomgmt.utilities.TextHelper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Processes uploaded thesis documents in the background, off the request threads: their text is
+ * extracted, normalized and indexed for search by a {@link ProcessingPipeline}, each stage with
+ * {@code tims.pipeline.<stage>.workers} threads and a queue of
+ * {@code tims.pipeline.<stage>.queue-capacity} documents.
+ *
+ * <p>Every document to be processed has a {@link DocumentJob} in the database, requested in the
+ * same transaction as the upload. A dispatcher claims due jobs as the first stage has room for
+ * them, woken by uploads and otherwise polling every {@code tims.pipeline.poll-interval-ms}. A job
+ * which fails in any stage is retried after {@code tims.pipeline.retry-backoff-seconds}, doubled
+ * with every further failure, and left dead after {@code tims.pipeline.max-attempts} until retried
+ * manually. Jobs still running when the process stops are processed again from the start on the
+ * next startup, which assumes that a single instance processes the jobs.
+ */
+@Slf4j
+@Service
+public class DocumentProcessingServiceImpl implements DocumentProcessingService, DisposableBean {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final DocumentJobRepository documentJobRepository;
+
+  private final DocumentStore documentStore;
+
+  private final PdfTextExtractor pdfTextExtractor;
+
+  private final ThesisSearchService thesisSearchService;
+
+  private final NearDuplicateService nearDuplicateService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final int maxAttempts;
+
+  private final Duration retryBackoff;
+
+  private final long pollIntervalNanos;
+
+  private final ProcessingPipeline<DocumentTask> pipeline;
+
+  private final AtomicLong dead = new AtomicLong();
+
+  private volatile Thread dispatcher;
+
+  private volatile boolean running = true;
+
+  /**
+   * Document of a claimed job, carrying its text from stage to stage
+   */
+  private static final class DocumentTask {
+
+    private final long thesisId;
+
+    private final String storageKey;
+
+    private final int attempts;
+
+    private String text;
+
+    private DocumentTask(DocumentJob job) {
+      this.thesisId = job.getThesisId();
+      this.storageKey = job.getStorageKey();
+      this.attempts = job.getAttempts();
+    }
+  }
+
+  public DocumentProcessingServiceImpl(
+      DocumentJobRepository documentJobRepository,
+      DocumentStore documentStore,
+      PdfTextExtractor pdfTextExtractor,
+      ThesisSearchService thesisSearchService,
+      NearDuplicateService nearDuplicateService,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tims.pipeline.extract.workers:2}") int extractWorkers,
+      @Value("${tims.pipeline.extract.queue-capacity:16}") int extractQueueCapacity,
+      @Value("${tims.pipeline.normalize.workers:1}") int normalizeWorkers,
+      @Value("${tims.pipeline.normalize.queue-capacity:16}") int normalizeQueueCapacity,
+      @Value("${tims.pipeline.index.workers:1}") int indexWorkers,
+      @Value("${tims.pipeline.index.queue-capacity:16}") int indexQueueCapacity,
+      @Value("${tims.pipeline.max-attempts:5}") int maxAttempts,
+      @Value("${tims.pipeline.retry-backoff-seconds:30}") long retryBackoffSeconds,
+      @Value("${tims.pipeline.poll-interval-ms:1000}") long pollIntervalMs
+  ) {
+    this.documentJobRepository = documentJobRepository;
+    this.documentStore = documentStore;
+    this.pdfTextExtractor = pdfTextExtractor;
+    this.thesisSearchService = thesisSearchService;
+    this.nearDuplicateService = nearDuplicateService;
+    this.transactionTemplate = transactionTemplate;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+    this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+
+    List<StageDefinition<DocumentTask>> stages = Arrays.asList(
+        new StageDefinition<>(stageName(Stage.EXTRACT), extractWorkers, extractQueueCapacity,
+            this::extract),
+        new StageDefinition<>(stageName(Stage.NORMALIZE), normalizeWorkers,
+            normalizeQueueCapacity, this::normalize),
+        new StageDefinition<>(stageName(Stage.INDEX), indexWorkers, indexQueueCapacity,
+            this::index));
+    this.pipeline = new ProcessingPipeline<>("documents", stages, new Listener<DocumentTask>() {
+
+      @Override
+      public void onCompleted(DocumentTask task) {
+        transactionTemplate.executeWithoutResult(status ->
+            documentJobRepository.complete(task.thesisId, task.storageKey, Instant.now()));
+      }
+
+      @Override
+      public void onFailed(DocumentTask task, String stage, Exception exception) {
+        recordFailure(task, Stage.valueOf(stage.toUpperCase(Locale.ROOT)), exception);
+      }
+    }, meterRegistry);
+
+    FunctionCounter.builder("tims.pipeline.dead", dead, AtomicLong::get)
+        .description("Jobs given up after failing too often")
+        .tag("pipeline", "documents")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Puts the jobs interrupted by the last stop back to pending, then starts dispatching jobs
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startDispatcher() {
+    Integer interrupted = transactionTemplate.execute(status ->
+        documentJobRepository.resetRunning(Instant.now()));
+    if (interrupted != null && interrupted > 0) {
+      log.info("Resuming {} interrupted document jobs", interrupted);
+    }
+    Thread thread = new Thread(this::dispatch, "documents-dispatcher");
+    thread.setDaemon(true);
+    dispatcher = thread;
+    thread.start();
+  }
+
+  /**
+   * Wakes the dispatcher up for the job of a committed upload
+   *
+   * @param event thesis document change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDocumentChange(ThesisDocumentChangeEvent event) {
+    if (event.getChangeType() == ChangeType.UPDATED) {
+      wakeDispatcher();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public KeysetPageDTO<DocumentJobDTO> getJobs(Status status, long afterId, int limit) {
+
+    // Fetch one more job than requested to know whether there is a next page
+    List<DocumentJobDTO> jobs = documentJobRepository
+        .findByStatus(status, afterId, PageRequest.of(0, limit + 1))
+        .stream()
+        .map(DocumentJobDTO::new)
+        .collect(Collectors.toList());
+    if (jobs.size() <= limit) {
+      return new KeysetPageDTO<>(jobs, null);
+    }
+
+    jobs = jobs.subList(0, limit);
+    return new KeysetPageDTO<>(jobs, Long.toString(jobs.get(limit - 1).getThesisId()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<DocumentJobDTO> getJob(long thesisId) {
+    return documentJobRepository.findById(thesisId).map(DocumentJobDTO::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean retryJob(long thesisId) {
+    Integer retried = transactionTemplate.execute(status ->
+        documentJobRepository.retry(thesisId, Instant.now()));
+    if (retried == null || retried == 0) {
+      return false;
+    }
+    wakeDispatcher();
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DocumentPipelineStatusDTO getStatus() {
+    return new DocumentPipelineStatusDTO(
+        documentJobRepository.countByStatus(Status.PENDING),
+        documentJobRepository.countByStatus(Status.RUNNING),
+        documentJobRepository.countByStatus(Status.DONE),
+        documentJobRepository.countByStatus(Status.DEAD),
+        pipeline.getStatus().stream()
+            .map(PipelineStageStatusDTO::new)
+            .collect(Collectors.toList()));
+  }
+
+  @Override
+  public void destroy() {
+    running = false;
+    Thread thread = dispatcher;
+    if (thread != null) {
+      thread.interrupt();
+    }
+    pipeline.shutdown();
+  }
+
+  /**
+   * Claims due jobs and submits them to the pipeline until stopped
+   */
+  private void dispatch() {
+    while (running) {
+      try {
+        if (dispatchDueJobs() == 0) {
+          LockSupport.parkNanos(this, pollIntervalNanos);
+        }
+      } catch (InterruptedException e) {
+        break;
+      } catch (RuntimeException e) {
+        log.error("Could not dispatch document jobs", e);
+        LockSupport.parkNanos(this, pollIntervalNanos);
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Claims as many due jobs as the first stage has room for, at least one so that a full pipeline
+   * holds the dispatcher back
+   *
+   * @return number of jobs submitted
+   * @throws InterruptedException if interrupted while waiting for the pipeline
+   */
+  int dispatchDueJobs() throws InterruptedException {
+    Instant now = Instant.now();
+    List<DocumentJob> jobs = documentJobRepository.findDue(
+        now, PageRequest.of(0, Math.max(1, pipeline.remainingCapacity())));
+    int submitted = 0;
+    for (DocumentJob job : jobs) {
+      // Jobs reset by another upload meanwhile are claimed with their new content next time
+      Integer claimed = transactionTemplate.execute(status ->
+          documentJobRepository.claim(job.getThesisId(), job.getStorageKey(), now));
+      if (claimed != null && claimed > 0) {
+        pipeline.submit(new DocumentTask(job));
+        submitted++;
+      }
+    }
+    return submitted;
+  }
+
+  private void wakeDispatcher() {
+    Thread thread = dispatcher;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  private void extract(DocumentTask task) throws Exception {
+    task.text = pdfTextExtractor.extract(documentStore.resolve(task.storageKey));
+  }
+
+  private void normalize(DocumentTask task) {
+    task.text = TextHelper.normalize(task.text);
+  }
+
+  private void index(DocumentTask task) {
+    if (!thesisSearchService.indexDocumentText(task.thesisId, task.storageKey, task.text)) {
+      log.debug("Document of thesis {} was replaced during processing", task.thesisId);
+      return;
+    }
+    nearDuplicateService.queueThesis(task.thesisId);
+  }
+
+  private void recordFailure(DocumentTask task, Stage stage, Exception exception) {
+    int attempts = task.attempts + 1;
+    boolean giveUp = attempts >= maxAttempts;
+    Instant now = Instant.now();
+
+    // The backoff doubles with every failure
+    Instant nextAttemptAt = now.plus(retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20)));
+    String error = StringUtils.abbreviate(exception.toString(), MAX_ERROR_LENGTH);
+    Integer updated = transactionTemplate.execute(status -> documentJobRepository.fail(
+        task.thesisId, task.storageKey, giveUp ? Status.DEAD : Status.PENDING, stage, error,
+        nextAttemptAt, now));
+    if (updated == null || updated == 0) {
+      return;
+    }
+    if (giveUp) {
+      dead.incrementAndGet();
+      log.warn("Gave up processing the document of thesis {} after {} attempts: {}",
+          task.thesisId, attempts, error);
+    } else {
+      log.info("Could not process the document of thesis {} in stage {}, retrying at {}: {}",
+          task.thesisId, stage, nextAttemptAt, error);
+    }
+  }
+
+  private static String stageName(Stage stage) {
+    return stage.name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,41 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicateStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicatesDTO;
+import java.util.Optional;
+
+public interface NearDuplicateService {
+
+  /**
+   * Finds the theses whose abstract or document text is a near-duplicate of the one of a thesis.
+   * Abstracts are compared with abstracts and document texts with document texts.
+   *
+   * @param thesisId  id of the thesis
+   * @param threshold minimum estimated similarity, between 0 exclusive and 1
+   * @param limit     maximum number of candidates to be retrieved
+   * @return candidates, empty if the thesis does not exist
+   */
+  Optional<NearDuplicatesDTO> findCandidates(long thesisId, double threshold, int limit);
+
+  /**
+   * Queues a thesis to be fingerprinted again as currently stored, e.g. once the text of its
+   * document is indexed
+   *
+   * @param thesisId id of the thesis
+   */
+  void queueThesis(long thesisId);
+
+  /**
+   * Starts fingerprinting every thesis again in the background
+   *
+   * @return whether the rescan started, false if one is already running
+   */
+  boolean startRescan();
+
+  /**
+   * Retrieves the status of the near-duplicate index
+   *
+   * @return status of the index
+   */
+  NearDuplicateStatusDTO getStatus();
+}
@@ -0,0 +1,367 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DuplicateCandidateDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicateStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicatesDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisDocumentChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.CoalescingIndexer;
+import com.portfolio.dev.thesisinfomgmt.utilities.MinHashIndex;
+import com.portfolio.dev.thesisinfomgmt.utilities.MinHashIndex.Candidate;
+import com.portfolio.dev.thesisinfomgmt.utilities.MinHasher;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchDocument;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Near-duplicate detection of thesis abstracts and document texts, with a MinHash signature of
+ * every text kept in a {@link MinHashIndex} in memory, one for abstracts and one for document
+ * texts. Signatures are computed from shingles of {@code tims.duplicates.shingle-words} words with
+ * {@code tims.duplicates.hashes} hashes, split into {@code tims.duplicates.bands} bands.
+ *
+ * <p>Abstracts are read from the database and document texts from the {@link SearchIndex}, where
+ * the {@link DocumentProcessingService} puts them once extracted; until the text of a new document
+ * is extracted, the text of the previous one is compared. Committed thesis and document changes,
+ * and newly indexed document texts, are fingerprinted by a background indexer, which reads the
+ * thesis as currently stored, so changes of the same thesis queued while it waits are applied at
+ * once. A rescan fingerprints every thesis into new indexes on
+ * {@code tims.duplicates.rescan-threads} threads and replaces the current ones once done; theses
+ * changed meanwhile are fingerprinted again afterwards. It runs on startup.
+ */
+@Slf4j
+@Service
+public class NearDuplicateServiceImpl implements NearDuplicateService, DisposableBean {
+
+  private static final int RESCAN_BATCH_SIZE = 500;
+
+  private static final String ABSTRACT = "abstract";
+
+  private static final String DOCUMENT = "document";
+
+  private final ThesisRepository thesisRepository;
+
+  private final ThesisDocumentRepository thesisDocumentRepository;
+
+  private final SearchIndex searchIndex;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final MinHasher minHasher;
+
+  private final int bands;
+
+  private final int rescanThreads;
+
+  private final CoalescingIndexer indexer;
+
+  private volatile Indexes indexes;
+
+  private volatile Instant lastRescanStartedAt;
+
+  private volatile Instant lastRescanCompletedAt;
+
+  private volatile long lastRescanTheses;
+
+  /**
+   * Indexes of abstracts and document texts, replaced together by a rescan
+   */
+  @AllArgsConstructor
+  private static final class Indexes {
+
+    private final MinHashIndex abstracts;
+
+    private final MinHashIndex documents;
+  }
+
+  /**
+   * Texts of a thesis to be fingerprinted
+   */
+  @AllArgsConstructor
+  private static final class ThesisText {
+
+    private final long thesisId;
+
+    private final String abstractText;
+
+    /**
+     * Whether the thesis has a document, whose text is read from the search index
+     */
+    private final boolean hasDocument;
+  }
+
+  public NearDuplicateServiceImpl(
+      ThesisRepository thesisRepository,
+      ThesisDocumentRepository thesisDocumentRepository,
+      SearchIndex searchIndex,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tims.duplicates.hashes:128}") int hashes,
+      @Value("${tims.duplicates.bands:32}") int bands,
+      @Value("${tims.duplicates.shingle-words:3}") int shingleWords,
+      @Value("${tims.duplicates.rescan-threads:4}") int rescanThreads
+  ) {
+    this.thesisRepository = thesisRepository;
+    this.thesisDocumentRepository = thesisDocumentRepository;
+    this.searchIndex = searchIndex;
+    this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.readOnlyTransaction.setReadOnly(true);
+    this.minHasher = new MinHasher(hashes, shingleWords);
+    this.bands = bands;
+    this.rescanThreads = Math.max(1, rescanThreads);
+    this.indexes = newIndexes();
+    this.indexer = new CoalescingIndexer("duplicates", 1, this::applyThesis, this::rescan);
+
+    Gauge.builder("tims.duplicates.pending", indexer, CoalescingIndexer::getPending)
+        .description("Changed theses waiting to be fingerprinted")
+        .register(meterRegistry);
+    Gauge.builder("tims.duplicates.indexed", this, service -> service.indexes.abstracts.size())
+        .description("Fingerprinted texts")
+        .tag("source", ABSTRACT)
+        .register(meterRegistry);
+    Gauge.builder("tims.duplicates.indexed", this, service -> service.indexes.documents.size())
+        .description("Fingerprinted texts")
+        .tag("source", DOCUMENT)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Fingerprints every thesis once the application is ready
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadIndexes() {
+    startRescan();
+  }
+
+  /**
+   * Queues a committed thesis change for fingerprinting
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS) {
+      indexer.enqueue(event.getEntityId());
+    }
+  }
+
+  /**
+   * Queues the thesis of a committed document change for fingerprinting
+   *
+   * @param event thesis document change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDocumentChange(ThesisDocumentChangeEvent event) {
+    indexer.enqueue(event.getThesisId());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<NearDuplicatesDTO> findCandidates(long thesisId, double threshold, int limit) {
+    Indexes current = indexes;
+    List<DuplicateCandidateDTO> candidates = new ArrayList<>();
+    for (Candidate candidate : current.abstracts.findSimilar(thesisId, threshold, limit)) {
+      candidates.add(new DuplicateCandidateDTO(
+          candidate.getId(), null, ABSTRACT, candidate.getSimilarity()));
+    }
+    for (Candidate candidate : current.documents.findSimilar(thesisId, threshold, limit)) {
+      candidates.add(new DuplicateCandidateDTO(
+          candidate.getId(), null, DOCUMENT, candidate.getSimilarity()));
+    }
+    candidates.sort(Comparator.comparingDouble(DuplicateCandidateDTO::getSimilarity).reversed()
+        .thenComparingLong(DuplicateCandidateDTO::getThesisId)
+        .thenComparing(DuplicateCandidateDTO::getSource));
+    List<DuplicateCandidateDTO> limited =
+        candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+
+    // Titles are read in one query, skipping theses deleted but not yet removed from the indexes
+    Optional<NearDuplicatesDTO> duplicates = readOnlyTransaction.execute(status -> {
+      if (!thesisRepository.existsById(thesisId)) {
+        return Optional.empty();
+      }
+      Map<Long, String> titles = thesisRepository.findAllById(limited.stream()
+              .map(DuplicateCandidateDTO::getThesisId)
+              .distinct()
+              .collect(Collectors.toList())).stream()
+          .collect(Collectors.toMap(Thesis::getId, Thesis::getTitle));
+      List<DuplicateCandidateDTO> existing = new ArrayList<>(limited.size());
+      for (DuplicateCandidateDTO candidate : limited) {
+        String title = titles.get(candidate.getThesisId());
+        if (title != null) {
+          candidate.setTitle(title);
+          existing.add(candidate);
+        }
+      }
+      return Optional.of(new NearDuplicatesDTO(thesisId, current.abstracts.contains(thesisId),
+          current.documents.contains(thesisId), existing));
+    });
+    return duplicates != null ? duplicates : Optional.empty();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void queueThesis(long thesisId) {
+    indexer.enqueue(thesisId);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean startRescan() {
+    return indexer.startRebuild();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NearDuplicateStatusDTO getStatus() {
+    Indexes current = indexes;
+    return new NearDuplicateStatusDTO(current.abstracts.size(), current.documents.size(),
+        indexer.getPending(), indexer.isRebuilding(), lastRescanStartedAt, lastRescanCompletedAt,
+        lastRescanTheses);
+  }
+
+  @Override
+  public void destroy() {
+    indexer.shutdownNow();
+  }
+
+  /**
+   * Fingerprints a thesis as currently stored, or removes it if it no longer exists
+   *
+   * @param thesisId id of the thesis
+   */
+  void applyThesis(long thesisId) {
+    Optional<ThesisText> text = readOnlyTransaction.execute(status ->
+        thesisRepository.findById(thesisId).map(thesis -> new ThesisText(thesisId,
+            thesis.getAbstractText(), thesisDocumentRepository.existsById(thesisId))));
+    Indexes current = indexes;
+    if (text != null && text.isPresent()) {
+      fingerprint(text.get(), current);
+    } else {
+      current.abstracts.remove(thesisId);
+      current.documents.remove(thesisId);
+    }
+  }
+
+  private void rescan() {
+    long startedAt = System.currentTimeMillis();
+    lastRescanStartedAt = Instant.ofEpochMilli(startedAt);
+    Indexes rescanned = newIndexes();
+    ExecutorService workers = Executors.newFixedThreadPool(rescanThreads,
+        CoalescingIndexer.namedDaemonThreads("duplicates-rescan-"));
+    // Bounds the theses read ahead of the workers
+    Semaphore inFlight = new Semaphore(rescanThreads * 2);
+    AtomicLong fingerprinted = new AtomicLong();
+    try {
+      long afterId = 0;
+      List<ThesisText> batch;
+      do {
+        long batchAfterId = afterId;
+        batch = readOnlyTransaction.execute(status -> readBatch(batchAfterId));
+        for (ThesisText text : batch) {
+          inFlight.acquire();
+          workers.execute(() -> {
+            try {
+              fingerprint(text, rescanned);
+              fingerprinted.incrementAndGet();
+            } catch (RuntimeException e) {
+              log.error("Could not fingerprint thesis {}", text.thesisId, e);
+            } finally {
+              inFlight.release();
+            }
+          });
+        }
+        if (!batch.isEmpty()) {
+          afterId = batch.get(batch.size() - 1).thesisId;
+        }
+      } while (batch.size() == RESCAN_BATCH_SIZE);
+      inFlight.acquire(rescanThreads * 2);
+
+      indexes = rescanned;
+      lastRescanTheses = fingerprinted.get();
+      lastRescanCompletedAt = Instant.now();
+      log.info("Fingerprinted {} theses in {} ms", fingerprinted.get(),
+          System.currentTimeMillis() - startedAt);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.error("Could not rescan theses for near-duplicates", e);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private List<ThesisText> readBatch(long afterId) {
+    List<Thesis> theses =
+        thesisRepository.findBatchAfter(afterId, PageRequest.of(0, RESCAN_BATCH_SIZE));
+    Set<Long> withDocument = thesisDocumentRepository.findAllById(
+            theses.stream().map(Thesis::getId).collect(Collectors.toList())).stream()
+        .map(ThesisDocument::getThesisId)
+        .collect(Collectors.toSet());
+    List<ThesisText> batch = new ArrayList<>(theses.size());
+    for (Thesis thesis : theses) {
+      batch.add(new ThesisText(thesis.getId(), thesis.getAbstractText(),
+          withDocument.contains(thesis.getId())));
+    }
+    return batch;
+  }
+
+  /**
+   * Puts the signatures of the texts of a thesis into indexes, or removes the thesis from an index
+   * if it has no such text
+   */
+  private void fingerprint(ThesisText text, Indexes target) {
+    update(target.abstracts, text.thesisId, minHasher.signature(text.abstractText));
+    String documentText = text.hasDocument
+        ? searchIndex.get(text.thesisId).map(SearchDocument::getContent).orElse(null)
+        : null;
+    update(target.documents, text.thesisId, minHasher.signature(documentText));
+  }
+
+  private static void update(MinHashIndex index, long thesisId, int[] signature) {
+    if (signature != null) {
+      index.put(thesisId, signature);
+    } else {
+      index.remove(thesisId);
+    }
+  }
+
+  private Indexes newIndexes() {
+    return new Indexes(new MinHashIndex(minHasher.getHashes(), bands),
+        new MinHashIndex(minHasher.getHashes(), bands));
+  }
+}
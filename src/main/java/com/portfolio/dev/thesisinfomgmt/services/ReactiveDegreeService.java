@@ -0,0 +1,23 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDegreeService {
+
+  /**
+   * Streams all degrees, reading rows only as fast as the subscriber requests them
+   *
+   * @return degrees ordered by id
+   */
+  Flux<DegreeDTO> getAllDegrees();
+
+  /**
+   * Retrieves a degree
+   *
+   * @param degreeId id of the degree to be retrieved
+   * @return retrieved degree, or empty if not found
+   */
+  Mono<DegreeDTO> getDegree(long degreeId);
+}
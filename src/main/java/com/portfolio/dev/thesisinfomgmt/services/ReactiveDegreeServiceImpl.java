@@ -0,0 +1,49 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import io.r2dbc.spi.Row;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(name = "tims.reactive.enabled", havingValue = "true")
+public class ReactiveDegreeServiceImpl implements ReactiveDegreeService {
+
+  private static final String SELECT_ALL_DEGREES =
+      "SELECT id, abbr, name FROM degree WHERE deleted = false ORDER BY id";
+
+  private static final String SELECT_DEGREE =
+      "SELECT id, abbr, name FROM degree WHERE id = :id AND deleted = false";
+
+  private final DatabaseClient databaseClient;
+
+  public ReactiveDegreeServiceImpl(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  @Override
+  public Flux<DegreeDTO> getAllDegrees() {
+    return databaseClient.sql(SELECT_ALL_DEGREES)
+        .map(ReactiveDegreeServiceImpl::mapToDegreeDTO)
+        .all();
+  }
+
+  @Override
+  public Mono<DegreeDTO> getDegree(long degreeId) {
+    return databaseClient.sql(SELECT_DEGREE)
+        .bind("id", degreeId)
+        .map(ReactiveDegreeServiceImpl::mapToDegreeDTO)
+        .one();
+  }
+
+  private static DegreeDTO mapToDegreeDTO(Row row) {
+    DegreeDTO degreeDTO = new DegreeDTO();
+    degreeDTO.setId(row.get("id", Long.class));
+    degreeDTO.setAbbr(row.get("abbr", String.class));
+    degreeDTO.setName(row.get("name", String.class));
+    return degreeDTO;
+  }
+}
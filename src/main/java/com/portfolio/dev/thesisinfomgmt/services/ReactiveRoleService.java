@@ -0,0 +1,23 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRoleService {
+
+  /**
+   * Streams all roles, reading rows only as fast as the subscriber requests them
+   *
+   * @return roles ordered by id
+   */
+  Flux<RoleDTO> getAllRoles();
+
+  /**
+   * Retrieves a role
+   *
+   * @param roleId id of the role to be retrieved
+   * @return retrieved role, or empty if not found
+   */
+  Mono<RoleDTO> getRole(long roleId);
+}
@@ -0,0 +1,49 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import io.r2dbc.spi.Row;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(name = "tims.reactive.enabled", havingValue = "true")
+public class ReactiveRoleServiceImpl implements ReactiveRoleService {
+
+  private static final String SELECT_ALL_ROLES =
+      "SELECT id, name, description FROM role WHERE deleted = false ORDER BY id";
+
+  private static final String SELECT_ROLE =
+      "SELECT id, name, description FROM role WHERE id = :id AND deleted = false";
+
+  private final DatabaseClient databaseClient;
+
+  public ReactiveRoleServiceImpl(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  @Override
+  public Flux<RoleDTO> getAllRoles() {
+    return databaseClient.sql(SELECT_ALL_ROLES)
+        .map(ReactiveRoleServiceImpl::mapToRoleDTO)
+        .all();
+  }
+
+  @Override
+  public Mono<RoleDTO> getRole(long roleId) {
+    return databaseClient.sql(SELECT_ROLE)
+        .bind("id", roleId)
+        .map(ReactiveRoleServiceImpl::mapToRoleDTO)
+        .one();
+  }
+
+  private static RoleDTO mapToRoleDTO(Row row) {
+    RoleDTO roleDTO = new RoleDTO();
+    roleDTO.setId(row.get("id", Long.class));
+    roleDTO.setName(row.get("name", String.class));
+    roleDTO.setDescription(row.get("description", String.class));
+    return roleDTO;
+  }
+}
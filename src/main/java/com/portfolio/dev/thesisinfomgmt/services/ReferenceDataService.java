@@ -0,0 +1,21 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ReferenceDataDTO;
+
+public interface ReferenceDataService {
+
+  /**
+   * Retrieves all lookup tables in a single versioned payload
+   *
+   * @return reference data
+   */
+  ReferenceDataDTO getReferenceData();
+
+  /**
+   * Retrieves the version of the reference data without reading it. Every committed degree or
+   * role change advances the version.
+   *
+   * @return reference data version
+   */
+  String getVersion();
+}
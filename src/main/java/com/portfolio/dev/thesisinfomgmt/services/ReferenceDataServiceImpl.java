@@ -0,0 +1,61 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ReferenceDataDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+  /**
+   * Bumped whenever the shape of the payload changes so that cached copies are invalidated
+   */
+  private static final String PAYLOAD_FORMAT = "1";
+
+  /**
+   * Identifies this run of the application. Versions issued to rolled back transactions are
+   * reissued after a restart, so versions of different runs must not match.
+   */
+  private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+  private final DegreeService degreeService;
+
+  private final RoleService roleService;
+
+  private final ChangeVersionGenerator changeVersionGenerator;
+
+  public ReferenceDataServiceImpl(
+      DegreeService degreeService,
+      RoleService roleService,
+      ChangeVersionGenerator changeVersionGenerator
+  ) {
+    this.degreeService = degreeService;
+    this.roleService = roleService;
+    this.changeVersionGenerator = changeVersionGenerator;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReferenceDataDTO getReferenceData() {
+
+    // The version is taken before reading, so changes committed in between at worst make the
+    // next revalidation reload data the client already has
+    String version = getVersion();
+    List<DegreeDTO> degrees = degreeService.getAllDegrees();
+    List<RoleDTO> roles = roleService.getAllRoles();
+    return new ReferenceDataDTO(version, degrees, roles);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getVersion() {
+    return PAYLOAD_FORMAT + "-" + epoch + "-" + changeVersionGenerator.getHighWaterMark();
+  }
+}
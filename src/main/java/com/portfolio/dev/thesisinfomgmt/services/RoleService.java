@@ -1,6 +1,12 @@
 package com.portfolio.dev.thesisinfomgmt.services;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +28,14 @@ public interface RoleService {
    */
   RoleDTO createRole(RoleDTO roleDTO);
 
+  /**
+   * Creates multiple roles in a single transaction, each of them validated on its own
+   *
+   * @param roleDTOs roles to be created, each attributed to the actor who submitted it
+   * @return for each role in the given order, either the created role or why it was invalid
+   */
+  List<CreateResultDTO<RoleDTO>> createRoles(List<Attributed<RoleDTO>> roleDTOs);
+
   /**
    * Retrieves a role
    *
@@ -30,6 +44,23 @@ public interface RoleService {
    */
   Optional<RoleDTO> getRole(long roleId);
 
+  /**
+   * Retrieves multiple roles in a single query
+   *
+   * @param roleIds ids of the roles to be retrieved
+   * @return found roles in requested order, together with the ids that were not found
+   */
+  BatchResultDTO<RoleDTO> getRoles(List<Long> roleIds);
+
+  /**
+   * Retrieves the roles inserted, updated or deleted since a change version
+   *
+   * @param sinceVersion change version already known to the client, or null for a full sync
+   * @param limit        maximum number of changes to be retrieved
+   * @return changes together with the version to be used for the next call
+   */
+  ChangeSetDTO<RoleDTO> getRoleChanges(Long sinceVersion, int limit);
+
   /**
    * Updates a role
    *
@@ -39,11 +70,21 @@ public interface RoleService {
    */
   Optional<RoleDTO> updateRole(long roleId, RoleDTO roleDTO);
 
+  /**
+   * Inserts a role or updates the existing one with the same name (case-insensitive)
+   *
+   * @param name    role name, the natural key of the role
+   * @param roleDTO role details
+   * @return upserted role and whether it was created
+   */
+  UpsertResultDTO<RoleDTO> upsertRole(String name, RoleDTO roleDTO);
+
   /**
    * Deletes a role if it exists
    *
    * @param roleId id of the role to be deleted
    * @return optional deleted role
+   * @throws EntityInUseException if thesis authors still hold the role
    */
   Optional<RoleDTO> deleteRole(long roleId);
 
@@ -1,28 +1,88 @@
 package com.portfolio.dev.thesisinfomgmt.services;
 
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_IN_USE;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NAME_ALREADY_EXISTS;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NAME_REQUIRED;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
 import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.MapperHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.RequestActor;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 public class RoleServiceImpl implements RoleService {
 
+  private static final int MAX_UPSERT_ATTEMPTS = 2;
+
   private final RoleRepository roleRepository;
 
+  private final ThesisAuthorRepository thesisAuthorRepository;
+
+  private final ChangeVersionGenerator changeVersionGenerator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   public RoleServiceImpl(
-      RoleRepository roleRepository
+      RoleRepository roleRepository,
+      ThesisAuthorRepository thesisAuthorRepository,
+      ChangeVersionGenerator changeVersionGenerator,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher
   ) {
     this.roleRepository = roleRepository;
+    this.thesisAuthorRepository = thesisAuthorRepository;
+    this.changeVersionGenerator = changeVersionGenerator;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Fills the normalized name of existing rows, which is needed by upserts
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillNameKeys() {
+    try {
+      transactionTemplate.executeWithoutResult(status -> roleRepository.backfillNameKeys());
+    } catch (DataIntegrityViolationException e) {
+      log.warn("Could not fill normalized role names, existing roles have duplicate names", e);
+    }
   }
 
   /**
@@ -41,11 +101,35 @@ public class RoleServiceImpl implements RoleService {
    * {@inheritDoc}
    */
   @Override
+  @Transactional
   public RoleDTO createRole(RoleDTO roleDTO) {
 
     Role role = MapperHelper.mapToRole(roleDTO);
+    role.setChangeVersion(changeVersionGenerator.nextVersion());
     role = roleRepository.save(role);
-    return new RoleDTO(role);
+    RoleDTO createdRole = new RoleDTO(role);
+    publishChange(ChangeType.CREATED, null, createdRole);
+    return createdRole;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<CreateResultDTO<RoleDTO>> createRoles(List<Attributed<RoleDTO>> roleDTOs) {
+
+    try {
+      return transactionTemplate.execute(status -> doCreateRoles(roleDTOs));
+    } catch (DataIntegrityViolationException e) {
+      // A role of the batch was created concurrently by another request, create them one by one
+      // so that only the conflicting roles fail
+      List<CreateResultDTO<RoleDTO>> results = new ArrayList<>();
+      for (Attributed<RoleDTO> roleDTO : roleDTOs) {
+        results.add(RequestActor.callAs(
+            roleDTO.getActor(), () -> createRoleIsolated(roleDTO.getItem())));
+      }
+      return results;
+    }
   }
 
   /**
@@ -62,15 +146,72 @@ public class RoleServiceImpl implements RoleService {
    * {@inheritDoc}
    */
   @Override
+  public BatchResultDTO<RoleDTO> getRoles(List<Long> roleIds) {
+
+    // Fetch all distinct ids in one IN query
+    Set<Long> requestedIds = new LinkedHashSet<>(roleIds);
+    Map<Long, Role> roles = roleRepository.findAllById(requestedIds)
+        .stream()
+        .collect(Collectors.toMap(Role::getId, Function.identity()));
+
+    List<RoleDTO> foundRoles = new ArrayList<>();
+    List<Long> missingIds = new ArrayList<>();
+    for (Long roleId : requestedIds) {
+      Role role = roles.get(roleId);
+      if (role != null) {
+        foundRoles.add(new RoleDTO(role));
+      } else {
+        missingIds.add(roleId);
+      }
+    }
+    return new BatchResultDTO<>(foundRoles, missingIds);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ChangeSetDTO<RoleDTO> getRoleChanges(Long sinceVersion, int limit) {
+
+    // Changes above the high-water mark may still be followed by earlier uncommitted versions
+    long highWaterMark = changeVersionGenerator.getHighWaterMark();
+    boolean fullSync = sinceVersion == null;
+    List<Role> changes = roleRepository.findChanges(
+        fullSync ? -1 : sinceVersion, highWaterMark, limit);
+
+    List<RoleDTO> upsertedRoles = new ArrayList<>();
+    List<Long> deletedIds = new ArrayList<>();
+    for (Role role : changes) {
+      if (!role.isDeleted()) {
+        upsertedRoles.add(new RoleDTO(role));
+      } else if (!fullSync) {
+        deletedIds.add(role.getId());
+      }
+    }
+
+    boolean hasMore = changes.size() == limit;
+    long version = hasMore ? changes.get(changes.size() - 1).getChangeVersion() : highWaterMark;
+    return new ChangeSetDTO<>(upsertedRoles, deletedIds, version, hasMore);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
   public Optional<RoleDTO> updateRole(long roleId, RoleDTO roleDTO) {
 
     Optional<Role> role = roleRepository.findById(roleId);
     if (role.isPresent()) {
       Role updatedRole = role.get();
+      RoleDTO before = new RoleDTO(updatedRole);
       updatedRole.setName(roleDTO.getName());
       updatedRole.setDescription(roleDTO.getDescription());
+      updatedRole.setChangeVersion(changeVersionGenerator.nextVersion());
       updatedRole = roleRepository.save(updatedRole);
-      return Optional.of(new RoleDTO(updatedRole));
+      RoleDTO updatedRoleDTO = new RoleDTO(updatedRole);
+      publishChange(ChangeType.UPDATED, before, updatedRoleDTO);
+      return Optional.of(updatedRoleDTO);
     } else {
       return Optional.empty();
     }
@@ -80,12 +221,43 @@ public class RoleServiceImpl implements RoleService {
    * {@inheritDoc}
    */
   @Override
+  public UpsertResultDTO<RoleDTO> upsertRole(String name, RoleDTO roleDTO) {
+
+    // A concurrent insert of the same name violates the unique key, the retry then finds and
+    // updates the row inserted by the other request
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> doUpsertRole(name, roleDTO));
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_UPSERT_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
   public Optional<RoleDTO> deleteRole(long roleId) {
 
-    Optional<Role> role = roleRepository.findById(roleId);
+    // The lock keeps theses from taking up the role until the tombstone is committed
+    Optional<Role> role = roleRepository.findForUpdateById(roleId);
     if (role.isPresent()) {
-      roleRepository.deleteById(roleId);
-      return role.map(RoleDTO::new);
+      if (thesisAuthorRepository.existsByRoleId(roleId)) {
+        throw new EntityInUseException(String.format(ROLE_IN_USE, roleId));
+      }
+
+      // Keep a tombstone so that delta sync clients learn about the deletion
+      Role tombstone = role.get();
+      tombstone.setDeleted(true);
+      tombstone.setChangeVersion(changeVersionGenerator.nextVersion());
+      roleRepository.save(tombstone);
+      RoleDTO deletedRole = new RoleDTO(tombstone);
+      publishChange(ChangeType.DELETED, deletedRole, deletedRole);
+      return Optional.of(deletedRole);
     } else {
       return Optional.empty();
     }
@@ -110,4 +282,127 @@ public class RoleServiceImpl implements RoleService {
 
     return ValidationResponse.ok();
   }
+
+  private List<CreateResultDTO<RoleDTO>> doCreateRoles(List<Attributed<RoleDTO>> roleDTOs) {
+
+    // Look up the names of the whole batch in one query through the unique key
+    Set<String> nameKeys = roleDTOs.stream()
+        .map(Attributed::getItem)
+        .map(RoleDTO::getName)
+        .filter(StringUtils::isNotEmpty)
+        .map(Role::normalizeName)
+        .collect(Collectors.toSet());
+    Map<String, Long> existingNameKeys = new HashMap<>();
+    if (!nameKeys.isEmpty()) {
+      roleRepository.findAllByNameKeyIn(nameKeys)
+          .forEach(role -> existingNameKeys.put(role.getNameKey(), role.getId()));
+    }
+    Set<String> batchNameKeys = new HashSet<>();
+
+    // Validate each role against the existing ones and the ones before it in the batch
+    List<CreateResultDTO<RoleDTO>> results = new ArrayList<>();
+    List<Role> newRoles = new ArrayList<>();
+    for (Attributed<RoleDTO> attributedRole : roleDTOs) {
+      RoleDTO roleDTO = attributedRole.getItem();
+      ValidationResponse validationResponse =
+          validateNewRole(roleDTO, existingNameKeys, batchNameKeys);
+      results.add(new CreateResultDTO<>(null, validationResponse));
+      if (validationResponse.getValidationResult() == ValidationResult.OK) {
+        Role role = MapperHelper.mapToRole(roleDTO);
+        role.setChangeVersion(changeVersionGenerator.nextVersion());
+        newRoles.add(role);
+      }
+    }
+
+    // Insert all valid roles with batched statements
+    Iterator<Role> createdRoles = roleRepository.saveAllAndFlush(newRoles).iterator();
+    for (int i = 0; i < results.size(); i++) {
+      CreateResultDTO<RoleDTO> result = results.get(i);
+      if (result.getValidationResponse().getValidationResult() == ValidationResult.OK) {
+        RoleDTO createdRole = new RoleDTO(createdRoles.next());
+        result.setItem(createdRole);
+        // Attributed to the request which submitted the role, not to the batch
+        publishChange(ChangeType.CREATED, null, createdRole, roleDTOs.get(i).getActor());
+      }
+    }
+    return results;
+  }
+
+  private ValidationResponse validateNewRole(
+      RoleDTO roleDTO, Map<String, Long> existingNameKeys, Set<String> batchNameKeys) {
+
+    // Check if name is empty
+    if (StringUtils.isEmpty(roleDTO.getName())) {
+      return ValidationResponse.badRequest(ROLE_NAME_REQUIRED);
+    }
+
+    // Check if name already exists with different id or earlier in the same batch
+    String nameKey = Role.normalizeName(roleDTO.getName());
+    Long existingId = existingNameKeys.get(nameKey);
+    if ((existingId != null && existingId != roleDTO.getId()) || !batchNameKeys.add(nameKey)) {
+      return ValidationResponse.badRequest(
+          String.format(ROLE_NAME_ALREADY_EXISTS, roleDTO.getName()));
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  private CreateResultDTO<RoleDTO> createRoleIsolated(RoleDTO roleDTO) {
+
+    try {
+      return transactionTemplate.execute(status -> {
+        ValidationResponse validationResponse = validateRole(roleDTO.getId(), roleDTO);
+        if (validationResponse.getValidationResult() == ValidationResult.NG) {
+          return new CreateResultDTO<>(null, validationResponse);
+        }
+        return new CreateResultDTO<>(createRole(roleDTO), validationResponse);
+      });
+    } catch (DataIntegrityViolationException e) {
+      return new CreateResultDTO<>(null, ValidationResponse.badRequest(
+          String.format(ROLE_NAME_ALREADY_EXISTS, roleDTO.getName())));
+    }
+  }
+
+  private UpsertResultDTO<RoleDTO> doUpsertRole(String name, RoleDTO roleDTO) {
+
+    // Single lookup through the unique key, then insert or update
+    Optional<Role> existingRole = roleRepository.findByNameKey(Role.normalizeName(name));
+    RoleDTO before = existingRole.map(RoleDTO::new).orElse(null);
+    Role role = existingRole.orElseGet(Role::new);
+    role.setName(name);
+    role.setDescription(roleDTO.getDescription());
+    role.setChangeVersion(changeVersionGenerator.nextVersion());
+    role = roleRepository.saveAndFlush(role);
+
+    RoleDTO upsertedRole = new RoleDTO(role);
+    ChangeType changeType = existingRole.isPresent() ? ChangeType.UPDATED : ChangeType.CREATED;
+    publishChange(changeType, before, upsertedRole);
+    return new UpsertResultDTO<>(upsertedRole, !existingRole.isPresent());
+  }
+
+  /**
+   * Publishes a role change, delivered to transactional listeners once committed
+   *
+   * @param changeType type of the change
+   * @param before     role before the change, null for creations
+   * @param roleDTO    changed role
+   */
+  private void publishChange(ChangeType changeType, RoleDTO before, RoleDTO roleDTO) {
+    publishChange(changeType, before, roleDTO, RequestActor.current().orElse(null));
+  }
+
+  /**
+   * Publishes a role change made by the given actor, delivered to transactional listeners once
+   * committed
+   *
+   * @param changeType type of the change
+   * @param before     role before the change, null for creations
+   * @param roleDTO    changed role
+   * @param actor      actor of the request which made the change, or null
+   */
+  private void publishChange(
+      ChangeType changeType, RoleDTO before, RoleDTO roleDTO, String actor) {
+    eventPublisher.publishEvent(new EntityChangeEvent(
+        EntityType.ROLE, changeType, roleDTO.getId(), before, roleDTO, actor));
+  }
 }
@@ -0,0 +1,25 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCitationDTO;
+import java.util.Optional;
+
+public interface ThesisCitationService {
+
+  /**
+   * Adds a citation of a thesis by another thesis, unless it already exists
+   *
+   * @param citingThesisId id of the citing thesis
+   * @param citedThesisId  id of the cited thesis
+   * @return added or existing citation, empty if either thesis does not exist
+   */
+  Optional<ThesisCitationDTO> addCitation(long citingThesisId, long citedThesisId);
+
+  /**
+   * Removes a citation of a thesis by another thesis
+   *
+   * @param citingThesisId id of the citing thesis
+   * @param citedThesisId  id of the cited thesis
+   * @return removed citation, empty if it does not exist
+   */
+  Optional<ThesisCitationDTO> removeCitation(long citingThesisId, long citedThesisId);
+}
@@ -0,0 +1,95 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCitationDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCitation;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCitation.Key;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisCitationChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisCitationRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class ThesisCitationServiceImpl implements ThesisCitationService {
+
+  private final ThesisCitationRepository thesisCitationRepository;
+
+  private final ThesisRepository thesisRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public ThesisCitationServiceImpl(
+      ThesisCitationRepository thesisCitationRepository,
+      ThesisRepository thesisRepository,
+      ApplicationEventPublisher eventPublisher
+  ) {
+    this.thesisCitationRepository = thesisCitationRepository;
+    this.thesisRepository = thesisRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisCitationDTO> addCitation(long citingThesisId, long citedThesisId) {
+
+    // Both theses are locked, in id order, so neither can be deleted before the citation is
+    // committed and citations of the same theses in opposite directions do not deadlock
+    long firstId = Math.min(citingThesisId, citedThesisId);
+    long secondId = Math.max(citingThesisId, citedThesisId);
+    if (!thesisRepository.findForUpdateById(firstId).isPresent()
+        || !thesisRepository.findForUpdateById(secondId).isPresent()) {
+      return Optional.empty();
+    }
+
+    if (thesisCitationRepository.insertIgnore(citingThesisId, citedThesisId, Instant.now()) > 0) {
+      eventPublisher.publishEvent(
+          new ThesisCitationChangeEvent(citingThesisId, citedThesisId, ChangeType.CREATED));
+    }
+    return thesisCitationRepository.findById(new Key(citingThesisId, citedThesisId))
+        .map(ThesisCitationDTO::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisCitationDTO> removeCitation(long citingThesisId, long citedThesisId) {
+
+    Optional<ThesisCitation> citation =
+        thesisCitationRepository.findById(new Key(citingThesisId, citedThesisId));
+    if (citation.isPresent()) {
+      ThesisCitationDTO removedCitation = new ThesisCitationDTO(citation.get());
+      thesisCitationRepository.delete(citation.get());
+      eventPublisher.publishEvent(
+          new ThesisCitationChangeEvent(citingThesisId, citedThesisId, ChangeType.DELETED));
+      return Optional.of(removedCitation);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Removes the citations made by and of a deleted thesis, in the same transaction as the thesis
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS
+        && event.getChangeType() == ChangeType.DELETED) {
+      thesisCitationRepository.deleteAllByThesisId(event.getEntityId());
+    }
+  }
+}
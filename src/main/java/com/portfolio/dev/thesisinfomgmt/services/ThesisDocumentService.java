@@ -0,0 +1,67 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDocumentDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ThesisDocumentService {
+
+  /**
+   * Streams the content of a document into the document store, to be saved afterwards
+   *
+   * @param content content of the document
+   * @return stored content, empty if the content exceeds the maximum document size
+   */
+  Optional<StoredContent> storeContent(InputStream content);
+
+  /**
+   * Looks up content which is already stored, so it can be saved without being uploaded again
+   *
+   * @param hash SHA-256 hash of the content
+   * @return stored content, empty if no such content is stored
+   */
+  Optional<StoredContent> findContent(String hash);
+
+  /**
+   * Saves stored content as the document of a thesis, replacing its previous document
+   *
+   * @param thesisId id of the thesis
+   * @param fileName file name of the document
+   * @param content  content stored before
+   * @return optional saved document, empty if the thesis does not exist
+   */
+  Optional<ThesisDocumentDTO> saveDocument(long thesisId, String fileName, StoredContent content);
+
+  /**
+   * Retrieves the details of the document of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @return optional document details
+   */
+  Optional<ThesisDocumentDTO> getDocument(long thesisId);
+
+  /**
+   * Resolves the file holding the content of a document
+   *
+   * @param thesisDocumentDTO document details
+   * @return file of the document
+   */
+  Path getContentFile(ThesisDocumentDTO thesisDocumentDTO);
+
+  /**
+   * Deletes the document of a thesis
+   *
+   * @param thesisId id of the thesis
+   * @return optional deleted document
+   */
+  Optional<ThesisDocumentDTO> deleteDocument(long thesisId);
+
+  /**
+   * Deletes stored content which no thesis document refers to anymore
+   *
+   * @return number of deleted contents
+   */
+  int sweepContent();
+}
@@ -0,0 +1,302 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDocumentDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentContent;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisDocumentChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentContentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Thesis documents, with their content in the {@link DocumentStore} and their details in the
+ * database.
+ *
+ * <p>Content is stored once per SHA-256 hash, however many thesis documents refer to it. The
+ * references to each content are counted in the database, and content which lost its last
+ * reference is only deleted by the sweeper, every {@code tims.documents.sweep-interval-minutes},
+ * once it has been unreferenced and untouched for {@code tims.documents.sweep-grace-minutes}. The
+ * grace period lets downloads of replaced documents finish, and lets uploads and hash lookups
+ * which found the content already stored save it before it could be swept. The sweeper also
+ * deletes files no content refers to, left behind by uploads which were never saved.
+ *
+ * <p>Saving new content requests its processing by the {@link DocumentProcessingService} in the
+ * same transaction, so no upload goes unprocessed.
+ */
+@Slf4j
+@Service
+public class ThesisDocumentServiceImpl implements ThesisDocumentService, DisposableBean {
+
+  private static final int SWEEP_BATCH_SIZE = 500;
+
+  private final ThesisDocumentRepository thesisDocumentRepository;
+
+  private final DocumentContentRepository documentContentRepository;
+
+  private final ThesisRepository thesisRepository;
+
+  private final DocumentJobRepository documentJobRepository;
+
+  private final DocumentStore documentStore;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final long maxSizeBytes;
+
+  private final Duration sweepGracePeriod;
+
+  private final long sweepIntervalMinutes;
+
+  private final ScheduledExecutorService sweeper =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-sweeper");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  public ThesisDocumentServiceImpl(
+      ThesisDocumentRepository thesisDocumentRepository,
+      DocumentContentRepository documentContentRepository,
+      ThesisRepository thesisRepository,
+      DocumentJobRepository documentJobRepository,
+      DocumentStore documentStore,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${tims.documents.max-size-mb:200}") long maxSizeMb,
+      @Value("${tims.documents.sweep-grace-minutes:60}") long sweepGraceMinutes,
+      @Value("${tims.documents.sweep-interval-minutes:60}") long sweepIntervalMinutes
+  ) {
+    this.thesisDocumentRepository = thesisDocumentRepository;
+    this.documentContentRepository = documentContentRepository;
+    this.thesisRepository = thesisRepository;
+    this.documentJobRepository = documentJobRepository;
+    this.documentStore = documentStore;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.maxSizeBytes = maxSizeMb << 20;
+    this.sweepGracePeriod = Duration.ofMinutes(sweepGraceMinutes);
+    this.sweepIntervalMinutes = sweepIntervalMinutes;
+  }
+
+  /**
+   * Counts the references of documents uploaded before contents were counted, then starts the
+   * sweeper, which would otherwise take their content for unreferenced
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startSweeper() {
+    transactionTemplate.executeWithoutResult(
+        status -> documentContentRepository.backfillContents());
+    sweeper.scheduleWithFixedDelay(() -> {
+      try {
+        int swept = sweepContent();
+        if (swept > 0) {
+          log.info("Swept {} unreferenced document contents", swept);
+        }
+      } catch (RuntimeException e) {
+        log.error("Could not sweep document contents", e);
+      }
+    }, sweepIntervalMinutes, sweepIntervalMinutes, TimeUnit.MINUTES);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<StoredContent> storeContent(InputStream content) {
+    return documentStore.write(content, maxSizeBytes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<StoredContent> findContent(String hash) {
+
+    // Touching the file keeps it from being swept before it is saved
+    Optional<DocumentContent> content = documentContentRepository.findById(hash);
+    return content
+        .filter(storedContent -> documentStore.touch(storedContent.getHash()))
+        .map(storedContent -> new StoredContent(storedContent.getHash(), storedContent.getSize()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisDocumentDTO> saveDocument(
+      long thesisId, String fileName, StoredContent content) {
+
+    // Uploads of the same thesis wait for each other, so every reference is counted once
+    if (!thesisRepository.findForUpdateById(thesisId).isPresent()) {
+      return Optional.empty();
+    }
+
+    ThesisDocument document = thesisDocumentRepository.findById(thesisId)
+        .orElseGet(() -> new ThesisDocument().withThesisId(thesisId));
+    String previousKey = document.getStorageKey();
+    if (!content.getKey().equals(previousKey)) {
+      documentContentRepository.addReference(content.getKey(), content.getSize());
+      if (previousKey != null) {
+        releaseContent(previousKey);
+      }
+
+      // Holding the content row now, the sweeper can no longer delete the file
+      if (!documentStore.touch(content.getKey())) {
+        throw new IllegalStateException(
+            "Content " + content.getKey() + " was swept before it could be saved");
+      }
+      documentJobRepository.upsertPending(thesisId, content.getKey(), Instant.now());
+    }
+    document.setFileName(fileName);
+    document.setSize(content.getSize());
+    document.setStorageKey(content.getKey());
+    document.setUploadedAt(Instant.now());
+    document = thesisDocumentRepository.save(document);
+    eventPublisher.publishEvent(
+        new ThesisDocumentChangeEvent(thesisId, ChangeType.UPDATED, content.getKey()));
+    return Optional.of(new ThesisDocumentDTO(document));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ThesisDocumentDTO> getDocument(long thesisId) {
+
+    Optional<ThesisDocument> document = thesisDocumentRepository.findById(thesisId);
+    return document.map(ThesisDocumentDTO::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Path getContentFile(ThesisDocumentDTO thesisDocumentDTO) {
+    return documentStore.resolve(thesisDocumentDTO.getStorageKey());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisDocumentDTO> deleteDocument(long thesisId) {
+
+    Optional<ThesisDocument> document = thesisDocumentRepository.findById(thesisId);
+    if (document.isPresent()) {
+      thesisDocumentRepository.delete(document.get());
+      releaseContent(document.get().getStorageKey());
+      documentJobRepository.deleteByThesisId(thesisId);
+      eventPublisher.publishEvent(
+          new ThesisDocumentChangeEvent(thesisId, ChangeType.DELETED, null));
+      return Optional.of(new ThesisDocumentDTO(document.get()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int sweepContent() {
+    Instant cutoff = Instant.now().minus(sweepGracePeriod);
+    AtomicInteger swept = new AtomicInteger();
+
+    // Contents which lost their last reference before the cutoff, and were not touched since
+    String afterHash = "";
+    List<String> hashes;
+    do {
+      hashes = documentContentRepository.findReleasedBefore(
+          cutoff, afterHash, PageRequest.of(0, SWEEP_BATCH_SIZE));
+      for (String hash : hashes) {
+        if (documentStore.isModifiedBefore(hash, cutoff) && deleteContent(hash, cutoff)) {
+          swept.incrementAndGet();
+        }
+      }
+      afterHash = hashes.isEmpty() ? afterHash : hashes.get(hashes.size() - 1);
+    } while (hashes.size() == SWEEP_BATCH_SIZE);
+
+    // Files without content, left behind by uploads which were never saved
+    documentStore.visitKeysModifiedBefore(cutoff, SWEEP_BATCH_SIZE, keys -> {
+      Set<String> knownKeys = documentContentRepository.findAllById(keys).stream()
+          .map(DocumentContent::getHash)
+          .collect(Collectors.toSet());
+      keys.stream()
+          .filter(key -> !knownKeys.contains(key))
+          .forEach(key -> {
+            documentStore.delete(key);
+            swept.incrementAndGet();
+          });
+    });
+    return swept.get();
+  }
+
+  /**
+   * Deletes the document of a deleted thesis, in the same transaction as the thesis
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS
+        && event.getChangeType() == ChangeType.DELETED) {
+      deleteDocument(event.getEntityId());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    sweeper.shutdownNow();
+  }
+
+  private void releaseContent(String hash) {
+    documentContentRepository.removeReference(hash);
+    documentContentRepository.markReleased(hash, Instant.now());
+  }
+
+  private boolean deleteContent(String hash, Instant cutoff) {
+    // The file is deleted while the content row is locked, so no upload can refer to it meanwhile
+    Boolean deleted = transactionTemplate.execute(status -> {
+      if (documentContentRepository.deleteReleasedBefore(hash, cutoff) == 0) {
+        return false;
+      }
+      documentStore.delete(hash);
+      return true;
+    });
+    return Boolean.TRUE.equals(deleted);
+  }
+}
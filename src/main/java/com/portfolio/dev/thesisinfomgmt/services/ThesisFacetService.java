@@ -0,0 +1,34 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetCountsDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetIndexStatusDTO;
+import java.util.Set;
+
+public interface ThesisFacetService {
+
+  /**
+   * Counts the theses matching a selection of facet values, and the theses of every facet value
+   * given the selection of the other facets. Within a facet any selected value matches, across
+   * facets every facet with a selection has to match.
+   *
+   * @param degreeIds selected degree ids, empty for any degree
+   * @param years     selected publication years, empty for any year
+   * @param roleIds   selected ids of roles authors have on the theses, empty for any role
+   * @return facet counts
+   */
+  FacetCountsDTO countFacets(Set<Long> degreeIds, Set<Long> years, Set<Long> roleIds);
+
+  /**
+   * Starts reloading the facet index from the database in the background
+   *
+   * @return whether the reload started, false if one is already running
+   */
+  boolean startReload();
+
+  /**
+   * Retrieves the status and memory usage of the facet index
+   *
+   * @return status of the index
+   */
+  FacetIndexStatusDTO getStatus();
+}
@@ -0,0 +1,250 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetCountsDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetIndexStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetValueDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.CoalescingIndexer;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.Facet;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.FacetCounts;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.FacetUsage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Facet counts of the thesis catalogue, answered from a {@link FacetIndex} in memory without
+ * touching the database.
+ *
+ * <p>The index is loaded from the database on startup, while counts are answered from the empty
+ * index. Committed thesis changes are then applied by a background indexer, which reads the thesis
+ * as currently stored, so changes of the same thesis queued while it waits are applied at once.
+ * Deleting an author removes it from theses without a thesis change, so it reloads the index. A
+ * reload builds a new index next to the current one and replaces it once loaded; theses changed
+ * meanwhile are applied again afterwards.
+ */
+@Slf4j
+@Service
+public class ThesisFacetServiceImpl implements ThesisFacetService, DisposableBean {
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private final ThesisRepository thesisRepository;
+
+  private final ThesisAuthorRepository thesisAuthorRepository;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final CoalescingIndexer indexer;
+
+  private volatile FacetIndex facetIndex = new FacetIndex();
+
+  private volatile Instant lastReloadCompletedAt;
+
+  public ThesisFacetServiceImpl(
+      ThesisRepository thesisRepository,
+      ThesisAuthorRepository thesisAuthorRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry
+  ) {
+    this.thesisRepository = thesisRepository;
+    this.thesisAuthorRepository = thesisAuthorRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.readOnlyTransaction.setReadOnly(true);
+    this.indexer = new CoalescingIndexer("facet", 1, this::applyThesis, this::reload);
+
+    Gauge.builder("tims.facets.theses", this, service -> service.facetIndex.size())
+        .description("Theses in the facet index")
+        .register(meterRegistry);
+    Gauge.builder("tims.facets.size", this, service -> service.sizeInBytes(service.facetIndex))
+        .description("Memory held by the bitmaps of the facet index")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Loads the index once the application is ready
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadIndex() {
+    startReload();
+  }
+
+  /**
+   * Queues a committed thesis change for indexing, and reloads the index when an author is deleted
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS) {
+      indexer.enqueue(event.getEntityId());
+    } else if (event.getEntityType() == EntityType.AUTHOR
+        && event.getChangeType() == ChangeType.DELETED) {
+      // A running reload may have read the author before it was deleted
+      indexer.requestRebuild();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public FacetCountsDTO countFacets(Set<Long> degreeIds, Set<Long> years, Set<Long> roleIds) {
+    Map<Facet, Set<Long>> selection = new EnumMap<>(Facet.class);
+    selection.put(Facet.DEGREE, degreeIds);
+    selection.put(Facet.YEAR, years);
+    selection.put(Facet.ROLE, roleIds);
+    FacetCounts counts = facetIndex.count(selection);
+
+    Comparator<FacetValueDTO> mostTheses = Comparator.comparingInt(FacetValueDTO::getCount)
+        .reversed().thenComparingLong(FacetValueDTO::getValue);
+    return new FacetCountsDTO(counts.getTotal(),
+        toValues(counts.getCounts().get(Facet.DEGREE), mostTheses),
+        toValues(counts.getCounts().get(Facet.YEAR),
+            Comparator.comparingLong(FacetValueDTO::getValue).reversed()),
+        toValues(counts.getCounts().get(Facet.ROLE), mostTheses));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean startReload() {
+    return indexer.startRebuild();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public FacetIndexStatusDTO getStatus() {
+    FacetIndex index = facetIndex;
+    List<FacetUsage> usage = index.getMemoryUsage();
+    Map<String, Integer> facetValues = new LinkedHashMap<>();
+    Map<String, Long> facetBytes = new LinkedHashMap<>();
+    for (FacetUsage facetUsage : usage) {
+      String facet = facetUsage.getFacet().name().toLowerCase(Locale.ROOT);
+      facetValues.put(facet, facetUsage.getValues());
+      facetBytes.put(facet, facetUsage.getBytes());
+    }
+    return new FacetIndexStatusDTO(index.size(), indexer.getPending(), indexer.isRebuilding(),
+        lastReloadCompletedAt, sizeInBytes(index), facetValues, facetBytes);
+  }
+
+  @Override
+  public void destroy() {
+    indexer.shutdownNow();
+  }
+
+  /**
+   * Applies a thesis as currently stored to the index, or removes it if it no longer exists
+   *
+   * @param thesisId id of the thesis
+   */
+  void applyThesis(long thesisId) {
+    Map<Facet, Set<Long>> values = readOnlyTransaction.execute(status ->
+        thesisRepository.findById(thesisId)
+            .map(thesis -> readValues(Collections.singletonList(thesis)).get(thesisId))
+            .orElse(null));
+    if (values != null) {
+      facetIndex.update(thesisId, values);
+    } else {
+      facetIndex.remove(thesisId);
+    }
+  }
+
+  private void reload() {
+    long startedAt = System.currentTimeMillis();
+    try {
+      FacetIndex index = new FacetIndex();
+      long afterId = 0;
+      List<Thesis> batch;
+      do {
+        long batchAfterId = afterId;
+        batch = readOnlyTransaction.execute(status -> {
+          List<Thesis> theses =
+              thesisRepository.findBatchAfter(batchAfterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+          readValues(theses).forEach(index::update);
+          return theses;
+        });
+        if (batch != null && !batch.isEmpty()) {
+          afterId = batch.get(batch.size() - 1).getId();
+        }
+      } while (batch != null && batch.size() == LOAD_BATCH_SIZE);
+      index.optimize();
+
+      facetIndex = index;
+      lastReloadCompletedAt = Instant.now();
+      log.info("Loaded facets of {} theses in {} ms, {} bytes", index.size(),
+          System.currentTimeMillis() - startedAt, sizeInBytes(index));
+    } catch (RuntimeException e) {
+      log.error("Could not load the facet index", e);
+    }
+  }
+
+  /**
+   * Reads the facet values of theses, with one query for the roles of all of them
+   *
+   * @param theses theses, within a transaction
+   * @return values per facet by thesis id
+   */
+  private Map<Long, Map<Facet, Set<Long>>> readValues(List<Thesis> theses) {
+    Map<Long, Map<Facet, Set<Long>>> values = new HashMap<>();
+    for (Thesis thesis : theses) {
+      Map<Facet, Set<Long>> thesisValues = new EnumMap<>(Facet.class);
+      thesisValues.put(Facet.DEGREE, Collections.singleton(thesis.getDegree().getId()));
+      thesisValues.put(Facet.YEAR, Collections.singleton((long) thesis.getYear()));
+      thesisValues.put(Facet.ROLE, new HashSet<>());
+      values.put(thesis.getId(), thesisValues);
+    }
+    if (!values.isEmpty()) {
+      for (ThesisAuthor thesisAuthor :
+          thesisAuthorRepository.findAllByThesisIdIn(values.keySet())) {
+        values.get(thesisAuthor.getThesis().getId()).get(Facet.ROLE)
+            .add(thesisAuthor.getRole().getId());
+      }
+    }
+    return values;
+  }
+
+  private long sizeInBytes(FacetIndex index) {
+    return index.getThesesBytes() + index.getMemoryUsage().stream()
+        .mapToLong(FacetUsage::getBytes)
+        .sum();
+  }
+
+  private static List<FacetValueDTO> toValues(
+      Map<Long, Integer> counts, Comparator<FacetValueDTO> order) {
+    return counts.entrySet().stream()
+        .map(entry -> new FacetValueDTO(entry.getKey(), entry.getValue()))
+        .sorted(order)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCountDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisReportStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Dimension;
+import java.util.List;
+
+public interface ThesisReportService {
+
+  /**
+   * Retrieves the number of theses per degree or role and year, from counts maintained by thesis
+   * writes
+   *
+   * @param dimension degrees, or roles for the theses with at least one author in a role
+   * @param fromYear  first year, null if unbounded
+   * @param toYear    last year, null if unbounded
+   * @return non-zero counts, newest year first and then by degree or role id
+   */
+  List<ThesisCountDTO> getThesisCounts(Dimension dimension, Integer fromYear, Integer toYear);
+
+  /**
+   * Starts recounting every count from the theses in the background
+   *
+   * @return whether the reconciliation started, false if one is already running
+   */
+  boolean startReconciliation();
+
+  /**
+   * Retrieves the status of the report counts
+   *
+   * @return status of the counts
+   */
+  ThesisReportStatusDTO getStatus();
+}
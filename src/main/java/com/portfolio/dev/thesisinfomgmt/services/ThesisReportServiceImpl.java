@@ -0,0 +1,333 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisAuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCountDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisReportStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Dimension;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Key;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisCountRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Thesis counts per degree and year and per role and year, kept in the {@link ThesisCount} table
+ * so that reports read one row per group.
+ *
+ * <p>Every thesis write adds the difference it makes to the counts in its own transaction, right
+ * before it commits, so counts are always as consistent as the theses. Counts are updated in key
+ * order, so that writes of the same groups wait for each other instead of deadlocking.
+ *
+ * <p>A reconciliation recounts every count from the theses and corrects the wrong ones. It runs on
+ * startup, every {@code tims.reports.reconcile-interval-minutes} minutes, and after an author is
+ * deleted, which removes it from theses without a thesis write. It goes through the degrees and
+ * roles one at a time, each in a transaction of its own: it locks the counts of the degree or role
+ * first, so that thesis writes of it committing meanwhile wait for it, and then counts its theses
+ * from a snapshot taken after the locks are granted, which includes every write whose counts it
+ * locked. Thesis writes of other degrees and roles are not held up.
+ */
+@Slf4j
+@Service
+public class ThesisReportServiceImpl implements ThesisReportService, DisposableBean {
+
+  private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::getDimension)
+      .thenComparingLong(Key::getValueId)
+      .thenComparingInt(Key::getYear);
+
+  private final ThesisCountRepository thesisCountRepository;
+
+  private final ThesisRepository thesisRepository;
+
+  private final ThesisAuthorRepository thesisAuthorRepository;
+
+  private final DegreeRepository degreeRepository;
+
+  private final RoleRepository roleRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final long reconcileIntervalMinutes;
+
+  private final AtomicBoolean reconciling = new AtomicBoolean();
+
+  /**
+   * Whether the running reconciliation may have counted authors deleted meanwhile, and has to run
+   * again
+   */
+  private final AtomicBoolean reconcileAgain = new AtomicBoolean();
+
+  private final AtomicLong corrected = new AtomicLong();
+
+  private final ScheduledExecutorService reconciler =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-reconciler");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private volatile Instant lastReconciliationCompletedAt;
+
+  private volatile int lastCorrectedCounts;
+
+  public ThesisReportServiceImpl(
+      ThesisCountRepository thesisCountRepository,
+      ThesisRepository thesisRepository,
+      ThesisAuthorRepository thesisAuthorRepository,
+      DegreeRepository degreeRepository,
+      RoleRepository roleRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tims.reports.reconcile-interval-minutes:60}") long reconcileIntervalMinutes
+  ) {
+    this.thesisCountRepository = thesisCountRepository;
+    this.thesisRepository = thesisRepository;
+    this.thesisAuthorRepository = thesisAuthorRepository;
+    this.degreeRepository = degreeRepository;
+    this.roleRepository = roleRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.readOnlyTransaction.setReadOnly(true);
+    this.reconcileIntervalMinutes = reconcileIntervalMinutes;
+
+    FunctionCounter.builder("tims.reports.corrected", corrected, AtomicLong::get)
+        .description("Report counts found wrong by reconciliations")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Reconciles the counts once the application is ready, which also counts the theses written
+   * before counts were maintained, and then periodically
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startReconciler() {
+    reconciler.scheduleWithFixedDelay(
+        this::startReconciliation, 0, reconcileIntervalMinutes, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Adds the difference a thesis write makes to the counts, in the same transaction
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() != EntityType.THESIS) {
+      return;
+    }
+    Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+    if (event.getChangeType() != ChangeType.CREATED) {
+      addGroups((ThesisDTO) event.getBefore(), -1, deltas);
+    }
+    if (event.getChangeType() != ChangeType.DELETED) {
+      addGroups((ThesisDTO) event.getData(), 1, deltas);
+    }
+    deltas.forEach((key, delta) -> {
+      if (delta != 0) {
+        thesisCountRepository.addTheses(
+            key.getDimension().name(), key.getValueId(), key.getYear(), delta);
+      }
+    });
+  }
+
+  /**
+   * Reconciles the counts once an author deletion is committed
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorDeleted(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.AUTHOR
+        && event.getChangeType() == ChangeType.DELETED && !startReconciliation()) {
+      reconcileAgain.set(true);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<ThesisCountDTO> getThesisCounts(
+      Dimension dimension, Integer fromYear, Integer toYear) {
+
+    return readOnlyTransaction.execute(status -> {
+      List<ThesisCount> counts = thesisCountRepository.findAllByDimension(dimension,
+          fromYear != null ? fromYear : Integer.MIN_VALUE,
+          toYear != null ? toYear : Integer.MAX_VALUE);
+
+      // Names are read in one query for all degrees or roles
+      Set<Long> ids = counts.stream().map(ThesisCount::getValueId).collect(Collectors.toSet());
+      Map<Long, String> names = dimension == Dimension.DEGREE
+          ? degreeRepository.findAllById(ids).stream()
+              .collect(Collectors.toMap(Degree::getId, Degree::getName))
+          : roleRepository.findAllById(ids).stream()
+              .collect(Collectors.toMap(Role::getId, Role::getName));
+      return counts.stream()
+          .map(count -> new ThesisCountDTO(count, names.get(count.getValueId())))
+          .collect(Collectors.toList());
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean startReconciliation() {
+    if (!reconciling.compareAndSet(false, true)) {
+      return false;
+    }
+    reconciler.execute(this::reconcile);
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ThesisReportStatusDTO getStatus() {
+    return new ThesisReportStatusDTO(reconciling.get(), lastReconciliationCompletedAt,
+        lastCorrectedCounts);
+  }
+
+  @Override
+  public void destroy() {
+    reconciler.shutdownNow();
+  }
+
+  /**
+   * Recounts every count from the theses and corrects the wrong ones, one degree or role at a time
+   *
+   * @return number of corrected counts
+   */
+  int reconcileCounts() {
+    int corrections = 0;
+    for (Dimension dimension : Dimension.values()) {
+      // Degrees and roles with counts but no theses are recounted as well, to remove their counts
+      Set<Long> valueIds = readOnlyTransaction.execute(status -> {
+        Set<Long> ids = new TreeSet<>(thesisCountRepository.findValueIds(dimension));
+        ids.addAll(dimension == Dimension.DEGREE
+            ? thesisRepository.findDegreeIds()
+            : thesisAuthorRepository.findRoleIds());
+        return ids;
+      });
+      if (valueIds != null) {
+        for (long valueId : valueIds) {
+          corrections += reconcileGroup(dimension, valueId);
+        }
+      }
+    }
+    return corrections;
+  }
+
+  private void reconcile() {
+    long startedAt = System.currentTimeMillis();
+    try {
+      int correctedCounts = reconcileCounts();
+      corrected.addAndGet(correctedCounts);
+      lastCorrectedCounts = correctedCounts;
+      lastReconciliationCompletedAt = Instant.now();
+      if (correctedCounts > 0) {
+        log.warn("Corrected {} report counts in {} ms", correctedCounts,
+            System.currentTimeMillis() - startedAt);
+      }
+    } catch (RuntimeException e) {
+      log.error("Could not reconcile report counts", e);
+    } finally {
+      reconciling.set(false);
+      if (reconcileAgain.getAndSet(false)) {
+        startReconciliation();
+      }
+    }
+  }
+
+  /**
+   * Adds a thesis once to its degree and year, and once to every role of its authors and year
+   */
+  private static void addGroups(ThesisDTO thesis, long sign, Map<Key, Long> deltas) {
+    deltas.merge(new Key(Dimension.DEGREE, thesis.getDegreeId(), thesis.getYear()), sign,
+        Long::sum);
+    Set<Long> roleIds = new HashSet<>();
+    if (thesis.getAuthors() != null) {
+      for (ThesisAuthorDTO author : thesis.getAuthors()) {
+        roleIds.add(author.getRoleId());
+      }
+    }
+    for (long roleId : roleIds) {
+      deltas.merge(new Key(Dimension.ROLE, roleId, thesis.getYear()), sign, Long::sum);
+    }
+  }
+
+  /**
+   * Recounts the counts of a degree or role from its theses and corrects the wrong ones
+   *
+   * @param dimension dimension of the counts
+   * @param valueId   id of the degree or role
+   * @return number of corrected counts
+   */
+  private int reconcileGroup(Dimension dimension, long valueId) {
+    Integer correctedCounts = transactionTemplate.execute(status -> {
+      // Lock the counts of the degree or role before reading its theses
+      Map<Integer, Long> stored = new HashMap<>();
+      for (Object[] row : thesisCountRepository.findGroupForUpdate(dimension.name(), valueId)) {
+        stored.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+      }
+      List<Object[]> counted = dimension == Dimension.DEGREE
+          ? thesisRepository.countByYearOfDegree(valueId)
+          : thesisAuthorRepository.countThesesByYearOfRole(valueId);
+
+      int corrections = 0;
+      for (Object[] row : counted) {
+        int year = ((Number) row[0]).intValue();
+        Long theses = ((Number) row[1]).longValue();
+        if (!theses.equals(stored.remove(year))) {
+          thesisCountRepository.setTheses(dimension.name(), valueId, year, theses);
+          corrections++;
+        }
+      }
+      // Counts left are of years without theses, which are only wrong if not zero
+      for (Map.Entry<Integer, Long> count : stored.entrySet()) {
+        thesisCountRepository.deleteCount(dimension, valueId, count.getKey());
+        if (count.getValue() != 0) {
+          corrections++;
+        }
+      }
+      return corrections;
+    });
+    return correctedCounts != null ? correctedCounts : 0;
+  }
+}
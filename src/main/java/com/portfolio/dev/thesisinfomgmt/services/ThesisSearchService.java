@@ -0,0 +1,53 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.SearchIndexStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisSearchHitDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchCursor;
+
+public interface ThesisSearchService {
+
+  /**
+   * Searches the titles, abstracts and document text of theses, best hits first
+   *
+   * @param text     search text
+   * @param degreeId optional id of the degree of the theses
+   * @param year     optional publication year of the theses
+   * @param after    optional position of the last hit of the previous page
+   * @param limit    maximum number of hits to be retrieved
+   * @return hits together with the cursor of the next page
+   */
+  KeysetPageDTO<ThesisSearchHitDTO> search(
+      String text, Long degreeId, Integer year, SearchCursor after, int limit);
+
+  /**
+   * Indexes a thesis as currently stored, or removes it from the index if it no longer exists
+   *
+   * @param thesisId id of the thesis
+   */
+  void reindexThesis(long thesisId);
+
+  /**
+   * Indexes the text of the document of a thesis, unless the thesis no longer has that document
+   *
+   * @param thesisId    id of the thesis
+   * @param documentKey key of the document content the text was extracted from
+   * @param text        normalized text of the document
+   * @return whether the text was indexed, false if the document was replaced or removed meanwhile
+   */
+  boolean indexDocumentText(long thesisId, String documentKey, String text);
+
+  /**
+   * Starts indexing every thesis again in the background
+   *
+   * @return whether the rebuild started, false if one is already running
+   */
+  boolean startRebuild();
+
+  /**
+   * Retrieves the status of the search index
+   *
+   * @return status of the index
+   */
+  SearchIndexStatusDTO getStatus();
+}
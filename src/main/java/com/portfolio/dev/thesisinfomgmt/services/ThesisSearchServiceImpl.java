@@ -0,0 +1,419 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.SearchIndexStatusDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisSearchHitDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisDocumentChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.CoalescingIndexer;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchDocument;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex.SearchHit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Full-text search over theses, answered from the {@link SearchIndex} without touching the
+ * database.
+ *
+ * <p>Committed thesis and document changes are indexed incrementally by background indexers
+ * ({@code tims.search.indexer-threads}), which read the thesis as currently stored rather than the
+ * change itself, so changes of the same thesis queued while it waits are indexed at once. The
+ * index is refreshed every {@code tims.search.refresh-interval-ms} and committed every
+ * {@code tims.search.commit-interval-seconds}; changes not yet committed when the process stops
+ * are only recovered by a rebuild.
+ *
+ * <p>Document text is extracted by the {@link DocumentProcessingService} in the background, which
+ * hands it over to {@link #indexDocumentText(long, String, String)}. Any other indexing of a thesis
+ * carries the text over from the index; if the document changed, the text of the previous one is
+ * kept until the new one is processed, and processing is requested should no job be on it. A
+ * rebuild indexes every thesis on
+ * {@code tims.search.rebuild-threads} threads while searches keep being answered from the current
+ * index, then removes the theses it did not see. It starts by itself when the index is empty but
+ * the catalogue is not.
+ */
+@Slf4j
+@Service
+public class ThesisSearchServiceImpl implements ThesisSearchService, DisposableBean {
+
+  private static final int REBUILD_BATCH_SIZE = 500;
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final ThesisRepository thesisRepository;
+
+  private final ThesisDocumentRepository thesisDocumentRepository;
+
+  private final DocumentJobRepository documentJobRepository;
+
+  private final SearchIndex searchIndex;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final int rebuildThreads;
+
+  private final long refreshIntervalMs;
+
+  private final long commitIntervalSeconds;
+
+  /**
+   * Indexing of the same thesis is serialized, so it cannot be overtaken by an older version
+   */
+  private final Object[] locks = new Object[LOCK_STRIPES];
+
+  private final AtomicLong indexed = new AtomicLong();
+
+  private final AtomicLong failed = new AtomicLong();
+
+  private final CoalescingIndexer indexer;
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-committer");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private volatile Instant lastRebuildStartedAt;
+
+  private volatile Instant lastRebuildCompletedAt;
+
+  private volatile long lastRebuildTheses;
+
+  public ThesisSearchServiceImpl(
+      ThesisRepository thesisRepository,
+      ThesisDocumentRepository thesisDocumentRepository,
+      DocumentJobRepository documentJobRepository,
+      SearchIndex searchIndex,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tims.search.indexer-threads:2}") int indexerThreads,
+      @Value("${tims.search.rebuild-threads:4}") int rebuildThreads,
+      @Value("${tims.search.refresh-interval-ms:1000}") long refreshIntervalMs,
+      @Value("${tims.search.commit-interval-seconds:10}") long commitIntervalSeconds
+  ) {
+    this.thesisRepository = thesisRepository;
+    this.thesisDocumentRepository = thesisDocumentRepository;
+    this.documentJobRepository = documentJobRepository;
+    this.searchIndex = searchIndex;
+    this.transactionTemplate = transactionTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.readOnlyTransaction.setReadOnly(true);
+    this.rebuildThreads = Math.max(1, rebuildThreads);
+    this.refreshIntervalMs = refreshIntervalMs;
+    this.commitIntervalSeconds = commitIntervalSeconds;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new Object();
+    }
+    this.indexer =
+        new CoalescingIndexer("search", indexerThreads, this::indexChange, this::rebuild);
+
+    Gauge.builder("tims.search.pending", indexer, CoalescingIndexer::getPending)
+        .description("Changed theses waiting to be indexed")
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.search.indexed", indexed, AtomicLong::get)
+        .description("Theses indexed or removed from the search index")
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.search.failed", failed, AtomicLong::get)
+        .description("Theses which could not be indexed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts refreshing and committing the index, and rebuilds it if it is empty but the catalogue
+   * is not, e.g. on first startup or after its directory was removed
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startIndexing() {
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        searchIndex.refresh();
+      } catch (RuntimeException e) {
+        log.error("Could not refresh the search index", e);
+      }
+    }, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        searchIndex.commit();
+      } catch (RuntimeException e) {
+        log.error("Could not commit the search index", e);
+      }
+    }, commitIntervalSeconds, commitIntervalSeconds, TimeUnit.SECONDS);
+
+    if (searchIndex.count() == 0 && thesisRepository.count() > 0) {
+      log.info("Search index is empty, rebuilding it");
+      startRebuild();
+    }
+  }
+
+  /**
+   * Queues a committed thesis change for indexing
+   *
+   * @param event entity change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntityChange(EntityChangeEvent event) {
+    if (event.getEntityType() == EntityType.THESIS) {
+      indexer.enqueue(event.getEntityId());
+    }
+  }
+
+  /**
+   * Queues the thesis of a committed document change for indexing
+   *
+   * @param event thesis document change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDocumentChange(ThesisDocumentChangeEvent event) {
+    indexer.enqueue(event.getThesisId());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public KeysetPageDTO<ThesisSearchHitDTO> search(
+      String text, Long degreeId, Integer year, SearchCursor after, int limit) {
+
+    // Fetch one more hit than requested to know whether there is a next page
+    List<SearchHit> hits = searchIndex.search(text, degreeId, year, after, limit + 1);
+    String nextCursor = null;
+    if (hits.size() > limit) {
+      hits = hits.subList(0, limit);
+      SearchHit last = hits.get(limit - 1);
+      nextCursor = new SearchCursor(last.getScore(), last.getId()).encode();
+    }
+    return new KeysetPageDTO<>(
+        hits.stream().map(ThesisSearchHitDTO::new).collect(Collectors.toList()), nextCursor);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reindexThesis(long thesisId) {
+    synchronized (lockOf(thesisId)) {
+      Optional<SearchDocument> document = readThesis(thesisId);
+      if (document.isPresent()) {
+        index(document.get());
+      } else {
+        searchIndex.delete(thesisId);
+        indexed.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean indexDocumentText(long thesisId, String documentKey, String text) {
+    synchronized (lockOf(thesisId)) {
+      Optional<SearchDocument> document = readThesis(thesisId);
+      if (!document.isPresent() || !documentKey.equals(document.get().getDocumentKey())) {
+        return false;
+      }
+      searchIndex.update(document.get().withContent(text), System.currentTimeMillis());
+      indexed.incrementAndGet();
+      return true;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean startRebuild() {
+    return indexer.startRebuild();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SearchIndexStatusDTO getStatus() {
+    return new SearchIndexStatusDTO(searchIndex.count(), indexer.getPending(),
+        indexer.isRebuilding(), lastRebuildStartedAt, lastRebuildCompletedAt, lastRebuildTheses);
+  }
+
+  @Override
+  public void destroy() {
+    indexer.shutdown(5, TimeUnit.SECONDS);
+    scheduler.shutdownNow();
+    searchIndex.commit();
+  }
+
+  /**
+   * Reindexes a changed thesis, counting it as failed should it throw
+   *
+   * @param thesisId id of the thesis
+   */
+  private void indexChange(long thesisId) {
+    try {
+      reindexThesis(thesisId);
+    } catch (RuntimeException e) {
+      failed.incrementAndGet();
+      throw e;
+    }
+  }
+
+  private void rebuild() {
+    long startedAt = System.currentTimeMillis();
+    lastRebuildStartedAt = Instant.ofEpochMilli(startedAt);
+    ExecutorService workers = Executors.newFixedThreadPool(rebuildThreads,
+        CoalescingIndexer.namedDaemonThreads("search-rebuild-"));
+    // Bounds the theses read ahead of the workers
+    Semaphore inFlight = new Semaphore(rebuildThreads * 2);
+    AtomicLong rebuilt = new AtomicLong();
+    try {
+      long afterId = 0;
+      List<SearchDocument> batch;
+      do {
+        long batchAfterId = afterId;
+        batch = readOnlyTransaction.execute(status -> readBatch(batchAfterId));
+        for (SearchDocument document : batch) {
+          inFlight.acquire();
+          workers.execute(() -> {
+            try {
+              synchronized (lockOf(document.getId())) {
+                index(document);
+              }
+              rebuilt.incrementAndGet();
+            } catch (RuntimeException e) {
+              failed.incrementAndGet();
+              log.error("Could not index thesis {}", document.getId(), e);
+            } finally {
+              inFlight.release();
+            }
+          });
+        }
+        if (!batch.isEmpty()) {
+          afterId = batch.get(batch.size() - 1).getId();
+        }
+      } while (batch.size() == REBUILD_BATCH_SIZE);
+      inFlight.acquire(rebuildThreads * 2);
+
+      // Theses indexed before the rebuild started were not seen, so they no longer exist
+      searchIndex.deleteIndexedBefore(startedAt);
+      searchIndex.commit();
+      searchIndex.refresh();
+      lastRebuildTheses = rebuilt.get();
+      lastRebuildCompletedAt = Instant.now();
+      log.info("Rebuilt search index of {} theses in {} ms", rebuilt.get(),
+          System.currentTimeMillis() - startedAt);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.error("Could not rebuild the search index", e);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private Optional<SearchDocument> readThesis(long thesisId) {
+    Optional<SearchDocument> document = readOnlyTransaction.execute(status ->
+        thesisRepository.findById(thesisId).map(thesis -> toSearchDocument(thesis,
+            thesisDocumentRepository.findById(thesisId).orElse(null))));
+    return document != null ? document : Optional.empty();
+  }
+
+  private List<SearchDocument> readBatch(long afterId) {
+    List<Thesis> theses =
+        thesisRepository.findBatchAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+    Map<Long, ThesisDocument> documents = thesisDocumentRepository.findAllById(
+            theses.stream().map(Thesis::getId).collect(Collectors.toList())).stream()
+        .collect(Collectors.toMap(ThesisDocument::getThesisId, Function.identity()));
+    List<SearchDocument> batch = new ArrayList<>(theses.size());
+    for (Thesis thesis : theses) {
+      batch.add(toSearchDocument(thesis, documents.get(thesis.getId())));
+    }
+    return batch;
+  }
+
+  /**
+   * Indexes a thesis with the text of its document carried over from the index, while holding the
+   * lock of the thesis
+   *
+   * @param document thesis without document text
+   */
+  private void index(SearchDocument document) {
+    String documentKey = document.getDocumentKey();
+    if (documentKey != null) {
+      Optional<SearchDocument> indexedDocument = searchIndex.get(document.getId());
+      if (indexedDocument.isPresent()
+          && documentKey.equals(indexedDocument.get().getDocumentKey())) {
+        document = document.withContent(indexedDocument.get().getContent());
+      } else {
+        // The text of the previous document, if any, is kept until the new one is processed
+        document = document
+            .withDocumentKey(indexedDocument.map(SearchDocument::getDocumentKey).orElse(null))
+            .withContent(indexedDocument.map(SearchDocument::getContent).orElse(null));
+        requestProcessing(document.getId(), documentKey);
+      }
+    }
+    searchIndex.update(document, System.currentTimeMillis());
+    indexed.incrementAndGet();
+  }
+
+  /**
+   * Requests processing of a document whose text is not indexed, unless a job is already on it.
+   * Uploads request it themselves, so this is mostly needed after the index was lost.
+   *
+   * @param thesisId    id of the thesis
+   * @param documentKey key of the document content
+   */
+  private void requestProcessing(long thesisId, String documentKey) {
+    // Dead jobs are left alone, they fail again until retried
+    Optional<DocumentJob> job = documentJobRepository.findById(thesisId);
+    if (job.isPresent() && documentKey.equals(job.get().getStorageKey())
+        && job.get().getStatus() != Status.DONE) {
+      return;
+    }
+    transactionTemplate.executeWithoutResult(status ->
+        documentJobRepository.upsertPending(thesisId, documentKey, Instant.now()));
+  }
+
+  private Object lockOf(long thesisId) {
+    return locks[(int) Math.floorMod(thesisId, (long) LOCK_STRIPES)];
+  }
+
+  private static SearchDocument toSearchDocument(Thesis thesis, ThesisDocument document) {
+    return new SearchDocument(thesis.getId(), thesis.getTitle(), thesis.getAbstractText(),
+        thesis.getYear(), thesis.getDegree().getId(),
+        document != null ? document.getStorageKey() : null, null);
+  }
+}
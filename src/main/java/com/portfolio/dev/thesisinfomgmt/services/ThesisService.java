@@ -0,0 +1,66 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import java.util.Optional;
+
+public interface ThesisService {
+
+  /**
+   * Retrieves a page of theses in browse order, without their abstracts
+   *
+   * @param degreeId    optional id of the degree of the theses
+   * @param year        optional publication year of the theses
+   * @param titlePrefix optional beginning of the titles
+   * @param sort        browse order
+   * @param after       optional position of the last thesis of the previous page
+   * @param limit       maximum number of theses to be retrieved
+   * @return theses together with the cursor of the next page
+   */
+  KeysetPageDTO<ThesisDTO> getTheses(Long degreeId, Integer year, String titlePrefix,
+      ThesisSort sort, ThesisCursor after, int limit);
+
+  /**
+   * Retrieves a thesis
+   *
+   * @param thesisId id of the thesis to be retrieved
+   * @return optional retrieved thesis
+   */
+  Optional<ThesisDTO> getThesis(long thesisId);
+
+  /**
+   * Creates a thesis
+   *
+   * @param thesisDTO thesis to be created
+   * @return created thesis
+   */
+  ThesisDTO createThesis(ThesisDTO thesisDTO);
+
+  /**
+   * Updates a thesis
+   *
+   * @param thesisId  id of the thesis to be updated
+   * @param thesisDTO updated thesis details
+   * @return optional updated thesis
+   */
+  Optional<ThesisDTO> updateThesis(long thesisId, ThesisDTO thesisDTO);
+
+  /**
+   * Deletes a thesis
+   *
+   * @param thesisId id of the thesis to be deleted
+   * @return optional deleted thesis
+   */
+  Optional<ThesisDTO> deleteThesis(long thesisId);
+
+  /**
+   * Validate thesis details
+   *
+   * @param thesisDTO thesis to be validated
+   * @return validation response
+   */
+  ValidationResponse validateThesis(ThesisDTO thesisDTO);
+}
@@ -0,0 +1,327 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MIN_THESIS_YEAR;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_AUTHOR_DUPLICATE;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_TITLE_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_YEAR_INVALID;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisAuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.repositories.AuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.MapperHelper;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Thesis catalogue.
+ *
+ * <p>Every read costs a constant number of queries however many theses and authors it returns: a
+ * page of theses is one keyset query, followed by one query for the authors and roles of all
+ * theses of the page and one for their degrees. A single thesis is read with an entity graph.
+ */
+@Service
+public class ThesisServiceImpl implements ThesisService {
+
+  private final ThesisRepository thesisRepository;
+
+  private final ThesisAuthorRepository thesisAuthorRepository;
+
+  private final DegreeRepository degreeRepository;
+
+  private final AuthorRepository authorRepository;
+
+  private final RoleRepository roleRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public ThesisServiceImpl(
+      ThesisRepository thesisRepository,
+      ThesisAuthorRepository thesisAuthorRepository,
+      DegreeRepository degreeRepository,
+      AuthorRepository authorRepository,
+      RoleRepository roleRepository,
+      ApplicationEventPublisher eventPublisher
+  ) {
+    this.thesisRepository = thesisRepository;
+    this.thesisAuthorRepository = thesisAuthorRepository;
+    this.degreeRepository = degreeRepository;
+    this.authorRepository = authorRepository;
+    this.roleRepository = roleRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public KeysetPageDTO<ThesisDTO> getTheses(Long degreeId, Integer year, String titlePrefix,
+      ThesisSort sort, ThesisCursor after, int limit) {
+
+    // Fetch one more thesis than requested to know whether there is a next page
+    List<ThesisDTO> theses =
+        thesisRepository.findPage(degreeId, year, titlePrefix, sort, after, limit + 1);
+    String nextCursor = null;
+    if (theses.size() > limit) {
+      theses = theses.subList(0, limit);
+      ThesisDTO last = theses.get(limit - 1);
+      nextCursor = new ThesisCursor(sort, last.getId(), last.getYear(), last.getTitle()).encode();
+    }
+
+    addDegreesAndAuthors(theses);
+    return new KeysetPageDTO<>(theses, nextCursor);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ThesisDTO> getThesis(long thesisId) {
+
+    Optional<Thesis> thesis = thesisRepository.findWithAuthorsById(thesisId);
+    return thesis.map(ThesisDTO::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public ThesisDTO createThesis(ThesisDTO thesisDTO) {
+
+    Thesis thesis = MapperHelper.mapToThesis(thesisDTO,
+        degreeRepository.getReferenceById(thesisDTO.getDegreeId()));
+    if (thesisDTO.getAuthors() != null) {
+      setAuthors(thesis, thesisDTO.getAuthors());
+    }
+    thesis = thesisRepository.save(thesis);
+    ThesisDTO createdThesis = new ThesisDTO(thesis);
+    publishChange(ChangeType.CREATED, null, createdThesis);
+    return createdThesis;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisDTO> updateThesis(long thesisId, ThesisDTO thesisDTO) {
+
+    Optional<Thesis> thesis = thesisRepository.findWithAuthorsById(thesisId);
+    if (thesis.isPresent()) {
+      Thesis updatedThesis = thesis.get();
+      ThesisDTO before = new ThesisDTO(updatedThesis);
+      updatedThesis.setTitle(thesisDTO.getTitle());
+      updatedThesis.setAbstractText(thesisDTO.getAbstractText());
+      updatedThesis.setYear(thesisDTO.getYear());
+      updatedThesis.setDegree(degreeRepository.getReferenceById(thesisDTO.getDegreeId()));
+      if (thesisDTO.getAuthors() != null) {
+        setAuthors(updatedThesis, thesisDTO.getAuthors());
+      }
+      updatedThesis = thesisRepository.save(updatedThesis);
+      ThesisDTO updatedThesisDTO = new ThesisDTO(updatedThesis);
+      publishChange(ChangeType.UPDATED, before, updatedThesisDTO);
+      return Optional.of(updatedThesisDTO);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public Optional<ThesisDTO> deleteThesis(long thesisId) {
+
+    Optional<Thesis> thesis = thesisRepository.findWithAuthorsById(thesisId);
+    if (thesis.isPresent()) {
+      // Authors of the thesis are deleted with it
+      ThesisDTO deletedThesis = new ThesisDTO(thesis.get());
+      thesisRepository.delete(thesis.get());
+      publishChange(ChangeType.DELETED, deletedThesis, deletedThesis);
+      return Optional.of(deletedThesis);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ValidationResponse validateThesis(ThesisDTO thesisDTO) {
+
+    // Check if title is empty
+    if (StringUtils.isBlank(thesisDTO.getTitle())) {
+      return ValidationResponse.badRequest(THESIS_TITLE_REQUIRED);
+    }
+
+    // Check if year is missing or out of range
+    int maxYear = Year.now().getValue() + 1;
+    if (thesisDTO.getYear() == null || thesisDTO.getYear() < MIN_THESIS_YEAR
+        || thesisDTO.getYear() > maxYear) {
+      return ValidationResponse.badRequest(
+          String.format(THESIS_YEAR_INVALID, MIN_THESIS_YEAR, maxYear));
+    }
+
+    // Check if degree exists
+    if (!degreeRepository.existsById(thesisDTO.getDegreeId())) {
+      return ValidationResponse.badRequest(
+          String.format(DEGREE_NOT_FOUND, thesisDTO.getDegreeId()));
+    }
+
+    // Check if authors and roles exist and each author is listed once per role
+    if (thesisDTO.getAuthors() != null) {
+      return validateAuthors(thesisDTO.getAuthors());
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  private ValidationResponse validateAuthors(List<ThesisAuthorDTO> thesisAuthorDTOs) {
+
+    // Look up all authors and all roles with one query each
+    Set<Long> authorIds = thesisAuthorDTOs.stream()
+        .map(ThesisAuthorDTO::getAuthorId)
+        .collect(Collectors.toSet());
+    Set<Long> roleIds = thesisAuthorDTOs.stream()
+        .map(ThesisAuthorDTO::getRoleId)
+        .collect(Collectors.toSet());
+    Set<Long> existingAuthorIds = authorRepository.findAllById(authorIds).stream()
+        .map(Author::getId)
+        .collect(Collectors.toSet());
+    Set<Long> existingRoleIds = roleRepository.findAllById(roleIds).stream()
+        .map(Role::getId)
+        .collect(Collectors.toSet());
+
+    Set<List<Long>> authorRoles = new HashSet<>();
+    for (ThesisAuthorDTO thesisAuthorDTO : thesisAuthorDTOs) {
+      long authorId = thesisAuthorDTO.getAuthorId();
+      long roleId = thesisAuthorDTO.getRoleId();
+      if (!existingAuthorIds.contains(authorId)) {
+        return ValidationResponse.badRequest(String.format(AUTHOR_NOT_FOUND, authorId));
+      }
+      if (!existingRoleIds.contains(roleId)) {
+        return ValidationResponse.badRequest(String.format(ROLE_NOT_FOUND, roleId));
+      }
+      if (!authorRoles.add(List.of(authorId, roleId))) {
+        return ValidationResponse.badRequest(
+            String.format(THESIS_AUTHOR_DUPLICATE, authorId, roleId));
+      }
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Replaces the authors of a thesis, keeping the given order
+   *
+   * @param thesis           thesis
+   * @param thesisAuthorDTOs new authors of the thesis
+   */
+  private void setAuthors(Thesis thesis, List<ThesisAuthorDTO> thesisAuthorDTOs) {
+    // Keep the rows of authors which stay in the same role, since inserts are flushed before the
+    // deletion of orphans and would violate the unique key
+    Map<List<Long>, ThesisAuthor> existingAuthors = new HashMap<>();
+    for (ThesisAuthor thesisAuthor : thesis.getAuthors()) {
+      existingAuthors.put(List.of(thesisAuthor.getAuthor().getId(),
+          thesisAuthor.getRole().getId()), thesisAuthor);
+    }
+
+    List<ThesisAuthor> authors = new ArrayList<>();
+    for (ThesisAuthorDTO thesisAuthorDTO : thesisAuthorDTOs) {
+      ThesisAuthor thesisAuthor = existingAuthors.remove(
+          List.of(thesisAuthorDTO.getAuthorId(), thesisAuthorDTO.getRoleId()));
+      if (thesisAuthor == null) {
+        // References do not load the author and role
+        thesisAuthor = new ThesisAuthor(0, thesis,
+            authorRepository.getReferenceById(thesisAuthorDTO.getAuthorId()),
+            roleRepository.getReferenceById(thesisAuthorDTO.getRoleId()), 0);
+      }
+      thesisAuthor.setPosition(authors.size());
+      authors.add(thesisAuthor);
+    }
+
+    // Authors which are no longer listed are deleted as orphans
+    thesis.getAuthors().clear();
+    thesis.getAuthors().addAll(authors);
+  }
+
+  /**
+   * Adds the degree and authors to a page of theses, with one query each for the whole page
+   *
+   * @param theses theses of the page
+   */
+  private void addDegreesAndAuthors(List<ThesisDTO> theses) {
+    if (theses.isEmpty()) {
+      return;
+    }
+
+    Set<Long> thesisIds = new HashSet<>();
+    Set<Long> degreeIds = new HashSet<>();
+    for (ThesisDTO thesis : theses) {
+      thesisIds.add(thesis.getId());
+      degreeIds.add(thesis.getDegreeId());
+    }
+
+    // Authors and their roles are fetched with the same join
+    Map<Long, List<ThesisAuthorDTO>> authors = new HashMap<>();
+    for (ThesisAuthor thesisAuthor :
+        thesisAuthorRepository.findAllByThesisIdInOrderByThesisIdAscPositionAsc(thesisIds)) {
+      authors.computeIfAbsent(thesisAuthor.getThesis().getId(), id -> new ArrayList<>())
+          .add(new ThesisAuthorDTO(thesisAuthor));
+    }
+    Map<Long, Degree> degrees = degreeRepository.findAllById(degreeIds).stream()
+        .collect(Collectors.toMap(Degree::getId, Function.identity()));
+
+    for (ThesisDTO thesis : theses) {
+      thesis.setAuthors(authors.getOrDefault(thesis.getId(), new ArrayList<>()));
+      Degree degree = degrees.get(thesis.getDegreeId());
+      thesis.setDegree(degree != null ? new DegreeDTO(degree) : null);
+    }
+  }
+
+  /**
+   * Publishes a thesis change, delivered to transactional listeners once committed
+   *
+   * @param changeType type of the change
+   * @param before     thesis before the change, null for creations
+   * @param thesisDTO  changed thesis
+   */
+  private void publishChange(ChangeType changeType, ThesisDTO before, ThesisDTO thesisDTO) {
+    eventPublisher.publishEvent(new EntityChangeEvent(
+        EntityType.THESIS, changeType, thesisDTO.getId(), before, thesisDTO));
+  }
+}
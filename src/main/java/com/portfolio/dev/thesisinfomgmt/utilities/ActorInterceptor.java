@@ -0,0 +1,69 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Set;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Binds the {@link RequestActor} to the request thread.
+ *
+ * <p>The actor header is taken as is only from trusted proxies, which authenticate the user and
+ * set the header themselves. From any other client it is recorded as unverified next to the
+ * client address, e.g. {@code header:alice ip:10.0.0.7}, so nobody can write audit records under
+ * someone else's name. Without the header, the actor is the client address.
+ */
+public class ActorInterceptor implements AsyncHandlerInterceptor {
+
+  private final String actorHeader;
+
+  private final Set<String> trustedProxies;
+
+  public ActorInterceptor(String actorHeader, Set<String> trustedProxies) {
+    this.actorHeader = actorHeader;
+    this.trustedProxies = trustedProxies;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler
+  ) {
+    if (request.getDispatcherType() == DispatcherType.REQUEST) {
+      RequestActor.set(getActor(request));
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler
+  ) {
+    RequestActor.set(null);
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      Exception ex
+  ) {
+    RequestActor.set(null);
+  }
+
+  private String getActor(HttpServletRequest request) {
+    String actor = request.getHeader(actorHeader);
+    String address = request.getRemoteAddr();
+    if (actor == null || actor.isBlank()) {
+      return "ip:" + address;
+    }
+    return trustedProxies.contains(address)
+        ? actor.trim()
+        : "header:" + actor.trim() + " ip:" + address;
+  }
+}
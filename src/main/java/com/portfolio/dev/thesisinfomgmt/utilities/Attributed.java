@@ -0,0 +1,50 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Item together with the {@link RequestActor} who submitted it.
+ *
+ * <p>Used where items of several requests are handled together, such as group commits, so that
+ * each change is still attributed to the actor of its own request.
+ *
+ * @param <T> type of the item
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class Attributed<T> {
+
+  private final T item;
+
+  /**
+   * Actor who submitted the item, null if not submitted by a request
+   */
+  private final String actor;
+
+  private Attributed(T item, String actor) {
+    this.item = item;
+    this.actor = actor;
+  }
+
+  /**
+   * @param item  item
+   * @param actor actor who submitted the item, or null
+   * @param <T>   type of the item
+   * @return item attributed to the given actor
+   */
+  public static <T> Attributed<T> of(T item, String actor) {
+    return new Attributed<>(item, actor);
+  }
+
+  /**
+   * @param item item
+   * @param <T>  type of the item
+   * @return item attributed to the actor bound to the current thread
+   */
+  public static <T> Attributed<T> ofCurrent(T item) {
+    return new Attributed<>(item, RequestActor.current().orElse(null));
+  }
+}
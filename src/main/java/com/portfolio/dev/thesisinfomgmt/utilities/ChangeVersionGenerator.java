@@ -0,0 +1,85 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import javax.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Issues the monotonically increasing change versions shared by degrees and roles.
+ *
+ * <p>Versions are assigned before commit, so a transaction holding a lower version may commit
+ * after one holding a higher version. To keep delta sync clients from skipping such a row,
+ * {@link #getHighWaterMark()} only reports versions below the oldest uncommitted one.
+ */
+@Component
+public class ChangeVersionGenerator {
+
+  private final DegreeRepository degreeRepository;
+
+  private final RoleRepository roleRepository;
+
+  /**
+   * Last issued version, guarded by this
+   */
+  private long lastVersion;
+
+  /**
+   * Issued versions whose transactions are not yet completed, guarded by this
+   */
+  private final NavigableSet<Long> pendingVersions = new TreeSet<>();
+
+  public ChangeVersionGenerator(
+      DegreeRepository degreeRepository,
+      RoleRepository roleRepository
+  ) {
+    this.degreeRepository = degreeRepository;
+    this.roleRepository = roleRepository;
+  }
+
+  /**
+   * Continues from the highest version already stored
+   */
+  @PostConstruct
+  public synchronized void init() {
+    lastVersion = Math.max(
+        degreeRepository.findMaxChangeVersion(), roleRepository.findMaxChangeVersion());
+  }
+
+  /**
+   * Issues the next change version. If called within a transaction, the version is considered
+   * pending until the transaction completes.
+   *
+   * @return change version
+   */
+  public synchronized long nextVersion() {
+    long version = ++lastVersion;
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      pendingVersions.add(version);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          completeVersion(version);
+        }
+      });
+    }
+    return version;
+  }
+
+  /**
+   * Retrieves the highest version up to which every change is either committed or rolled back
+   *
+   * @return high-water mark
+   */
+  public synchronized long getHighWaterMark() {
+    return pendingVersions.isEmpty() ? lastVersion : pendingVersions.first() - 1;
+  }
+
+  private synchronized void completeVersion(long version) {
+    pendingVersions.remove(version);
+  }
+}
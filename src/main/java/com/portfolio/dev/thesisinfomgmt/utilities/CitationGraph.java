@@ -0,0 +1,524 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import lombok.Value;
+
+/**
+ * Immutable citation graph between theses in compressed sparse row layout: the theses are sorted
+ * by id and numbered, and the citations of every thesis are a slice of a single int array,
+ * delimited by an offsets array. Citations are kept in both directions, so that both the theses a
+ * thesis cites and the theses citing it are one slice each.
+ *
+ * <p>Traversals work on the numbers with primitive arrays only. Changes produce a new graph, which
+ * copies the citations not affected by them.
+ */
+public final class CitationGraph {
+
+  public static final CitationGraph EMPTY = new Builder().build();
+
+  public enum Direction {
+    /**
+     * Theses cited by the thesis
+     */
+    CITES,
+    /**
+     * Theses citing the thesis
+     */
+    CITED_BY,
+    BOTH
+  }
+
+  public enum Relation {
+    /**
+     * Theses cited together with the thesis, by the number of theses citing both
+     */
+    CO_CITATION,
+    /**
+     * Theses citing the same theses as the thesis, by the number of theses both cite
+     */
+    COUPLING,
+    BOTH
+  }
+
+  /**
+   * Theses reachable from a thesis, ordered by hops and then id
+   */
+  @Value
+  public static class Neighbours {
+
+    long[] ids;
+
+    /**
+     * Number of citations followed to reach each thesis
+     */
+    int[] hops;
+  }
+
+  /**
+   * Theses related to a thesis, ordered by score descending and then id
+   */
+  @Value
+  public static class Related {
+
+    long[] ids;
+
+    /**
+     * Number of shared citing or cited theses of each thesis
+     */
+    int[] scores;
+  }
+
+  /**
+   * Collects citations as pairs of thesis ids
+   */
+  public static final class Builder {
+
+    private long[] citing = new long[16];
+
+    private long[] cited = new long[16];
+
+    private int size;
+
+    /**
+     * Adds a citation, duplicates are ignored
+     *
+     * @param citingId id of the citing thesis
+     * @param citedId  id of the cited thesis
+     * @return this builder
+     */
+    public Builder add(long citingId, long citedId) {
+      if (size == citing.length) {
+        citing = Arrays.copyOf(citing, size * 2);
+        cited = Arrays.copyOf(cited, size * 2);
+      }
+      citing[size] = citingId;
+      cited[size] = citedId;
+      size++;
+      return this;
+    }
+
+    public CitationGraph build() {
+      return fromCitations(citing, cited, size);
+    }
+  }
+
+  /**
+   * Scores by node in an open-addressing table, sized to the expected number of nodes
+   */
+  private static final class Scores {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Node plus one by slot, 0 for an empty slot
+     */
+    private final int[] keys;
+
+    private final int[] values;
+
+    private final int mask;
+
+    private int size;
+
+    private Scores(int expected) {
+      // At most half of the slots are used, which keeps probe sequences short
+      int capacity = 4;
+      while (capacity < MAX_CAPACITY && capacity < expected * 2L) {
+        capacity <<= 1;
+      }
+      keys = new int[capacity];
+      values = new int[capacity];
+      mask = capacity - 1;
+    }
+
+    private void increment(int node) {
+      int hash = node * 0x9E3779B9;
+      int slot = (hash ^ hash >>> 16) & mask;
+      while (keys[slot] != 0 && keys[slot] != node + 1) {
+        slot = (slot + 1) & mask;
+      }
+      if (keys[slot] == 0) {
+        keys[slot] = node + 1;
+        size++;
+      }
+      values[slot]++;
+    }
+
+    /**
+     * @return score and node of every scored node, as the complement of the score to
+     *     {@link Integer#MAX_VALUE} in the high and the node in the low int
+     */
+    private long[] ranked() {
+      long[] ranked = new long[size];
+      int i = 0;
+      for (int slot = 0; slot < keys.length; slot++) {
+        if (keys[slot] != 0) {
+          ranked[i++] = ((long) (Integer.MAX_VALUE - values[slot]) << 32) | (keys[slot] - 1);
+        }
+      }
+      return ranked;
+    }
+  }
+
+  /**
+   * Thesis ids by node number, ascending
+   */
+  private final long[] ids;
+
+  private final int[] citesOffsets;
+
+  private final int[] cites;
+
+  private final int[] citedByOffsets;
+
+  private final int[] citedBy;
+
+  /**
+   * @param ids          thesis ids by node number, ascending
+   * @param citesOffsets start of the cited nodes of every node, and the end at the last index
+   * @param cites        cited nodes, ascending and distinct for every node
+   */
+  private CitationGraph(long[] ids, int[] citesOffsets, int[] cites) {
+    this.ids = ids;
+    this.citesOffsets = citesOffsets;
+    this.cites = cites;
+
+    // Citing nodes are visited in ascending order, so every reverse group is sorted as well
+    int[] reverseFrom = new int[cites.length];
+    int[] reverseTo = new int[cites.length];
+    for (int node = 0; node < ids.length; node++) {
+      for (int i = citesOffsets[node]; i < citesOffsets[node + 1]; i++) {
+        reverseFrom[i] = cites[i];
+        reverseTo[i] = node;
+      }
+    }
+    this.citedByOffsets = new int[ids.length + 1];
+    this.citedBy = group(reverseFrom, reverseTo, cites.length, citedByOffsets);
+  }
+
+  private static CitationGraph fromCitations(long[] citingIds, long[] citedIds, int size) {
+    // Number the theses of all citations in id order
+    long[] allIds = Arrays.copyOf(citingIds, size * 2);
+    System.arraycopy(citedIds, 0, allIds, size, size);
+    Arrays.sort(allIds);
+    int nodes = 0;
+    for (int i = 0; i < allIds.length; i++) {
+      if (i == 0 || allIds[i] != allIds[i - 1]) {
+        allIds[nodes++] = allIds[i];
+      }
+    }
+    long[] ids = Arrays.copyOf(allIds, nodes);
+
+    int[] from = new int[size];
+    int[] to = new int[size];
+    for (int i = 0; i < size; i++) {
+      from[i] = Arrays.binarySearch(ids, citingIds[i]);
+      to[i] = Arrays.binarySearch(ids, citedIds[i]);
+    }
+
+    // Group the cited nodes by citing node, then sort and deduplicate each group
+    int[] offsets = new int[nodes + 1];
+    int[] targets = group(from, to, size, offsets);
+    int edges = 0;
+    for (int node = 0; node < nodes; node++) {
+      int start = offsets[node];
+      int end = offsets[node + 1];
+      Arrays.sort(targets, start, end);
+      offsets[node] = edges;
+      for (int i = start; i < end; i++) {
+        if (i == start || targets[i] != targets[i - 1]) {
+          targets[edges++] = targets[i];
+        }
+      }
+    }
+    offsets[nodes] = edges;
+    return new CitationGraph(ids, offsets, Arrays.copyOf(targets, edges));
+  }
+
+  /**
+   * Replaces the citations made by some theses and removes other theses with all their citations.
+   * Both graphs are merged in a single pass over their nodes, without sorting, since numbering
+   * the theses of both in id order keeps the cited nodes of every thesis in order.
+   *
+   * @param citingIds ids of the theses whose citations are replaced
+   * @param citations current citations of those theses, others are ignored
+   * @param removed   ids of the theses removed from the graph
+   * @return changed graph
+   */
+  public CitationGraph withChanges(long[] citingIds, CitationGraph citations, long[] removed) {
+    long[] replaced = sortedCopy(citingIds);
+    long[] removedIds = sortedCopy(removed);
+
+    // Number the theses of both graphs together in id order, leaving out the removed ones
+    long[] mergedIds = new long[ids.length + citations.ids.length];
+    int[] currentNodes = new int[ids.length];
+    int[] citationNodes = new int[citations.ids.length];
+    int merged = 0;
+    int current = 0;
+    int citation = 0;
+    while (current < ids.length || citation < citations.ids.length) {
+      boolean currentFirst = citation == citations.ids.length
+          || (current < ids.length && ids[current] <= citations.ids[citation]);
+      long id = currentFirst ? ids[current] : citations.ids[citation];
+      int node = Arrays.binarySearch(removedIds, id) < 0 ? merged++ : -1;
+      if (node >= 0) {
+        mergedIds[node] = id;
+      }
+      if (current < ids.length && ids[current] == id) {
+        currentNodes[current++] = node;
+      }
+      if (citation < citations.ids.length && citations.ids[citation] == id) {
+        citationNodes[citation++] = node;
+      }
+    }
+
+    // Take the cited nodes of every thesis from one of the graphs
+    int[] offsets = new int[merged + 1];
+    int[] targets = new int[cites.length + citations.cites.length];
+    BitSet linked = new BitSet(merged);
+    int edges = 0;
+    current = 0;
+    citation = 0;
+    for (int node = 0; node < merged; node++) {
+      long id = mergedIds[node];
+      offsets[node] = edges;
+      while (current < ids.length && ids[current] < id) {
+        current++;
+      }
+      while (citation < citations.ids.length && citations.ids[citation] < id) {
+        citation++;
+      }
+      if (Arrays.binarySearch(replaced, id) >= 0) {
+        if (citation < citations.ids.length && citations.ids[citation] == id) {
+          edges = copyCites(citations, citation, citationNodes, targets, edges, linked);
+        }
+      } else if (current < ids.length && ids[current] == id) {
+        edges = copyCites(this, current, currentNodes, targets, edges, linked);
+      }
+      if (edges > offsets[node]) {
+        linked.set(node);
+      }
+    }
+    offsets[merged] = edges;
+
+    // Leave out the theses no longer citing or cited, which have no cited nodes to move
+    int[] renumbered = new int[merged];
+    int nodes = 0;
+    for (int node = 0; node < merged; node++) {
+      renumbered[node] = linked.get(node) ? nodes++ : -1;
+    }
+    long[] changedIds = new long[nodes];
+    int[] changedOffsets = new int[nodes + 1];
+    for (int node = 0; node < merged; node++) {
+      if (renumbered[node] >= 0) {
+        changedIds[renumbered[node]] = mergedIds[node];
+        changedOffsets[renumbered[node]] = offsets[node];
+      }
+    }
+    changedOffsets[nodes] = edges;
+    int[] changedCites = new int[edges];
+    for (int i = 0; i < edges; i++) {
+      changedCites[i] = renumbered[targets[i]];
+    }
+    return new CitationGraph(changedIds, changedOffsets, changedCites);
+  }
+
+  /**
+   * Finds the theses reachable from a thesis by following citations breadth first
+   *
+   * @param thesisId  id of the thesis
+   * @param direction direction of the followed citations
+   * @param maxHops   maximum number of citations followed
+   * @param limit     maximum number of theses, the nearest ones are kept
+   * @return reachable theses, without the thesis itself
+   */
+  public Neighbours neighbours(long thesisId, Direction direction, int maxHops, int limit) {
+    int start = Arrays.binarySearch(ids, thesisId);
+    if (start < 0 || limit <= 0) {
+      return new Neighbours(new long[0], new int[0]);
+    }
+    BitSet visited = new BitSet(ids.length);
+    visited.set(start);
+    int[] queue = new int[Math.min(ids.length, 64)];
+    int size = 0;
+    int found = 0;
+    int[] hops = new int[Math.min(limit, 64)];
+    int[] frontier = { start };
+    for (int hop = 1; hop <= maxHops && frontier.length > 0 && found < limit; hop++) {
+      int levelStart = size;
+      for (int node : frontier) {
+        if (direction != Direction.CITED_BY) {
+          for (int i = citesOffsets[node]; i < citesOffsets[node + 1]; i++) {
+            if (!visited.get(cites[i])) {
+              visited.set(cites[i]);
+              queue = append(queue, size++, cites[i]);
+            }
+          }
+        }
+        if (direction != Direction.CITES) {
+          for (int i = citedByOffsets[node]; i < citedByOffsets[node + 1]; i++) {
+            if (!visited.get(citedBy[i])) {
+              visited.set(citedBy[i]);
+              queue = append(queue, size++, citedBy[i]);
+            }
+          }
+        }
+      }
+      // Node numbers follow the ids, so sorting them orders every hop by id
+      Arrays.sort(queue, levelStart, size);
+      int levelEnd = Math.min(size, levelStart + limit - found);
+      for (int i = levelStart; i < levelEnd; i++) {
+        hops = append(hops, found++, hop);
+      }
+      frontier = Arrays.copyOfRange(queue, levelStart, size);
+    }
+    long[] neighbourIds = new long[found];
+    for (int i = 0; i < found; i++) {
+      neighbourIds[i] = ids[queue[i]];
+    }
+    return new Neighbours(neighbourIds, Arrays.copyOf(hops, found));
+  }
+
+  /**
+   * Finds the theses most related to a thesis by shared citations
+   *
+   * @param thesisId id of the thesis
+   * @param relation shared citations counted
+   * @param limit    maximum number of theses
+   * @return related theses, without the thesis itself
+   */
+  public Related related(long thesisId, Relation relation, int limit) {
+    int node = Arrays.binarySearch(ids, thesisId);
+    if (node < 0 || limit <= 0) {
+      return new Related(new long[0], new int[0]);
+    }
+    // Scores are kept for the candidates only, not for every thesis of the graph
+    long candidates = 0;
+    if (relation != Relation.COUPLING) {
+      for (int i = citedByOffsets[node]; i < citedByOffsets[node + 1]; i++) {
+        candidates += citesOffsets[citedBy[i] + 1] - citesOffsets[citedBy[i]];
+      }
+    }
+    if (relation != Relation.CO_CITATION) {
+      for (int i = citesOffsets[node]; i < citesOffsets[node + 1]; i++) {
+        candidates += citedByOffsets[cites[i] + 1] - citedByOffsets[cites[i]];
+      }
+    }
+    Scores scores = new Scores((int) Math.min(candidates, ids.length));
+    if (relation != Relation.COUPLING) {
+      // Theses cited by the theses citing this one
+      for (int i = citedByOffsets[node]; i < citedByOffsets[node + 1]; i++) {
+        int citing = citedBy[i];
+        for (int j = citesOffsets[citing]; j < citesOffsets[citing + 1]; j++) {
+          if (cites[j] != node) {
+            scores.increment(cites[j]);
+          }
+        }
+      }
+    }
+    if (relation != Relation.CO_CITATION) {
+      // Theses citing the theses cited by this one
+      for (int i = citesOffsets[node]; i < citesOffsets[node + 1]; i++) {
+        int cited = cites[i];
+        for (int j = citedByOffsets[cited]; j < citedByOffsets[cited + 1]; j++) {
+          if (citedBy[j] != node) {
+            scores.increment(citedBy[j]);
+          }
+        }
+      }
+    }
+
+    // Sort by score descending and node ascending, packed into one long per thesis
+    long[] ranked = scores.ranked();
+    Arrays.sort(ranked);
+    int count = Math.min(limit, ranked.length);
+    long[] relatedIds = new long[count];
+    int[] relatedScores = new int[count];
+    for (int i = 0; i < count; i++) {
+      relatedIds[i] = ids[(int) ranked[i]];
+      relatedScores[i] = Integer.MAX_VALUE - (int) (ranked[i] >>> 32);
+    }
+    return new Related(relatedIds, relatedScores);
+  }
+
+  /**
+   * Number of theses with at least one citation made or received
+   *
+   * @return number of theses
+   */
+  public int getTheses() {
+    return ids.length;
+  }
+
+  /**
+   * Number of citations
+   *
+   * @return number of citations
+   */
+  public int getCitations() {
+    return cites.length;
+  }
+
+  /**
+   * Memory held by the arrays of the graph
+   *
+   * @return size in bytes
+   */
+  public long getSizeInBytes() {
+    return 8L * ids.length
+        + 4L * (citesOffsets.length + cites.length + citedByOffsets.length + citedBy.length);
+  }
+
+  /**
+   * Groups targets by source with a counting sort
+   *
+   * @param offsets receives the start of the group of every source, and the end at the last index
+   * @return targets grouped by source
+   */
+  private static int[] group(int[] sources, int[] targets, int size, int[] offsets) {
+    for (int i = 0; i < size; i++) {
+      offsets[sources[i] + 1]++;
+    }
+    for (int node = 1; node < offsets.length; node++) {
+      offsets[node] += offsets[node - 1];
+    }
+    int[] next = Arrays.copyOf(offsets, offsets.length);
+    int[] grouped = new int[size];
+    for (int i = 0; i < size; i++) {
+      grouped[next[sources[i]]++] = targets[i];
+    }
+    return grouped;
+  }
+
+  /**
+   * Appends the cited nodes of a node of a graph, numbered by {@code nodes}, skipping removed ones
+   *
+   * @return new number of targets
+   */
+  private static int copyCites(CitationGraph graph, int node, int[] nodes, int[] targets,
+      int size, BitSet linked) {
+    for (int i = graph.citesOffsets[node]; i < graph.citesOffsets[node + 1]; i++) {
+      int target = nodes[graph.cites[i]];
+      if (target >= 0) {
+        targets[size++] = target;
+        linked.set(target);
+      }
+    }
+    return size;
+  }
+
+  private static int[] append(int[] array, int index, int value) {
+    int[] target = index < array.length
+        ? array
+        : Arrays.copyOf(array, Math.max(16, array.length * 2));
+    target[index] = value;
+    return target;
+  }
+
+  private static long[] sortedCopy(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted;
+  }
+}
@@ -0,0 +1,191 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an in-memory index up to date with changed entities in the background, and rebuilds it
+ * from scratch on request.
+ *
+ * <p>Changed ids are handed to the indexer on {@code threads} threads, which is expected to read
+ * the entity as currently stored rather than the change itself. An id is thus queued once however
+ * often it changes while it waits, and queued again only once its indexing started. Failures are
+ * logged and the id is dropped until it changes again.
+ *
+ * <p>A rebuild runs on a thread of its own, at most one at a time. It typically builds a new index
+ * next to the current one and replaces it once done, so ids changed while it runs are indexed
+ * again afterwards, as the rebuild may have read them before the change. A rebuild may also be
+ * requested while one is running, it then runs again once the running one completed.
+ */
+@Slf4j
+public class CoalescingIndexer {
+
+  private final String name;
+
+  private final LongConsumer indexer;
+
+  private final Runnable rebuilder;
+
+  /**
+   * Ids queued for indexing, each one queued once however often it changes meanwhile
+   */
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Ids changed while a rebuild is running, which may have been read by the rebuild as they were
+   * before the change
+   */
+  private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  /**
+   * Whether the running rebuild has to run again once done
+   */
+  private final AtomicBoolean rebuildAgain = new AtomicBoolean();
+
+  private final ExecutorService executor;
+
+  /**
+   * @param name      name of the indexer, prefix of the names of its threads
+   * @param threads   number of threads indexing changed ids
+   * @param indexer   indexes an id as currently stored, or removes it if it no longer exists
+   * @param rebuilder rebuilds the whole index
+   */
+  public CoalescingIndexer(String name, int threads, LongConsumer indexer, Runnable rebuilder) {
+    this.name = name;
+    this.indexer = indexer;
+    this.rebuilder = rebuilder;
+    this.executor = Executors.newFixedThreadPool(Math.max(1, threads),
+        namedDaemonThreads(name + "-indexer-"));
+  }
+
+  /**
+   * Queues a changed id for indexing, unless it is queued already
+   *
+   * @param id id of the changed entity
+   */
+  public void enqueue(long id) {
+    if (rebuilding.get()) {
+      changedDuringRebuild.add(id);
+    }
+    if (pending.add(id)) {
+      executor.execute(() -> {
+        // Changes from now on queue the id again, since they may not be read below
+        pending.remove(id);
+        try {
+          indexer.accept(id);
+        } catch (RuntimeException e) {
+          log.error("Indexer '{}' could not index {}", name, id, e);
+        }
+      });
+    }
+  }
+
+  /**
+   * Starts a rebuild, unless one is running
+   *
+   * @return whether a rebuild was started
+   */
+  public boolean startRebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return false;
+    }
+    Thread thread = new Thread(this::rebuild, name + "-rebuild");
+    thread.setDaemon(true);
+    thread.start();
+    return true;
+  }
+
+  /**
+   * Starts a rebuild, or runs the rebuild again once the running one completed, e.g. since it may
+   * have read data changed meanwhile which is not tracked by id
+   */
+  public void requestRebuild() {
+    if (startRebuild()) {
+      return;
+    }
+    rebuildAgain.set(true);
+    // The running rebuild may have completed meanwhile without seeing the request
+    if (!rebuilding.get() && rebuildAgain.getAndSet(false)) {
+      startRebuild();
+    }
+  }
+
+  /**
+   * @return number of ids queued for indexing
+   */
+  public int getPending() {
+    return pending.size();
+  }
+
+  /**
+   * @return whether a rebuild is running
+   */
+  public boolean isRebuilding() {
+    return rebuilding.get();
+  }
+
+  /**
+   * Stops indexing, ids still queued are dropped
+   */
+  public void shutdownNow() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Stops taking ids, and waits for the ids already queued to be indexed
+   *
+   * @param timeout maximum time to wait
+   * @param unit    unit of the timeout
+   */
+  public void shutdown(long timeout, TimeUnit unit) {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(timeout, unit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * @param prefix prefix of the thread names, followed by a counter
+   * @return factory of daemon threads named by the prefix
+   */
+  public static ThreadFactory namedDaemonThreads(String prefix) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private void rebuild() {
+    try {
+      rebuilder.run();
+    } catch (RuntimeException e) {
+      log.error("Indexer '{}' could not rebuild", name, e);
+    } finally {
+      rebuilding.set(false);
+      Iterator<Long> changed = changedDuringRebuild.iterator();
+      while (changed.hasNext()) {
+        long id = changed.next();
+        changed.remove();
+        enqueue(id);
+      }
+      if (rebuildAgain.getAndSet(false)) {
+        startRebuild();
+      }
+    }
+  }
+}
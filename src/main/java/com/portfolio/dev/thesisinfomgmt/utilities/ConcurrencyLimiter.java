@@ -0,0 +1,186 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Adaptive (AIMD) limit on the number of service calls running at the same time.
+ *
+ * <p>Enabled with {@code tims.concurrency-limit.enabled=true}. Every call whose latency stays
+ * below the threshold while the limit is in use raises the limit by {@code 1 / limit}, so roughly
+ * by one per limit-many calls. A slower call, or one failing because the database is overloaded
+ * (query timeout, no connection available), multiplies the limit by the backoff ratio, at most
+ * once per round trip: calls which started before the last decrease already ran under the old
+ * limit, so their latency is not held against the new one. Calls over
+ * the limit are rejected right away with {@link RejectedExecutionException}, which is answered
+ * with 503 and Retry-After, instead of queueing up behind a slow database.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+  private final boolean enabled;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final long latencyThresholdNanos;
+
+  private final double backoffRatio;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final AtomicLong rejected = new AtomicLong();
+
+  // Only changed while holding the lock of this limiter, read without it
+  private volatile double limit;
+
+  /**
+   * Time of the last decrease of the limit, guarded by this
+   */
+  private long lastDecreaseNanos = System.nanoTime();
+
+  public ConcurrencyLimiter(
+      @Value("${tims.concurrency-limit.enabled:false}") boolean enabled,
+      @Value("${tims.concurrency-limit.initial-limit:20}") int initialLimit,
+      @Value("${tims.concurrency-limit.min-limit:2}") int minLimit,
+      @Value("${tims.concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${tims.concurrency-limit.latency-threshold-ms:250}") long latencyThresholdMs,
+      @Value("${tims.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+      MeterRegistry meterRegistry
+  ) {
+    this.enabled = enabled;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+    Gauge.builder("tims.concurrency.limit", this, ConcurrencyLimiter::getLimit)
+        .description("Current adaptive limit of concurrent service calls")
+        .register(meterRegistry);
+    Gauge.builder("tims.concurrency.in-flight", inFlight, AtomicInteger::get)
+        .description("Service calls currently running")
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.concurrency.rejected", rejected, AtomicLong::get)
+        .description("Service calls rejected since the limit was reached")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Reserves a slot for a service call
+   *
+   * @return permit to run the call with
+   * @throws RejectedExecutionException if the limit is reached
+   */
+  public Permit acquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (enabled && current >= getLimit()) {
+        rejected.incrementAndGet();
+        throw new RejectedExecutionException(
+            "Concurrency limit of " + getLimit() + " service calls reached.");
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return new Permit(current + 1);
+      }
+    }
+  }
+
+  /**
+   * @return current limit of concurrent service calls
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * @return number of service calls currently running
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * @return number of service calls rejected so far
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  private synchronized void onSample(
+      long startNanos, long latencyNanos, int inFlightAtStart, boolean dropped) {
+    if (dropped || latencyNanos > latencyThresholdNanos) {
+      // A burst of slow calls backs off once, not once per call
+      if (startNanos - lastDecreaseNanos >= 0) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = System.nanoTime();
+      }
+    } else if (inFlightAtStart * 2 >= limit) {
+      // Only grow while at least half of the limit is in use, otherwise nothing was tested
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+
+  /**
+   * Slot reserved for a single service call, released when the call ends
+   */
+  public final class Permit {
+
+    private final int inFlightAtStart;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(int inFlightAtStart) {
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * Runs the service call and feeds its latency back into the limit
+     *
+     * @param call service call
+     * @param <T>  type of the result
+     * @return result of the call
+     */
+    public <T> T run(Supplier<T> call) {
+      long start = System.nanoTime();
+      boolean dropped = false;
+      try {
+        return call.get();
+      } catch (TransientDataAccessException | CannotCreateTransactionException e) {
+        dropped = true;
+        throw e;
+      } finally {
+        if (release() && enabled) {
+          onSample(start, System.nanoTime() - start, inFlightAtStart, dropped);
+        }
+      }
+    }
+
+    /**
+     * Releases the slot without running the call, e.g. when it could not be scheduled
+     */
+    public void cancel() {
+      release();
+    }
+
+    private boolean release() {
+      if (released.compareAndSet(false, true)) {
+        inFlight.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  }
+}
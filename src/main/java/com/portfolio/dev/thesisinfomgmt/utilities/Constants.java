@@ -10,8 +10,76 @@ public class Constants {
   public static final String ROLE_NAME_REQUIRED = "Role name is required.";
   public static final String ROLE_NAME_ALREADY_EXISTS = "Role with name '%s' already exists.";
   public static final String ROLE_NOT_FOUND = "Role with id '%d' not found.";
+  public static final String ROLE_IN_USE = "Role with id '%d' is still held by thesis authors.";
   public static final String DEGREE_ABBR_REQUIRED = "Degree abbreviation is required.";
   public static final String DEGREE_NAME_REQUIRED = "Degree name is required.";
   public static final String DEGREE_ABBR_ALREADY_EXISTS = "Degree with abbreviation '%s' already exists.";
   public static final String DEGREE_NOT_FOUND = "Degree with id '%d' not found.";
+  public static final String DEGREE_IN_USE = "Degree with id '%d' is still referenced by theses.";
+  public static final String THESIS_TITLE_REQUIRED = "Thesis title is required.";
+  public static final String THESIS_YEAR_INVALID = "Thesis year must be between %d and %d.";
+  public static final String THESIS_NOT_FOUND = "Thesis with id '%d' not found.";
+  public static final String THESIS_AUTHOR_DUPLICATE =
+      "Author with id '%d' is listed more than once with role id '%d'.";
+  public static final String THESIS_DOCUMENT_NOT_FOUND = "Thesis with id '%d' has no document.";
+  public static final String THESIS_DOCUMENT_TOO_LARGE =
+      "Document exceeds the maximum document size.";
+  public static final String THESIS_DOCUMENT_FILE_NAME_INVALID =
+      "File name must not exceed %d characters.";
+  public static final String THESIS_DOCUMENT_EMPTY = "Document is empty.";
+  public static final String DOCUMENT_HASH_INVALID =
+      "SHA-256 hash must be 64 lowercase hexadecimal characters.";
+  public static final String DOCUMENT_HASH_MISMATCH = "Content does not match SHA-256 hash '%s'.";
+  public static final String DOCUMENT_CONTENT_NOT_FOUND =
+      "Content with SHA-256 hash '%s' not found.";
+  public static final String SEARCH_TEXT_REQUIRED = "Search text is required.";
+  public static final String SEARCH_CURSOR_INVALID = "Cursor is invalid.";
+  public static final String SEARCH_REBUILD_IN_PROGRESS =
+      "Search index is already being rebuilt.";
+  public static final String DOCUMENT_JOB_NOT_FOUND = "Thesis with id '%d' has no document job.";
+  public static final String DOCUMENT_JOB_NOT_DEAD =
+      "Document job of thesis with id '%d' has not been given up.";
+  public static final String FACET_RELOAD_IN_PROGRESS = "Facet index is already being reloaded.";
+  public static final String DUPLICATE_THRESHOLD_INVALID =
+      "Threshold must be greater than 0 and at most 1.";
+  public static final String DUPLICATE_RESCAN_IN_PROGRESS =
+      "Theses are already being rescanned for near-duplicates.";
+  public static final String CITATION_SELF = "Thesis cannot cite itself.";
+  public static final String CITATION_THESIS_NOT_FOUND =
+      "Thesis with id '%d' or cited thesis with id '%d' not found.";
+  public static final String CITATION_NOT_FOUND =
+      "Thesis with id '%d' does not cite thesis with id '%d'.";
+  public static final String CITATION_HOPS_INVALID = "Hops must be between 1 and %d.";
+  public static final String CITATION_RELOAD_IN_PROGRESS =
+      "Citation graph is already being reloaded.";
+  public static final String REPORT_YEARS_INVALID = "From year must not be after to year.";
+  public static final String REPORT_RECONCILIATION_IN_PROGRESS =
+      "Report counts are already being reconciled.";
+  public static final String AUTHOR_FIRST_NAME_REQUIRED = "Author first name is required.";
+  public static final String AUTHOR_LAST_NAME_REQUIRED = "Author last name is required.";
+  public static final String AUTHOR_NOT_FOUND = "Author with id '%d' not found.";
+  public static final String PAGE_LIMIT_INVALID = "Limit must be between 1 and %d.";
+  public static final String PAGE_CURSOR_INVALID =
+      "Cursor is invalid or was issued for a different sort.";
+  public static final String BATCH_IDS_REQUIRED = "At least one id is required.";
+  public static final String BATCH_IDS_LIMIT_EXCEEDED = "At most %d ids can be requested at once.";
+  public static final String BATCH_IDS_INVALID = "Ids must not be empty.";
+  public static final String CHANGES_LIMIT_INVALID = "Limit must be between 1 and %d.";
+  public static final String IDEMPOTENCY_KEY_REUSED =
+      "Idempotency-Key was already used for a different request.";
+  public static final String IDEMPOTENCY_KEY_IN_PROGRESS =
+      "A request with the same Idempotency-Key is still in progress.";
+  public static final String IDEMPOTENCY_STORE_FULL =
+      "Too many requests with an Idempotency-Key are in progress, please retry later.";
+  public static final String SERVICE_BUSY = "Service is busy, please retry later.";
+  public static final String RATE_LIMIT_EXCEEDED = "Too many requests, please retry later.";
+  public static final String DEADLINE_EXCEEDED = "Request could not be completed in time.";
+
+  // Limits
+  public static final int MAX_BATCH_IDS = 1000;
+  public static final int MAX_CHANGES_LIMIT = 1000;
+  public static final int MAX_PAGE_LIMIT = 100;
+  public static final int MAX_CITATION_HOPS = 3;
+  public static final int MIN_THESIS_YEAR = 1900;
+  public static final int MAX_FILE_NAME_LENGTH = 255;
 }
@@ -0,0 +1,260 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs database-bound request handling, partitioned by {@link Workload}.
+ *
+ * <p>Each workload has its own pool size and queue capacity
+ * ({@code tims.workload.<workload>.pool-size} and {@code .queue-capacity}). At most pool size
+ * tasks of a workload run at once, and as every running task holds at most one connection, the
+ * pool sizes partition the connection pool, so bulk loads and exports can never take the
+ * connections of interactive requests. The pool sizes should add up to at most the connection
+ * pool size.
+ *
+ * <p>In async mode ({@code tims.async.enabled=true}) tasks run on a dedicated pool per workload
+ * with a bounded queue, so Tomcat request threads are released instead of being parked on a slow
+ * database. Otherwise tasks run directly on the calling thread once it gets one of pool size
+ * permits, and up to queue capacity callers wait for a permit until the request deadline, or at
+ * most {@code tims.workload.queue-timeout-ms}. Either way, a task over the bound is rejected with
+ * {@link TaskRejectedException}, which is answered with 503 and Retry-After.
+ *
+ * <p>Interactive tasks also take a permit from the {@link ConcurrencyLimiter}, so that they are
+ * shed early when the database slows down. Bulk and export tasks are only bounded by their
+ * partition, so their latency does not lower the interactive limit.
+ *
+ * <p>Tasks run with the {@link RequestDeadline} and {@link RequestActor} of the submitting request,
+ * and are dropped with {@link DeadlineExceededException} if the deadline passes before they start.
+ */
+@Slf4j
+@Component
+public class DatabaseExecutor implements DisposableBean {
+
+  private final ConcurrencyLimiter concurrencyLimiter;
+
+  private final Map<Workload, Partition> partitions = new EnumMap<>(Workload.class);
+
+  public DatabaseExecutor(
+      ConcurrencyLimiter concurrencyLimiter,
+      MeterRegistry meterRegistry,
+      Environment environment,
+      @Value("${tims.async.enabled:false}") boolean asyncEnabled,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+  ) {
+    this.concurrencyLimiter = concurrencyLimiter;
+
+    long queueTimeoutMillis =
+        environment.getProperty("tims.workload.queue-timeout-ms", Long.class, 30000L);
+    int partitionedConnections = 0;
+    for (Workload workload : Workload.values()) {
+      String prefix = "tims.workload." + workload.getKey();
+      int poolSize = environment.getProperty(
+          prefix + ".pool-size", Integer.class, workload.getDefaultPoolSize());
+      int queueCapacity = environment.getProperty(
+          prefix + ".queue-capacity", Integer.class, workload.getDefaultQueueCapacity());
+      partitions.put(workload,
+          new Partition(workload, asyncEnabled, poolSize, queueCapacity, queueTimeoutMillis,
+              meterRegistry));
+      partitionedConnections += poolSize;
+    }
+    if (partitionedConnections > connectionPoolSize) {
+      log.warn("Workload pool sizes add up to {} but the connection pool only has {}"
+          + " connections, workloads may wait for each other.", partitionedConnections,
+          connectionPoolSize);
+    }
+  }
+
+  /**
+   * Submits a task
+   *
+   * @param workload class of the task
+   * @param task     task to be executed
+   * @param <T>      type of the result
+   * @return future result of the task
+   * @throws RejectedExecutionException if the concurrency limit is reached
+   * @throws TaskRejectedException      if the partition of the workload is full
+   */
+  public <T> CompletableFuture<T> submit(Workload workload, Supplier<T> task) {
+    Partition partition = partitions.get(workload);
+    Supplier<T> boundedTask = RequestActor.propagate(RequestDeadline.propagate(task));
+    if (workload != Workload.INTERACTIVE) {
+      return partition.submit(boundedTask);
+    }
+    Permit permit = concurrencyLimiter.acquire();
+    try {
+      return partition.submit(() -> permit.run(boundedTask));
+    } catch (RejectedExecutionException e) {
+      permit.cancel();
+      throw e;
+    }
+  }
+
+  /**
+   * Submits a task and waits for its result, for responses which have to be written by the request
+   * thread itself
+   *
+   * @param workload class of the task
+   * @param task     task to be executed
+   * @param <T>      type of the result
+   * @return result of the task
+   * @throws RejectedExecutionException if the concurrency limit is reached
+   * @throws TaskRejectedException      if the partition of the workload is full
+   */
+  public <T> T call(Workload workload, Supplier<T> task) {
+    try {
+      return submit(workload, task).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    partitions.values().forEach(Partition::shutdown);
+  }
+
+  /**
+   * Threads (async mode) or permits (otherwise) reserved for a single workload
+   */
+  private static final class Partition {
+
+    private final Workload workload;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Semaphore permits;
+
+    private final int poolSize;
+
+    private final int queueCapacity;
+
+    private final long queueTimeoutMillis;
+
+    /**
+     * Callers waiting for a permit (sync mode only)
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private Partition(
+        Workload workload,
+        boolean asyncEnabled,
+        int poolSize,
+        int queueCapacity,
+        long queueTimeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+      this.workload = workload;
+      this.poolSize = poolSize;
+      this.queueCapacity = queueCapacity;
+      this.queueTimeoutMillis = queueTimeoutMillis;
+      if (asyncEnabled) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("db-" + workload.getKey() + "-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        permits = null;
+      } else {
+        executor = null;
+        permits = new Semaphore(poolSize, true);
+      }
+
+      Gauge.builder("tims.workload.active", this, Partition::getActive)
+          .description("Database tasks of the workload currently running")
+          .tag("workload", workload.getKey())
+          .register(meterRegistry);
+      Gauge.builder("tims.workload.queued", this, Partition::getQueued)
+          .description("Database tasks of the workload waiting for a thread")
+          .tag("workload", workload.getKey())
+          .register(meterRegistry);
+      FunctionCounter.builder("tims.workload.rejected", rejected, AtomicLong::get)
+          .description("Database tasks of the workload rejected since the partition was full")
+          .tag("workload", workload.getKey())
+          .register(meterRegistry);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+      if (executor == null) {
+        if (!permits.tryAcquire() && !awaitPermit()) {
+          rejected.incrementAndGet();
+          throw new TaskRejectedException(
+              "Partition of workload '" + workload.getKey() + "' is full.");
+        }
+        try {
+          return CompletableFuture.completedFuture(task.get());
+        } finally {
+          permits.release();
+        }
+      }
+      try {
+        return CompletableFuture.supplyAsync(task, executor);
+      } catch (TaskRejectedException e) {
+        rejected.incrementAndGet();
+        throw e;
+      }
+    }
+
+    /**
+     * Waits for a permit if fewer than queue capacity callers are waiting already
+     *
+     * @return true if a permit was acquired
+     */
+    private boolean awaitPermit() {
+      if (waiting.incrementAndGet() > queueCapacity) {
+        waiting.decrementAndGet();
+        return false;
+      }
+      long timeoutMillis = RequestDeadline.current()
+          .map(deadline -> Math.min(deadline.remainingMillis(), queueTimeoutMillis))
+          .orElse(queueTimeoutMillis);
+      try {
+        return permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        waiting.decrementAndGet();
+      }
+    }
+
+    private int getActive() {
+      return executor != null ? executor.getActiveCount() : poolSize - permits.availablePermits();
+    }
+
+    private int getQueued() {
+      return executor != null ? executor.getThreadPoolExecutor().getQueue().size() : waiting.get();
+    }
+
+    private void shutdown() {
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Optional;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * JPA transaction manager limiting every transaction to the time left for the current request.
+ *
+ * <p>Hibernate applies the transaction timeout as query timeout to every JDBC statement of the
+ * transaction, so MySQL stops working on a query once its request has given up.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+  @Override
+  protected int determineTimeout(TransactionDefinition definition) {
+    int timeout = super.determineTimeout(definition);
+    Optional<RequestDeadline> deadline = RequestDeadline.current();
+    if (deadline.isEmpty()) {
+      return timeout;
+    }
+
+    long remainingMillis = deadline.get().remainingMillis();
+    if (remainingMillis <= 0) {
+      throw new TransactionTimedOutException("Request deadline exceeded before transaction start.");
+    }
+    // JDBC query timeouts have a resolution of seconds
+    int remainingSeconds = (int) ((remainingMillis + 999) / 1000);
+    return timeout == TransactionDefinition.TIMEOUT_DEFAULT
+        ? remainingSeconds
+        : Math.min(timeout, remainingSeconds);
+  }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+/**
+ * Thrown when work is about to start after the deadline of its request has passed
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+  public DeadlineExceededException() {
+    super("Request deadline exceeded.");
+  }
+}
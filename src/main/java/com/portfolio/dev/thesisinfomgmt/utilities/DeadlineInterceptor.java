@@ -0,0 +1,74 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Binds a {@link RequestDeadline} to the request thread.
+ *
+ * <p>The timeout is taken from the request timeout header if present and valid, capped at the
+ * maximum timeout, and the default timeout otherwise.
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+  private final String timeoutHeader;
+
+  private final long defaultTimeoutMs;
+
+  private final long maxTimeoutMs;
+
+  public DeadlineInterceptor(String timeoutHeader, long defaultTimeoutMs, long maxTimeoutMs) {
+    this.timeoutHeader = timeoutHeader;
+    this.defaultTimeoutMs = defaultTimeoutMs;
+    this.maxTimeoutMs = maxTimeoutMs;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler
+  ) {
+    // The deadline is fixed when the request arrives, not again when an async result is dispatched
+    if (request.getDispatcherType() == DispatcherType.REQUEST) {
+      RequestDeadline.set(RequestDeadline.after(getTimeoutMs(request)));
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler
+  ) {
+    RequestDeadline.set(null);
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      Exception ex
+  ) {
+    RequestDeadline.set(null);
+  }
+
+  private long getTimeoutMs(HttpServletRequest request) {
+    String timeout = request.getHeader(timeoutHeader);
+    if (timeout != null) {
+      try {
+        long timeoutMs = Long.parseLong(timeout.trim());
+        if (timeoutMs > 0) {
+          return Math.min(timeoutMs, maxTimeoutMs);
+        }
+      } catch (NumberFormatException e) {
+        // Fall back to the default timeout
+      }
+    }
+    return defaultTimeoutMs;
+  }
+}
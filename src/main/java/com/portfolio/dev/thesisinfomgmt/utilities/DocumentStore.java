@@ -0,0 +1,256 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed file store of documents, kept on disk instead of in the database.
+ *
+ * <p>Each document is stored under the SHA-256 hash of its content, in directories named after the
+ * leading characters of the hash, e.g. {@code root/3f/a2/3fa2...} with a shard depth and width of
+ * 2, so no single directory grows too large to be listed. Content is hashed while it is streamed
+ * into a temporary file through a fixed size buffer, and moved into place once complete, so a
+ * document is either stored in full or not at all, and is never held in memory. Content which is
+ * already stored is not stored again, its file is only touched instead.
+ *
+ * <p>The store does not know which documents are still in use. Files are only deleted when asked
+ * to, and their last modified time tells when they were last stored or looked up.
+ */
+@Slf4j
+public class DocumentStore {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final String TEMP_DIRECTORY = ".tmp";
+
+  private final Path root;
+
+  private final Path tempDirectory;
+
+  private final int shardDepth;
+
+  private final int shardWidth;
+
+  /**
+   * Content written to the store
+   */
+  @Value
+  public static class StoredContent {
+
+    String key;
+
+    long size;
+  }
+
+  /**
+   * Opens the store, creating the root directory if needed
+   *
+   * @param root       root directory of the store
+   * @param shardDepth number of directory levels below the root
+   * @param shardWidth number of key characters naming each directory level
+   */
+  public DocumentStore(Path root, int shardDepth, int shardWidth) {
+    this.root = root.toAbsolutePath().normalize();
+    this.tempDirectory = this.root.resolve(TEMP_DIRECTORY);
+    this.shardDepth = Math.max(0, shardDepth);
+    this.shardWidth = Math.max(1, shardWidth);
+    if (this.shardDepth * this.shardWidth > 32) {
+      throw new IllegalArgumentException("Shard depth times width must not exceed 32");
+    }
+    try {
+      Files.createDirectories(tempDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create document store " + root, e);
+    }
+  }
+
+  /**
+   * Streams content into the store
+   *
+   * @param content content to be stored, read until its end but not closed
+   * @param maxSize maximum size of the content in bytes
+   * @return stored content, empty if the content is larger than the maximum size
+   */
+  public Optional<StoredContent> write(InputStream content, long maxSize) {
+    Path tempFile = tempDirectory.resolve(UUID.randomUUID().toString());
+    try {
+      MessageDigest digest = newDigest();
+      long size = 0;
+      try (OutputStream out = Files.newOutputStream(tempFile)) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+          size += read;
+          if (size > maxSize) {
+            // Stop reading, the rest of the content is discarded with the request
+            break;
+          }
+          digest.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+        }
+      }
+      if (size > maxSize) {
+        Files.delete(tempFile);
+        return Optional.empty();
+      }
+
+      String key = String.format("%064x", new BigInteger(1, digest.digest()));
+      Path file = resolve(key);
+      if (touch(key)) {
+        Files.delete(tempFile);
+      } else {
+        Files.createDirectories(file.getParent());
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+      }
+      return Optional.of(new StoredContent(key, size));
+    } catch (IOException e) {
+      deleteQuietly(tempFile);
+      throw new UncheckedIOException("Could not store document", e);
+    }
+  }
+
+  /**
+   * Sets the last modified time of a document to now, if it is stored
+   *
+   * @param key key of the document
+   * @return whether the document is stored
+   */
+  public boolean touch(String key) {
+    try {
+      Files.setLastModifiedTime(resolve(key), FileTime.from(Instant.now()));
+      return true;
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not touch document " + key, e);
+    }
+  }
+
+  /**
+   * Checks whether a document is stored and was last modified before a point in time
+   *
+   * @param key    key of the document
+   * @param cutoff point in time
+   * @return whether the document is stored and older than the cutoff
+   */
+  public boolean isModifiedBefore(String key, Instant cutoff) {
+    try {
+      return Files.getLastModifiedTime(resolve(key)).toInstant().isBefore(cutoff);
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read document " + key, e);
+    }
+  }
+
+  /**
+   * Visits the keys of the documents last modified before a point in time, in batches, and
+   * deletes temporary files of uploads which did not complete before it
+   *
+   * @param cutoff    point in time
+   * @param batchSize maximum number of keys per batch
+   * @param visitor   visitor of each batch of keys
+   */
+  public void visitKeysModifiedBefore(
+      Instant cutoff, int batchSize, Consumer<List<String>> visitor) {
+
+    try (Stream<Path> tempFiles = Files.list(tempDirectory)) {
+      tempFiles.filter(file -> isModifiedBefore(file, cutoff))
+          .forEach(DocumentStore::deleteQuietly);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not list temporary documents", e);
+    }
+
+    try (Stream<Path> files = Files.walk(root, shardDepth + 1)) {
+      List<String> batch = new ArrayList<>(batchSize);
+      Iterator<Path> iterator = files
+          .filter(file -> !file.startsWith(tempDirectory) && Files.isRegularFile(file))
+          .filter(file -> isModifiedBefore(file, cutoff))
+          .iterator();
+      while (iterator.hasNext()) {
+        batch.add(iterator.next().getFileName().toString());
+        if (batch.size() == batchSize) {
+          visitor.accept(batch);
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+      if (!batch.isEmpty()) {
+        visitor.accept(batch);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not list documents", e);
+    }
+  }
+
+  /**
+   * Resolves the file of a document
+   *
+   * @param key key of the document
+   * @return file of the document, which may not exist
+   */
+  public Path resolve(String key) {
+    if (key.length() < shardDepth * shardWidth
+        || !key.chars().allMatch(Character::isLetterOrDigit)) {
+      throw new IllegalArgumentException("Invalid document key " + key);
+    }
+    Path directory = root;
+    for (int level = 0; level < shardDepth; level++) {
+      directory = directory.resolve(key.substring(level * shardWidth, (level + 1) * shardWidth));
+    }
+    return directory.resolve(key);
+  }
+
+  /**
+   * Deletes a document, downloads which already opened it can still finish
+   *
+   * @param key key of the document
+   */
+  public void delete(String key) {
+    deleteQuietly(resolve(key));
+  }
+
+  private static boolean isModifiedBefore(Path file, Instant cutoff) {
+    try {
+      return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+    } catch (IOException e) {
+      // Deleted in the meantime
+      return false;
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Could not delete document file {}", file, e);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+/**
+ * Thrown when an entity cannot be deleted since other entities still reference it
+ */
+public class EntityInUseException extends RuntimeException {
+
+  public EntityInUseException(String message) {
+    super(message);
+  }
+}
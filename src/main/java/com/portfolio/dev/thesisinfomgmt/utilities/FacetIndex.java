@@ -0,0 +1,275 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Value;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * In-memory index of the facet values of theses, with one compressed bitmap of thesis ids per
+ * facet value.
+ *
+ * <p>Bitmaps are Roaring bitmaps: ids are split into chunks of 65536, each stored as a sorted
+ * array, a plain bitmap or a list of runs, whichever is smaller. Consecutive ids of the same degree
+ * or year are thus stored as runs, and intersections and their counts work chunk by chunk without
+ * decompressing the bitmaps. Counting a facet costs one intersection count per facet value, which
+ * does not grow with the number of theses beyond the number of chunks.
+ *
+ * <p>Thesis ids are stored as unsigned 32-bit integers. Reads may run concurrently, updates are
+ * exclusive.
+ */
+public class FacetIndex {
+
+  private static final long MAX_ID = 0xFFFFFFFFL;
+
+  public enum Facet {
+    DEGREE,
+    YEAR,
+    /**
+     * Roles the authors of the thesis have on it, e.g. adviser
+     */
+    ROLE
+  }
+
+  /**
+   * Counts of theses matching a selection
+   */
+  @Value
+  public static class FacetCounts {
+
+    /**
+     * Number of theses matching every selected facet
+     */
+    int total;
+
+    /**
+     * Number of theses per facet value, matching the selected values of the other facets. Values
+     * without theses are left out.
+     */
+    Map<Facet, Map<Long, Integer>> counts;
+  }
+
+  /**
+   * Memory held by the bitmaps of a facet
+   */
+  @Value
+  public static class FacetUsage {
+
+    Facet facet;
+
+    /**
+     * Number of distinct values, one bitmap each
+     */
+    int values;
+
+    long bytes;
+  }
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final RoaringBitmap all = new RoaringBitmap();
+
+  private final Map<Facet, Map<Long, RoaringBitmap>> bitmaps = new EnumMap<>(Facet.class);
+
+  public FacetIndex() {
+    for (Facet facet : Facet.values()) {
+      bitmaps.put(facet, new TreeMap<>());
+    }
+  }
+
+  /**
+   * Adds a thesis to the index, replacing its values if already indexed
+   *
+   * @param thesisId id of the thesis
+   * @param values   values of the thesis per facet, facets without values may be left out
+   */
+  public void update(long thesisId, Map<Facet, ? extends Collection<Long>> values) {
+    int id = toInt(thesisId);
+    lock.writeLock().lock();
+    try {
+      all.add(id);
+      for (Facet facet : Facet.values()) {
+        Collection<Long> facetValues = values.get(facet);
+        replace(bitmaps.get(facet), id,
+            facetValues != null ? facetValues : Collections.emptySet());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a thesis from the index
+   *
+   * @param thesisId id of the thesis
+   */
+  public void remove(long thesisId) {
+    int id = toInt(thesisId);
+    lock.writeLock().lock();
+    try {
+      if (all.checkedRemove(id)) {
+        for (Facet facet : Facet.values()) {
+          replace(bitmaps.get(facet), id, Collections.emptySet());
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Counts the theses matching a selection of facet values, and the theses of every facet value.
+   * Within a facet, a thesis matches if it has any of the selected values; across facets, it has
+   * to match every facet with a selection. The values of a facet are counted against the
+   * selection of the other facets only, so that they show how the selection of the facet could
+   * change.
+   *
+   * @param selection selected values per facet, facets without selection may be left out
+   * @return total and per value counts
+   */
+  public FacetCounts count(Map<Facet, ? extends Set<Long>> selection) {
+    lock.readLock().lock();
+    try {
+      Map<Facet, RoaringBitmap> selected = new EnumMap<>(Facet.class);
+      selection.forEach((facet, values) -> {
+        if (values != null && !values.isEmpty()) {
+          Map<Long, RoaringBitmap> facetBitmaps = bitmaps.get(facet);
+          selected.put(facet, RoaringBitmap.or(values.stream()
+              .map(facetBitmaps::get)
+              .filter(Objects::nonNull)
+              .iterator()));
+        }
+      });
+
+      RoaringBitmap matching = intersect(selected, null);
+      Map<Facet, Map<Long, Integer>> counts = new EnumMap<>(Facet.class);
+      for (Facet facet : Facet.values()) {
+        RoaringBitmap others = intersect(selected, facet);
+        Map<Long, Integer> facetCounts = new LinkedHashMap<>();
+        bitmaps.get(facet).forEach((value, bitmap) -> {
+          int count = others != null
+              ? RoaringBitmap.andCardinality(bitmap, others)
+              : bitmap.getCardinality();
+          if (count > 0) {
+            facetCounts.put(value, count);
+          }
+        });
+        counts.put(facet, facetCounts);
+      }
+      return new FacetCounts(
+          matching != null ? matching.getCardinality() : all.getCardinality(), counts);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Number of indexed theses
+   *
+   * @return number of theses
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return all.getCardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Memory held by the bitmaps of every facet
+   *
+   * @return usage per facet
+   */
+  public List<FacetUsage> getMemoryUsage() {
+    lock.readLock().lock();
+    try {
+      List<FacetUsage> usage = new ArrayList<>(bitmaps.size());
+      bitmaps.forEach((facet, facetBitmaps) -> usage.add(new FacetUsage(facet, facetBitmaps.size(),
+          facetBitmaps.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum())));
+      return usage;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Memory held by the bitmap of all indexed theses
+   *
+   * @return size in bytes
+   */
+  public long getThesesBytes() {
+    lock.readLock().lock();
+    try {
+      return all.getLongSizeInBytes();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Compresses runs of consecutive ids, best called once after adding many theses
+   */
+  public void optimize() {
+    lock.writeLock().lock();
+    try {
+      all.runOptimize();
+      bitmaps.values().forEach(facetBitmaps -> facetBitmaps.values()
+          .forEach(RoaringBitmap::runOptimize));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static void replace(Map<Long, RoaringBitmap> facetBitmaps, int id,
+      Collection<Long> values) {
+    // Values the thesis no longer has, whose bitmaps are dropped once empty
+    Iterator<Map.Entry<Long, RoaringBitmap>> entries = facetBitmaps.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<Long, RoaringBitmap> entry = entries.next();
+      if (!values.contains(entry.getKey()) && entry.getValue().checkedRemove(id)
+          && entry.getValue().isEmpty()) {
+        entries.remove();
+      }
+    }
+    for (Long value : values) {
+      facetBitmaps.computeIfAbsent(value, key -> new RoaringBitmap()).add(id);
+    }
+  }
+
+  /**
+   * Intersects the selected bitmaps
+   *
+   * @return intersection, null if nothing is selected besides the excluded facet
+   */
+  private static RoaringBitmap intersect(Map<Facet, RoaringBitmap> selected, Facet excluded) {
+    RoaringBitmap intersection = null;
+    for (Map.Entry<Facet, RoaringBitmap> entry : selected.entrySet()) {
+      if (entry.getKey() != excluded) {
+        intersection = intersection == null
+            ? entry.getValue()
+            : RoaringBitmap.and(intersection, entry.getValue());
+      }
+    }
+    return intersection;
+  }
+
+  private static int toInt(long thesisId) {
+    if (thesisId < 0 || thesisId > MAX_ID) {
+      throw new IllegalArgumentException("Thesis id " + thesisId + " exceeds the facet index.");
+    }
+    return (int) thesisId;
+  }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.nio.file.Path;
+import lombok.Value;
+
+/**
+ * Response body made of a region of a file, written by {@link FileRegionHttpMessageConverter}
+ * without copying the file through the heap.
+ */
+@Value
+public class FileRegion {
+
+  Path file;
+
+  long position;
+
+  long count;
+}
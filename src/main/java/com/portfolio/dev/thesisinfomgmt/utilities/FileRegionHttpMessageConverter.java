@@ -0,0 +1,103 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes {@link FileRegion} response bodies.
+ *
+ * <p>On Tomcat, the region is handed over to the connector, which sends it with the
+ * {@code sendfile} system call straight from the page cache to the socket once the response
+ * headers are written. Elsewhere, the region is written with {@link FileChannel#transferTo}, which
+ * copies through a small buffer of the JDK at most. In both cases, the file is never read into
+ * the heap.
+ */
+public class FileRegionHttpMessageConverter extends AbstractHttpMessageConverter<FileRegion> {
+
+  static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+  static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+  static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+  static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+  public FileRegionHttpMessageConverter() {
+    super(MediaType.ALL);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return FileRegion.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected FileRegion readInternal(
+      Class<? extends FileRegion> clazz,
+      HttpInputMessage inputMessage
+  ) {
+    throw new HttpMessageNotReadableException("File regions can not be read", inputMessage);
+  }
+
+  @Override
+  protected MediaType getDefaultContentType(FileRegion region) {
+    return MediaType.APPLICATION_OCTET_STREAM;
+  }
+
+  @Override
+  protected Long getContentLength(FileRegion region, MediaType contentType) {
+    return region.getCount();
+  }
+
+  @Override
+  protected void writeInternal(FileRegion region, HttpOutputMessage outputMessage)
+      throws IOException {
+
+    HttpServletRequest request = getCurrentRequest();
+    if (request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))
+        && region.getCount() > 0) {
+      // Tomcat sends the file after the response is committed, instead of a body written here
+      request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, region.getFile().toRealPath().toString());
+      request.setAttribute(SENDFILE_START_ATTRIBUTE, region.getPosition());
+      request.setAttribute(SENDFILE_END_ATTRIBUTE, region.getPosition() + region.getCount());
+      return;
+    }
+
+    try (FileChannel file = FileChannel.open(region.getFile(), StandardOpenOption.READ)) {
+      WritableByteChannel body = Channels.newChannel(outputMessage.getBody());
+      long position = region.getPosition();
+      long end = position + region.getCount();
+      while (position < end) {
+        long transferred = file.transferTo(position, end - position, body);
+        if (transferred <= 0) {
+          throw new IOException("File " + region.getFile() + " ended before " + end);
+        }
+        position += transferred;
+      }
+    }
+  }
+
+  private static HttpServletRequest getCurrentRequest() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes
+        ? ((ServletRequestAttributes) attributes).getRequest()
+        : null;
+  }
+}
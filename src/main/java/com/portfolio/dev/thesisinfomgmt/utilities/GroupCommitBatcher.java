@@ -0,0 +1,224 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Collects items submitted by concurrent requests and hands them to a batch handler together, so
+ * that they are written in a single transaction with a single commit (group commit).
+ *
+ * <p>A single flusher thread waits for the first item, then keeps collecting until either
+ * {@code maxBatchSize} items are pending or {@code maxDelayMs} has passed since the first one.
+ * While a batch is being written, the next one fills up, so under load batches grow without any
+ * extra delay. With a delay of 0, a batch is whatever is pending at the time.
+ *
+ * <p>The handler has to return one result per item in the same order, each caller's future is
+ * completed with its own result. If the handler throws, every future of the batch fails with that
+ * exception. Items whose {@link RequestDeadline} passed while pending fail with
+ * {@link DeadlineExceededException} and are not written. The handler runs with a deadline of its
+ * own, {@code batchTimeoutMs} from the start of the write, so that a request with a short timeout
+ * cannot time out the transaction of everyone else in the batch. Items of all requests share the
+ * transaction, items which have to be attributed to the {@link RequestActor} of their request
+ * carry it, see {@link Attributed}.
+ *
+ * @param <I> type of the items
+ * @param <O> type of the results
+ */
+@Slf4j
+public class GroupCommitBatcher<I, O> {
+
+  private final String name;
+
+  private final int maxBatchSize;
+
+  private final long maxDelayNanos;
+
+  private final long batchTimeoutMs;
+
+  private final BlockingQueue<Pending<I, O>> queue;
+
+  private final Function<List<I>, List<O>> batchHandler;
+
+  private final DistributionSummary batchSizes;
+
+  private final AtomicLong rejected = new AtomicLong();
+
+  private final Thread flusher;
+
+  private volatile boolean running = true;
+
+  public GroupCommitBatcher(
+      String name,
+      int maxBatchSize,
+      long maxDelayMs,
+      long batchTimeoutMs,
+      int queueCapacity,
+      Function<List<I>, List<O>> batchHandler,
+      MeterRegistry meterRegistry
+  ) {
+    this.name = name;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMs));
+    this.batchTimeoutMs = batchTimeoutMs;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchHandler = batchHandler;
+
+    batchSizes = DistributionSummary.builder("tims.group-commit.batch-size")
+        .description("Items written per group commit")
+        .tag("batcher", name)
+        .register(meterRegistry);
+    Gauge.builder("tims.group-commit.queued", queue, BlockingQueue::size)
+        .description("Items waiting for the next group commit")
+        .tag("batcher", name)
+        .register(meterRegistry);
+    FunctionCounter.builder("tims.group-commit.rejected", rejected, AtomicLong::get)
+        .description("Items rejected since the group commit queue was full")
+        .tag("batcher", name)
+        .register(meterRegistry);
+
+    flusher = new Thread(this::run, "group-commit-" + name);
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * Submits an item for the next group commit
+   *
+   * @param item item to be written
+   * @return future result of the item
+   * @throws TaskRejectedException if the queue is full or the batcher is shut down
+   */
+  public CompletableFuture<O> submit(I item) {
+    if (!running) {
+      throw new TaskRejectedException("Group commit '" + name + "' is shut down.");
+    }
+    Pending<I, O> pending = new Pending<>(item, RequestDeadline.current().orElse(null));
+    if (!queue.offer(pending)) {
+      rejected.incrementAndGet();
+      throw new TaskRejectedException("Group commit queue '" + name + "' is full.");
+    }
+    return pending.future;
+  }
+
+  /**
+   * Stops the flusher after the batch in progress, items still pending are failed
+   */
+  public void shutdown() {
+    running = false;
+    flusher.interrupt();
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    failPending();
+  }
+
+  private void run() {
+    List<Pending<I, O>> batch = new ArrayList<>(maxBatchSize);
+    while (running) {
+      try {
+        batch.add(queue.take());
+        collect(batch);
+      } catch (InterruptedException e) {
+        if (batch.isEmpty()) {
+          break;
+        }
+      }
+      flush(batch);
+      batch.clear();
+    }
+    failPending();
+  }
+
+  private void collect(List<Pending<I, O>> batch) throws InterruptedException {
+    long flushAt = System.nanoTime() + maxDelayNanos;
+    queue.drainTo(batch, maxBatchSize - batch.size());
+    while (batch.size() < maxBatchSize) {
+      long remainingNanos = flushAt - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return;
+      }
+      Pending<I, O> next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, maxBatchSize - batch.size());
+    }
+  }
+
+  private void flush(List<Pending<I, O>> batch) {
+    // Drop items whose request has given up already
+    List<Pending<I, O>> group = new ArrayList<>(batch.size());
+    for (Pending<I, O> pending : batch) {
+      if (pending.deadline != null && pending.deadline.remainingMillis() <= 0) {
+        pending.future.completeExceptionally(new DeadlineExceededException());
+      } else {
+        group.add(pending);
+      }
+    }
+    if (!group.isEmpty()) {
+      write(group);
+    }
+  }
+
+  private void write(List<Pending<I, O>> group) {
+    batchSizes.record(group.size());
+    RequestDeadline.set(RequestDeadline.after(batchTimeoutMs));
+    try {
+      List<O> results = batchHandler.apply(
+          group.stream().map(pending -> pending.item).collect(Collectors.toList()));
+      if (results.size() != group.size()) {
+        throw new IllegalStateException("Group commit '" + name + "' returned " + results.size()
+            + " results for " + group.size() + " items.");
+      }
+      for (int i = 0; i < group.size(); i++) {
+        group.get(i).future.complete(results.get(i));
+      }
+    } catch (RuntimeException e) {
+      log.warn("Group commit '{}' of {} items failed", name, group.size(), e);
+      group.forEach(pending -> pending.future.completeExceptionally(e));
+    } finally {
+      RequestDeadline.set(null);
+    }
+  }
+
+  private void failPending() {
+    Pending<I, O> pending;
+    while ((pending = queue.poll()) != null) {
+      pending.future.completeExceptionally(
+          new TaskRejectedException("Group commit '" + name + "' is shut down."));
+    }
+  }
+
+  /**
+   * Item waiting for its group commit
+   */
+  private static final class Pending<I, O> {
+
+    private final I item;
+
+    private final RequestDeadline deadline;
+
+    private final CompletableFuture<O> future = new CompletableFuture<>();
+
+    private Pending(I item, RequestDeadline deadline) {
+      this.item = item;
+      this.deadline = deadline;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.IDEMPOTENCY_KEY_IN_PROGRESS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.IDEMPOTENCY_KEY_REUSED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.IDEMPOTENCY_STORE_FULL;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, expiring in-memory store of responses to requests carrying an Idempotency-Key.
+ *
+ * <p>The first request with a key executes and its response is kept for the configured time to
+ * live. Retries with the same key get the stored response replayed, and retries arriving while
+ * the first request is still executing wait for its response instead of executing again.
+ * Server errors are not stored so that they can be retried.
+ *
+ * <p>Keys are scoped per authenticated client if there is one. Otherwise the key alone identifies
+ * the request, since a retry may arrive through another gateway address, and a key reused for a
+ * different request is rejected by comparing the payloads.
+ *
+ * <p>Once the store is full, the oldest completed entries are evicted. In-flight entries are never
+ * evicted, since a retry would then execute the request a second time, and new keys are rejected
+ * while the store is full of in-flight entries.
+ */
+@Component
+public class IdempotencyStore {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Entries in insertion order, used to evict the oldest entries first
+   */
+  private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  private final int maxEntries;
+
+  private final long timeToLiveMillis;
+
+  private final long waitTimeoutMillis;
+
+  public IdempotencyStore(
+      @Value("${tims.idempotency.max-entries:10000}") int maxEntries,
+      @Value("${tims.idempotency.ttl-seconds:86400}") long timeToLiveSeconds,
+      @Value("${tims.idempotency.wait-timeout-ms:30000}") long waitTimeoutMillis
+  ) {
+    this.maxEntries = maxEntries;
+    this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+    this.waitTimeoutMillis = waitTimeoutMillis;
+  }
+
+  /**
+   * Executes a request at most once per key
+   *
+   * @param client  authenticated client sending the request, or null if anonymous
+   * @param key     idempotency key, scoped by the caller to the endpoint
+   * @param request request payload, retries must send an equal payload
+   * @param action  request handling
+   * @return future response of the action, either freshly executed or replayed
+   */
+  public CompletableFuture<ResponseEntity<Object>> execute(String client, String key,
+      Object request, Supplier<CompletableFuture<ResponseEntity<Object>>> action) {
+
+    String clientKey = client != null ? client + " " + key : key;
+    boolean hasRoom = evictExpiredAndExcess();
+
+    Entry entry = new Entry(clientKey, request, System.currentTimeMillis());
+    Entry existing = hasRoom ? entries.putIfAbsent(clientKey, entry) : entries.get(clientKey);
+    while (existing != null && existing.isExpired(timeToLiveMillis)
+        && existing.response.isDone()) {
+      entries.remove(clientKey, existing);
+      existing = hasRoom ? entries.putIfAbsent(clientKey, entry) : entries.get(clientKey);
+    }
+
+    if (existing != null) {
+      return replay(existing, request);
+    }
+
+    // Check if the store is full of in-flight requests
+    if (!hasRoom) {
+      return CompletableFuture.completedFuture(ResponseEntity
+          .status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(new ErrorMessage(IDEMPOTENCY_STORE_FULL)));
+    }
+
+    insertionOrder.add(entry);
+    CompletableFuture<ResponseEntity<Object>> response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      entries.remove(clientKey, entry);
+      entry.response.completeExceptionally(e);
+      throw e;
+    }
+
+    // Failures are not stored so that retries execute again
+    response.whenComplete((result, error) -> {
+      if (error != null || result.getStatusCode().is5xxServerError()) {
+        entries.remove(clientKey, entry);
+      }
+      if (error != null) {
+        entry.response.completeExceptionally(error);
+      } else {
+        entry.response.complete(result);
+      }
+    });
+    return response;
+  }
+
+  /**
+   * Retrieves the number of stored responses, including in-flight ones
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> replay(Entry existing, Object request) {
+
+    // Check if the key was reused for a different request
+    if (!Objects.equals(existing.request, request)) {
+      return CompletableFuture.completedFuture(ResponseEntity
+          .status(HttpStatus.UNPROCESSABLE_ENTITY)
+          .body(new ErrorMessage(IDEMPOTENCY_KEY_REUSED)));
+    }
+
+    // Wait for the original request if it is still in-flight
+    return existing.response.copy()
+        .orTimeout(waitTimeoutMillis, TimeUnit.MILLISECONDS)
+        .handle((response, error) -> {
+          Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+          if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorMessage(IDEMPOTENCY_KEY_IN_PROGRESS));
+          } else if (cause != null) {
+            throw new CompletionException(cause);
+          }
+          return ResponseEntity.status(response.getStatusCode())
+              .headers(response.getHeaders())
+              .header(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString())
+              .body(response.getBody());
+        });
+  }
+
+  /**
+   * Evicts the removed and expired entries and, while the store is full, the oldest completed
+   * ones. Only in-flight entries are skipped, so the scan is bounded by the number of requests
+   * in progress.
+   *
+   * @return true if there is room for a new entry
+   */
+  private boolean evictExpiredAndExcess() {
+    Iterator<Entry> iterator = insertionOrder.iterator();
+    while (iterator.hasNext()) {
+      Entry oldest = iterator.next();
+      boolean removed = entries.get(oldest.key) != oldest;
+      if (!removed && !oldest.response.isDone()) {
+        continue;
+      }
+      if (!removed && !oldest.isExpired(timeToLiveMillis) && entries.size() < maxEntries) {
+        break;
+      }
+      iterator.remove();
+      entries.remove(oldest.key, oldest);
+    }
+    return entries.size() < maxEntries;
+  }
+
+  private static class Entry {
+
+    private final String key;
+
+    private final Object request;
+
+    private final long createdAt;
+
+    private final CompletableFuture<ResponseEntity<Object>> response = new CompletableFuture<>();
+
+    Entry(String key, Object request, long createdAt) {
+      this.key = key;
+      this.request = request;
+      this.createdAt = createdAt;
+    }
+
+    boolean isExpired(long timeToLiveMillis) {
+      return System.currentTimeMillis() - createdAt > timeToLiveMillis;
+    }
+  }
+}
@@ -1,9 +1,13 @@
 package com.portfolio.dev.thesisinfomgmt.utilities;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.AuthorDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
 import com.portfolio.dev.thesisinfomgmt.entities.Degree;
 import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -36,4 +40,36 @@ public class MapperHelper {
     degree.setName(degreeDTO.getName());
     return degree;
   }
+
+  /**
+   * Maps a Thesis DTO to Thesis Entity
+   *
+   * @param thesisDTO thesis DTO
+   * @param degree    degree of the thesis
+   * @return thesis entity
+   */
+  public static Thesis mapToThesis(ThesisDTO thesisDTO, Degree degree) {
+    Thesis thesis = new Thesis();
+    thesis.setId(thesisDTO.getId());
+    thesis.setTitle(thesisDTO.getTitle());
+    thesis.setAbstractText(thesisDTO.getAbstractText());
+    thesis.setYear(thesisDTO.getYear());
+    thesis.setDegree(degree);
+    return thesis;
+  }
+
+  /**
+   * Maps an Author DTO to Author Entity
+   *
+   * @param authorDTO author DTO
+   * @return author entity
+   */
+  public static Author mapToAuthor(AuthorDTO authorDTO) {
+    Author author = new Author();
+    author.setId(authorDTO.getId());
+    author.setFirstName(authorDTO.getFirstName());
+    author.setLastName(authorDTO.getLastName());
+    author.setEmail(authorDTO.getEmail());
+    return author;
+  }
 }
@@ -0,0 +1,201 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Locality-sensitive hashing index of MinHash signatures, finding the similar signatures of a
+ * signature without comparing it with every other one.
+ *
+ * <p>Signatures are split into bands of equal rows, and every band is hashed into a bucket of its
+ * own. Only signatures sharing a bucket in at least one band are compared. Two texts of Jaccard
+ * similarity {@code s} share a bucket with probability {@code 1 - (1 - s^rows)^bands}, which turns
+ * from unlikely to likely around {@code (1 / bands)^(1 / rows)}; pairs well below that similarity
+ * are rarely found.
+ *
+ * <p>Reads may run concurrently, updates are exclusive.
+ */
+public class MinHashIndex {
+
+  /**
+   * Indexed signature similar to a searched one
+   */
+  @Value
+  public static class Candidate {
+
+    long id;
+
+    /**
+     * Estimated Jaccard similarity, between 0 and 1
+     */
+    double similarity;
+  }
+
+  private final int hashes;
+
+  private final int rows;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, int[]> signatures = new HashMap<>();
+
+  /**
+   * Ids per bucket key, one map per band
+   */
+  private final List<Map<Long, Set<Long>>> buckets;
+
+  /**
+   * @param hashes number of positions of the signatures
+   * @param bands  number of bands, dividing the number of hashes
+   */
+  public MinHashIndex(int hashes, int bands) {
+    if (bands < 1 || hashes < bands || hashes % bands != 0) {
+      throw new IllegalArgumentException(
+          "Bands must divide the " + hashes + " hashes, but are " + bands + ".");
+    }
+    this.hashes = hashes;
+    this.rows = hashes / bands;
+    this.buckets = new ArrayList<>(bands);
+    for (int band = 0; band < bands; band++) {
+      buckets.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * Adds the signature of an id, replacing its previous one
+   *
+   * @param id        id
+   * @param signature signature of the id's text
+   */
+  public void put(long id, int[] signature) {
+    if (signature.length != hashes) {
+      throw new IllegalArgumentException(
+          "Signature has " + signature.length + " instead of " + hashes + " hashes.");
+    }
+    lock.writeLock().lock();
+    try {
+      int[] previous = signatures.put(id, signature);
+      if (previous != null) {
+        unbucket(id, previous);
+      }
+      for (int band = 0; band < buckets.size(); band++) {
+        buckets.get(band).computeIfAbsent(bucketKey(signature, band), key -> new HashSet<>())
+            .add(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the signature of an id
+   *
+   * @param id id
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      int[] previous = signatures.remove(id);
+      if (previous != null) {
+        unbucket(id, previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the ids whose signatures are similar to the one of an indexed id, most similar first
+   *
+   * @param id        indexed id, which is left out of the candidates
+   * @param threshold minimum estimated similarity
+   * @param limit     maximum number of candidates
+   * @return candidates, empty if the id is not indexed
+   */
+  public List<Candidate> findSimilar(long id, double threshold, int limit) {
+    lock.readLock().lock();
+    try {
+      int[] signature = signatures.get(id);
+      if (signature == null) {
+        return new ArrayList<>();
+      }
+      Set<Long> compared = new HashSet<>();
+      compared.add(id);
+      List<Candidate> candidates = new ArrayList<>();
+      for (int band = 0; band < buckets.size(); band++) {
+        for (Long other : buckets.get(band).get(bucketKey(signature, band))) {
+          if (compared.add(other)) {
+            double similarity = MinHasher.similarity(signature, signatures.get(other));
+            if (similarity >= threshold) {
+              candidates.add(new Candidate(other, similarity));
+            }
+          }
+        }
+      }
+      return candidates.stream()
+          .sorted(Comparator.comparingDouble(Candidate::getSimilarity).reversed()
+              .thenComparingLong(Candidate::getId))
+          .limit(limit)
+          .collect(Collectors.toList());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Whether an id has a signature
+   *
+   * @param id id
+   * @return true if indexed
+   */
+  public boolean contains(long id) {
+    lock.readLock().lock();
+    try {
+      return signatures.containsKey(id);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Number of indexed signatures
+   *
+   * @return number of ids
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return signatures.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void unbucket(long id, int[] signature) {
+    for (int band = 0; band < buckets.size(); band++) {
+      Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+      long key = bucketKey(signature, band);
+      Set<Long> bucket = bandBuckets.get(key);
+      if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+        bandBuckets.remove(key);
+      }
+    }
+  }
+
+  private long bucketKey(int[] signature, int band) {
+    long key = band;
+    for (int i = band * rows; i < (band + 1) * rows; i++) {
+      key = MinHasher.mix(key * 31 + signature[i]);
+    }
+    return key;
+  }
+}
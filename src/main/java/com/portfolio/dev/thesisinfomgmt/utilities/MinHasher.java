@@ -0,0 +1,120 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Computes MinHash signatures of texts, whose share of equal positions estimates the Jaccard
+ * similarity of the sets of word shingles of the texts, i.e. of their runs of consecutive words.
+ *
+ * <p>Each shingle is hashed once to 64 bits, which is then mixed with one seed per signature
+ * position. The seeds are fixed, so signatures are comparable across instances with the same
+ * number of hashes.
+ */
+public class MinHasher {
+
+  private static final long SEED = 0x5DEECE66DL;
+
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final int shingleWords;
+
+  private final long[] seeds;
+
+  /**
+   * @param hashes       number of positions of a signature
+   * @param shingleWords number of consecutive words of a shingle
+   */
+  public MinHasher(int hashes, int shingleWords) {
+    if (hashes < 1 || shingleWords < 1) {
+      throw new IllegalArgumentException("Hashes and shingle words must be positive.");
+    }
+    this.shingleWords = shingleWords;
+    this.seeds = new SplittableRandom(SEED).longs(hashes).toArray();
+  }
+
+  /**
+   * Number of positions of the signatures
+   *
+   * @return number of hashes
+   */
+  public int getHashes() {
+    return seeds.length;
+  }
+
+  /**
+   * Computes the signature of a text. Words are compared ignoring case; texts shorter than a
+   * shingle form a single shingle.
+   *
+   * @param text text, may be null
+   * @return signature, null if the text has no words
+   */
+  public int[] signature(String text) {
+    if (text == null) {
+      return null;
+    }
+    long[] words = NON_WORD.splitAsStream(text.toLowerCase(Locale.ROOT))
+        .filter(word -> !word.isEmpty())
+        .mapToLong(MinHasher::hash)
+        .toArray();
+    if (words.length == 0) {
+      return null;
+    }
+
+    int[] signature = new int[seeds.length];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    int shingles = Math.max(1, words.length - shingleWords + 1);
+    int length = Math.min(shingleWords, words.length);
+    for (int start = 0; start < shingles; start++) {
+      long shingle = 0;
+      for (int i = start; i < start + length; i++) {
+        shingle = mix(shingle * 31 + words[i]);
+      }
+      for (int i = 0; i < seeds.length; i++) {
+        int value = (int) (mix(shingle ^ seeds[i]) >>> 32);
+        if (value < signature[i]) {
+          signature[i] = value;
+        }
+      }
+    }
+    return signature;
+  }
+
+  /**
+   * Estimates the similarity of two texts from their signatures
+   *
+   * @param first  signature of the first text
+   * @param second signature of the second text, of the same length
+   * @return share of equal positions, between 0 and 1
+   */
+  public static double similarity(int[] first, int[] second) {
+    int equal = 0;
+    for (int i = 0; i < first.length; i++) {
+      if (first[i] == second[i]) {
+        equal++;
+      }
+    }
+    return (double) equal / first.length;
+  }
+
+  /**
+   * Finalizer of SplitMix64, spreading every input bit over the whole hash
+   */
+  static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static long hash(String word) {
+    // FNV-1a over the characters
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < word.length(); i++) {
+      hash = (hash ^ word.charAt(i)) * 0x100000001B3L;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,98 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * Extracts the text of PDF documents.
+ *
+ * <p>Documents are parsed with temporary files instead of the heap, and extraction stops as soon as
+ * the maximum number of characters is reached, so neither memory nor time grows with the size of
+ * the document beyond that.
+ */
+@Slf4j
+public class PdfTextExtractor {
+
+  private final int maxChars;
+
+  /**
+   * Creates an extractor
+   *
+   * @param maxChars maximum number of characters extracted from a document
+   */
+  public PdfTextExtractor(int maxChars) {
+    this.maxChars = maxChars;
+  }
+
+  /**
+   * Extracts the text of a document
+   *
+   * @param file PDF file
+   * @return leading text of the document, empty if it is encrypted or has no text
+   * @throws IOException if the document cannot be read or is malformed
+   */
+  public String extract(Path file) throws IOException {
+    BoundedWriter text = new BoundedWriter(maxChars);
+    try (PDDocument document =
+        PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+      new PDFTextStripper().writeText(document, text);
+    } catch (LimitReachedException e) {
+      // Only the leading text is kept
+    } catch (InvalidPasswordException e) {
+      log.warn("Could not extract text of encrypted document {}", file.getFileName());
+      return "";
+    }
+    return text.toString().trim();
+  }
+
+  /**
+   * Thrown by the writer to stop the extraction once the maximum number of characters is reached
+   */
+  private static final class LimitReachedException extends IOException {
+
+    private LimitReachedException() {
+      super(null, null);
+    }
+  }
+
+  private static final class BoundedWriter extends Writer {
+
+    private final StringBuilder text = new StringBuilder();
+
+    private final int maxChars;
+
+    private BoundedWriter(int maxChars) {
+      this.maxChars = maxChars;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+      int remaining = maxChars - text.length();
+      text.append(chars, offset, Math.min(length, remaining));
+      if (length >= remaining) {
+        throw new LimitReachedException();
+      }
+    }
+
+    @Override
+    public void flush() {
+      // Nothing to flush
+    }
+
+    @Override
+    public void close() {
+      // Nothing to close
+    }
+
+    @Override
+    public String toString() {
+      return text.toString();
+    }
+  }
+}
@@ -0,0 +1,309 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Processes items through a sequence of stages, each with its own worker threads and a bounded
+ * queue in front of it.
+ *
+ * <p>A worker hands its item to the next stage once done with it, waiting while the queue of the
+ * next stage is full. A slow stage thus holds back the stages before it, down to
+ * {@link #submit(Object)}, instead of letting items pile up in memory. Items are expected to carry
+ * their own state from stage to stage.
+ *
+ * <p>An item which completed the last stage is handed to {@link Listener#onCompleted(Object)}. An
+ * item whose stage throws leaves the pipeline and is handed to
+ * {@link Listener#onFailed(Object, String, Exception)}; retrying it is left to the listener. Items
+ * still queued or in progress on shutdown are dropped without notice.
+ *
+ * <p>Queued items, busy workers, processed and failed items are measured per stage.
+ *
+ * @param <T> type of the items
+ */
+@Slf4j
+public class ProcessingPipeline<T> {
+
+  private final String name;
+
+  private final List<Stage<T>> stages;
+
+  private final Listener<T> listener;
+
+  private volatile boolean running = true;
+
+  /**
+   * Work of a stage on an item
+   *
+   * @param <T> type of the items
+   */
+  @FunctionalInterface
+  public interface StageAction<T> {
+
+    void process(T item) throws Exception;
+  }
+
+  /**
+   * Outcome of the items leaving the pipeline, called on the worker threads
+   *
+   * @param <T> type of the items
+   */
+  public interface Listener<T> {
+
+    void onCompleted(T item);
+
+    void onFailed(T item, String stage, Exception exception);
+  }
+
+  /**
+   * Definition of a stage
+   */
+  @Value
+  public static class StageDefinition<T> {
+
+    String name;
+
+    int workers;
+
+    int queueCapacity;
+
+    StageAction<T> action;
+  }
+
+  /**
+   * Current state of a stage
+   */
+  @Value
+  public static class StageStatus {
+
+    String name;
+
+    int workers;
+
+    /**
+     * Items waiting in the queue of the stage
+     */
+    int queued;
+
+    int queueCapacity;
+
+    /**
+     * Items being processed by the workers of the stage
+     */
+    int active;
+
+    /**
+     * Items processed by the stage since startup
+     */
+    long processed;
+
+    /**
+     * Items which failed in the stage since startup
+     */
+    long failed;
+  }
+
+  /**
+   * Creates the pipeline and starts the workers of every stage
+   *
+   * @param name          name of the pipeline, used for threads and metrics
+   * @param definitions   stages in processing order
+   * @param listener      listener of the completed and failed items
+   * @param meterRegistry registry of the stage metrics
+   */
+  public ProcessingPipeline(
+      String name,
+      List<StageDefinition<T>> definitions,
+      Listener<T> listener,
+      MeterRegistry meterRegistry
+  ) {
+    if (definitions.isEmpty()) {
+      throw new IllegalArgumentException("Pipeline '" + name + "' has no stages.");
+    }
+    this.name = name;
+    this.listener = listener;
+    this.stages = new ArrayList<>(definitions.size());
+    for (StageDefinition<T> definition : definitions) {
+      stages.add(new Stage<>(definition));
+    }
+
+    for (int i = 0; i < stages.size(); i++) {
+      Stage<T> stage = stages.get(i);
+      Stage<T> next = i + 1 < stages.size() ? stages.get(i + 1) : null;
+      Gauge.builder("tims.pipeline.queued", stage.queue, BlockingQueue::size)
+          .description("Items waiting for a stage of the pipeline")
+          .tags("pipeline", name, "stage", stage.name)
+          .register(meterRegistry);
+      Gauge.builder("tims.pipeline.active", stage.active, AtomicInteger::get)
+          .description("Items being processed by a stage of the pipeline")
+          .tags("pipeline", name, "stage", stage.name)
+          .register(meterRegistry);
+      FunctionCounter.builder("tims.pipeline.processed", stage.processed, AtomicLong::get)
+          .description("Items processed by a stage of the pipeline")
+          .tags("pipeline", name, "stage", stage.name)
+          .register(meterRegistry);
+      FunctionCounter.builder("tims.pipeline.failed", stage.failed, AtomicLong::get)
+          .description("Items which failed in a stage of the pipeline")
+          .tags("pipeline", name, "stage", stage.name)
+          .register(meterRegistry);
+
+      for (int worker = 1; worker <= stage.workers.length; worker++) {
+        Thread thread = new Thread(() -> work(stage, next),
+            name + "-" + stage.name + "-" + worker);
+        thread.setDaemon(true);
+        stage.workers[worker - 1] = thread;
+        thread.start();
+      }
+    }
+  }
+
+  /**
+   * Submits an item to the first stage, waiting while its queue is full
+   *
+   * @param item item to be processed
+   * @throws InterruptedException if interrupted while waiting
+   * @throws TaskRejectedException if the pipeline is shut down
+   */
+  public void submit(T item) throws InterruptedException {
+    if (!running) {
+      throw new TaskRejectedException("Pipeline '" + name + "' is shut down.");
+    }
+    stages.get(0).queue.put(item);
+  }
+
+  /**
+   * Number of items the first stage can take without waiting
+   *
+   * @return remaining capacity of the first queue
+   */
+  public int remainingCapacity() {
+    return stages.get(0).queue.remainingCapacity();
+  }
+
+  /**
+   * Retrieves the current state of every stage
+   *
+   * @return stages in processing order
+   */
+  public List<StageStatus> getStatus() {
+    return stages.stream()
+        .map(stage -> new StageStatus(stage.name, stage.workers.length, stage.queue.size(),
+            stage.queueCapacity, stage.active.get(), stage.processed.get(), stage.failed.get()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Stops the workers, waiting briefly for the items in progress
+   */
+  public void shutdown() {
+    running = false;
+    for (Stage<T> stage : stages) {
+      for (Thread worker : stage.workers) {
+        worker.interrupt();
+      }
+    }
+    try {
+      for (Stage<T> stage : stages) {
+        for (Thread worker : stage.workers) {
+          worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void work(Stage<T> stage, Stage<T> next) {
+    while (running) {
+      try {
+        T item = stage.queue.take();
+        if (process(stage, item)) {
+          if (next != null) {
+            next.queue.put(item);
+          } else {
+            notifyListener(item, null, null);
+          }
+        }
+      } catch (InterruptedException e) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Processes an item in a stage
+   *
+   * @return whether the item goes on to the next stage
+   * @throws InterruptedException if the worker was interrupted by the shutdown
+   */
+  private boolean process(Stage<T> stage, T item) throws InterruptedException {
+    stage.active.incrementAndGet();
+    try {
+      stage.action.process(item);
+      stage.processed.incrementAndGet();
+      return true;
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Exception e) {
+      if (!running) {
+        throw new InterruptedException();
+      }
+      stage.failed.incrementAndGet();
+      notifyListener(item, stage.name, e);
+      return false;
+    } finally {
+      stage.active.decrementAndGet();
+    }
+  }
+
+  private void notifyListener(T item, String failedStage, Exception exception) {
+    try {
+      if (exception == null) {
+        listener.onCompleted(item);
+      } else {
+        listener.onFailed(item, failedStage, exception);
+      }
+    } catch (RuntimeException e) {
+      log.error("Listener of pipeline '{}' failed", name, e);
+    }
+  }
+
+  private static final class Stage<T> {
+
+    private final String name;
+
+    private final int queueCapacity;
+
+    private final BlockingQueue<T> queue;
+
+    private final StageAction<T> action;
+
+    private final Thread[] workers;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicLong processed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private Stage(StageDefinition<T> definition) {
+      this.name = definition.getName();
+      this.queueCapacity = Math.max(1, definition.getQueueCapacity());
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+      this.action = definition.getAction();
+      this.workers = new Thread[Math.max(1, definition.getWorkers())];
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RangeRequestHelper {
+
+  private static final String BYTES = "bytes";
+
+  /**
+   * Creates the response serving a file, in full or the requested byte range of it.
+   *
+   * <p>A single byte range is served as 206 / PARTIAL CONTENT, or 416 / RANGE NOT SATISFIABLE if
+   * it starts beyond the end of the file. The full file is served instead if there is no range,
+   * if the range is malformed or made of several ranges, or if the If-Range validator does not
+   * match the ETag or the Last-Modified date of the file, so a resumed download never mixes two
+   * versions of a file.
+   *
+   * @param headers response headers, including the ETag and Last-Modified date of the file
+   * @param file    file to be served
+   * @param size    size of the file in bytes
+   * @param range   value of the Range request header, if any
+   * @param ifRange value of the If-Range request header, if any
+   * @return response with a {@link FileRegion} body
+   */
+  public static ResponseEntity<Object> serveFile(
+      HttpHeaders headers, Path file, long size, String range, String ifRange) {
+
+    headers.set(HttpHeaders.ACCEPT_RANGES, BYTES);
+    if (range == null || !matchesIfRange(headers, ifRange)) {
+      return ResponseEntity.ok().headers(headers).body(new FileRegion(file, 0, size));
+    }
+
+    List<HttpRange> ranges;
+    try {
+      ranges = HttpRange.parseRanges(range);
+    } catch (IllegalArgumentException e) {
+      ranges = List.of();
+    }
+    if (ranges.size() != 1) {
+      return ResponseEntity.ok().headers(headers).body(new FileRegion(file, 0, size));
+    }
+
+    long start = -1;
+    long end = -1;
+    try {
+      start = ranges.get(0).getRangeStart(size);
+      end = ranges.get(0).getRangeEnd(size);
+    } catch (IllegalArgumentException e) {
+      // Range starts beyond the end of the file
+    }
+    if (start < 0 || start > end) {
+      headers.set(HttpHeaders.CONTENT_RANGE, BYTES + " */" + size);
+      return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers)
+          .build();
+    }
+    headers.set(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + size);
+    return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers)
+        .body(new FileRegion(file, start, end - start + 1));
+  }
+
+  private static boolean matchesIfRange(HttpHeaders headers, String ifRange) {
+    if (ifRange == null) {
+      return true;
+    }
+
+    // Only strong entity tags match, weak ones never do
+    String ifRangeValue = ifRange.trim();
+    if (ifRangeValue.startsWith("\"")) {
+      return ifRangeValue.equals(headers.getETag());
+    }
+    if (ifRangeValue.startsWith("W/")) {
+      return false;
+    }
+
+    // Otherwise the validator is the exact Last-Modified date
+    try {
+      Instant date = ZonedDateTime.parse(ifRangeValue, DateTimeFormatter.RFC_1123_DATE_TIME)
+          .toInstant();
+      return headers.getLastModified() >= 0
+          && date.equals(Instant.ofEpochMilli(headers.getLastModified())
+              .truncatedTo(ChronoUnit.SECONDS));
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+}
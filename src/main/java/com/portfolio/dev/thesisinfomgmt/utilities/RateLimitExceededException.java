@@ -0,0 +1,17 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a client has used up its request budget
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(String routeGroup, long retryAfterSeconds) {
+    super("Rate limit of route group '" + routeGroup + "' exceeded.");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -0,0 +1,69 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Limits write requests (POST, PUT, PATCH, DELETE) of a route group per client.
+ *
+ * <p>Clients are identified by their remote address. Behind a proxy, the remote address is only
+ * the client's if forwarded headers are enabled ({@code server.forward-headers-strategy}). The
+ * application does not authenticate API keys, so a key header is only used as the client key if
+ * one is configured, which must only be done behind a gateway that rejects invalid keys.
+ * Otherwise clients could rotate made-up keys to escape their limit.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private static final Set<String> WRITE_METHODS = Set.of(
+      HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(),
+      HttpMethod.DELETE.name());
+
+  private final String routeGroup;
+
+  /**
+   * Header carrying a validated API key, or null to identify clients by remote address only
+   */
+  private final String clientKeyHeader;
+
+  private final TokenBucketRateLimiter rateLimiter;
+
+  public RateLimitInterceptor(
+      String routeGroup,
+      String clientKeyHeader,
+      TokenBucketRateLimiter rateLimiter
+  ) {
+    this.routeGroup = routeGroup;
+    this.clientKeyHeader = clientKeyHeader;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler
+  ) {
+    // Async handlers are dispatched twice, only the initial dispatch takes a token
+    if (request.getDispatcherType() != DispatcherType.REQUEST
+        || !WRITE_METHODS.contains(request.getMethod())) {
+      return true;
+    }
+    long waitNanos = rateLimiter.tryAcquire(getClientKey(request));
+    if (waitNanos > 0) {
+      long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+          / TimeUnit.SECONDS.toNanos(1));
+      throw new RateLimitExceededException(routeGroup, retryAfterSeconds);
+    }
+    return true;
+  }
+
+  private String getClientKey(HttpServletRequest request) {
+    String apiKey = clientKeyHeader != null ? request.getHeader(clientKeyHeader) : null;
+    return apiKey != null ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+  }
+}
@@ -0,0 +1,71 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Who made the request handled by the current thread, recorded in the audit log.
+ *
+ * <p>Bound to the request thread by {@link ActorInterceptor} and carried over to database executor
+ * threads with {@link #propagate(Supplier)}.
+ */
+public final class RequestActor {
+
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  private RequestActor() {
+  }
+
+  /**
+   * @return actor of the request handled by the current thread, if any
+   */
+  public static Optional<String> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Binds an actor to the current thread
+   *
+   * @param actor actor, or null to unbind
+   */
+  public static void set(String actor) {
+    if (actor == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(actor);
+    }
+  }
+
+  /**
+   * Wraps a task so that it runs with the actor of the current thread, wherever it runs
+   *
+   * @param task task to be wrapped
+   * @param <T>  type of the result
+   * @return wrapped task
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> task) {
+    String actor = CURRENT.get();
+    if (actor == null) {
+      return task;
+    }
+    return () -> callAs(actor, task);
+  }
+
+  /**
+   * Runs a task with the given actor bound to the current thread
+   *
+   * @param actor actor, or null to run without one
+   * @param task  task to be run
+   * @param <T>   type of the result
+   * @return result of the task
+   */
+  public static <T> T callAs(String actor, Supplier<T> task) {
+    String previous = CURRENT.get();
+    set(actor);
+    try {
+      return task.get();
+    } finally {
+      set(previous);
+    }
+  }
+}
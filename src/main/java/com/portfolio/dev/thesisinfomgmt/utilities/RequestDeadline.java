@@ -0,0 +1,95 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which the current request has to be answered.
+ *
+ * <p>Bound to the request thread by {@link DeadlineInterceptor} and carried over to database
+ * executor threads with {@link #propagate(Supplier)}. Transactions started before the deadline get
+ * the remaining time as timeout, see {@link DeadlineAwareTransactionManager}.
+ */
+public final class RequestDeadline {
+
+  private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+
+  private RequestDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Creates a deadline
+   *
+   * @param timeoutMs milliseconds from now
+   * @return deadline
+   */
+  public static RequestDeadline after(long timeoutMs) {
+    return new RequestDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+  }
+
+  /**
+   * @return deadline of the request handled by the current thread, if any
+   */
+  public static Optional<RequestDeadline> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Binds a deadline to the current thread
+   *
+   * @param deadline deadline, or null to unbind
+   */
+  public static void set(RequestDeadline deadline) {
+    if (deadline == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(deadline);
+    }
+  }
+
+  /**
+   * Wraps a task so that it runs with the deadline of the current thread, wherever it runs. Once
+   * the deadline has passed, the task is not started anymore.
+   *
+   * @param task task to be wrapped
+   * @param <T>  type of the result
+   * @return wrapped task
+   * @throws DeadlineExceededException from the wrapped task if the deadline has passed
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> task) {
+    RequestDeadline deadline = CURRENT.get();
+    if (deadline == null) {
+      return task;
+    }
+    return () -> {
+      deadline.check();
+      RequestDeadline previous = CURRENT.get();
+      CURRENT.set(deadline);
+      try {
+        return task.get();
+      } finally {
+        set(previous);
+      }
+    };
+  }
+
+  /**
+   * @return milliseconds left until the deadline, negative once it has passed
+   */
+  public long remainingMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+  }
+
+  /**
+   * @throws DeadlineExceededException if the deadline has passed
+   */
+  public void check() {
+    if (remainingMillis() <= 0) {
+      throw new DeadlineExceededException();
+    }
+  }
+}
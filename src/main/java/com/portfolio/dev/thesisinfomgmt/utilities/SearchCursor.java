@@ -0,0 +1,59 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position after the last hit of a search page, made of the relevance score and the id of that
+ * thesis.
+ *
+ * <p>Like {@link ThesisCursor}, clients get it as an opaque string and send it back unchanged. The
+ * next page is collected after that position instead of collecting and skipping every hit before
+ * it, so deep pages cost as much as the first one. The score is kept as its exact bits, since any
+ * rounding would skip or repeat hits with almost the same score.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+
+  private final float score;
+
+  private final long id;
+
+  /**
+   * Encodes the cursor as an opaque URL-safe string
+   *
+   * @return encoded cursor
+   */
+  public String encode() {
+    String value = Integer.toHexString(Float.floatToIntBits(score)) + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor
+   *
+   * @param cursor encoded cursor
+   * @return optional cursor, empty if malformed
+   */
+  public static Optional<SearchCursor> decode(String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = value.split(":");
+      if (parts.length != 2) {
+        return Optional.empty();
+      }
+      float score = Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+      if (Float.isNaN(score)) {
+        return Optional.empty();
+      }
+      return Optional.of(new SearchCursor(score, Long.parseLong(parts[1])));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Thesis as kept in the {@link SearchIndex}
+ */
+@Value
+@With
+public class SearchDocument {
+
+  long id;
+
+  String title;
+
+  String abstractText;
+
+  int year;
+
+  long degreeId;
+
+  /**
+   * Key of the document content the text was extracted from, null if the thesis has no document
+   */
+  String documentKey;
+
+  /**
+   * Text extracted from the document, null if the thesis has no document or none could be extracted
+   */
+  String content;
+}
@@ -0,0 +1,430 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Value;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Embedded full-text index of theses, kept in a Lucene index on local disk.
+ *
+ * <p>Titles, abstracts and the text of documents are analyzed for English, so that searches match
+ * other forms of the same words. Their offsets are indexed along with the terms, so highlighting a
+ * page of hits reads the offsets instead of analyzing the stored text again.
+ *
+ * <p>Updates are visible to searches once the index is refreshed, and survive a restart once it is
+ * committed. Both are left to the caller, which can then refresh and commit many updates at once.
+ * Reading a single thesis sees its updates right away though, so that a thesis can be updated
+ * again based on its last update.
+ * The index is not the source of truth: updates lost since the last commit are recovered by
+ * indexing the theses again.
+ */
+public class SearchIndex implements AutoCloseable {
+
+  public static final String TITLE = "title";
+
+  public static final String ABSTRACT = "abstract";
+
+  public static final String CONTENT = "content";
+
+  private static final String ID = "id";
+
+  private static final String ID_ORDER = "id_order";
+
+  private static final String YEAR = "year";
+
+  private static final String DEGREE_ID = "degree_id";
+
+  private static final String DOCUMENT_KEY = "document_key";
+
+  private static final String INDEXED_AT = "indexed_at";
+
+  private static final String[] HIGHLIGHT_FIELDS = { TITLE, ABSTRACT, CONTENT };
+
+  /**
+   * Stored text indexed with offsets for highlighting
+   */
+  private static final FieldType TEXT_TYPE = new FieldType(TextField.TYPE_STORED);
+
+  static {
+    TEXT_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+    TEXT_TYPE.freeze();
+  }
+
+  /**
+   * Best hits first, the id breaks ties so every hit has a distinct position for the cursor
+   */
+  private static final Sort RELEVANCE = new Sort(
+      SortField.FIELD_SCORE, new SortField(ID_ORDER, SortField.Type.LONG));
+
+  private final Analyzer analyzer = new EnglishAnalyzer();
+
+  private final Map<String, Float> weights;
+
+  private final int maxHighlightLength;
+
+  private final Directory directory;
+
+  private final IndexWriter writer;
+
+  private final SearcherManager searcherManager;
+
+  /**
+   * Guards the switch of the maps below, which updates must not straddle
+   */
+  private final ReadWriteLock refreshLock = new ReentrantReadWriteLock();
+
+  /**
+   * Theses updated since the last refresh, empty if removed
+   */
+  private volatile Map<Long, Optional<SearchDocument>> unrefreshed = new ConcurrentHashMap<>();
+
+  /**
+   * Theses updated before the refresh in progress, which may not be visible to searches yet
+   */
+  private volatile Map<Long, Optional<SearchDocument>> refreshing = Collections.emptyMap();
+
+  /**
+   * Hit of a search
+   */
+  @Value
+  public static class SearchHit {
+
+    long id;
+
+    float score;
+
+    String title;
+
+    int year;
+
+    long degreeId;
+
+    /**
+     * Highlighted passages of the title, abstract and content, of the fields with a match only
+     */
+    Map<String, String> highlights;
+  }
+
+  /**
+   * Opens the index, creating it if needed
+   *
+   * @param directory          directory of the index
+   * @param titleWeight        weight of title matches relative to content matches
+   * @param abstractWeight     weight of abstract matches relative to content matches
+   * @param maxHighlightLength number of leading characters of each field which are highlighted
+   */
+  public SearchIndex(
+      Path directory,
+      float titleWeight,
+      float abstractWeight,
+      int maxHighlightLength
+  ) {
+    Map<String, Float> fieldWeights = new LinkedHashMap<>();
+    fieldWeights.put(TITLE, titleWeight);
+    fieldWeights.put(ABSTRACT, abstractWeight);
+    fieldWeights.put(CONTENT, 1f);
+    this.weights = Collections.unmodifiableMap(fieldWeights);
+    this.maxHighlightLength = maxHighlightLength;
+    try {
+      this.directory = FSDirectory.open(directory);
+      this.writer = new IndexWriter(this.directory,
+          new IndexWriterConfig(analyzer).setOpenMode(OpenMode.CREATE_OR_APPEND));
+      this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open search index " + directory, e);
+    }
+  }
+
+  /**
+   * Adds a thesis to the index, replacing it if already indexed
+   *
+   * @param document  thesis to be indexed
+   * @param indexedAt time of the update, in milliseconds since the epoch
+   */
+  public void update(SearchDocument document, long indexedAt) {
+    Document luceneDocument = new Document();
+    luceneDocument.add(new StringField(ID, Long.toString(document.getId()), Field.Store.YES));
+    luceneDocument.add(new NumericDocValuesField(ID_ORDER, document.getId()));
+    luceneDocument.add(new Field(TITLE, document.getTitle(), TEXT_TYPE));
+    if (document.getAbstractText() != null) {
+      luceneDocument.add(new Field(ABSTRACT, document.getAbstractText(), TEXT_TYPE));
+    }
+    if (document.getContent() != null) {
+      luceneDocument.add(new Field(CONTENT, document.getContent(), TEXT_TYPE));
+    }
+    luceneDocument.add(new IntPoint(YEAR, document.getYear()));
+    luceneDocument.add(new StoredField(YEAR, document.getYear()));
+    luceneDocument.add(new LongPoint(DEGREE_ID, document.getDegreeId()));
+    luceneDocument.add(new StoredField(DEGREE_ID, document.getDegreeId()));
+    if (document.getDocumentKey() != null) {
+      luceneDocument.add(new StoredField(DOCUMENT_KEY, document.getDocumentKey()));
+    }
+    luceneDocument.add(new LongPoint(INDEXED_AT, indexedAt));
+    refreshLock.readLock().lock();
+    try {
+      writer.updateDocument(idTerm(document.getId()), luceneDocument);
+      unrefreshed.put(document.getId(), Optional.of(document));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not index thesis " + document.getId(), e);
+    } finally {
+      refreshLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a thesis from the index
+   *
+   * @param id id of the thesis
+   */
+  public void delete(long id) {
+    refreshLock.readLock().lock();
+    try {
+      writer.deleteDocuments(idTerm(id));
+      unrefreshed.put(id, Optional.empty());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not remove thesis " + id + " from the index", e);
+    } finally {
+      refreshLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Removes every thesis last indexed before a point in time. Unlike other updates, the removal is
+   * only seen by {@link #get(long)} once refreshed.
+   *
+   * @param indexedAt point in time, in milliseconds since the epoch
+   */
+  public void deleteIndexedBefore(long indexedAt) {
+    try {
+      writer.deleteDocuments(LongPoint.newRangeQuery(INDEXED_AT, Long.MIN_VALUE, indexedAt - 1));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not remove theses from the index", e);
+    }
+  }
+
+  /**
+   * Retrieves a thesis as last updated, even if not refreshed yet
+   *
+   * @param id id of the thesis
+   * @return optional indexed thesis
+   */
+  public Optional<SearchDocument> get(long id) {
+    Optional<SearchDocument> recent = unrefreshed.get(id);
+    if (recent == null) {
+      recent = refreshing.get(id);
+    }
+    if (recent != null) {
+      return recent;
+    }
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(new TermQuery(idTerm(id)), 1);
+        if (topDocs.scoreDocs.length == 0) {
+          return Optional.empty();
+        }
+        Document document = searcher.doc(topDocs.scoreDocs[0].doc);
+        return Optional.of(new SearchDocument(id, document.get(TITLE), document.get(ABSTRACT),
+            document.getField(YEAR).numericValue().intValue(),
+            document.getField(DEGREE_ID).numericValue().longValue(),
+            document.get(DOCUMENT_KEY), document.get(CONTENT)));
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read thesis " + id + " from the index", e);
+    }
+  }
+
+  /**
+   * Searches the index, best hits first
+   *
+   * @param text     search text, in simple query syntax: {@code +} and {@code |} for and/or,
+   *                 {@code -} to exclude, quotes for phrases, {@code *} for prefixes
+   * @param degreeId optional id of the degree of the theses
+   * @param year     optional publication year of the theses
+   * @param after    optional position of the last hit of the previous page
+   * @param limit    maximum number of hits
+   * @return hits with their highlighted passages
+   */
+  public List<SearchHit> search(
+      String text, Long degreeId, Integer year, SearchCursor after, int limit) {
+
+    SimpleQueryParser parser = new SimpleQueryParser(analyzer, weights);
+    parser.setDefaultOperator(Occur.MUST);
+    BooleanQuery.Builder builder = new BooleanQuery.Builder()
+        .add(parser.parse(text), Occur.MUST);
+    if (degreeId != null) {
+      builder.add(LongPoint.newExactQuery(DEGREE_ID, degreeId), Occur.FILTER);
+    }
+    if (year != null) {
+      builder.add(IntPoint.newExactQuery(YEAR, year), Occur.FILTER);
+    }
+    Query query = builder.build();
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        // Only hits after the cursor are collected. Every document tied with the cursor on both
+        // score and id is the thesis of the cursor itself, so all of them are skipped.
+        FieldDoc afterDoc = null;
+        if (after != null) {
+          afterDoc = new FieldDoc(Math.max(0, searcher.getIndexReader().maxDoc() - 1),
+              after.getScore(), new Object[] { after.getScore(), after.getId() });
+        }
+        TopFieldDocs topDocs = searcher.searchAfter(afterDoc, query, limit, RELEVANCE, true);
+        if (topDocs.scoreDocs.length == 0) {
+          return Collections.emptyList();
+        }
+
+        Map<String, String[]> highlights = newHighlighter(searcher).highlightFields(
+            HIGHLIGHT_FIELDS, query, topDocs, new int[] { 1, 2, 3 });
+        List<SearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+        for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+          ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+          Document document = searcher.doc(scoreDoc.doc);
+          Map<String, String> hitHighlights = new LinkedHashMap<>();
+          for (String field : HIGHLIGHT_FIELDS) {
+            String highlight = highlights.get(field)[i];
+            if (highlight != null) {
+              hitHighlights.put(field, highlight);
+            }
+          }
+          hits.add(new SearchHit(Long.parseLong(document.get(ID)), scoreDoc.score,
+              document.get(TITLE), document.getField(YEAR).numericValue().intValue(),
+              document.getField(DEGREE_ID).numericValue().longValue(), hitHighlights));
+        }
+        return hits;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not search the index", e);
+    }
+  }
+
+  /**
+   * Number of theses in the index, as last refreshed
+   *
+   * @return number of indexed theses
+   */
+  public int count() {
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        return searcher.getIndexReader().numDocs();
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read the index", e);
+    }
+  }
+
+  /**
+   * Makes the updates so far visible to searches
+   */
+  public synchronized void refresh() {
+    refreshLock.writeLock().lock();
+    try {
+      // Theses of a failed refresh are kept until one succeeds
+      Map<Long, Optional<SearchDocument>> updated = unrefreshed;
+      refreshing.forEach(updated::putIfAbsent);
+      refreshing = updated;
+      unrefreshed = new ConcurrentHashMap<>();
+    } finally {
+      refreshLock.writeLock().unlock();
+    }
+    try {
+      searcherManager.maybeRefreshBlocking();
+      refreshing = Collections.emptyMap();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not refresh the index", e);
+    }
+  }
+
+  /**
+   * Writes the updates so far durably to disk, if there are any
+   */
+  public void commit() {
+    try {
+      if (writer.hasUncommittedChanges()) {
+        writer.commit();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not commit the index", e);
+    }
+  }
+
+  /**
+   * Commits the index and closes it
+   */
+  @Override
+  public void close() {
+    try {
+      searcherManager.close();
+      writer.close();
+      directory.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not close the index", e);
+    }
+  }
+
+  private UnifiedHighlighter newHighlighter(IndexSearcher searcher) {
+    return UnifiedHighlighter.builder(searcher, analyzer)
+        .withMaxLength(maxHighlightLength)
+        // Fields without a match are left out instead of summarized by their first passage
+        .withMaxNoHighlightPassages(0)
+        // Stored text may contain markup, which is escaped so that only the highlights are markup
+        .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", " ... ", true))
+        .build();
+  }
+
+  private static Term idTerm(long id) {
+    return new Term(ID, Long.toString(id));
+  }
+}
@@ -0,0 +1,270 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of binary records, stored in fixed size memory-mapped segment files.
+ *
+ * <p>Each segment is named after the sequence of its first record. A record is framed as
+ * {@code [int length][long sequence][int crc32][payload]}, and its length is written last, so a
+ * reader never sees a partially written record. Once a record does not fit into the current
+ * segment, a new segment is started and the oldest segments beyond {@code maxSegments} are
+ * deleted. On restart, appending resumes after the last intact record of the newest segment.
+ *
+ * <p>Appending is meant for a single writer thread. Reading is safe from any thread, each read
+ * maps the segments on its own.
+ */
+@Slf4j
+public class SegmentedLog implements AutoCloseable {
+
+  static final int HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private final Path directory;
+
+  private final int segmentSize;
+
+  private final int maxSegments;
+
+  /**
+   * Segment files by the sequence of their first record
+   */
+  private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+  private MappedByteBuffer current;
+
+  private long nextSequence = 1;
+
+  private boolean dirty;
+
+  /**
+   * Visits records while reading the log
+   */
+  @FunctionalInterface
+  public interface RecordVisitor {
+
+    /**
+     * @param sequence sequence of the record
+     * @param payload  payload of the record
+     * @return whether to continue with the next record
+     */
+    boolean visit(long sequence, byte[] payload);
+  }
+
+  /**
+   * Opens the log, creating the directory and the first segment if needed
+   *
+   * @param directory   directory of the segment files
+   * @param segmentSize size of each segment file in bytes
+   * @param maxSegments number of segments to be kept
+   */
+  public SegmentedLog(Path directory, int segmentSize, int maxSegments) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = Math.max(1, maxSegments);
+    try {
+      Files.createDirectories(directory);
+      try (Stream<Path> files = Files.list(directory)) {
+        files.filter(file -> file.getFileName().toString().matches("\\d+\\" + SEGMENT_SUFFIX))
+            .forEach(file -> segments.put(getFirstSequence(file), file));
+      }
+      if (segments.isEmpty()) {
+        startSegment();
+      } else {
+        recover(segments.lastEntry());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open log in " + directory, e);
+    }
+  }
+
+  /**
+   * Appends a record
+   *
+   * @param payload payload of the record
+   * @return sequence of the record
+   * @throws IllegalArgumentException if the record is larger than a segment
+   */
+  public long append(byte[] payload) {
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize + Integer.BYTES > segmentSize) {
+      throw new IllegalArgumentException(
+          "Record of " + payload.length + " bytes does not fit into a log segment.");
+    }
+    // Keep room for the zero length which marks the end of the segment
+    if (current.remaining() < recordSize + Integer.BYTES) {
+      force();
+      startSegment();
+    }
+
+    long sequence = nextSequence++;
+    int position = current.position();
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    current.position(position + Integer.BYTES);
+    current.putLong(sequence);
+    current.putInt((int) crc.getValue());
+    current.put(payload);
+    current.putInt(position, payload.length);
+    dirty = true;
+    return sequence;
+  }
+
+  /**
+   * Writes appended records through to the disk
+   */
+  public void force() {
+    if (dirty) {
+      current.force();
+      dirty = false;
+    }
+  }
+
+  /**
+   * Reads the records after a sequence, in order
+   *
+   * @param afterSequence sequence to start after, 0 to read from the oldest record kept
+   * @param visitor       visitor of the records
+   */
+  public void read(long afterSequence, RecordVisitor visitor) {
+    Long first = segments.floorKey(afterSequence + 1);
+    Map<Long, Path> candidates = first != null ? segments.tailMap(first) : segments;
+    for (Path segment : candidates.values()) {
+      ByteBuffer buffer;
+      try {
+        buffer = map(segment, MapMode.READ_ONLY);
+      } catch (NoSuchFileException e) {
+        // Deleted by retention in the meantime
+        continue;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read log segment " + segment, e);
+      }
+      while (true) {
+        int position = buffer.position();
+        byte[] payload = readRecord(buffer);
+        if (payload == null) {
+          break;
+        }
+        long sequence = buffer.getLong(position + Integer.BYTES);
+        if (sequence > afterSequence && !visitor.visit(sequence, payload)) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return sequence to be assigned to the next record
+   */
+  public long getNextSequence() {
+    return nextSequence;
+  }
+
+  /**
+   * @return number of segment files kept
+   */
+  public int getSegmentCount() {
+    return segments.size();
+  }
+
+  @Override
+  public void close() {
+    force();
+  }
+
+  private void startSegment() {
+    Path segment = directory.resolve(String.format("%020d%s", nextSequence, SEGMENT_SUFFIX));
+    try {
+      current = map(segment, MapMode.READ_WRITE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create log segment " + segment, e);
+    }
+    segments.put(nextSequence, segment);
+
+    while (segments.size() > maxSegments) {
+      Map.Entry<Long, Path> oldest = segments.pollFirstEntry();
+      try {
+        Files.deleteIfExists(oldest.getValue());
+      } catch (IOException e) {
+        log.warn("Could not delete log segment {}", oldest.getValue(), e);
+      }
+    }
+  }
+
+  private void recover(Map.Entry<Long, Path> lastSegment) throws IOException {
+    current = map(lastSegment.getValue(), MapMode.READ_WRITE);
+    nextSequence = lastSegment.getKey();
+    while (true) {
+      int position = current.position();
+      if (readRecord(current) == null) {
+        current.position(position);
+        break;
+      }
+      nextSequence = current.getLong(position + Integer.BYTES) + 1;
+    }
+    // Clear whatever is left of a record torn by a crash
+    if (current.remaining() >= Integer.BYTES) {
+      current.putInt(current.position(), 0);
+    }
+  }
+
+  /**
+   * Reads the record at the position of the buffer and moves past it
+   *
+   * @return payload, or null at the end of the segment or at a torn record
+   */
+  private static byte[] readRecord(ByteBuffer buffer) {
+    int position = buffer.position();
+    if (buffer.remaining() < HEADER_SIZE) {
+      return null;
+    }
+    int length = buffer.getInt(position);
+    if (length <= 0 || length > buffer.remaining() - HEADER_SIZE) {
+      return null;
+    }
+    int expectedCrc = buffer.getInt(position + Integer.BYTES + Long.BYTES);
+    byte[] payload = new byte[length];
+    buffer.position(position + HEADER_SIZE);
+    buffer.get(payload);
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    if ((int) crc.getValue() != expectedCrc) {
+      buffer.position(position);
+      return null;
+    }
+    return payload;
+  }
+
+  private MappedByteBuffer map(Path segment, MapMode mode) throws IOException {
+    if (mode == MapMode.READ_ONLY) {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        return channel.map(mode, 0, channel.size());
+      }
+    }
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return channel.map(mode, 0, segmentSize);
+    }
+  }
+
+  private static long getFirstSequence(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TextHelper {
+
+  private static final Pattern LINE_BREAK = Pattern.compile("\\r\\n?");
+
+  /**
+   * Words split by a hyphen at the end of a line, joined unless the next line starts a new word
+   */
+  private static final Pattern HYPHENATED_WORD =
+      Pattern.compile("(\\p{L})[-\\u00AD]\\n[ \\t]*(\\p{Ll})");
+
+  /**
+   * Control and format characters, e.g. soft hyphens and zero-width spaces, except line breaks
+   */
+  private static final Pattern INVISIBLE = Pattern.compile("[\\p{Cc}\\p{Cf}&&[^\\n\\t]]");
+
+  private static final Pattern SPACES = Pattern.compile("[\\p{Zs}\\t]+");
+
+  private static final Pattern SPACED_LINE_BREAK = Pattern.compile(" ?\\n ?");
+
+  private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n{2,}");
+
+  /**
+   * Normalizes text extracted from a document for indexing. Compatibility characters such as
+   * ligatures are decomposed, words hyphenated across lines are joined, invisible characters are
+   * removed and runs of whitespace collapsed. Lines are joined into paragraphs, which are kept
+   * separated by a blank line.
+   *
+   * @param text extracted text
+   * @return normalized text
+   */
+  public static String normalize(String text) {
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+    normalized = LINE_BREAK.matcher(normalized).replaceAll("\n");
+    normalized = HYPHENATED_WORD.matcher(normalized).replaceAll("$1$2");
+    normalized = INVISIBLE.matcher(normalized).replaceAll("");
+    normalized = SPACES.matcher(normalized).replaceAll(" ");
+    normalized = SPACED_LINE_BREAK.matcher(normalized).replaceAll("\n");
+
+    StringBuilder paragraphs = new StringBuilder(normalized.length());
+    for (String paragraph : PARAGRAPH_BREAK.split(normalized.trim())) {
+      if (paragraphs.length() > 0) {
+        paragraphs.append("\n\n");
+      }
+      paragraphs.append(paragraph.replace('\n', ' '));
+    }
+    return paragraphs.toString();
+  }
+}
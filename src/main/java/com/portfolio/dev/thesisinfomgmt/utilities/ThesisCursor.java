@@ -0,0 +1,65 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position after the last thesis of a page, made of the sort key and the id of that thesis.
+ *
+ * <p>Clients get it as an opaque string and send it back unchanged to get the next page, which
+ * then starts right after that position in the index instead of skipping an offset.
+ */
+@Getter
+@AllArgsConstructor
+public class ThesisCursor {
+
+  private final ThesisSort sort;
+
+  private final long id;
+
+  /**
+   * Year of the last thesis, for {@link ThesisSort#YEAR}
+   */
+  private final int year;
+
+  /**
+   * Title of the last thesis, for {@link ThesisSort#TITLE}
+   */
+  private final String title;
+
+  /**
+   * Encodes the cursor as an opaque URL-safe string
+   *
+   * @return encoded cursor
+   */
+  public String encode() {
+    String value = sort + ":" + id + ":" + year + ":" + (title != null ? title : "");
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor issued for the given sort
+   *
+   * @param cursor encoded cursor
+   * @param sort   requested sort
+   * @return optional cursor, empty if malformed or issued for a different sort
+   */
+  public static Optional<ThesisCursor> decode(String cursor, ThesisSort sort) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      // The title is last since it may contain the separator itself
+      String[] parts = value.split(":", 4);
+      if (parts.length != 4 || !parts[0].equals(sort.name())) {
+        return Optional.empty();
+      }
+      return Optional.of(new ThesisCursor(sort, Long.parseLong(parts[1]),
+          Integer.parseInt(parts[2]), parts[3]));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+/**
+ * Browse order of the thesis catalogue, each one backed by indexes ending with the id
+ */
+public enum ThesisSort {
+
+  /**
+   * Newest first, the default order of the catalogue
+   */
+  YEAR,
+
+  /**
+   * Alphabetical by title
+   */
+  TITLE,
+
+  /**
+   * Insertion order, e.g. for exports
+   */
+  ID
+}
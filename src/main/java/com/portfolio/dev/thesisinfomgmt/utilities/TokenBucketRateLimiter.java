@@ -0,0 +1,141 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, one per client.
+ *
+ * <p>Each bucket is kept in its generic cell rate form: a single "theoretical arrival time" which
+ * advances by one refill interval per request, updated with compare-and-set. A request is allowed
+ * while that time is at most {@code capacity} intervals ahead of now, which is the same as taking
+ * one of {@code capacity} tokens refilled at {@code refillPerSecond}.
+ *
+ * <p>A bucket whose arrival time has passed is full again, so removing it changes nothing. Such
+ * buckets are evicted once idle for the idle timeout. Once the number of clients reaches its
+ * maximum, a tenth of the buckets is evicted in one pass, full ones first and then those closest
+ * to full, so the scan is amortised over the new clients admitted after it and a new client is
+ * never refused just because the map is full.
+ */
+public class TokenBucketRateLimiter {
+
+  /**
+   * Fraction of the maximum number of clients evicted in one pass once the map is full
+   */
+  private static final int EVICTION_BATCH_DIVISOR = 10;
+
+  private final long intervalNanos;
+
+  private final long burstNanos;
+
+  private final long idleTimeoutNanos;
+
+  private final int maxClients;
+
+  private final LongSupplier nanoClock;
+
+  private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  private final AtomicLong lastEviction;
+
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public TokenBucketRateLimiter(
+      int capacity,
+      double refillPerSecond,
+      long idleTimeoutSeconds,
+      int maxClients
+  ) {
+    this(capacity, refillPerSecond, idleTimeoutSeconds, maxClients, System::nanoTime);
+  }
+
+  TokenBucketRateLimiter(
+      int capacity,
+      double refillPerSecond,
+      long idleTimeoutSeconds,
+      int maxClients,
+      LongSupplier nanoClock
+  ) {
+    this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+    this.burstNanos = intervalNanos * capacity;
+    this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    this.maxClients = maxClients;
+    this.nanoClock = nanoClock;
+    this.lastEviction = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  /**
+   * Takes a token from the bucket of a client
+   *
+   * @param clientKey key identifying the client
+   * @return 0 if a token was taken, otherwise nanoseconds until the next token is available
+   */
+  public long tryAcquire(String clientKey) {
+    long now = nanoClock.getAsLong();
+    evictIdleBuckets(now);
+
+    AtomicLong bucket = buckets.get(clientKey);
+    if (bucket == null) {
+      if (buckets.size() >= maxClients && evicting.compareAndSet(false, true)) {
+        try {
+          evictExcessBuckets(now);
+        } finally {
+          evicting.set(false);
+        }
+      }
+      bucket = buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now));
+    }
+
+    while (true) {
+      long arrival = bucket.get();
+      long nextArrival = Math.max(arrival, now) + intervalNanos;
+      long waitNanos = nextArrival - now - burstNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (bucket.compareAndSet(arrival, nextArrival)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * @return number of clients currently tracked
+   */
+  public int size() {
+    return buckets.size();
+  }
+
+  private void evictIdleBuckets(long now) {
+    long last = lastEviction.get();
+    if (now - last >= idleTimeoutNanos && lastEviction.compareAndSet(last, now)) {
+      buckets.entrySet().removeIf(entry -> now - entry.getValue().get() >= idleTimeoutNanos);
+    }
+  }
+
+  private void evictExcessBuckets(long now) {
+    int target = maxClients - Math.max(1, maxClients / EVICTION_BATCH_DIVISOR);
+
+    // Full buckets first, removing them changes nothing
+    buckets.entrySet().removeIf(entry -> now - entry.getValue().get() >= 0);
+    int excess = buckets.size() - target;
+    if (excess <= 0) {
+      return;
+    }
+
+    // Then the buckets closest to full, sorted on a snapshot since arrival times keep moving
+    List<Map.Entry<String, Long>> arrivals = new ArrayList<>(buckets.size());
+    buckets.forEach((key, arrival) -> arrivals.add(new SimpleEntry<>(key, arrival.get())));
+    arrivals.sort(Map.Entry.comparingByValue());
+    arrivals.stream()
+        .limit(excess)
+        .forEach(entry -> buckets.remove(entry.getKey()));
+  }
+}
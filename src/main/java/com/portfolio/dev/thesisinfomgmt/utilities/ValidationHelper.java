@@ -0,0 +1,149 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.BATCH_IDS_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.BATCH_IDS_LIMIT_EXCEEDED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.BATCH_IDS_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CHANGES_LIMIT_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.CITATION_HOPS_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DOCUMENT_HASH_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DUPLICATE_THRESHOLD_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MAX_BATCH_IDS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MAX_CHANGES_LIMIT;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MAX_CITATION_HOPS;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.MAX_PAGE_LIMIT;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.PAGE_LIMIT_INVALID;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.REPORT_YEARS_INVALID;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ValidationHelper {
+
+  private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+  /**
+   * Validates the list of ids of a batch fetch request
+   *
+   * @param ids requested ids
+   * @return validation response
+   */
+  public static ValidationResponse validateBatchIds(List<Long> ids) {
+
+    // Check if there is at least one id
+    if (ids == null || ids.isEmpty()) {
+      return ValidationResponse.badRequest(BATCH_IDS_REQUIRED);
+    }
+
+    // Check if the number of ids is within the limit
+    if (ids.size() > MAX_BATCH_IDS) {
+      return ValidationResponse.badRequest(String.format(BATCH_IDS_LIMIT_EXCEEDED, MAX_BATCH_IDS));
+    }
+
+    // Check if every id is present, e.g. "?ids=1,,2" binds an empty element as null
+    if (ids.contains(null)) {
+      return ValidationResponse.badRequest(BATCH_IDS_INVALID);
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates the maximum number of changes of a delta sync request
+   *
+   * @param limit requested limit
+   * @return validation response
+   */
+  public static ValidationResponse validateChangesLimit(int limit) {
+
+    // Check if the limit is within the allowed range
+    if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+      return ValidationResponse.badRequest(String.format(CHANGES_LIMIT_INVALID, MAX_CHANGES_LIMIT));
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates the page size of a paginated request
+   *
+   * @param limit requested limit
+   * @return validation response
+   */
+  public static ValidationResponse validatePageLimit(int limit) {
+
+    // Check if the limit is within the allowed range
+    if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+      return ValidationResponse.badRequest(String.format(PAGE_LIMIT_INVALID, MAX_PAGE_LIMIT));
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates a SHA-256 hash of document content
+   *
+   * @param hash hash in lowercase hex
+   * @return validation response
+   */
+  public static ValidationResponse validateSha256(String hash) {
+
+    // Check if the hash is 64 lowercase hex characters
+    if (hash == null || !SHA256_PATTERN.matcher(hash).matches()) {
+      return ValidationResponse.badRequest(DOCUMENT_HASH_INVALID);
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates the minimum similarity of a near-duplicate request
+   *
+   * @param threshold requested threshold
+   * @return validation response
+   */
+  public static ValidationResponse validateSimilarityThreshold(double threshold) {
+
+    // Check if the threshold is within the allowed range
+    if (!(threshold > 0 && threshold <= 1)) {
+      return ValidationResponse.badRequest(DUPLICATE_THRESHOLD_INVALID);
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates the maximum number of citations followed by a citation neighbours request
+   *
+   * @param hops requested hops
+   * @return validation response
+   */
+  public static ValidationResponse validateCitationHops(int hops) {
+
+    // Check if the hops are within the allowed range
+    if (hops < 1 || hops > MAX_CITATION_HOPS) {
+      return ValidationResponse.badRequest(String.format(CITATION_HOPS_INVALID, MAX_CITATION_HOPS));
+    }
+
+    return ValidationResponse.ok();
+  }
+
+  /**
+   * Validates the range of years of a report request
+   *
+   * @param fromYear requested first year, null if unbounded
+   * @param toYear   requested last year, null if unbounded
+   * @return validation response
+   */
+  public static ValidationResponse validateYearRange(Integer fromYear, Integer toYear) {
+
+    // Check if the range is not empty
+    if (fromYear != null && toYear != null && fromYear > toYear) {
+      return ValidationResponse.badRequest(REPORT_YEARS_INVALID);
+    }
+
+    return ValidationResponse.ok();
+  }
+}
@@ -0,0 +1,33 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Class of database-bound work, each class runs in its own partition of threads and connections
+ */
+@Getter
+@AllArgsConstructor
+public enum Workload {
+
+  /**
+   * Single-record reads and writes a user is waiting for
+   */
+  INTERACTIVE("interactive", 10, 100),
+
+  /**
+   * Large batches, e.g. registrar syncs and long id lists
+   */
+  BULK("bulk", 4, 20),
+
+  /**
+   * Full-table downloads, e.g. delta sync from scratch
+   */
+  EXPORT("export", 2, 10);
+
+  private final String key;
+
+  private final int defaultPoolSize;
+
+  private final int defaultQueueCapacity;
+}
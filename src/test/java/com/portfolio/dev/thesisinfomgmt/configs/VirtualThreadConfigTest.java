@@ -0,0 +1,78 @@
+package com.portfolio.dev.thesisinfomgmt.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class VirtualThreadConfigTest {
+
+  @DisplayName("[TEST] Virtual thread mode fails fast on a JDK without virtual threads.")
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void testVirtualThreadsUnsupported() {
+
+    // Assert that the application refuses to start instead of silently using platform threads,
+    // unless the preview feature was enabled on Java 19 or 20
+    assumeFalse(isVirtualThreadApiEnabled());
+    assertThatThrownBy(VirtualThreadConfig::newVirtualThreadPerTaskExecutor)
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @DisplayName("[TEST] Virtual thread mode runs tasks on virtual threads.")
+  @Test
+  @EnabledForJreRange(min = JRE.OTHER)
+  void testVirtualThreadsSupported() throws Exception {
+
+    ExecutorService executor = VirtualThreadConfig.newVirtualThreadPerTaskExecutor();
+    try {
+      // Assert that the task ran on a virtual thread
+      Object isVirtual = executor.submit(() ->
+          Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get();
+      assertThat(isVirtual).isEqualTo(Boolean.TRUE);
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @DisplayName("[TEST] Carrier threads are reserved for the pooled connections.")
+  @Test
+  void testReserveCarrierThreads() {
+
+    String previous = System.getProperty(VirtualThreadConfig.PARALLELISM_PROPERTY);
+    try {
+      // Assert that a carrier per core plus one per pooled connection is configured
+      System.clearProperty(VirtualThreadConfig.PARALLELISM_PROPERTY);
+      VirtualThreadConfig.reserveCarrierThreads(16);
+      assertThat(System.getProperty(VirtualThreadConfig.PARALLELISM_PROPERTY))
+          .isEqualTo(Integer.toString(Runtime.getRuntime().availableProcessors() + 16));
+
+      // Assert that an explicit parallelism is kept
+      System.setProperty(VirtualThreadConfig.PARALLELISM_PROPERTY, "4");
+      VirtualThreadConfig.reserveCarrierThreads(16);
+      assertThat(System.getProperty(VirtualThreadConfig.PARALLELISM_PROPERTY)).isEqualTo("4");
+    } finally {
+      if (previous == null) {
+        System.clearProperty(VirtualThreadConfig.PARALLELISM_PROPERTY);
+      } else {
+        System.setProperty(VirtualThreadConfig.PARALLELISM_PROPERTY, previous);
+      }
+    }
+  }
+
+  private static boolean isVirtualThreadApiEnabled() {
+    try {
+      Thread.class.getMethod("ofVirtual").invoke(null);
+      return true;
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+}
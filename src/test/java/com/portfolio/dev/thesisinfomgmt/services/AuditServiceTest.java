@@ -0,0 +1,138 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.AuditRecordDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.utilities.RequestActor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditServiceTest {
+
+  @TempDir
+  Path directory;
+
+  private AuditServiceImpl auditService;
+
+  @BeforeEach
+  void init() {
+    auditService = new AuditServiceImpl(new ObjectMapper().findAndRegisterModules(),
+        new SimpleMeterRegistry(), directory.toString(), 1, 4, 100, 10);
+  }
+
+  @AfterEach
+  void destroy() {
+    RequestActor.set(null);
+    auditService.destroy();
+  }
+
+  @DisplayName("[TEST] Changes are recorded with actor and before and after state.")
+  @Test
+  void testChangesAreRecorded() throws Exception {
+
+    // Publish an update and a deletion of a degree by the bound actor
+    DegreeDTO before = new DegreeDTO(new Degree().withId(1).withAbbr("BSCS")
+        .withName("BS Computer Science"));
+    DegreeDTO after = new DegreeDTO(new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science"));
+    RequestActor.set("registrar-sync");
+    auditService.onEntityChange(
+        new EntityChangeEvent(EntityType.DEGREE, ChangeType.UPDATED, 1, before, after));
+    auditService.onEntityChange(
+        new EntityChangeEvent(EntityType.DEGREE, ChangeType.DELETED, 1, after, after));
+
+    // Assert that both records were written in order with their state
+    AuditPageDTO page = awaitRecords(2);
+    AuditRecordDTO updated = page.getRecords().get(0);
+    assertThat(updated.getSequence()).isEqualTo(1);
+    assertThat(updated.getActor()).isEqualTo("registrar-sync");
+    assertThat(updated.getChangeType()).isEqualTo(ChangeType.UPDATED);
+    assertThat(updated.getTimestamp()).isNotNull();
+    assertThat(updated.getBefore()).isInstanceOf(Map.class);
+    assertThat(((Map<?, ?>) updated.getBefore()).get("name")).isEqualTo("BS Computer Science");
+    assertThat(((Map<?, ?>) updated.getAfter()).get("name"))
+        .isEqualTo("Bachelor of Science in Computer Science");
+    AuditRecordDTO deleted = page.getRecords().get(1);
+    assertThat(deleted.getChangeType()).isEqualTo(ChangeType.DELETED);
+    assertThat(deleted.getBefore()).isNotNull();
+    assertThat(deleted.getAfter()).isNull();
+  }
+
+  @DisplayName("[TEST] Audit records are filtered and paged.")
+  @Test
+  void testFilterAndPaging() throws Exception {
+
+    // Publish changes of different entities by different actors
+    RequestActor.set("alice");
+    auditService.onEntityChange(new EntityChangeEvent(EntityType.ROLE, ChangeType.CREATED, 1,
+        null, new RoleDTO(new Role().withId(1).withName("Adviser"))));
+    auditService.onEntityChange(new EntityChangeEvent(EntityType.DEGREE, ChangeType.CREATED, 2,
+        null, new DegreeDTO(new Degree().withId(2).withAbbr("MBA"))));
+    RequestActor.set("bob");
+    auditService.onEntityChange(new EntityChangeEvent(EntityType.ROLE, ChangeType.CREATED, 3,
+        null, new RoleDTO(new Role().withId(3).withName("Panelist"))));
+    awaitRecords(3);
+
+    // Assert that only the matching records are returned
+    AuditPageDTO roles = auditService.getRecords(EntityType.ROLE, null, null, 0, 100);
+    assertThat(roles.getRecords()).extracting(AuditRecordDTO::getEntityId).containsExactly(1L, 3L);
+    AuditPageDTO byBob = auditService.getRecords(null, null, "bob", 0, 100);
+    assertThat(byBob.getRecords()).extracting(AuditRecordDTO::getEntityId).containsExactly(3L);
+
+    // Assert that the next page continues after the sequence of the previous one
+    AuditPageDTO firstPage = auditService.getRecords(EntityType.ROLE, null, null, 0, 1);
+    assertThat(firstPage.isHasMore()).isTrue();
+    AuditPageDTO secondPage =
+        auditService.getRecords(EntityType.ROLE, null, null, firstPage.getSequence(), 1);
+    assertThat(secondPage.getRecords()).extracting(AuditRecordDTO::getEntityId)
+        .containsExactly(3L);
+    assertThat(secondPage.isHasMore()).isFalse();
+  }
+
+  @DisplayName("[TEST] Records are dropped and counted instead of waiting once the queue is full.")
+  @Test
+  void testDropWhenFull() {
+
+    // Create an audit service without room for any record
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AuditServiceImpl fullAuditService = new AuditServiceImpl(new ObjectMapper(), meterRegistry,
+        directory.resolve("full").toString(), 1, 4, 0, 10);
+    try {
+      fullAuditService.onEntityChange(new EntityChangeEvent(EntityType.ROLE, ChangeType.CREATED,
+          1, null, new RoleDTO(new Role().withId(1).withName("Adviser"))));
+
+      // Assert that the record was dropped and counted
+      assertThat(meterRegistry.get("tims.audit.dropped").functionCounter().count()).isEqualTo(1);
+      assertThat(fullAuditService.getRecords(null, null, null, 0, 100).getRecords()).isEmpty();
+    } finally {
+      fullAuditService.destroy();
+    }
+  }
+
+  private AuditPageDTO awaitRecords(int count) throws InterruptedException {
+    // Records are written by the background writer
+    for (int attempt = 0; attempt < 500; attempt++) {
+      AuditPageDTO page = auditService.getRecords(null, null, null, 0, 100);
+      if (page.getRecords().size() >= count) {
+        return page;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("Audit records were not written in time");
+  }
+}
@@ -0,0 +1,118 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_FIRST_NAME_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_LAST_NAME_REQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.AuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.AuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorServiceTest {
+
+  @Mock
+  private AuthorRepository authorRepository;
+  @Mock
+  private ThesisAuthorRepository thesisAuthorRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  private AuthorService authorService;
+
+  @BeforeEach
+  void init() {
+    authorService =
+        new AuthorServiceImpl(authorRepository, thesisAuthorRepository, eventPublisher);
+  }
+
+  @DisplayName("[TEST] Get a page of authors with the cursor of the next page.")
+  @Test
+  void testGetAuthors() {
+
+    // Mock the return of authorRepository with one author more than the limit
+    Author author1 = newAuthor(4, "Juan", "Dela Cruz");
+    Author author2 = newAuthor(7, "Maria", "Santos");
+    when(authorRepository.findByIdGreaterThanOrderByIdAsc(3, PageRequest.of(0, 2)))
+        .thenReturn(Arrays.asList(author1, author2));
+
+    // Assert that the page holds the limit and continues after its last author
+    KeysetPageDTO<AuthorDTO> page = authorService.getAuthors(3, 1);
+    assertThat(page.getItems()).containsExactly(new AuthorDTO(author1));
+    assertThat(page.getNextCursor()).isEqualTo("4");
+  }
+
+  @DisplayName("[TEST] Create an author.")
+  @Test
+  void testCreateAuthor() {
+
+    // Mock the return of authorRepository.save
+    Author mockAuthor = newAuthor(1, "Juan", "Dela Cruz");
+    AuthorDTO mockAuthorDto = new AuthorDTO(mockAuthor);
+    when(authorRepository.save(any(Author.class))).thenReturn(mockAuthor);
+
+    // Assert the return of authorService.createAuthor to expected object
+    assertThat(authorService.createAuthor(mockAuthorDto)).isEqualTo(mockAuthorDto);
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Delete an author and remove it from its theses.")
+  @Test
+  void testDeleteAuthor() {
+
+    // Mock the return of authorRepository.findById
+    Author mockAuthor = newAuthor(1, "Juan", "Dela Cruz");
+    when(authorRepository.findById(1L)).thenReturn(Optional.of(mockAuthor));
+    when(authorRepository.findById(2L)).thenReturn(Optional.empty());
+
+    // Assert that the author is removed from its theses before it is deleted
+    assertThat(authorService.deleteAuthor(1)).contains(new AuthorDTO(mockAuthor));
+    verify(thesisAuthorRepository).deleteAllByAuthorId(1);
+    verify(authorRepository).delete(mockAuthor);
+
+    // Assert that a missing author is not deleted
+    assertThat(authorService.deleteAuthor(2)).isEmpty();
+    verify(thesisAuthorRepository, never()).deleteAllByAuthorId(2);
+  }
+
+  @DisplayName("[TEST] Validate author details.")
+  @Test
+  void testValidateAuthor() {
+
+    // Assert that first and last name are required
+    AuthorDTO authorDto = new AuthorDTO(newAuthor(0, "", "Dela Cruz"));
+    assertThat(authorService.validateAuthor(authorDto).getErrorMessage().getMessage())
+        .isEqualTo(AUTHOR_FIRST_NAME_REQUIRED);
+    authorDto.setFirstName("Juan");
+    authorDto.setLastName(null);
+    assertThat(authorService.validateAuthor(authorDto).getErrorMessage().getMessage())
+        .isEqualTo(AUTHOR_LAST_NAME_REQUIRED);
+
+    // Assert that an author with both names is valid
+    authorDto.setLastName("Dela Cruz");
+    assertThat(authorService.validateAuthor(authorDto).getValidationResult())
+        .isEqualTo(ValidationResult.OK);
+  }
+
+  private static Author newAuthor(long id, String firstName, String lastName) {
+    return new Author().withId(id).withFirstName(firstName).withLastName(lastName)
+        .withEmail(firstName.toLowerCase() + "@example.edu");
+  }
+}
@@ -0,0 +1,121 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeEventDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChangeFeedServiceTest {
+
+  private ChangeFeedServiceImpl changeFeedService;
+
+  @BeforeEach
+  void init() {
+    changeFeedService = new ChangeFeedServiceImpl(3, 1000);
+  }
+
+  @AfterEach
+  void cleanup() {
+    changeFeedService.destroy();
+  }
+
+  @DisplayName("[TEST] Get the changes after a buffered sequence.")
+  @Test
+  void testGetChangesSince() {
+
+    publishDegreeChanges(5);
+
+    // Assert that only the changes after the given sequence are returned, in order
+    Optional<List<ChangeEventDTO>> actualChanges = changeFeedService.getChangesSince(2);
+    assertThat(actualChanges).isPresent();
+    assertThat(actualChanges.get().stream().map(ChangeEventDTO::getSequence)
+        .collect(Collectors.toList())).containsExactly(3L, 4L, 5L);
+    assertThat(actualChanges.get().get(0).getEntityType()).isEqualTo(EntityType.DEGREE);
+    assertThat(actualChanges.get().get(0).getEntityId()).isEqualTo(3L);
+  }
+
+  @DisplayName("[TEST] Get the changes when the client is already up-to-date.")
+  @Test
+  void testGetChangesSinceLatest() {
+
+    publishDegreeChanges(5);
+
+    // Assert that there are no changes to be replayed
+    Optional<List<ChangeEventDTO>> actualChanges = changeFeedService.getChangesSince(5);
+    assertThat(actualChanges).isPresent();
+    assertThat(actualChanges.get()).isEmpty();
+  }
+
+  @DisplayName("[TEST] Get the changes after a sequence that was already evicted.")
+  @Test
+  void testGetChangesSinceEvicted() {
+
+    publishDegreeChanges(5);
+
+    // Assert that the client has to reload since event 2 is no longer buffered
+    assertThat(changeFeedService.getChangesSince(1)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Get the changes after a sequence that was never issued.")
+  @Test
+  void testGetChangesSinceUnknown() {
+
+    publishDegreeChanges(2);
+
+    // Assert that the client has to reload, e.g. since the server was restarted
+    assertThat(changeFeedService.getChangesSince(7)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Get the changes with replay disabled by an empty buffer.")
+  @Test
+  void testGetChangesSinceWithoutBuffer() {
+
+    changeFeedService.destroy();
+    changeFeedService = new ChangeFeedServiceImpl(0, 1000);
+    publishDegreeChanges(2);
+
+    // Assert that only an up-to-date client can resume without a reset
+    assertThat(changeFeedService.getChangesSince(2)).hasValue(List.of());
+    assertThat(changeFeedService.getChangesSince(1)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Parse the sequence of an event id issued by this run.")
+  @Test
+  void testParseSequence() {
+
+    // Assert that the event id round-trips to its sequence
+    assertThat(changeFeedService.parseSequence(changeFeedService.toEventId(3)))
+        .isEqualTo(OptionalLong.of(3));
+  }
+
+  @DisplayName("[TEST] Parse the sequence of an event id issued before a restart.")
+  @Test
+  void testParseSequenceOtherEpoch() {
+
+    // Assert that ids of another run, bare sequences and malformed ids are not resumed
+    assertThat(changeFeedService.parseSequence("0-3")).isEmpty();
+    assertThat(changeFeedService.parseSequence("3")).isEmpty();
+    assertThat(changeFeedService.parseSequence(changeFeedService.toEventId(3) + "x")).isEmpty();
+  }
+
+  private void publishDegreeChanges(int count) {
+    for (long id = 1; id <= count; id++) {
+      DegreeDTO degree = new DegreeDTO(new Degree().withId(id).withAbbr("D" + id)
+          .withName("Degree " + id));
+      changeFeedService.onEntityChange(
+          new EntityChangeEvent(EntityType.DEGREE, ChangeType.CREATED, id, null, degree));
+    }
+  }
+}
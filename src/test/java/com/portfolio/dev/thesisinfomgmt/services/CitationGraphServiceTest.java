@@ -0,0 +1,98 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.CitationNeighbourDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RelatedThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisCitationRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Direction;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Relation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CitationGraphServiceTest {
+
+  @Mock
+  private ThesisCitationRepository thesisCitationRepository;
+  @Mock
+  private ThesisRepository thesisRepository;
+  private CitationGraphServiceImpl citationGraphService;
+
+  @BeforeEach
+  void init() {
+    citationGraphService = new CitationGraphServiceImpl(thesisCitationRepository,
+        thesisRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void destroy() {
+    citationGraphService.destroy();
+  }
+
+  @DisplayName("[TEST] Citations of changed theses are re-read and deleted theses removed.")
+  @Test
+  void testApplyChanges() {
+
+    // Apply the citations of two theses
+    List<Long> changed = List.of(1L, 2L);
+    when(thesisCitationRepository.findAllByCitingThesisIdIn(changed))
+        .thenReturn(rows(1, 3, 1, 4, 2, 3, 2, 4));
+    citationGraphService.applyChanges(changed, List.of());
+
+    when(thesisRepository.existsById(1L)).thenReturn(true);
+    assertThat(citationGraphService.getNeighbours(1, Direction.CITES, 1, 10).orElseThrow())
+        .extracting(CitationNeighbourDTO::getThesisId, CitationNeighbourDTO::getHops)
+        .containsExactly(tuple(3L, 1), tuple(4L, 1));
+    assertThat(citationGraphService.getRelated(1, Relation.COUPLING, 10).orElseThrow())
+        .extracting(RelatedThesisDTO::getThesisId, RelatedThesisDTO::getScore)
+        .containsExactly(tuple(2L, 2));
+
+    // Assert that a deleted thesis is removed with the citations of it
+    citationGraphService.applyChanges(List.of(), List.of(4L));
+    assertThat(citationGraphService.getStatus().getTheses()).isEqualTo(3);
+    assertThat(citationGraphService.getStatus().getCitations()).isEqualTo(2);
+
+    // Assert that an unknown thesis has no neighbours
+    when(thesisRepository.existsById(5L)).thenReturn(false);
+    assertThat(citationGraphService.getNeighbours(5, Direction.CITES, 1, 10)).isEmpty();
+    assertThat(citationGraphService.getRelated(5, Relation.BOTH, 10)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Reloads read every citation in keyset batches.")
+  @Test
+  void testReadGraph() {
+
+    when(thesisCitationRepository.findBatchAfter(0L, 0L, PageRequest.of(0, 10000)))
+        .thenReturn(rows(1, 2, 1, 3, 2, 3));
+
+    CitationGraph graph = citationGraphService.readGraph();
+    assertThat(graph.getTheses()).isEqualTo(3);
+    assertThat(graph.getCitations()).isEqualTo(3);
+  }
+
+  private static List<Object[]> rows(long... ids) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < ids.length; i += 2) {
+      rows.add(new Object[] { ids[i], ids[i + 1] });
+    }
+    return rows;
+  }
+}
@@ -2,20 +2,34 @@ package com.portfolio.dev.thesisinfomgmt.services;
 
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_ABBR_ALREADY_EXISTS;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_ABBR_REQUIRED;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_IN_USE;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NAME_REQUIRED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
 import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
 import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
 import java.util.ArrayList;
@@ -26,15 +40,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class DegreeServiceTest {
 
   @Mock
   private DegreeRepository degreeRepository;
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ChangeVersionGenerator changeVersionGenerator;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
   private DegreeService degreeService;
 
   private static final ValidationResponse validResponse =
@@ -42,7 +69,9 @@ class DegreeServiceTest {
 
   @BeforeEach
   void init() {
-    degreeService = new DegreeServiceImpl(degreeRepository);
+    degreeService = new DegreeServiceImpl(
+        degreeRepository, thesisRepository, changeVersionGenerator, transactionTemplate,
+        eventPublisher);
   }
 
   @DisplayName("[TEST] Get the list of all degrees.")
@@ -80,6 +109,87 @@ class DegreeServiceTest {
     assertThat(actualDegree).isEqualTo(mockDegreeDto);
 
     verify(degreeRepository).save(any(Degree.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Create multiple degrees in one transaction, some of them invalid.")
+  @Test
+  void testCreateDegrees() {
+
+    // Mock the transaction, degreeRepository.findAllByAbbrKeyIn and
+    // degreeRepository.saveAllAndFlush
+    mockTransaction();
+    Degree existingDegree = new Degree().withId(5).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    when(degreeRepository.findAllByAbbrKeyIn(any()))
+        .thenReturn(Arrays.asList(existingDegree.withAbbrKey("bscs")));
+    when(degreeRepository.saveAllAndFlush(anyIterable())).thenAnswer(invocation -> {
+      List<Degree> savedDegrees = new ArrayList<>();
+      invocation.<Iterable<Degree>>getArgument(0)
+          .forEach(degree -> savedDegrees.add(degree.withId(savedDegrees.size() + 10)));
+      return savedDegrees;
+    });
+
+    // Assert that each degree got its own result in the order of the request
+    List<CreateResultDTO<DegreeDTO>> actualResults = degreeService.createDegrees(Arrays.asList(
+        newDegree("alice", "MBA", "Master of Business Administration"),
+        newDegree("bob", "bscs", "Bachelor of Science in Computer Science"),
+        newDegree("alice", "", "No Abbreviation"),
+        newDegree("bob", "BSIT", "Bachelor of Science in Information Technology"),
+        newDegree("alice", "mba", "Master of Business Administration")));
+    assertThat(actualResults).hasSize(5);
+    assertThat(actualResults.get(0).getItem().getId()).isEqualTo(10L);
+    assertThat(actualResults.get(1).getItem()).isNull();
+    assertThat(actualResults.get(1).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(String.format(DEGREE_ABBR_ALREADY_EXISTS, "bscs"));
+    assertThat(actualResults.get(2).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(DEGREE_ABBR_REQUIRED);
+    assertThat(actualResults.get(3).getItem().getId()).isEqualTo(11L);
+    assertThat(actualResults.get(4).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(String.format(DEGREE_ABBR_ALREADY_EXISTS, "mba"));
+
+    verify(degreeRepository).findAllByAbbrKeyIn(any());
+    verify(degreeRepository).saveAllAndFlush(anyIterable());
+
+    // Assert that each creation was attributed to the actor who submitted it
+    ArgumentCaptor<EntityChangeEvent> events = ArgumentCaptor.forClass(EntityChangeEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(events.capture());
+    assertThat(events.getAllValues()).extracting(EntityChangeEvent::getActor)
+        .containsExactly("alice", "bob");
+  }
+
+  @DisplayName("[TEST] Create multiple degrees where one was concurrently inserted by another"
+      + " request.")
+  @Test
+  void testCreateDegreesConcurrentInsert() {
+
+    // Mock the transaction, the batch insert violates the unique key so degrees are created
+    // one by one
+    mockTransaction();
+    Degree existingDegree = new Degree().withId(5).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    Degree createdDegree = new Degree().withId(6).withAbbr("MBA")
+        .withName("Master of Business Administration");
+    when(degreeRepository.findAllByAbbrKeyIn(any())).thenReturn(new ArrayList<>());
+    when(degreeRepository.saveAllAndFlush(anyIterable()))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+    when(degreeRepository.findFirstByAbbrEqualsIgnoreCase("BSCS"))
+        .thenReturn(Optional.of(existingDegree));
+    when(degreeRepository.findFirstByAbbrEqualsIgnoreCase("MBA")).thenReturn(Optional.empty());
+    when(degreeRepository.save(any(Degree.class))).thenReturn(createdDegree);
+
+    // Assert that only the conflicting degree failed
+    List<CreateResultDTO<DegreeDTO>> actualResults = degreeService.createDegrees(Arrays.asList(
+        newDegree("alice", "BSCS", "Bachelor of Science in Computer Science"),
+        newDegree("bob", "MBA", "Master of Business Administration")));
+    assertThat(actualResults.get(0).getValidationResponse().getValidationResult())
+        .isEqualTo(ValidationResult.NG);
+    assertThat(actualResults.get(1).getItem()).isEqualTo(new DegreeDTO(createdDegree));
+
+    verify(degreeRepository).save(any(Degree.class));
+    ArgumentCaptor<EntityChangeEvent> event = ArgumentCaptor.forClass(EntityChangeEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getActor()).isEqualTo("bob");
   }
 
   @DisplayName("[TEST] Get an existing degree.")
@@ -112,6 +222,75 @@ class DegreeServiceTest {
     verify(degreeRepository).findById(anyLong());
   }
 
+  @DisplayName("[TEST] Get multiple degrees where some ids do not exist.")
+  @Test
+  void testGetDegreesByIds() {
+
+    // Mock the return of degreeRepository.findAllById
+    Degree degree1 = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    Degree degree2 = new Degree().withId(2).withAbbr("MBA")
+        .withName("Master of Business Administration");
+    when(degreeRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(degree1, degree2));
+
+    // Assert that found degrees keep the requested order and missing ids are reported
+    BatchResultDTO<DegreeDTO> actualResult =
+        degreeService.getDegrees(Arrays.asList(2L, 3L, 1L, 2L));
+    assertThat(actualResult.getItems())
+        .containsExactly(new DegreeDTO(degree2), new DegreeDTO(degree1));
+    assertThat(actualResult.getMissingIds()).containsExactly(3L);
+
+    verify(degreeRepository).findAllById(anyIterable());
+  }
+
+  @DisplayName("[TEST] Get the degree changes since a version.")
+  @Test
+  void testGetDegreeChanges() {
+
+    // Mock the return of changeVersionGenerator.getHighWaterMark and degreeRepository.findChanges
+    Degree updatedDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science")
+        .withChangeVersion(11);
+    Degree deletedDegree = new Degree().withId(2).withAbbr("MBA")
+        .withName("Master of Business Administration")
+        .withChangeVersion(12).withDeleted(true);
+    when(changeVersionGenerator.getHighWaterMark()).thenReturn(15L);
+    when(degreeRepository.findChanges(10, 15, 100))
+        .thenReturn(Arrays.asList(updatedDegree, deletedDegree));
+
+    // Assert that updated and deleted degrees are separated and the high-water mark is returned
+    ChangeSetDTO<DegreeDTO> actualChanges = degreeService.getDegreeChanges(10L, 100);
+    assertThat(actualChanges.getUpserted()).containsExactly(new DegreeDTO(updatedDegree));
+    assertThat(actualChanges.getDeletedIds()).containsExactly(2L);
+    assertThat(actualChanges.getVersion()).isEqualTo(15L);
+    assertThat(actualChanges.isHasMore()).isFalse();
+
+    verify(degreeRepository).findChanges(10, 15, 100);
+  }
+
+  @DisplayName("[TEST] Get all degrees when no version is known, limited to a page.")
+  @Test
+  void testGetDegreeChangesFullSync() {
+
+    // Mock the return of changeVersionGenerator.getHighWaterMark and degreeRepository.findChanges
+    Degree existingDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science")
+        .withChangeVersion(3);
+    Degree deletedDegree = new Degree().withId(2).withAbbr("MBA")
+        .withName("Master of Business Administration")
+        .withChangeVersion(4).withDeleted(true);
+    when(changeVersionGenerator.getHighWaterMark()).thenReturn(15L);
+    when(degreeRepository.findChanges(eq(-1L), eq(15L), eq(2)))
+        .thenReturn(Arrays.asList(existingDegree, deletedDegree));
+
+    // Assert that tombstones are skipped and the next call continues after the last row
+    ChangeSetDTO<DegreeDTO> actualChanges = degreeService.getDegreeChanges(null, 2);
+    assertThat(actualChanges.getUpserted()).containsExactly(new DegreeDTO(existingDegree));
+    assertThat(actualChanges.getDeletedIds()).isEmpty();
+    assertThat(actualChanges.getVersion()).isEqualTo(4L);
+    assertThat(actualChanges.isHasMore()).isTrue();
+  }
+
   @DisplayName("[TEST] Update an existing degree.")
   @Test
   void testUpdateDegree() {
@@ -131,6 +310,7 @@ class DegreeServiceTest {
 
     verify(degreeRepository).findById(1L);
     verify(degreeRepository).save(any(Degree.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
   }
 
   @DisplayName("[TEST] Update a non-existing degree.")
@@ -149,40 +329,124 @@ class DegreeServiceTest {
 
     verify(degreeRepository).findById(1L);
     verify(degreeRepository, never()).save(any(Degree.class));
+    verify(eventPublisher, never()).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Upsert a degree which does not exist yet.")
+  @Test
+  void testUpsertDegreeCreated() {
+
+    // Mock the transaction, degreeRepository.findByAbbrKey and degreeRepository.saveAndFlush
+    mockTransaction();
+    Degree mockDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    when(degreeRepository.findByAbbrKey("bscs")).thenReturn(Optional.empty());
+    when(degreeRepository.saveAndFlush(any(Degree.class))).thenReturn(mockDegree);
+
+    // Assert that the degree was reported as created
+    UpsertResultDTO<DegreeDTO> actualResult =
+        degreeService.upsertDegree("BSCS", new DegreeDTO(mockDegree));
+    assertThat(actualResult.isCreated()).isTrue();
+    assertThat(actualResult.getItem()).isEqualTo(new DegreeDTO(mockDegree));
+
+    verify(degreeRepository).findByAbbrKey("bscs");
+    verify(degreeRepository).saveAndFlush(any(Degree.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Upsert a degree which already exists.")
+  @Test
+  void testUpsertDegreeUpdated() {
+
+    // Mock the transaction, degreeRepository.findByAbbrKey and degreeRepository.saveAndFlush
+    mockTransaction();
+    Degree existingDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    when(degreeRepository.findByAbbrKey("bscs")).thenReturn(Optional.of(existingDegree));
+    when(degreeRepository.saveAndFlush(existingDegree)).thenReturn(existingDegree);
+
+    // Assert that the existing degree was updated instead of inserting a new one
+    UpsertResultDTO<DegreeDTO> actualResult =
+        degreeService.upsertDegree("BSCS", new DegreeDTO(existingDegree));
+    assertThat(actualResult.isCreated()).isFalse();
+    assertThat(actualResult.getItem().getId()).isEqualTo(1L);
+
+    verify(degreeRepository).saveAndFlush(existingDegree);
+  }
+
+  @DisplayName("[TEST] Upsert a degree which was concurrently inserted by another request.")
+  @Test
+  void testUpsertDegreeConcurrentInsert() {
+
+    // Mock the transaction, the first save violates the unique key and the retry finds the row
+    mockTransaction();
+    Degree existingDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    when(degreeRepository.findByAbbrKey("bscs"))
+        .thenReturn(Optional.empty(), Optional.of(existingDegree));
+    when(degreeRepository.saveAndFlush(any(Degree.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"))
+        .thenReturn(existingDegree);
+
+    // Assert that the retry updated the row inserted by the other request
+    UpsertResultDTO<DegreeDTO> actualResult =
+        degreeService.upsertDegree("BSCS", new DegreeDTO(existingDegree));
+    assertThat(actualResult.isCreated()).isFalse();
+
+    verify(degreeRepository, times(2)).saveAndFlush(any(Degree.class));
   }
 
   @DisplayName("[TEST] Delete an existing degree.")
   @Test
   void testDeleteDegree() {
 
-    // Mock the return of degreeRepository.findById and degreeRepository.deleteById
-    // should do nothing
+    // Mock the return of degreeRepository.findForUpdateById
     Degree deleteDegree = new Degree().withId(1).withAbbr("BSCS")
         .withName("Bachelor of Science in Computer Science");
-    when(degreeRepository.findById(1L)).thenReturn(Optional.of(deleteDegree));
-    doNothing().when(degreeRepository).deleteById(1L);
+    when(degreeRepository.findForUpdateById(1L)).thenReturn(Optional.of(deleteDegree));
 
-    // Assert the return of degreeService.deleteDegree is not empty and is equal to the expected
+    // Assert the return of degreeService.deleteDegree is not empty and is equal to the expected,
+    // and that a tombstone was saved instead of deleting the row
     Optional<DegreeDTO> deletedDegree = degreeService.deleteDegree(1);
     assertThat(deletedDegree).isNotEmpty().contains(new DegreeDTO(deleteDegree));
 
-    verify(degreeRepository).findById(1L);
-    verify(degreeRepository).deleteById(1L);
+    verify(degreeRepository).findForUpdateById(1L);
+    verify(degreeRepository).save(argThat(Degree::isDeleted));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
   }
 
   @DisplayName("[TEST] Delete a non-existing degree.")
   @Test
   void testDeleteDegreeNotExisting() {
 
-    // Mock the return of degreeRepository.findById
-    when(degreeRepository.findById(1L)).thenReturn(Optional.empty());
+    // Mock the return of degreeRepository.findForUpdateById
+    when(degreeRepository.findForUpdateById(1L)).thenReturn(Optional.empty());
 
     // Assert the return of degreeService.deleteDegree is empty since it does not exist
     Optional<DegreeDTO> deletedDegree = degreeService.deleteDegree(1L);
     assertThat(deletedDegree).isEmpty();
 
-    verify(degreeRepository).findById(1L);
-    verify(degreeRepository, never()).deleteById(1L);
+    verify(degreeRepository).findForUpdateById(1L);
+    verify(degreeRepository, never()).save(any(Degree.class));
+  }
+
+  @DisplayName("[TEST] Delete a degree still referenced by theses.")
+  @Test
+  void testDeleteDegreeInUse() {
+
+    // Mock a degree referenced by a thesis
+    Degree deleteDegree = new Degree().withId(1).withAbbr("BSCS")
+        .withName("Bachelor of Science in Computer Science");
+    when(degreeRepository.findForUpdateById(1L)).thenReturn(Optional.of(deleteDegree));
+    when(thesisRepository.existsByDegreeId(1L)).thenReturn(true);
+
+    // Assert that the deletion is rejected and no tombstone is saved
+    assertThatThrownBy(() -> degreeService.deleteDegree(1L))
+        .isInstanceOf(EntityInUseException.class)
+        .hasMessage(String.format(DEGREE_IN_USE, 1L));
+
+    verify(degreeRepository, never()).save(any(Degree.class));
+    verify(eventPublisher, never()).publishEvent(any());
   }
 
   @DisplayName("[TEST] Validate a valid new degree.")
@@ -325,4 +589,17 @@ class DegreeServiceTest {
         .withErrorMessage(new ErrorMessage(DEGREE_NAME_REQUIRED));
     assertThat(actualResponse).isEqualTo(expectedResponse);
   }
+
+  private void mockTransaction() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private static Attributed<DegreeDTO> newDegree(String actor, String abbr, String name) {
+    return Attributed.of(newDegreeDTO(abbr, name), actor);
+  }
+
+  private static DegreeDTO newDegreeDTO(String abbr, String name) {
+    return new DegreeDTO(new Degree().withAbbr(abbr).withName(name));
+  }
 }
@@ -0,0 +1,106 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Stage;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentJob.Status;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.PdfTextExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentProcessingServiceTest {
+
+  private static final String KEY = "a".repeat(64);
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private DocumentJobRepository documentJobRepository;
+  @Mock
+  private PdfTextExtractor pdfTextExtractor;
+  @Mock
+  private ThesisSearchService thesisSearchService;
+  @Mock
+  private NearDuplicateService nearDuplicateService;
+  private DocumentProcessingServiceImpl documentProcessingService;
+
+  @BeforeEach
+  void init() {
+    documentProcessingService = new DocumentProcessingServiceImpl(documentJobRepository,
+        new DocumentStore(directory, 2, 2), pdfTextExtractor, thesisSearchService,
+        nearDuplicateService, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry(), 1, 4, 1, 4, 1, 4, 3, 30, 1000);
+  }
+
+  @AfterEach
+  void destroy() {
+    documentProcessingService.destroy();
+  }
+
+  @DisplayName("[TEST] A claimed job is extracted, normalized, indexed and completed.")
+  @Test
+  void testProcessJob() throws Exception {
+
+    // Mock a due job and its document
+    mockDueJob(0);
+    when(pdfTextExtractor.extract(any())).thenReturn("Keyset pagina-\ntion\n\nof catalogues");
+    when(thesisSearchService.indexDocumentText(1, KEY, "Keyset pagination\n\nof catalogues"))
+        .thenReturn(true);
+
+    // Assert that the normalized text is indexed and fingerprinted, and the job completed
+    assertThat(documentProcessingService.dispatchDueJobs()).isEqualTo(1);
+    verify(documentJobRepository, timeout(5000)).complete(eq(1L), eq(KEY), any());
+    verify(thesisSearchService).indexDocumentText(1, KEY, "Keyset pagination\n\nof catalogues");
+    verify(nearDuplicateService).queueThesis(1);
+  }
+
+  @DisplayName("[TEST] A failed job is retried later, and given up after the last attempt.")
+  @Test
+  void testFailedJob() throws Exception {
+
+    when(pdfTextExtractor.extract(any())).thenThrow(new IOException("Unreadable"));
+
+    // Assert that the first failure is retried
+    mockDueJob(0);
+    documentProcessingService.dispatchDueJobs();
+    verify(documentJobRepository, timeout(5000)).fail(eq(1L), eq(KEY), eq(Status.PENDING),
+        eq(Stage.EXTRACT), eq("java.io.IOException: Unreadable"), any(), any());
+
+    // Assert that the last failure gives up
+    mockDueJob(2);
+    documentProcessingService.dispatchDueJobs();
+    verify(documentJobRepository, timeout(5000)).fail(eq(1L), eq(KEY), eq(Status.DEAD),
+        eq(Stage.EXTRACT), any(), any(), any());
+  }
+
+  private void mockDueJob(int attempts) {
+    DocumentJob job = new DocumentJob(1, KEY, Status.PENDING, null, attempts, Instant.now(),
+        null, Instant.now());
+    when(documentJobRepository.findDue(any(), any())).thenReturn(Collections.singletonList(job));
+    when(documentJobRepository.claim(eq(1L), eq(KEY), any())).thenReturn(1);
+  }
+}
@@ -0,0 +1,110 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DuplicateCandidateDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.NearDuplicatesDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchDocument;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NearDuplicateServiceTest {
+
+  private static final String ABSTRACT = "Catalogues of theses are paged with a keyset instead of"
+      + " offsets, so that deep pages are read as fast as the first one.";
+
+  private static final String CONTENT = "The keyset is the sort key of the last thesis of a page,"
+      + " which the next page starts after. Inserted theses do not shift the following pages.";
+
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ThesisDocumentRepository thesisDocumentRepository;
+  @Mock
+  private SearchIndex searchIndex;
+  private NearDuplicateServiceImpl nearDuplicateService;
+
+  @BeforeEach
+  void init() {
+    nearDuplicateService = new NearDuplicateServiceImpl(thesisRepository,
+        thesisDocumentRepository, searchIndex,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry(), 128, 32, 3, 2);
+  }
+
+  @AfterEach
+  void destroy() {
+    nearDuplicateService.destroy();
+  }
+
+  @DisplayName("[TEST] Abstracts and document texts are compared, and deleted theses removed.")
+  @Test
+  void testFindCandidates() {
+
+    // Mock a thesis with the document text of the first one and another with its abstract
+    Thesis first = new Thesis().withId(1).withTitle("Keyset Pagination")
+        .withAbstractText(ABSTRACT);
+    Thesis second = new Thesis().withId(2).withTitle("Paging Large Catalogues")
+        .withAbstractText(ABSTRACT.replace("deep pages", "later pages"));
+    Thesis third = new Thesis().withId(3).withTitle("Caching Web Applications")
+        .withAbstractText(ABSTRACT);
+    when(thesisRepository.findById(1L)).thenReturn(Optional.of(first));
+    when(thesisRepository.findById(2L)).thenReturn(Optional.of(second));
+    when(thesisRepository.findById(3L)).thenReturn(Optional.of(third));
+    when(thesisDocumentRepository.existsById(1L)).thenReturn(true);
+    when(thesisDocumentRepository.existsById(2L)).thenReturn(true);
+    when(thesisDocumentRepository.existsById(3L)).thenReturn(false);
+    when(searchIndex.get(1L)).thenReturn(Optional.of(document(1)));
+    when(searchIndex.get(2L)).thenReturn(Optional.of(document(2)));
+    nearDuplicateService.applyThesis(1);
+    nearDuplicateService.applyThesis(2);
+    nearDuplicateService.applyThesis(3);
+
+    // Assert that identical texts rank first and abstracts are compared with abstracts only
+    when(thesisRepository.existsById(1L)).thenReturn(true);
+    when(thesisRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(second, third));
+    Optional<NearDuplicatesDTO> duplicates = nearDuplicateService.findCandidates(1, 0.5, 10);
+    assertThat(duplicates).isPresent();
+    assertThat(duplicates.get().isAbstractIndexed()).isTrue();
+    assertThat(duplicates.get().isDocumentIndexed()).isTrue();
+    assertThat(duplicates.get().getCandidates())
+        .extracting(DuplicateCandidateDTO::getThesisId, DuplicateCandidateDTO::getTitle,
+            DuplicateCandidateDTO::getSource)
+        .containsExactly(
+            tuple(2L, "Paging Large Catalogues", "document"),
+            tuple(3L, "Caching Web Applications", "abstract"),
+            tuple(2L, "Paging Large Catalogues", "abstract"));
+
+    // Assert that a deleted thesis is removed from both indexes
+    when(thesisRepository.findById(2L)).thenReturn(Optional.empty());
+    nearDuplicateService.applyThesis(2);
+    assertThat(nearDuplicateService.getStatus().getIndexedAbstracts()).isEqualTo(2);
+    assertThat(nearDuplicateService.getStatus().getIndexedDocuments()).isEqualTo(1);
+
+    // Assert that an unknown thesis has no candidates
+    when(thesisRepository.existsById(4L)).thenReturn(false);
+    assertThat(nearDuplicateService.findCandidates(4, 0.5, 10)).isEmpty();
+  }
+
+  private static SearchDocument document(long id) {
+    return new SearchDocument(id, "", "", 2022, 1, "a".repeat(64), CONTENT);
+  }
+}
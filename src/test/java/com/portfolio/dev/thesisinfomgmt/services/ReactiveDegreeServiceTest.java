@@ -0,0 +1,91 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import io.r2dbc.spi.ConnectionFactories;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+class ReactiveDegreeServiceTest {
+
+  private DatabaseClient databaseClient;
+  private ReactiveDegreeService reactiveDegreeService;
+
+  @BeforeEach
+  void init() {
+    // Embedded in-memory database, recreated for every test
+    databaseClient = DatabaseClient.create(ConnectionFactories.get(
+        "r2dbc:h2:mem:///reactive-degree-test?options=DB_CLOSE_DELAY=-1"));
+    databaseClient.sql("DROP TABLE IF EXISTS degree").then().block();
+    databaseClient.sql("CREATE TABLE degree (id BIGINT PRIMARY KEY, abbr VARCHAR(255),"
+        + " name VARCHAR(255), deleted BOOLEAN NOT NULL)").then().block();
+    insertDegree(2, "BSIT", "Bachelor of Science in Information Technology", false);
+    insertDegree(1, "BSCS", "Bachelor of Science in Computer Science", false);
+    insertDegree(3, "BSIS", "Bachelor of Science in Information Systems", true);
+    reactiveDegreeService = new ReactiveDegreeServiceImpl(databaseClient);
+  }
+
+  @DisplayName("[TEST] Stream all degrees ordered by id, without deleted ones.")
+  @Test
+  void testGetAllDegrees() {
+
+    // Assert that only degrees which are not deleted are streamed
+    StepVerifier.create(reactiveDegreeService.getAllDegrees())
+        .expectNext(degree(1, "BSCS", "Bachelor of Science in Computer Science"))
+        .expectNext(degree(2, "BSIT", "Bachelor of Science in Information Technology"))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Stream degrees only as fast as they are requested.")
+  @Test
+  void testGetAllDegreesBackpressure() {
+
+    // Assert that no degree is emitted before it is requested
+    StepVerifier.create(reactiveDegreeService.getAllDegrees(), 0)
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(50))
+        .thenRequest(1)
+        .expectNext(degree(1, "BSCS", "Bachelor of Science in Computer Science"))
+        .thenRequest(1)
+        .expectNext(degree(2, "BSIT", "Bachelor of Science in Information Technology"))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Get a degree.")
+  @Test
+  void testGetDegree() {
+
+    // Assert that the degree is retrieved
+    StepVerifier.create(reactiveDegreeService.getDegree(1))
+        .expectNext(degree(1, "BSCS", "Bachelor of Science in Computer Science"))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Get a degree that is missing or deleted.")
+  @Test
+  void testGetDegreeNotFound() {
+
+    // Assert that nothing is emitted for missing and deleted degrees
+    StepVerifier.create(reactiveDegreeService.getDegree(99)).verifyComplete();
+    StepVerifier.create(reactiveDegreeService.getDegree(3)).verifyComplete();
+  }
+
+  private void insertDegree(long id, String abbr, String name, boolean deleted) {
+    databaseClient.sql("INSERT INTO degree (id, abbr, name, deleted)"
+            + " VALUES (:id, :abbr, :name, :deleted)")
+        .bind("id", id)
+        .bind("abbr", abbr)
+        .bind("name", name)
+        .bind("deleted", deleted)
+        .then()
+        .block();
+  }
+
+  private static DegreeDTO degree(long id, String abbr, String name) {
+    return new DegreeDTO(new Degree().withId(id).withAbbr(abbr).withName(name));
+  }
+}
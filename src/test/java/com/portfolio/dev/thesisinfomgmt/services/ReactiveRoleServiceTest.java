@@ -0,0 +1,91 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import io.r2dbc.spi.ConnectionFactories;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+class ReactiveRoleServiceTest {
+
+  private DatabaseClient databaseClient;
+  private ReactiveRoleService reactiveRoleService;
+
+  @BeforeEach
+  void init() {
+    // Embedded in-memory database, recreated for every test
+    databaseClient = DatabaseClient.create(ConnectionFactories.get(
+        "r2dbc:h2:mem:///reactive-role-test?options=DB_CLOSE_DELAY=-1"));
+    databaseClient.sql("DROP TABLE IF EXISTS role").then().block();
+    databaseClient.sql("CREATE TABLE role (id BIGINT PRIMARY KEY, name VARCHAR(255),"
+        + " description VARCHAR(255), deleted BOOLEAN NOT NULL)").then().block();
+    insertRole(2, "Adviser", "Thesis adviser.", false);
+    insertRole(1, "Researcher", "Thesis researcher.", false);
+    insertRole(3, "Panelist", "Thesis panelist.", true);
+    reactiveRoleService = new ReactiveRoleServiceImpl(databaseClient);
+  }
+
+  @DisplayName("[TEST] Stream all roles ordered by id, without deleted ones.")
+  @Test
+  void testGetAllRoles() {
+
+    // Assert that only roles which are not deleted are streamed
+    StepVerifier.create(reactiveRoleService.getAllRoles())
+        .expectNext(role(1, "Researcher", "Thesis researcher."))
+        .expectNext(role(2, "Adviser", "Thesis adviser."))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Stream roles only as fast as they are requested.")
+  @Test
+  void testGetAllRolesBackpressure() {
+
+    // Assert that no role is emitted before it is requested
+    StepVerifier.create(reactiveRoleService.getAllRoles(), 0)
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(50))
+        .thenRequest(1)
+        .expectNext(role(1, "Researcher", "Thesis researcher."))
+        .thenRequest(1)
+        .expectNext(role(2, "Adviser", "Thesis adviser."))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Get a role.")
+  @Test
+  void testGetRole() {
+
+    // Assert that the role is retrieved
+    StepVerifier.create(reactiveRoleService.getRole(1))
+        .expectNext(role(1, "Researcher", "Thesis researcher."))
+        .verifyComplete();
+  }
+
+  @DisplayName("[TEST] Get a role that is missing or deleted.")
+  @Test
+  void testGetRoleNotFound() {
+
+    // Assert that nothing is emitted for missing and deleted roles
+    StepVerifier.create(reactiveRoleService.getRole(99)).verifyComplete();
+    StepVerifier.create(reactiveRoleService.getRole(3)).verifyComplete();
+  }
+
+  private void insertRole(long id, String name, String description, boolean deleted) {
+    databaseClient.sql("INSERT INTO role (id, name, description, deleted)"
+            + " VALUES (:id, :name, :description, :deleted)")
+        .bind("id", id)
+        .bind("name", name)
+        .bind("description", description)
+        .bind("deleted", deleted)
+        .then()
+        .block();
+  }
+
+  private static RoleDTO role(long id, String name, String description) {
+    return new RoleDTO(new Role().withId(id).withName(name).withDescription(description));
+  }
+}
@@ -0,0 +1,80 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ReferenceDataDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataServiceTest {
+
+  @Mock
+  private DegreeService degreeService;
+  @Mock
+  private RoleService roleService;
+  @Mock
+  private ChangeVersionGenerator changeVersionGenerator;
+  private ReferenceDataService referenceDataService;
+
+  @BeforeEach
+  void init() {
+    referenceDataService = new ReferenceDataServiceImpl(degreeService, roleService,
+        changeVersionGenerator);
+  }
+
+  @DisplayName("[TEST] Get reference data containing all degrees and roles.")
+  @Test
+  void testGetReferenceData() {
+
+    // Mock the return of degreeService.getAllDegrees and roleService.getAllRoles
+    List<DegreeDTO> degrees = Collections.singletonList(new DegreeDTO(
+        new Degree().withId(1).withAbbr("BSCS")
+            .withName("Bachelor of Science in Computer Science")));
+    List<RoleDTO> roles = Collections.singletonList(new RoleDTO(
+        new Role().withId(1).withName("Researcher").withDescription("Thesis researcher.")));
+    when(degreeService.getAllDegrees()).thenReturn(degrees);
+    when(roleService.getAllRoles()).thenReturn(roles);
+
+    // Assert that the payload contains every lookup table and a version
+    ReferenceDataDTO actualReferenceData = referenceDataService.getReferenceData();
+    assertThat(actualReferenceData.getDegrees()).isEqualTo(degrees);
+    assertThat(actualReferenceData.getRoles()).isEqualTo(roles);
+    assertThat(actualReferenceData.getVersion()).isNotEmpty();
+
+    verify(degreeService).getAllDegrees();
+    verify(roleService).getAllRoles();
+  }
+
+  @DisplayName("[TEST] Reference data version follows the change version high-water mark.")
+  @Test
+  void testGetVersion() {
+
+    // Mock the return of changeVersionGenerator.getHighWaterMark, first unchanged then advanced
+    when(changeVersionGenerator.getHighWaterMark()).thenReturn(5L, 5L, 6L);
+
+    // Assert that the version is stable without changes and differs once a change committed
+    String firstVersion = referenceDataService.getVersion();
+    String secondVersion = referenceDataService.getVersion();
+    String updatedVersion = referenceDataService.getVersion();
+    assertThat(secondVersion).isEqualTo(firstVersion);
+    assertThat(updatedVersion).isNotEqualTo(firstVersion);
+
+    // Assert that the version is computed without reading the lookup tables
+    verifyNoInteractions(degreeService, roleService);
+  }
+}
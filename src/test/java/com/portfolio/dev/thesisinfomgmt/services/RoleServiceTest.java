@@ -1,20 +1,34 @@
 package com.portfolio.dev.thesisinfomgmt.services;
 
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_IN_USE;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NAME_ALREADY_EXISTS;
 import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NAME_REQUIRED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.portfolio.dev.thesisinfomgmt.dtos.BatchResultDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ChangeSetDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.CreateResultDTO;
 import com.portfolio.dev.thesisinfomgmt.dtos.ErrorMessage;
 import com.portfolio.dev.thesisinfomgmt.dtos.RoleDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.UpsertResultDTO;
 import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
 import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.Attributed;
+import com.portfolio.dev.thesisinfomgmt.utilities.ChangeVersionGenerator;
+import com.portfolio.dev.thesisinfomgmt.utilities.EntityInUseException;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
 import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
 import java.util.ArrayList;
@@ -25,15 +39,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class RoleServiceTest {
 
   @Mock
   private RoleRepository roleRepository;
+  @Mock
+  private ThesisAuthorRepository thesisAuthorRepository;
+  @Mock
+  private ChangeVersionGenerator changeVersionGenerator;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
   private RoleService roleService;
 
   private static final ValidationResponse validResponse =
@@ -41,7 +68,9 @@ class RoleServiceTest {
 
   @BeforeEach
   void init() {
-    roleService = new RoleServiceImpl(roleRepository);
+    roleService = new RoleServiceImpl(
+        roleRepository, thesisAuthorRepository, changeVersionGenerator, transactionTemplate,
+        eventPublisher);
   }
 
   @DisplayName("[TEST] Get the list of all roles.")
@@ -78,6 +107,79 @@ class RoleServiceTest {
     RoleDTO actualRole = roleService.createRole(mockRoleDto);
     assertThat(actualRole).isEqualTo(mockRoleDto);
 
+    verify(roleRepository).save(any(Role.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Create multiple roles in one transaction, some of them invalid.")
+  @Test
+  void testCreateRoles() {
+
+    // Mock the transaction, roleRepository.findAllByNameKeyIn and roleRepository.saveAllAndFlush
+    mockTransaction();
+    Role existingRole = new Role().withId(5).withName("Adviser")
+        .withDescription("This is a description.");
+    when(roleRepository.findAllByNameKeyIn(any()))
+        .thenReturn(Arrays.asList(existingRole.withNameKey("adviser")));
+    when(roleRepository.saveAllAndFlush(anyIterable())).thenAnswer(invocation -> {
+      List<Role> savedRoles = new ArrayList<>();
+      invocation.<Iterable<Role>>getArgument(0)
+          .forEach(role -> savedRoles.add(role.withId(savedRoles.size() + 10)));
+      return savedRoles;
+    });
+
+    // Assert that each role got its own result in the order of the request
+    List<CreateResultDTO<RoleDTO>> actualResults = roleService.createRoles(Arrays.asList(
+        newRole("alice", "Researcher", "This is a description."),
+        newRole("bob", "ADVISER", "This is a description."),
+        newRole("bob", null, "This is a description."),
+        newRole("bob", "researcher", "This is a description.")));
+    assertThat(actualResults).hasSize(4);
+    assertThat(actualResults.get(0).getItem().getId()).isEqualTo(10L);
+    assertThat(actualResults.get(1).getItem()).isNull();
+    assertThat(actualResults.get(1).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(String.format(ROLE_NAME_ALREADY_EXISTS, "ADVISER"));
+    assertThat(actualResults.get(2).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(ROLE_NAME_REQUIRED);
+    assertThat(actualResults.get(3).getValidationResponse().getErrorMessage().getMessage())
+        .isEqualTo(String.format(ROLE_NAME_ALREADY_EXISTS, "researcher"));
+
+    verify(roleRepository).findAllByNameKeyIn(any());
+    verify(roleRepository).saveAllAndFlush(anyIterable());
+    ArgumentCaptor<EntityChangeEvent> event = ArgumentCaptor.forClass(EntityChangeEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getActor()).isEqualTo("alice");
+  }
+
+  @DisplayName("[TEST] Create multiple roles where one was concurrently inserted by another"
+      + " request.")
+  @Test
+  void testCreateRolesConcurrentInsert() {
+
+    // Mock the transaction, the batch insert violates the unique key so roles are created
+    // one by one
+    mockTransaction();
+    Role existingRole = new Role().withId(5).withName("Adviser")
+        .withDescription("This is a description.");
+    Role createdRole = new Role().withId(6).withName("Researcher")
+        .withDescription("This is a description.");
+    when(roleRepository.findAllByNameKeyIn(any())).thenReturn(new ArrayList<>());
+    when(roleRepository.saveAllAndFlush(anyIterable()))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+    when(roleRepository.findFirstByNameEqualsIgnoreCase("Adviser"))
+        .thenReturn(Optional.of(existingRole));
+    when(roleRepository.findFirstByNameEqualsIgnoreCase("Researcher"))
+        .thenReturn(Optional.empty());
+    when(roleRepository.save(any(Role.class))).thenReturn(createdRole);
+
+    // Assert that only the conflicting role failed
+    List<CreateResultDTO<RoleDTO>> actualResults = roleService.createRoles(Arrays.asList(
+        newRole("alice", "Adviser", "This is a description."),
+        newRole("bob", "Researcher", "This is a description.")));
+    assertThat(actualResults.get(0).getValidationResponse().getValidationResult())
+        .isEqualTo(ValidationResult.NG);
+    assertThat(actualResults.get(1).getItem()).isEqualTo(new RoleDTO(createdRole));
+
     verify(roleRepository).save(any(Role.class));
   }
 
@@ -111,6 +213,74 @@ class RoleServiceTest {
     verify(roleRepository).findById(anyLong());
   }
 
+  @DisplayName("[TEST] Get multiple roles where some ids do not exist.")
+  @Test
+  void testGetRolesByIds() {
+
+    // Mock the return of roleRepository.findAllById
+    Role mockRole1 = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.");
+    Role mockRole2 = new Role().withId(2).withName("Adviser")
+        .withDescription("Thesis adviser.");
+    when(roleRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(mockRole1, mockRole2));
+
+    // Assert that found roles keep the requested order and missing ids are reported
+    BatchResultDTO<RoleDTO> actualResult = roleService.getRoles(Arrays.asList(2L, 3L, 1L, 2L));
+    assertThat(actualResult.getItems())
+        .containsExactly(new RoleDTO(mockRole2), new RoleDTO(mockRole1));
+    assertThat(actualResult.getMissingIds()).containsExactly(3L);
+
+    verify(roleRepository).findAllById(anyIterable());
+  }
+
+  @DisplayName("[TEST] Get the role changes since a version.")
+  @Test
+  void testGetRoleChanges() {
+
+    // Mock the return of changeVersionGenerator.getHighWaterMark and roleRepository.findChanges
+    Role updatedRole = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.")
+        .withChangeVersion(11);
+    Role deletedRole = new Role().withId(2).withName("Adviser")
+        .withDescription("Thesis adviser.")
+        .withChangeVersion(12).withDeleted(true);
+    when(changeVersionGenerator.getHighWaterMark()).thenReturn(15L);
+    when(roleRepository.findChanges(10, 15, 100))
+        .thenReturn(Arrays.asList(updatedRole, deletedRole));
+
+    // Assert that updated and deleted roles are separated and the high-water mark is returned
+    ChangeSetDTO<RoleDTO> actualChanges = roleService.getRoleChanges(10L, 100);
+    assertThat(actualChanges.getUpserted()).containsExactly(new RoleDTO(updatedRole));
+    assertThat(actualChanges.getDeletedIds()).containsExactly(2L);
+    assertThat(actualChanges.getVersion()).isEqualTo(15L);
+    assertThat(actualChanges.isHasMore()).isFalse();
+
+    verify(roleRepository).findChanges(10, 15, 100);
+  }
+
+  @DisplayName("[TEST] Get all roles when no version is known, limited to a page.")
+  @Test
+  void testGetRoleChangesFullSync() {
+
+    // Mock the return of changeVersionGenerator.getHighWaterMark and roleRepository.findChanges
+    Role existingRole = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.")
+        .withChangeVersion(3);
+    Role deletedRole = new Role().withId(2).withName("Adviser")
+        .withDescription("Thesis adviser.")
+        .withChangeVersion(4).withDeleted(true);
+    when(changeVersionGenerator.getHighWaterMark()).thenReturn(15L);
+    when(roleRepository.findChanges(eq(-1L), eq(15L), eq(2)))
+        .thenReturn(Arrays.asList(existingRole, deletedRole));
+
+    // Assert that tombstones are skipped and the next call continues after the last row
+    ChangeSetDTO<RoleDTO> actualChanges = roleService.getRoleChanges(null, 2);
+    assertThat(actualChanges.getUpserted()).containsExactly(new RoleDTO(existingRole));
+    assertThat(actualChanges.getDeletedIds()).isEmpty();
+    assertThat(actualChanges.getVersion()).isEqualTo(4L);
+    assertThat(actualChanges.isHasMore()).isTrue();
+  }
+
   @DisplayName("[TEST] Update an existing role.")
   @Test
   void testUpdateRole() {
@@ -130,6 +300,7 @@ class RoleServiceTest {
 
     verify(roleRepository).findById(1L);
     verify(roleRepository).save(any(Role.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
   }
 
   @DisplayName("[TEST] Update a non-existing role.")
@@ -147,39 +318,124 @@ class RoleServiceTest {
 
     verify(roleRepository).findById(1L);
     verify(roleRepository, never()).save(any(Role.class));
+    verify(eventPublisher, never()).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Upsert a role which does not exist yet.")
+  @Test
+  void testUpsertRoleCreated() {
+
+    // Mock the transaction, roleRepository.findByNameKey and roleRepository.saveAndFlush
+    mockTransaction();
+    Role mockRole = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.");
+    when(roleRepository.findByNameKey("researcher")).thenReturn(Optional.empty());
+    when(roleRepository.saveAndFlush(any(Role.class))).thenReturn(mockRole);
+
+    // Assert that the role was reported as created
+    UpsertResultDTO<RoleDTO> actualResult =
+        roleService.upsertRole("Researcher", new RoleDTO(mockRole));
+    assertThat(actualResult.isCreated()).isTrue();
+    assertThat(actualResult.getItem()).isEqualTo(new RoleDTO(mockRole));
+
+    verify(roleRepository).findByNameKey("researcher");
+    verify(roleRepository).saveAndFlush(any(Role.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Upsert a role which already exists.")
+  @Test
+  void testUpsertRoleUpdated() {
+
+    // Mock the transaction, roleRepository.findByNameKey and roleRepository.saveAndFlush
+    mockTransaction();
+    Role existingRole = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.");
+    when(roleRepository.findByNameKey("researcher")).thenReturn(Optional.of(existingRole));
+    when(roleRepository.saveAndFlush(existingRole)).thenReturn(existingRole);
+
+    // Assert that the existing role was updated instead of inserting a new one
+    UpsertResultDTO<RoleDTO> actualResult =
+        roleService.upsertRole("RESEARCHER", new RoleDTO(existingRole));
+    assertThat(actualResult.isCreated()).isFalse();
+    assertThat(actualResult.getItem().getId()).isEqualTo(1L);
+
+    verify(roleRepository).saveAndFlush(existingRole);
+  }
+
+  @DisplayName("[TEST] Upsert a role which was concurrently inserted by another request.")
+  @Test
+  void testUpsertRoleConcurrentInsert() {
+
+    // Mock the transaction, the first save violates the unique key and the retry finds the row
+    mockTransaction();
+    Role existingRole = new Role().withId(1).withName("Researcher")
+        .withDescription("Thesis researcher.");
+    when(roleRepository.findByNameKey("researcher"))
+        .thenReturn(Optional.empty(), Optional.of(existingRole));
+    when(roleRepository.saveAndFlush(any(Role.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"))
+        .thenReturn(existingRole);
+
+    // Assert that the retry updated the row inserted by the other request
+    UpsertResultDTO<RoleDTO> actualResult =
+        roleService.upsertRole("Researcher", new RoleDTO(existingRole));
+    assertThat(actualResult.isCreated()).isFalse();
+
+    verify(roleRepository, times(2)).saveAndFlush(any(Role.class));
   }
 
   @DisplayName("[TEST] Delete an existing role.")
   @Test
   void testDeleteRole() {
 
-    // Mock the return of roleRepository.findById and roleRepository.deleteById should do nothing
+    // Mock the return of roleRepository.findForUpdateById
     Role deleteRole = new Role().withId(1).withName("Researcher")
         .withDescription("This is a description.");
-    when(roleRepository.findById(1L)).thenReturn(Optional.of(deleteRole));
-    doNothing().when(roleRepository).deleteById(1L);
+    when(roleRepository.findForUpdateById(1L)).thenReturn(Optional.of(deleteRole));
 
-    // Assert the return of roleService.deleteRole is not empty and is equal to the expected
+    // Assert the return of roleService.deleteRole is not empty and is equal to the expected,
+    // and that a tombstone was saved instead of deleting the row
     Optional<RoleDTO> deletedRole = roleService.deleteRole(1);
     assertThat(deletedRole).isNotEmpty().contains(new RoleDTO(deleteRole));
 
-    verify(roleRepository).findById(1L);
-    verify(roleRepository).deleteById(1L);
+    verify(roleRepository).findForUpdateById(1L);
+    verify(roleRepository).save(argThat(Role::isDeleted));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
   }
 
   @DisplayName("[TEST] Delete a non-existing role.")
   @Test
   void testDeleteRoleNotExisting() {
 
-    // Mock the return of roleRepository.findById
-    when(roleRepository.findById(1L)).thenReturn(Optional.empty());
+    // Mock the return of roleRepository.findForUpdateById
+    when(roleRepository.findForUpdateById(1L)).thenReturn(Optional.empty());
 
     // Assert the return of roleService.deleteRole is empty since it does not exist
     Optional<RoleDTO> deletedRole = roleService.deleteRole(1L);
     assertThat(deletedRole).isEmpty();
 
-    verify(roleRepository).findById(1L);
-    verify(roleRepository, never()).deleteById(1L);
+    verify(roleRepository).findForUpdateById(1L);
+    verify(roleRepository, never()).save(any(Role.class));
+  }
+
+  @DisplayName("[TEST] Delete a role still referenced by theses.")
+  @Test
+  void testDeleteRoleInUse() {
+
+    // Mock a role held by a thesis author
+    Role deleteRole = new Role().withId(1).withName("Researcher")
+        .withDescription("This is a description.");
+    when(roleRepository.findForUpdateById(1L)).thenReturn(Optional.of(deleteRole));
+    when(thesisAuthorRepository.existsByRoleId(1L)).thenReturn(true);
+
+    // Assert that the deletion is rejected and no tombstone is saved
+    assertThatThrownBy(() -> roleService.deleteRole(1L))
+        .isInstanceOf(EntityInUseException.class)
+        .hasMessage(String.format(ROLE_IN_USE, 1L));
+
+    verify(roleRepository, never()).save(any(Role.class));
+    verify(eventPublisher, never()).publishEvent(any());
   }
 
   @DisplayName("[TEST] Validate a valid new role.")
@@ -296,4 +552,17 @@ class RoleServiceTest {
 
     verify(roleRepository, never()).findFirstByNameEqualsIgnoreCase(anyString());
   }
+
+  private void mockTransaction() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private static Attributed<RoleDTO> newRole(String actor, String name, String description) {
+    return Attributed.of(newRoleDTO(name, description), actor);
+  }
+
+  private static RoleDTO newRoleDTO(String name, String description) {
+    return new RoleDTO(new Role().withName(name).withDescription(description));
+  }
 }
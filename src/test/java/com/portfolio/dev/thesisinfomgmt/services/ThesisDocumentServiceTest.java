@@ -0,0 +1,209 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDocumentDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.DocumentContent;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.events.ThesisDocumentChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentContentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore;
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisDocumentServiceTest {
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private ThesisDocumentRepository thesisDocumentRepository;
+  @Mock
+  private DocumentContentRepository documentContentRepository;
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private DocumentJobRepository documentJobRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  private ThesisDocumentService thesisDocumentService;
+
+  @BeforeEach
+  void init() {
+    thesisDocumentService = new ThesisDocumentServiceImpl(thesisDocumentRepository,
+        documentContentRepository, thesisRepository, documentJobRepository,
+        new DocumentStore(directory, 2, 2),
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher, 1, 60,
+        60);
+  }
+
+  @DisplayName("[TEST] Identical content is stored once.")
+  @Test
+  void testStoreContentDeduplicated() {
+
+    // Assert that the same content is stored under the same key, in a single file
+    StoredContent content = store("document");
+    StoredContent duplicateContent = store("document");
+    assertThat(duplicateContent).isEqualTo(content);
+    assertThat(content.getKey())
+        .isEqualTo("43cc23fa52b87b4cc1d02b5b114154151d6adddb17c9fddc06b027fa99e24008");
+    assertThat(contentFile(content)).exists();
+  }
+
+  @DisplayName("[TEST] Save a document replacing the previous one.")
+  @Test
+  void testSaveDocument() {
+
+    // Mock the previous document of the thesis
+    StoredContent previousContent = store("previous");
+    ThesisDocument previousDocument = new ThesisDocument(1, "draft.pdf", 8,
+        previousContent.getKey(), Instant.parse("2022-09-01T08:00:00Z"));
+    when(thesisRepository.findForUpdateById(1)).thenReturn(Optional.of(new Thesis().withId(1)));
+    when(thesisDocumentRepository.findById(1L)).thenReturn(Optional.of(previousDocument));
+    when(thesisDocumentRepository.save(any(ThesisDocument.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Assert that the new content is referenced and the previous one released, but kept
+    StoredContent content = store("final");
+    Optional<ThesisDocumentDTO> savedDocument =
+        thesisDocumentService.saveDocument(1, "final.pdf", content);
+    assertThat(savedDocument).isPresent();
+    assertThat(savedDocument.get().getFileName()).isEqualTo("final.pdf");
+    assertThat(savedDocument.get().getSize()).isEqualTo(5);
+    assertThat(savedDocument.get().getStorageKey()).isEqualTo(content.getKey());
+    assertThat(thesisDocumentService.getContentFile(savedDocument.get())).exists();
+    verify(documentContentRepository).addReference(content.getKey(), 5);
+    verify(documentContentRepository).removeReference(previousContent.getKey());
+    verify(documentContentRepository).markReleased(eq(previousContent.getKey()), any());
+    assertThat(contentFile(previousContent)).exists();
+    verify(documentJobRepository).upsertPending(eq(1L), eq(content.getKey()), any());
+    verify(eventPublisher).publishEvent(any(ThesisDocumentChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Content of a missing thesis is not referenced.")
+  @Test
+  void testSaveDocumentThesisNotFound() {
+
+    // Mock the return of thesisRepository.findForUpdateById
+    when(thesisRepository.findForUpdateById(1)).thenReturn(Optional.empty());
+
+    // Assert that nothing is saved and the content is left to the sweeper
+    StoredContent content = store("orphan");
+    assertThat(thesisDocumentService.saveDocument(1, "orphan.pdf", content)).isEmpty();
+    verify(documentContentRepository, never()).addReference(anyString(), anyLong());
+    verify(thesisDocumentRepository, never()).save(any(ThesisDocument.class));
+  }
+
+  @DisplayName("[TEST] Find stored content by its hash.")
+  @Test
+  void testFindContent() {
+
+    // Mock a content row whose file exists, and one whose file is gone
+    StoredContent content = store("document");
+    when(documentContentRepository.findById(content.getKey()))
+        .thenReturn(Optional.of(new DocumentContent(content.getKey(), 8, 1, null)));
+    String missingHash = "0".repeat(64);
+    when(documentContentRepository.findById(missingHash))
+        .thenReturn(Optional.of(new DocumentContent(missingHash, 8, 1, null)));
+
+    // Assert that only content with a file is found
+    assertThat(thesisDocumentService.findContent(content.getKey())).contains(content);
+    assertThat(thesisDocumentService.findContent(missingHash)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Sweep unreferenced content after the grace period.")
+  @Test
+  void testSweepContent() throws Exception {
+
+    // Mock released content and an unsaved upload, both untouched for two hours, and released
+    // content which was touched recently
+    StoredContent releasedContent = age(store("released"));
+    StoredContent orphanContent = age(store("orphan"));
+    StoredContent touchedContent = store("touched");
+    when(documentContentRepository.findReleasedBefore(any(), eq(""), any()))
+        .thenReturn(List.of(releasedContent.getKey(), touchedContent.getKey()));
+    when(documentContentRepository.deleteReleasedBefore(eq(releasedContent.getKey()), any()))
+        .thenReturn(1);
+    when(documentContentRepository.findAllById(anyList())).thenReturn(List.of(
+        new DocumentContent(releasedContent.getKey(), 8, 0, Instant.EPOCH)));
+
+    // Assert that the released and the orphaned content is deleted, the touched one is kept
+    assertThat(thesisDocumentService.sweepContent()).isEqualTo(2);
+    assertThat(contentFile(releasedContent)).doesNotExist();
+    assertThat(contentFile(orphanContent)).doesNotExist();
+    assertThat(contentFile(touchedContent)).exists();
+    verify(documentContentRepository, never())
+        .deleteReleasedBefore(eq(touchedContent.getKey()), any());
+  }
+
+  @DisplayName("[TEST] The document of a deleted thesis is deleted with it.")
+  @Test
+  void testThesisDeleted() {
+
+    // Mock the document of the thesis
+    StoredContent content = store("document");
+    ThesisDocument document = new ThesisDocument(1, "thesis.pdf", 8, content.getKey(),
+        Instant.parse("2022-09-01T08:00:00Z"));
+    when(thesisDocumentRepository.findById(1L)).thenReturn(Optional.of(document));
+
+    // Assert that the document is deleted and its content released
+    ((ThesisDocumentServiceImpl) thesisDocumentService).onEntityChange(
+        new EntityChangeEvent(EntityType.THESIS, ChangeType.DELETED, 1, null, null));
+    verify(thesisDocumentRepository).delete(document);
+    verify(documentContentRepository).removeReference(content.getKey());
+    verify(documentContentRepository).markReleased(eq(content.getKey()), any());
+    verify(documentJobRepository).deleteByThesisId(1);
+  }
+
+  private StoredContent store(String content) {
+    return thesisDocumentService.storeContent(
+        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).get();
+  }
+
+  private Path contentFile(StoredContent content) {
+    ThesisDocumentDTO document = new ThesisDocumentDTO();
+    document.setStorageKey(content.getKey());
+    return thesisDocumentService.getContentFile(document);
+  }
+
+  private StoredContent age(StoredContent content) throws Exception {
+    Files.setLastModifiedTime(contentFile(content),
+        FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    return content;
+  }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetCountsDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.FacetValueDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisFacetServiceTest {
+
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ThesisAuthorRepository thesisAuthorRepository;
+  private ThesisFacetServiceImpl thesisFacetService;
+
+  @BeforeEach
+  void init() {
+    thesisFacetService = new ThesisFacetServiceImpl(thesisRepository, thesisAuthorRepository,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void destroy() {
+    thesisFacetService.destroy();
+  }
+
+  @DisplayName("[TEST] Theses are indexed as stored and removed once deleted.")
+  @Test
+  void testApplyThesis() {
+
+    // Mock two theses, one of them with an adviser
+    Thesis first = new Thesis().withId(1).withYear(2021).withDegree(new Degree().withId(1));
+    Thesis second = new Thesis().withId(2).withYear(2022).withDegree(new Degree().withId(1));
+    when(thesisRepository.findById(1L)).thenReturn(Optional.of(first));
+    when(thesisRepository.findById(2L)).thenReturn(Optional.of(second));
+    when(thesisAuthorRepository.findAllByThesisIdIn(Set.of(1L))).thenReturn(List.of(
+        new ThesisAuthor().withThesis(first).withRole(new Role().withId(3))));
+    when(thesisAuthorRepository.findAllByThesisIdIn(Set.of(2L)))
+        .thenReturn(Collections.emptyList());
+    thesisFacetService.applyThesis(1);
+    thesisFacetService.applyThesis(2);
+
+    // Assert that degrees are counted within the selected year, and years by latest
+    FacetCountsDTO counts = thesisFacetService.countFacets(
+        Collections.emptySet(), Set.of(2022L), Collections.emptySet());
+    assertThat(counts.getTotal()).isEqualTo(1);
+    assertThat(counts.getDegrees()).extracting(FacetValueDTO::getValue, FacetValueDTO::getCount)
+        .containsExactly(tuple(1L, 1));
+    assertThat(counts.getYears()).extracting(FacetValueDTO::getValue)
+        .containsExactly(2022L, 2021L);
+    assertThat(counts.getRoles()).isEmpty();
+
+    // Assert that a deleted thesis is removed
+    when(thesisRepository.findById(1L)).thenReturn(Optional.empty());
+    thesisFacetService.applyThesis(1);
+    assertThat(thesisFacetService.countFacets(
+        Collections.emptySet(), Collections.emptySet(), Collections.emptySet()).getTotal())
+        .isEqualTo(1);
+    assertThat(thesisFacetService.getStatus().getIndexedTheses()).isEqualTo(1);
+  }
+}
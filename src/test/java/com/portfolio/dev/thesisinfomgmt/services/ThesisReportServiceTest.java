@@ -0,0 +1,176 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisAuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisCountDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisCount.Dimension;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.ChangeType;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent.EntityType;
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisCountRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisReportServiceTest {
+
+  @Mock
+  private ThesisCountRepository thesisCountRepository;
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ThesisAuthorRepository thesisAuthorRepository;
+  @Mock
+  private DegreeRepository degreeRepository;
+  @Mock
+  private RoleRepository roleRepository;
+  private ThesisReportServiceImpl thesisReportService;
+
+  @BeforeEach
+  void init() {
+    thesisReportService = new ThesisReportServiceImpl(thesisCountRepository, thesisRepository,
+        thesisAuthorRepository, degreeRepository, roleRepository,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry(), 60);
+  }
+
+  @AfterEach
+  void destroy() {
+    thesisReportService.destroy();
+  }
+
+  @DisplayName("[TEST] Thesis writes add their difference to the counts, in key order.")
+  @Test
+  void testOnEntityChange() {
+
+    // Move a thesis to another year and drop one of its roles
+    ThesisDTO before = thesis(1, 2021, 2, 2, 3);
+    ThesisDTO after = thesis(1, 2022, 2);
+    thesisReportService.onEntityChange(
+        new EntityChangeEvent(EntityType.THESIS, ChangeType.UPDATED, 1, before, after));
+
+    // Assert that the role of two authors is counted once, and counts are updated in key order
+    InOrder inOrder = inOrder(thesisCountRepository);
+    inOrder.verify(thesisCountRepository).addTheses("DEGREE", 1, 2021, -1);
+    inOrder.verify(thesisCountRepository).addTheses("DEGREE", 1, 2022, 1);
+    inOrder.verify(thesisCountRepository).addTheses("ROLE", 2, 2021, -1);
+    inOrder.verify(thesisCountRepository).addTheses("ROLE", 2, 2022, 1);
+    inOrder.verify(thesisCountRepository).addTheses("ROLE", 3, 2021, -1);
+    verifyNoMoreInteractions(thesisCountRepository);
+
+    // Assert that a change of the title only leaves the counts unchanged
+    thesisReportService.onEntityChange(
+        new EntityChangeEvent(EntityType.THESIS, ChangeType.UPDATED, 1, after, after));
+    verifyNoMoreInteractions(thesisCountRepository);
+
+    // Assert that a deleted thesis is subtracted once
+    thesisReportService.onEntityChange(
+        new EntityChangeEvent(EntityType.THESIS, ChangeType.DELETED, 1, after, after));
+    verify(thesisCountRepository).addTheses("DEGREE", 1, 2022, -1);
+    verify(thesisCountRepository).addTheses("ROLE", 2, 2022, -1);
+    verifyNoMoreInteractions(thesisCountRepository);
+  }
+
+  @DisplayName("[TEST] Reconciliations correct wrong counts and remove counts without theses.")
+  @Test
+  void testReconcileCounts() {
+
+    // Mock counts of two degrees and two roles, one role without theses
+    when(thesisCountRepository.findValueIds(Dimension.DEGREE)).thenReturn(List.of(1L, 2L));
+    when(thesisRepository.findDegreeIds()).thenReturn(List.of(2L, 1L));
+    when(thesisCountRepository.findValueIds(Dimension.ROLE)).thenReturn(List.of(2L, 3L));
+    when(thesisAuthorRepository.findRoleIds()).thenReturn(List.of(2L));
+    when(thesisCountRepository.findGroupForUpdate("DEGREE", 1))
+        .thenReturn(rows(new Object[] { 2022, 5L }));
+    when(thesisCountRepository.findGroupForUpdate("DEGREE", 2))
+        .thenReturn(rows(new Object[] { 2022, 3L }));
+    when(thesisCountRepository.findGroupForUpdate("ROLE", 2))
+        .thenReturn(rows(new Object[] { 2021, 1L }));
+    when(thesisCountRepository.findGroupForUpdate("ROLE", 3))
+        .thenReturn(rows(new Object[] { 2021, 0L }));
+    when(thesisRepository.countByYearOfDegree(1)).thenReturn(rows(new Object[] { 2022, 5L }));
+    when(thesisRepository.countByYearOfDegree(2)).thenReturn(rows(new Object[] { 2022, 4L }));
+    when(thesisAuthorRepository.countThesesByYearOfRole(2))
+        .thenReturn(rows(new Object[] { 2022, 7L }));
+    when(thesisAuthorRepository.countThesesByYearOfRole(3)).thenReturn(rows());
+
+    assertThat(thesisReportService.reconcileCounts()).isEqualTo(3);
+    verify(thesisCountRepository).setTheses("DEGREE", 2, 2022, 4);
+    verify(thesisCountRepository).setTheses("ROLE", 2, 2022, 7);
+    verify(thesisCountRepository, never()).setTheses("DEGREE", 1, 2022, 5);
+    verify(thesisCountRepository).deleteCount(Dimension.ROLE, 2, 2021);
+    verify(thesisCountRepository).deleteCount(Dimension.ROLE, 3, 2021);
+
+    // Assert that the counts of a group are locked before its theses are counted
+    InOrder inOrder = inOrder(thesisCountRepository, thesisRepository);
+    inOrder.verify(thesisCountRepository).findGroupForUpdate("DEGREE", 2);
+    inOrder.verify(thesisRepository).countByYearOfDegree(2);
+    inOrder.verify(thesisCountRepository).setTheses("DEGREE", 2, 2022, 4);
+  }
+
+  @DisplayName("[TEST] Counts are retrieved with the names of their degrees.")
+  @Test
+  void testGetThesisCounts() {
+
+    when(thesisCountRepository.findAllByDimension(Dimension.DEGREE, 2020, Integer.MAX_VALUE))
+        .thenReturn(List.of(new ThesisCount(Dimension.DEGREE, 1, 2022, 48),
+            new ThesisCount(Dimension.DEGREE, 2, 2021, 3)));
+    when(degreeRepository.findAllById(Set.of(1L, 2L)))
+        .thenReturn(List.of(new Degree().withId(1).withName("Computer Science")));
+
+    List<ThesisCountDTO> counts =
+        thesisReportService.getThesisCounts(Dimension.DEGREE, 2020, null);
+    assertThat(counts)
+        .extracting(ThesisCountDTO::getId, ThesisCountDTO::getName, ThesisCountDTO::getYear,
+            ThesisCountDTO::getTheses)
+        .containsExactly(
+            tuple(1L, "Computer Science", 2022, 48L),
+            tuple(2L, null, 2021, 3L));
+  }
+
+  private static ThesisDTO thesis(long degreeId, int year, long... roleIds) {
+    ThesisDTO thesis = new ThesisDTO();
+    thesis.setDegreeId(degreeId);
+    thesis.setYear(year);
+    List<ThesisAuthorDTO> authors = new ArrayList<>();
+    for (long roleId : roleIds) {
+      ThesisAuthorDTO author = new ThesisAuthorDTO();
+      author.setRoleId(roleId);
+      authors.add(author);
+    }
+    thesis.setAuthors(authors);
+    return thesis;
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return Arrays.asList(rows);
+  }
+}
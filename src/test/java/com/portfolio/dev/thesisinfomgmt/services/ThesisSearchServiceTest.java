@@ -0,0 +1,153 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisSearchHitDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisDocument;
+import com.portfolio.dev.thesisinfomgmt.repositories.DocumentJobRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisDocumentRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchDocument;
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisSearchServiceTest {
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ThesisDocumentRepository thesisDocumentRepository;
+  @Mock
+  private DocumentJobRepository documentJobRepository;
+  private SearchIndex searchIndex;
+  private ThesisSearchServiceImpl thesisSearchService;
+
+  @BeforeEach
+  void init() {
+    searchIndex = new SearchIndex(directory.resolve("search"), 3, 2, 10_000);
+    thesisSearchService = new ThesisSearchServiceImpl(thesisRepository, thesisDocumentRepository,
+        documentJobRepository, searchIndex,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(), 1, 2, 1000, 10);
+  }
+
+  @AfterEach
+  void destroy() {
+    thesisSearchService.destroy();
+    searchIndex.close();
+  }
+
+  @DisplayName("[TEST] Document text is kept until the text of a new document is indexed.")
+  @Test
+  void testIndexDocumentText() {
+
+    // Mock the thesis and its document
+    Thesis thesis = new Thesis().withId(1).withTitle("Keyset Pagination")
+        .withAbstractText("Paging without offsets.").withYear(2022)
+        .withDegree(new Degree().withId(1));
+    String key = "a".repeat(64);
+    when(thesisRepository.findById(1L)).thenReturn(Optional.of(thesis));
+    when(thesisDocumentRepository.findById(1L)).thenReturn(Optional.of(
+        new ThesisDocument(1, "thesis.pdf", 8, key, Instant.now())));
+
+    // Assert that a thesis whose document text is not indexed requests its processing
+    thesisSearchService.reindexThesis(1);
+    verify(documentJobRepository).upsertPending(eq(1L), eq(key), any());
+
+    // Assert that the processed text can be found
+    assertThat(thesisSearchService.indexDocumentText(1, key, "Seek methods for catalogues."))
+        .isTrue();
+    searchIndex.refresh();
+    assertThat(thesisSearchService.search("seek", null, null, null, 10).getItems())
+        .extracting(ThesisSearchHitDTO::getId).containsExactly(1L);
+
+    // Assert that a title change keeps the text without requesting processing again
+    thesis.setTitle("Keyset Pagination Revisited");
+    thesisSearchService.reindexThesis(1);
+    searchIndex.refresh();
+    assertThat(thesisSearchService.search("seek revisited", null, null, null, 10).getItems())
+        .extracting(ThesisSearchHitDTO::getId).containsExactly(1L);
+    verify(documentJobRepository, times(1)).upsertPending(anyLong(), any(), any());
+
+    // Assert that a new document keeps the previous text until its own is processed
+    String newKey = "b".repeat(64);
+    when(thesisDocumentRepository.findById(1L)).thenReturn(Optional.of(
+        new ThesisDocument(1, "final.pdf", 8, newKey, Instant.now())));
+    thesisSearchService.reindexThesis(1);
+    verify(documentJobRepository).upsertPending(eq(1L), eq(newKey), any());
+    searchIndex.refresh();
+    assertThat(thesisSearchService.search("seek", null, null, null, 10).getItems())
+        .extracting(ThesisSearchHitDTO::getId).containsExactly(1L);
+
+    // Assert that text of the replaced document is no longer indexed
+    assertThat(thesisSearchService.indexDocumentText(1, key, "Stale text.")).isFalse();
+    assertThat(thesisSearchService.indexDocumentText(1, newKey, "Final text.")).isTrue();
+    searchIndex.refresh();
+    assertThat(thesisSearchService.search("seek", null, null, null, 10).getItems()).isEmpty();
+  }
+
+  @DisplayName("[TEST] A deleted thesis is removed from the index.")
+  @Test
+  void testReindexDeletedThesis() {
+
+    // Mock a thesis without document, which is deleted afterwards
+    when(thesisRepository.findById(1L)).thenReturn(Optional.of(new Thesis().withId(1)
+        .withTitle("Keyset Pagination").withYear(2022).withDegree(new Degree().withId(1))));
+    thesisSearchService.reindexThesis(1);
+    searchIndex.refresh();
+    assertThat(searchIndex.count()).isEqualTo(1);
+
+    // Assert that the thesis can no longer be found
+    when(thesisRepository.findById(1L)).thenReturn(Optional.empty());
+    thesisSearchService.reindexThesis(1);
+    searchIndex.refresh();
+    assertThat(searchIndex.count()).isZero();
+  }
+
+  @DisplayName("[TEST] Search pages end with a cursor to the next page.")
+  @Test
+  void testSearchPages() {
+
+    for (long id = 1; id <= 3; id++) {
+      searchIndex.update(new SearchDocument(id, "Thesis " + id, null, 2022, 1, null, null), 1);
+    }
+    searchIndex.refresh();
+
+    // Assert that the first page has a cursor and the last one has none
+    KeysetPageDTO<ThesisSearchHitDTO> firstPage =
+        thesisSearchService.search("thesis", null, null, null, 2);
+    assertThat(firstPage.getItems()).hasSize(2);
+    assertThat(firstPage.getNextCursor()).isNotNull();
+    KeysetPageDTO<ThesisSearchHitDTO> lastPage = thesisSearchService.search("thesis", null, null,
+        SearchCursor.decode(firstPage.getNextCursor()).get(), 2);
+    assertThat(lastPage.getItems()).hasSize(1);
+    assertThat(lastPage.getNextCursor()).isNull();
+  }
+}
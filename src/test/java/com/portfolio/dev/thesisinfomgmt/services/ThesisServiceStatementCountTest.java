@@ -0,0 +1,126 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import com.portfolio.dev.thesisinfomgmt.repositories.AuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Counts the statements sent to an embedded database, to make sure that reading theses together
+ * with their degrees, authors and roles does not cost one query per thesis or author.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ThesisServiceStatementCountTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private ThesisRepository thesisRepository;
+  @Autowired
+  private ThesisAuthorRepository thesisAuthorRepository;
+  @Autowired
+  private DegreeRepository degreeRepository;
+  @Autowired
+  private AuthorRepository authorRepository;
+  @Autowired
+  private RoleRepository roleRepository;
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+  private ThesisService thesisService;
+  private Statistics statistics;
+  private long firstThesisId;
+
+  @BeforeEach
+  void init() {
+    thesisService = new ThesisServiceImpl(thesisRepository, thesisAuthorRepository,
+        degreeRepository, authorRepository, roleRepository, eventPublisher);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // 30 theses of 3 degrees, each with an adviser and 2 distinct authors
+    Degree[] degrees = new Degree[3];
+    for (int i = 0; i < degrees.length; i++) {
+      degrees[i] = entityManager.persist(new Degree().withAbbr("D" + i).withName("Degree " + i));
+    }
+    Role adviser = entityManager.persist(new Role().withName("Adviser"));
+    Role author = entityManager.persist(new Role().withName("Author"));
+    Author[] authors = new Author[20];
+    for (int i = 0; i < authors.length; i++) {
+      authors[i] = entityManager.persist(
+          new Author().withFirstName("First" + i).withLastName("Last" + i));
+    }
+    for (int i = 0; i < 30; i++) {
+      Thesis thesis = new Thesis().withTitle("Thesis " + i).withYear(2000 + i % 5)
+          .withDegree(degrees[i % degrees.length]);
+      thesis.getAuthors().add(new ThesisAuthor(0, thesis, authors[i % 5], adviser, 0));
+      thesis.getAuthors().add(new ThesisAuthor(0, thesis, authors[5 + i % 15], author, 1));
+      thesis.getAuthors().add(new ThesisAuthor(0, thesis, authors[(6 + i) % 20], author, 2));
+      thesis = entityManager.persist(thesis);
+      if (i == 0) {
+        firstThesisId = thesis.getId();
+      }
+    }
+
+    // Start from an empty persistence context so that every read hits the database
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @DisplayName("[TEST] A page of theses with degrees, authors and roles costs 3 statements.")
+  @Test
+  void testGetThesesStatementCount() {
+
+    for (int limit : new int[] { 1, 10, 25 }) {
+      statistics.clear();
+      KeysetPageDTO<ThesisDTO> page =
+          thesisService.getTheses(null, null, null, ThesisSort.YEAR, null, limit);
+
+      // Assert that the page, its authors with their roles and its degrees take 1 query each
+      assertThat(statistics.getPrepareStatementCount()).as("statements for %d theses", limit)
+          .isEqualTo(3);
+      assertThat(page.getItems()).hasSize(limit);
+      assertThat(page.getItems()).allSatisfy(thesis -> {
+        assertThat(thesis.getDegree()).isNotNull();
+        assertThat(thesis.getAuthors()).hasSize(3);
+        assertThat(thesis.getAuthors().get(0).getRoleName()).isEqualTo("Adviser");
+      });
+      entityManager.clear();
+    }
+  }
+
+  @DisplayName("[TEST] A thesis with degree, authors and roles costs 1 statement.")
+  @Test
+  void testGetThesisStatementCount() {
+
+    statistics.clear();
+    ThesisDTO thesis = thesisService.getThesis(firstThesisId).get();
+
+    // Assert that the thesis and all its associations are read with a single join
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(thesis.getDegree().getAbbr()).isEqualTo("D0");
+    assertThat(thesis.getAuthors()).extracting(author -> author.getAuthorName())
+        .containsExactly("First0 Last0", "First5 Last5", "First6 Last6");
+  }
+}
@@ -0,0 +1,290 @@
+package com.portfolio.dev.thesisinfomgmt.services;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.AUTHOR_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.DEGREE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.ROLE_NOT_FOUND;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_AUTHOR_DUPLICATE;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Constants.THESIS_TITLE_REQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.dtos.DegreeDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.KeysetPageDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisAuthorDTO;
+import com.portfolio.dev.thesisinfomgmt.dtos.ThesisDTO;
+import com.portfolio.dev.thesisinfomgmt.entities.Author;
+import com.portfolio.dev.thesisinfomgmt.entities.Degree;
+import com.portfolio.dev.thesisinfomgmt.entities.Role;
+import com.portfolio.dev.thesisinfomgmt.entities.Thesis;
+import com.portfolio.dev.thesisinfomgmt.entities.ThesisAuthor;
+import com.portfolio.dev.thesisinfomgmt.events.EntityChangeEvent;
+import com.portfolio.dev.thesisinfomgmt.repositories.AuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisAuthorRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.ThesisRepository;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisCursor;
+import com.portfolio.dev.thesisinfomgmt.utilities.ThesisSort;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse;
+import com.portfolio.dev.thesisinfomgmt.utilities.ValidationResponse.ValidationResult;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisServiceTest {
+
+  @Mock
+  private ThesisRepository thesisRepository;
+  @Mock
+  private ThesisAuthorRepository thesisAuthorRepository;
+  @Mock
+  private DegreeRepository degreeRepository;
+  @Mock
+  private AuthorRepository authorRepository;
+  @Mock
+  private RoleRepository roleRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  private ThesisService thesisService;
+
+  private static final Degree degree = new Degree().withId(1).withAbbr("BSCS")
+      .withName("Bachelor of Science in Computer Science");
+  private static final Author author = new Author().withId(1).withFirstName("Juan")
+      .withLastName("Dela Cruz");
+  private static final Role adviser = new Role().withId(1).withName("Adviser");
+  private static final Role panelist = new Role().withId(2).withName("Panelist");
+
+  @BeforeEach
+  void init() {
+    thesisService = new ThesisServiceImpl(thesisRepository, thesisAuthorRepository,
+        degreeRepository, authorRepository, roleRepository, eventPublisher);
+  }
+
+  @DisplayName("[TEST] Get a page of theses with the cursor of the next page.")
+  @Test
+  void testGetTheses() {
+
+    // Mock the return of thesisRepository.findPage with one thesis more than the limit
+    ThesisDTO thesis1 = new ThesisDTO(3, "Keyset Pagination", 2022, 1);
+    ThesisDTO thesis2 = new ThesisDTO(2, "Covering Indexes", 2022, 1);
+    ThesisDTO thesis3 = new ThesisDTO(7, "Query Planning", 2021, 1);
+    when(thesisRepository.findPage(1L, null, null, ThesisSort.YEAR, null, 3))
+        .thenReturn(Arrays.asList(thesis1, thesis2, thesis3));
+
+    // Assert that the page holds the limit and continues after its last thesis
+    KeysetPageDTO<ThesisDTO> page =
+        thesisService.getTheses(1L, null, null, ThesisSort.YEAR, null, 2);
+    assertThat(page.getItems()).containsExactly(thesis1, thesis2);
+    ThesisCursor next = ThesisCursor.decode(page.getNextCursor(), ThesisSort.YEAR).get();
+    assertThat(next.getId()).isEqualTo(2);
+    assertThat(next.getYear()).isEqualTo(2022);
+
+    // Assert that the last page has no cursor
+    when(thesisRepository.findPage(eq(1L), isNull(), isNull(), eq(ThesisSort.YEAR),
+        any(ThesisCursor.class), eq(3))).thenReturn(Arrays.asList(thesis3));
+    KeysetPageDTO<ThesisDTO> lastPage =
+        thesisService.getTheses(1L, null, null, ThesisSort.YEAR, next, 2);
+    assertThat(lastPage.getItems()).containsExactly(thesis3);
+    assertThat(lastPage.getNextCursor()).isNull();
+  }
+
+  @DisplayName("[TEST] Get a page of theses with their degrees and authors.")
+  @Test
+  void testGetThesesWithAuthors() {
+
+    // Mock the return of the page, the authors of its theses and their degrees
+    ThesisDTO thesis1 = new ThesisDTO(3, "Keyset Pagination", 2022, 1);
+    ThesisDTO thesis2 = new ThesisDTO(2, "Covering Indexes", 2022, 1);
+    Thesis thesis = newThesis(3, "Keyset Pagination", 2022);
+    when(thesisRepository.findPage(null, null, null, ThesisSort.YEAR, null, 11))
+        .thenReturn(Arrays.asList(thesis1, thesis2));
+    when(thesisAuthorRepository.findAllByThesisIdInOrderByThesisIdAscPositionAsc(
+        Set.of(2L, 3L))).thenReturn(Arrays.asList(
+            new ThesisAuthor(1, thesis, author, adviser, 0),
+            new ThesisAuthor(2, thesis, author, panelist, 1)));
+    when(degreeRepository.findAllById(Set.of(1L))).thenReturn(Arrays.asList(degree));
+
+    // Assert that each thesis got its own authors in order and its degree
+    KeysetPageDTO<ThesisDTO> page =
+        thesisService.getTheses(null, null, null, ThesisSort.YEAR, null, 10);
+    assertThat(page.getItems().get(0).getAuthors())
+        .extracting(ThesisAuthorDTO::getRoleName)
+        .containsExactly("Adviser", "Panelist");
+    assertThat(page.getItems().get(0).getAuthors().get(0).getAuthorName())
+        .isEqualTo("Juan Dela Cruz");
+    assertThat(page.getItems().get(1).getAuthors()).isEmpty();
+    assertThat(page.getItems()).extracting(ThesisDTO::getDegree)
+        .containsOnly(new DegreeDTO(degree));
+  }
+
+  @DisplayName("[TEST] Create a thesis.")
+  @Test
+  void testCreateThesis() {
+
+    // Mock the return of degreeRepository.getReferenceById and thesisRepository.save
+    Thesis mockThesis = newThesis(1, "Keyset Pagination", 2022);
+    ThesisDTO mockThesisDto = new ThesisDTO(mockThesis);
+    when(degreeRepository.getReferenceById(1L)).thenReturn(degree);
+    when(thesisRepository.save(any(Thesis.class))).thenReturn(mockThesis);
+
+    // Assert the return of thesisService.createThesis to expected object
+    ThesisDTO actualThesis = thesisService.createThesis(mockThesisDto);
+    assertThat(actualThesis).isEqualTo(mockThesisDto);
+
+    verify(thesisRepository).save(any(Thesis.class));
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Update a thesis.")
+  @Test
+  void testUpdateThesis() {
+
+    // Mock the return of thesisRepository.findById and thesisRepository.save
+    Thesis mockThesis = newThesis(1, "Keyset Pagination", 2022);
+    ThesisDTO updatedThesisDto = new ThesisDTO(newThesis(1, "Keyset Pagination Revisited", 2023));
+    when(thesisRepository.findWithAuthorsById(1L)).thenReturn(Optional.of(mockThesis));
+    when(degreeRepository.getReferenceById(1L)).thenReturn(degree);
+    when(thesisRepository.save(any(Thesis.class))).thenAnswer(i -> i.getArgument(0));
+
+    // Assert the return of thesisService.updateThesis to expected object
+    Optional<ThesisDTO> actualThesis = thesisService.updateThesis(1, updatedThesisDto);
+    assertThat(actualThesis).contains(updatedThesisDto);
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+
+    // Assert that a missing thesis is not updated
+    when(thesisRepository.findWithAuthorsById(2L)).thenReturn(Optional.empty());
+    assertThat(thesisService.updateThesis(2, updatedThesisDto)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Update the authors of a thesis.")
+  @Test
+  void testUpdateThesisAuthors() {
+
+    // Mock a thesis with an adviser, and references to the new authors
+    Thesis mockThesis = newThesis(1, "Keyset Pagination", 2022);
+    ThesisAuthor existingAdviser = new ThesisAuthor(1, mockThesis, author, adviser, 0);
+    mockThesis.getAuthors().add(existingAdviser);
+    Author coAuthor = new Author().withId(2).withFirstName("Maria").withLastName("Santos");
+    when(thesisRepository.findWithAuthorsById(1L)).thenReturn(Optional.of(mockThesis));
+    when(degreeRepository.getReferenceById(1L)).thenReturn(degree);
+    when(authorRepository.getReferenceById(2L)).thenReturn(coAuthor);
+    when(roleRepository.getReferenceById(1L)).thenReturn(adviser);
+    when(thesisRepository.save(any(Thesis.class))).thenAnswer(i -> i.getArgument(0));
+
+    // Put the new author first and keep the existing adviser second
+    ThesisDTO updatedThesisDto = new ThesisDTO(mockThesis);
+    updatedThesisDto.setAuthors(Arrays.asList(
+        newThesisAuthorDTO(2, 1), newThesisAuthorDTO(1, 1)));
+    thesisService.updateThesis(1, updatedThesisDto);
+
+    // Assert that the existing row was kept and moved instead of being recreated
+    assertThat(mockThesis.getAuthors()).hasSize(2);
+    assertThat(mockThesis.getAuthors().get(0).getAuthor()).isEqualTo(coAuthor);
+    assertThat(mockThesis.getAuthors().get(1)).isSameAs(existingAdviser);
+    assertThat(existingAdviser.getPosition()).isEqualTo(1);
+  }
+
+  @DisplayName("[TEST] Delete a thesis.")
+  @Test
+  void testDeleteThesis() {
+
+    // Mock the return of thesisRepository.findById
+    Thesis mockThesis = newThesis(1, "Keyset Pagination", 2022);
+    when(thesisRepository.findWithAuthorsById(1L)).thenReturn(Optional.of(mockThesis));
+    when(thesisRepository.findWithAuthorsById(2L)).thenReturn(Optional.empty());
+
+    // Assert the return of thesisService.deleteThesis to expected object
+    assertThat(thesisService.deleteThesis(1)).contains(new ThesisDTO(mockThesis));
+    assertThat(thesisService.deleteThesis(2)).isEmpty();
+
+    verify(thesisRepository).delete(mockThesis);
+    verify(eventPublisher).publishEvent(any(EntityChangeEvent.class));
+  }
+
+  @DisplayName("[TEST] Validate thesis details.")
+  @Test
+  void testValidateThesis() {
+
+    // Assert that a thesis without title is invalid
+    ThesisDTO thesisDto = new ThesisDTO(newThesis(0, " ", 2022));
+    ValidationResponse validationResponse = thesisService.validateThesis(thesisDto);
+    assertThat(validationResponse.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(validationResponse.getErrorMessage().getMessage())
+        .isEqualTo(THESIS_TITLE_REQUIRED);
+
+    // Assert that a thesis outside the year range is invalid
+    thesisDto.setTitle("Keyset Pagination");
+    thesisDto.setYear(1850);
+    assertThat(thesisService.validateThesis(thesisDto).getValidationResult())
+        .isEqualTo(ValidationResult.NG);
+    verify(degreeRepository, never()).existsById(anyLong());
+
+    // Assert that a thesis of a missing degree is invalid
+    thesisDto.setYear(2022);
+    thesisDto.setDegreeId(2);
+    when(degreeRepository.existsById(2L)).thenReturn(false);
+    validationResponse = thesisService.validateThesis(thesisDto);
+    assertThat(validationResponse.getErrorMessage().getMessage())
+        .isEqualTo(String.format(DEGREE_NOT_FOUND, 2));
+
+    // Assert that a complete thesis is valid
+    thesisDto.setDegreeId(1);
+    when(degreeRepository.existsById(1L)).thenReturn(true);
+    assertThat(thesisService.validateThesis(thesisDto).getValidationResult())
+        .isEqualTo(ValidationResult.OK);
+  }
+
+  @DisplayName("[TEST] Validate thesis authors.")
+  @Test
+  void testValidateThesisAuthors() {
+
+    // Mock the existing degree, author and roles
+    when(degreeRepository.existsById(1L)).thenReturn(true);
+    when(authorRepository.findAllById(any())).thenReturn(Arrays.asList(author));
+    when(roleRepository.findAllById(any())).thenReturn(Arrays.asList(adviser, panelist));
+    ThesisDTO thesisDto = new ThesisDTO(newThesis(0, "Keyset Pagination", 2022));
+
+    // Assert that unknown authors and roles are invalid
+    thesisDto.setAuthors(Arrays.asList(newThesisAuthorDTO(1, 1), newThesisAuthorDTO(9, 1)));
+    assertThat(thesisService.validateThesis(thesisDto).getErrorMessage().getMessage())
+        .isEqualTo(String.format(AUTHOR_NOT_FOUND, 9));
+    thesisDto.setAuthors(Arrays.asList(newThesisAuthorDTO(1, 9)));
+    assertThat(thesisService.validateThesis(thesisDto).getErrorMessage().getMessage())
+        .isEqualTo(String.format(ROLE_NOT_FOUND, 9));
+
+    // Assert that an author may take several roles, but each role once
+    thesisDto.setAuthors(Arrays.asList(newThesisAuthorDTO(1, 1), newThesisAuthorDTO(1, 2)));
+    assertThat(thesisService.validateThesis(thesisDto).getValidationResult())
+        .isEqualTo(ValidationResult.OK);
+    thesisDto.setAuthors(Arrays.asList(newThesisAuthorDTO(1, 1), newThesisAuthorDTO(1, 1)));
+    assertThat(thesisService.validateThesis(thesisDto).getErrorMessage().getMessage())
+        .isEqualTo(String.format(THESIS_AUTHOR_DUPLICATE, 1, 1));
+  }
+
+  private static ThesisAuthorDTO newThesisAuthorDTO(long authorId, long roleId) {
+    ThesisAuthorDTO thesisAuthorDto = new ThesisAuthorDTO();
+    thesisAuthorDto.setAuthorId(authorId);
+    thesisAuthorDto.setRoleId(roleId);
+    return thesisAuthorDto;
+  }
+
+  private static Thesis newThesis(long id, String title, int year) {
+    return new Thesis().withId(id).withTitle(title).withAbstractText("Abstract of " + title)
+        .withYear(year).withDegree(degree);
+  }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.dev.thesisinfomgmt.repositories.DegreeRepository;
+import com.portfolio.dev.thesisinfomgmt.repositories.RoleRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeVersionGeneratorTest {
+
+  @Mock
+  private DegreeRepository degreeRepository;
+  @Mock
+  private RoleRepository roleRepository;
+  private ChangeVersionGenerator changeVersionGenerator;
+
+  @BeforeEach
+  void init() {
+    when(degreeRepository.findMaxChangeVersion()).thenReturn(7L);
+    when(roleRepository.findMaxChangeVersion()).thenReturn(4L);
+    changeVersionGenerator = new ChangeVersionGenerator(degreeRepository, roleRepository);
+    changeVersionGenerator.init();
+  }
+
+  @AfterEach
+  void cleanup() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @DisplayName("[TEST] Versions continue from the highest stored version.")
+  @Test
+  void testNextVersion() {
+
+    // Assert that versions continue after the max of both tables
+    assertThat(changeVersionGenerator.getHighWaterMark()).isEqualTo(7L);
+    assertThat(changeVersionGenerator.nextVersion()).isEqualTo(8L);
+    assertThat(changeVersionGenerator.nextVersion()).isEqualTo(9L);
+    assertThat(changeVersionGenerator.getHighWaterMark()).isEqualTo(9L);
+  }
+
+  @DisplayName("[TEST] High-water mark stays below the oldest uncommitted version.")
+  @Test
+  void testHighWaterMarkWithPendingTransaction() {
+
+    // Issue a version within a transaction which is not completed yet
+    TransactionSynchronizationManager.initSynchronization();
+    long pendingVersion = changeVersionGenerator.nextVersion();
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    long committedVersion = changeVersionGenerator.nextVersion();
+
+    // Assert that the later version is hidden until the earlier transaction completes
+    assertThat(committedVersion).isGreaterThan(pendingVersion);
+    assertThat(changeVersionGenerator.getHighWaterMark()).isEqualTo(pendingVersion - 1);
+    synchronizations.forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    assertThat(changeVersionGenerator.getHighWaterMark()).isEqualTo(committedVersion);
+  }
+}
@@ -0,0 +1,125 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Direction;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Neighbours;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Related;
+import com.portfolio.dev.thesisinfomgmt.utilities.CitationGraph.Relation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CitationGraphTest {
+
+  private CitationGraph citationGraph;
+
+  @BeforeEach
+  void init() {
+    citationGraph = new CitationGraph.Builder()
+        .add(2, 5)
+        .add(1, 3)
+        .add(1, 4)
+        .add(2, 3)
+        .add(5, 6)
+        .add(2, 4)
+        .add(1, 3)
+        .build();
+  }
+
+  @DisplayName("[TEST] Duplicate citations are stored once.")
+  @Test
+  void testBuild() {
+
+    assertThat(citationGraph.getTheses()).isEqualTo(6);
+    assertThat(citationGraph.getCitations()).isEqualTo(6);
+    assertThat(CitationGraph.EMPTY.getTheses()).isZero();
+    assertThat(CitationGraph.EMPTY.neighbours(1, Direction.BOTH, 3, 10).getIds()).isEmpty();
+  }
+
+  @DisplayName("[TEST] Neighbours are found by hops and then id, in the requested direction.")
+  @Test
+  void testNeighbours() {
+
+    // Assert that cited theses are followed up to the requested hops
+    Neighbours neighbours = citationGraph.neighbours(2, Direction.CITES, 2, 10);
+    assertThat(neighbours.getIds()).containsExactly(3, 4, 5, 6);
+    assertThat(neighbours.getHops()).containsExactly(1, 1, 1, 2);
+    assertThat(citationGraph.neighbours(2, Direction.CITES, 1, 10).getIds())
+        .containsExactly(3, 4, 5);
+
+    // Assert that citing theses are followed backwards
+    assertThat(citationGraph.neighbours(3, Direction.CITED_BY, 1, 10).getIds())
+        .containsExactly(1, 2);
+
+    // Assert that both directions are followed, and the nearest theses kept within the limit
+    neighbours = citationGraph.neighbours(6, Direction.BOTH, 3, 10);
+    assertThat(neighbours.getIds()).containsExactly(5, 2, 3, 4);
+    assertThat(neighbours.getHops()).containsExactly(1, 2, 3, 3);
+    neighbours = citationGraph.neighbours(6, Direction.BOTH, 3, 3);
+    assertThat(neighbours.getIds()).containsExactly(5, 2, 3);
+    assertThat(neighbours.getHops()).containsExactly(1, 2, 3);
+
+    // Assert that a thesis without citations has no neighbours
+    assertThat(citationGraph.neighbours(7, Direction.BOTH, 3, 10).getIds()).isEmpty();
+  }
+
+  @DisplayName("[TEST] Related theses are ranked by shared citing or cited theses.")
+  @Test
+  void testRelated() {
+
+    // Assert that theses cited together are ranked by the number of theses citing both
+    Related related = citationGraph.related(3, Relation.CO_CITATION, 10);
+    assertThat(related.getIds()).containsExactly(4, 5);
+    assertThat(related.getScores()).containsExactly(2, 1);
+    assertThat(citationGraph.related(3, Relation.CO_CITATION, 1).getIds()).containsExactly(4);
+
+    // Assert that theses citing the same theses are ranked by the number of theses both cite
+    related = citationGraph.related(1, Relation.COUPLING, 10);
+    assertThat(related.getIds()).containsExactly(2);
+    assertThat(related.getScores()).containsExactly(2);
+
+    // Assert that both relations are added up
+    related = citationGraph.related(2, Relation.BOTH, 10);
+    assertThat(related.getIds()).containsExactly(1);
+    assertThat(related.getScores()).containsExactly(2);
+    assertThat(citationGraph.related(6, Relation.BOTH, 10).getIds()).isEmpty();
+  }
+
+  @DisplayName("[TEST] Related theses are scored correctly among many candidates.")
+  @Test
+  void testRelatedManyCandidates() {
+
+    // Mock theses 1..200 citing thesis 1000, thesis 2000 and one thesis of their own
+    CitationGraph.Builder builder = new CitationGraph.Builder();
+    for (long citing = 1; citing <= 200; citing++) {
+      builder.add(citing, 1000).add(citing, 2000).add(citing, 3000 + citing);
+    }
+    CitationGraph graph = builder.build();
+
+    // Assert that the thesis cited by all of them ranks first, then the others by id
+    Related related = graph.related(1000, Relation.CO_CITATION, 4);
+    assertThat(related.getIds()).containsExactly(2000, 3001, 3002, 3003);
+    assertThat(related.getScores()).containsExactly(200, 1, 1, 1);
+    assertThat(graph.related(1000, Relation.CO_CITATION, 500).getIds()).hasSize(201);
+  }
+
+  @DisplayName("[TEST] Changes replace the citations of theses and remove deleted theses.")
+  @Test
+  void testWithChanges() {
+
+    // Replace the citations of thesis 2 and delete thesis 5
+    CitationGraph changed = citationGraph.withChanges(new long[] { 2 },
+        new CitationGraph.Builder().add(2, 6).add(2, 5).add(1, 6).build(), new long[] { 5 });
+
+    assertThat(changed.getTheses()).isEqualTo(5);
+    assertThat(changed.getCitations()).isEqualTo(3);
+    assertThat(changed.neighbours(2, Direction.CITES, 1, 10).getIds()).containsExactly(6);
+    assertThat(changed.neighbours(1, Direction.CITES, 1, 10).getIds()).containsExactly(3, 4);
+    assertThat(changed.neighbours(5, Direction.BOTH, 1, 10).getIds()).isEmpty();
+
+    // Assert that a thesis no longer citing or cited is removed
+    assertThat(changed.withChanges(new long[] { 2 }, CitationGraph.EMPTY, new long[0])
+        .getTheses()).isEqualTo(3);
+  }
+}
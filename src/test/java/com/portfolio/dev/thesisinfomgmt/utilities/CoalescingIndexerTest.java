@@ -0,0 +1,119 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoalescingIndexerTest {
+
+  private final List<Long> indexed = new CopyOnWriteArrayList<>();
+  private CoalescingIndexer indexer;
+
+  @AfterEach
+  void shutdown() {
+    if (indexer != null) {
+      indexer.shutdownNow();
+    }
+  }
+
+  @DisplayName("[TEST] An id changed again while it waits is indexed once.")
+  @Test
+  void testChangesAreCoalesced() throws Exception {
+
+    // Hold the indexer thread on the first id, so the second one waits behind it
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    indexer = new CoalescingIndexer("test", 1, id -> {
+      if (id == 1) {
+        started.countDown();
+        await(release);
+      }
+      indexed.add(id);
+    }, () -> { });
+    indexer.enqueue(1);
+    await(started);
+    indexer.enqueue(2);
+    indexer.enqueue(2);
+    indexer.enqueue(2);
+    assertThat(indexer.getPending()).isEqualTo(1);
+    release.countDown();
+    indexer.shutdown(5, TimeUnit.SECONDS);
+
+    // Assert that the waiting id was indexed once
+    assertThat(indexed).containsExactly(1L, 2L);
+    assertThat(indexer.getPending()).isZero();
+  }
+
+  @DisplayName("[TEST] Ids changed during a rebuild are indexed again once it completes.")
+  @Test
+  void testChangesDuringRebuildAreRequeued() throws Exception {
+
+    // Hold the rebuild while an id changes
+    CountDownLatch rebuildStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    indexer = new CoalescingIndexer("test", 1, indexed::add, () -> {
+      rebuildStarted.countDown();
+      await(release);
+    });
+    assertThat(indexer.startRebuild()).isTrue();
+    await(rebuildStarted);
+    assertThat(indexer.startRebuild()).isFalse();
+    indexer.enqueue(7);
+    waitFor(() -> indexed.size() == 1);
+    release.countDown();
+    waitFor(() -> !indexer.isRebuilding() && indexed.size() == 2);
+
+    // Assert that the id was indexed when it changed and again after the rebuild
+    assertThat(indexed).containsExactly(7L, 7L);
+  }
+
+  @DisplayName("[TEST] A rebuild requested while one is running runs again afterwards.")
+  @Test
+  void testRequestedRebuildRunsAgain() throws Exception {
+
+    // Hold the first rebuild while another one is requested
+    AtomicInteger rebuilds = new AtomicInteger();
+    CountDownLatch rebuildStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    indexer = new CoalescingIndexer("test", 1, indexed::add, () -> {
+      if (rebuilds.incrementAndGet() == 1) {
+        rebuildStarted.countDown();
+        await(release);
+      }
+    });
+    indexer.requestRebuild();
+    await(rebuildStarted);
+    indexer.requestRebuild();
+    indexer.requestRebuild();
+    release.countDown();
+    waitFor(() -> rebuilds.get() == 2 && !indexer.isRebuilding());
+
+    // Assert that the requests while running were coalesced into a single rebuild
+    Thread.sleep(100);
+    assertThat(rebuilds).hasValue(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime() - deadline).isNegative();
+      Thread.sleep(10);
+    }
+  }
+}
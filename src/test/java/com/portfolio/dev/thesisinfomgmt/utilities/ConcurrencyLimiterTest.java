@@ -0,0 +1,167 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class ConcurrencyLimiterTest {
+
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @DisplayName("[TEST] Calls over the limit are rejected and counted.")
+  @Test
+  void testRejectOverLimit() {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(true, 2, 1, 10, 1000, 0.5, meterRegistry);
+    Permit first = concurrencyLimiter.acquire();
+    Permit second = concurrencyLimiter.acquire();
+
+    // Assert that the third concurrent call is shed instead of waiting
+    assertThatThrownBy(concurrencyLimiter::acquire)
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(meterRegistry.get("tims.concurrency.in-flight").gauge().value()).isEqualTo(2);
+    assertThat(meterRegistry.get("tims.concurrency.rejected").functionCounter().count())
+        .isEqualTo(1);
+
+    // Assert that a released slot can be used again
+    first.cancel();
+    second.cancel();
+    assertThat(concurrencyLimiter.acquire().run(() -> true)).isTrue();
+    assertThat(concurrencyLimiter.getInFlight()).isZero();
+  }
+
+  @DisplayName("[TEST] Fast calls using the limit raise it.")
+  @Test
+  void testIncreaseLimit() {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(true, 2, 1, 10, 1000, 0.5, meterRegistry);
+
+    // Keep the limit in use while completing fast calls
+    Permit held = concurrencyLimiter.acquire();
+    for (int i = 0; i < 10; i++) {
+      concurrencyLimiter.acquire().run(() -> true);
+    }
+    held.cancel();
+
+    // Assert that the limit grew additively
+    assertThat(concurrencyLimiter.getLimit()).isGreaterThan(2);
+    assertThat(meterRegistry.get("tims.concurrency.limit").gauge().value())
+        .isEqualTo(concurrencyLimiter.getLimit());
+  }
+
+  @DisplayName("[TEST] Slow calls lower the limit, but not below the minimum.")
+  @Test
+  void testDecreaseLimitOnLatency() {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(true, 8, 2, 10, 0, 0.5, meterRegistry);
+
+    // Assert that the limit is multiplied by the backoff ratio
+    concurrencyLimiter.acquire().run(() -> sleep(5));
+    assertThat(concurrencyLimiter.getLimit()).isEqualTo(4);
+    concurrencyLimiter.acquire().run(() -> sleep(5));
+    concurrencyLimiter.acquire().run(() -> sleep(5));
+    assertThat(concurrencyLimiter.getLimit()).isEqualTo(2);
+  }
+
+  @DisplayName("[TEST] A burst of concurrent slow calls lowers the limit only once.")
+  @Test
+  void testDecreaseLimitOncePerBurst() throws Exception {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(true, 8, 2, 10, 0, 0.5, meterRegistry);
+    CountDownLatch started = new CountDownLatch(4);
+    ExecutorService callers = Executors.newFixedThreadPool(4);
+    try {
+      // Run four slow calls which all start before the first one ends
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Permit permit = concurrencyLimiter.acquire();
+        results.add(callers.submit(() -> permit.run(() -> {
+          started.countDown();
+          return await(started) && sleep(5);
+        })));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+      }
+
+      // Assert that the limit was halved once instead of down to the minimum
+      assertThat(concurrencyLimiter.getLimit()).isEqualTo(4);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @DisplayName("[TEST] Calls failing due to database overload lower the limit.")
+  @Test
+  void testDecreaseLimitOnDrop() {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(true, 8, 2, 10, 1000, 0.5, meterRegistry);
+
+    // Assert that the failure is passed on and the limit lowered
+    assertThatThrownBy(() -> concurrencyLimiter.acquire().run(() -> {
+      throw new QueryTimeoutException("Query timed out.");
+    })).isInstanceOf(QueryTimeoutException.class);
+    assertThat(concurrencyLimiter.getLimit()).isEqualTo(4);
+    assertThat(concurrencyLimiter.getInFlight()).isZero();
+  }
+
+  @DisplayName("[TEST] Nothing is rejected when the limiter is disabled.")
+  @Test
+  void testDisabled() {
+
+    ConcurrencyLimiter concurrencyLimiter =
+        new ConcurrencyLimiter(false, 1, 1, 1, 0, 0.5, meterRegistry);
+
+    // Assert that calls over the limit are still accepted
+    Permit first = concurrencyLimiter.acquire();
+    Permit second = concurrencyLimiter.acquire();
+    assertThat(concurrencyLimiter.getInFlight()).isEqualTo(2);
+    assertThat(concurrencyLimiter.getRejected()).isZero();
+    first.cancel();
+    second.cancel();
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.BULK;
+import static com.portfolio.dev.thesisinfomgmt.utilities.Workload.INTERACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+
+class DatabaseExecutorTest {
+
+  private MeterRegistry meterRegistry;
+  private MockEnvironment environment;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    environment = new MockEnvironment()
+        .withProperty("tims.workload.interactive.pool-size", "1")
+        .withProperty("tims.workload.interactive.queue-capacity", "1")
+        .withProperty("tims.workload.bulk.pool-size", "1")
+        .withProperty("tims.workload.bulk.queue-capacity", "0");
+  }
+
+  @DisplayName("[TEST] Tasks run on the calling thread when async mode is disabled.")
+  @Test
+  void testSynchronousMode() {
+
+    DatabaseExecutor databaseExecutor = createDatabaseExecutor(false);
+
+    // Assert that the future is already completed by the calling thread
+    CompletableFuture<String> actualResult =
+        databaseExecutor.submit(INTERACTIVE, () -> Thread.currentThread().getName());
+    assertThat(actualResult).isCompletedWithValue(Thread.currentThread().getName());
+  }
+
+  @DisplayName("[TEST] Tasks are rejected once the pool and its queue are full.")
+  @Test
+  void testAsyncModeRejectsWhenFull() throws Exception {
+
+    DatabaseExecutor databaseExecutor = createDatabaseExecutor(true);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // Occupy the single thread and the single queue slot
+      CompletableFuture<Boolean> running =
+          databaseExecutor.submit(INTERACTIVE, () -> await(release));
+      CompletableFuture<Boolean> queued = databaseExecutor.submit(INTERACTIVE, () -> true);
+
+      // Assert that the next task is rejected instead of waiting
+      assertThatThrownBy(() -> databaseExecutor.submit(INTERACTIVE, () -> true))
+          .isInstanceOf(TaskRejectedException.class);
+      assertThat(meterRegistry.get("tims.workload.rejected").tag("workload", "interactive")
+          .functionCounter().count()).isEqualTo(1);
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      databaseExecutor.destroy();
+    }
+  }
+
+  @DisplayName("[TEST] A saturated bulk partition does not delay interactive tasks.")
+  @Test
+  void testWorkloadIsolation() throws Exception {
+
+    DatabaseExecutor databaseExecutor = createDatabaseExecutor(true);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // Occupy the whole bulk partition
+      CompletableFuture<Boolean> bulk = databaseExecutor.submit(BULK, () -> await(release));
+      assertThatThrownBy(() -> databaseExecutor.submit(BULK, () -> true))
+          .isInstanceOf(TaskRejectedException.class);
+
+      // Assert that interactive tasks still run on their own threads
+      String interactiveThread = databaseExecutor
+          .submit(INTERACTIVE, () -> Thread.currentThread().getName())
+          .get(5, TimeUnit.SECONDS);
+      assertThat(interactiveThread).startsWith("db-interactive-");
+      assertThat(bulk).isNotDone();
+
+      release.countDown();
+      assertThat(bulk.get(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      databaseExecutor.destroy();
+    }
+  }
+
+  @DisplayName("[TEST] Tasks over the partition bound are rejected when async mode is disabled.")
+  @Test
+  void testSynchronousModeRejectsWhenFull() throws Exception {
+
+    DatabaseExecutor databaseExecutor = createDatabaseExecutor(false);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Occupy the single bulk permit from another thread
+    CompletableFuture<CompletableFuture<Boolean>> running = CompletableFuture.supplyAsync(() ->
+        databaseExecutor.submit(BULK, () -> {
+          started.countDown();
+          return await(release);
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Assert that the next bulk task is rejected while interactive tasks still run
+    assertThatThrownBy(() -> databaseExecutor.submit(BULK, () -> true))
+        .isInstanceOf(TaskRejectedException.class);
+    assertThat(databaseExecutor.submit(INTERACTIVE, () -> true)).isCompletedWithValue(true);
+    assertThat(meterRegistry.get("tims.workload.active").tag("workload", "bulk")
+        .gauge().value()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS).get()).isTrue();
+  }
+
+  @DisplayName("[TEST] At most pool size tasks hold a permit at once when async mode is disabled.")
+  @Test
+  void testSynchronousModeBoundedByPoolSize() throws Exception {
+
+    environment
+        .withProperty("tims.workload.bulk.pool-size", "2")
+        .withProperty("tims.workload.bulk.queue-capacity", "8");
+    DatabaseExecutor databaseExecutor = createDatabaseExecutor(false);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    ExecutorService callers = Executors.newFixedThreadPool(10);
+    try {
+      // Submit as many tasks at once as the partition has permits and queue slots
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        results.add(callers.submit(() -> databaseExecutor.call(BULK, () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          sleep(20);
+          running.decrementAndGet();
+          return true;
+        })));
+      }
+
+      // Assert that every task ran, but never more than the pool size at the same time
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+      }
+      assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  private DatabaseExecutor createDatabaseExecutor(boolean asyncEnabled) {
+    ConcurrencyLimiter unlimited =
+        new ConcurrencyLimiter(false, 1, 1, 1, 1, 0.9, meterRegistry);
+    return new DatabaseExecutor(unlimited, meterRegistry, environment, asyncEnabled, 10);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
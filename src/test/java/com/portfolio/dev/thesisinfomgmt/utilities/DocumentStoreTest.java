@@ -0,0 +1,95 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.DocumentStore.StoredContent;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DocumentStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("[TEST] Documents are stored in sharded directories.")
+  @Test
+  void testWrite() throws Exception {
+
+    DocumentStore store = new DocumentStore(directory, 2, 2);
+    byte[] content = new byte[200_000];
+    new Random(1).nextBytes(content);
+    Optional<StoredContent> storedContent =
+        store.write(new ByteArrayInputStream(content), content.length);
+
+    // Assert that the content is stored in full below directories named after its key
+    assertThat(storedContent).isPresent();
+    String key = storedContent.get().getKey();
+    assertThat(storedContent.get().getSize()).isEqualTo(content.length);
+    Path file = store.resolve(key);
+    assertThat(directory.relativize(file).toString().replace('\\', '/'))
+        .isEqualTo(key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + key);
+    assertThat(Files.readAllBytes(file)).isEqualTo(content);
+
+    // Assert that a deleted document is gone
+    store.delete(key);
+    assertThat(file).doesNotExist();
+  }
+
+  @DisplayName("[TEST] Identical documents are stored once, under the hash of their content.")
+  @Test
+  void testWriteDuplicate() throws Exception {
+
+    DocumentStore store = new DocumentStore(directory, 2, 2);
+    byte[] content = "document".getBytes(StandardCharsets.UTF_8);
+    Path file = store.resolve(store.write(new ByteArrayInputStream(content), 100).get().getKey());
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    StoredContent storedContent = store.write(new ByteArrayInputStream(content), 100).get();
+
+    // Assert that the second write only touched the file of the first one
+    assertThat(storedContent.getKey())
+        .isEqualTo("43cc23fa52b87b4cc1d02b5b114154151d6adddb17c9fddc06b027fa99e24008");
+    assertThat(store.isModifiedBefore(storedContent.getKey(), Instant.now().minusSeconds(60)))
+        .isFalse();
+    try (Stream<Path> files = Files.walk(directory)) {
+      assertThat(files.filter(Files::isRegularFile)).containsExactly(file);
+    }
+
+    // Assert that only documents untouched since the cutoff are visited
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    StoredContent recentContent =
+        store.write(new ByteArrayInputStream(new byte[] { 1 }), 100).get();
+    List<String> visitedKeys = new ArrayList<>();
+    store.visitKeysModifiedBefore(Instant.now().minus(Duration.ofHours(1)), 10,
+        visitedKeys::addAll);
+    assertThat(visitedKeys).containsExactly(storedContent.getKey())
+        .doesNotContain(recentContent.getKey());
+  }
+
+  @DisplayName("[TEST] Documents larger than the maximum size are not stored.")
+  @Test
+  void testWriteTooLarge() throws Exception {
+
+    DocumentStore store = new DocumentStore(directory, 2, 2);
+    Optional<StoredContent> storedContent =
+        store.write(new ByteArrayInputStream(new byte[100_001]), 100_000);
+
+    // Assert that nothing is left behind, not even the temporary file
+    assertThat(storedContent).isEmpty();
+    try (Stream<Path> files = Files.walk(directory)) {
+      assertThat(files.filter(Files::isRegularFile)).isEmpty();
+    }
+  }
+}
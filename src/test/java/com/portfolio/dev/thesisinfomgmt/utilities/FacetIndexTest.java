@@ -0,0 +1,137 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.Facet;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.FacetCounts;
+import com.portfolio.dev.thesisinfomgmt.utilities.FacetIndex.FacetUsage;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FacetIndexTest {
+
+  private FacetIndex facetIndex;
+
+  @BeforeEach
+  void init() {
+    facetIndex = new FacetIndex();
+    facetIndex.update(1, values(1L, 2021L, Set.of(1L, 2L)));
+    facetIndex.update(2, values(1L, 2022L, Set.of(1L)));
+    facetIndex.update(3, values(2L, 2022L, Set.of(1L, 2L)));
+    facetIndex.update(4, values(2L, 2022L, Collections.emptySet()));
+  }
+
+  @DisplayName("[TEST] Every value is counted without a selection.")
+  @Test
+  void testCountWithoutSelection() {
+
+    FacetCounts counts = facetIndex.count(Collections.emptyMap());
+
+    assertThat(counts.getTotal()).isEqualTo(4);
+    assertThat(counts.getCounts().get(Facet.DEGREE))
+        .containsOnly(entry(1L, 2), entry(2L, 2));
+    assertThat(counts.getCounts().get(Facet.YEAR))
+        .containsOnly(entry(2021L, 1), entry(2022L, 3));
+    assertThat(counts.getCounts().get(Facet.ROLE))
+        .containsOnly(entry(1L, 3), entry(2L, 2));
+  }
+
+  @DisplayName("[TEST] Values of a facet are counted against the selection of the other facets.")
+  @Test
+  void testCountWithSelection() {
+
+    Map<Facet, Set<Long>> selection = new EnumMap<>(Facet.class);
+    selection.put(Facet.YEAR, Set.of(2022L));
+    selection.put(Facet.ROLE, Set.of(2L, 3L));
+    FacetCounts counts = facetIndex.count(selection);
+
+    // Assert that selected values of a facet match any, and all facets have to match
+    assertThat(counts.getTotal()).isEqualTo(1);
+    assertThat(counts.getCounts().get(Facet.DEGREE)).containsOnly(entry(2L, 1));
+    // Assert that the selected facets are counted without their own selection
+    assertThat(counts.getCounts().get(Facet.YEAR))
+        .containsOnly(entry(2021L, 1), entry(2022L, 1));
+    assertThat(counts.getCounts().get(Facet.ROLE))
+        .containsOnly(entry(1L, 2), entry(2L, 1));
+
+    // Assert that selecting values without theses matches nothing
+    selection.put(Facet.DEGREE, Set.of(9L));
+    assertThat(facetIndex.count(selection).getTotal()).isZero();
+  }
+
+  @DisplayName("[TEST] Updates replace the values of a thesis and removals drop it.")
+  @Test
+  void testUpdateAndRemove() {
+
+    facetIndex.update(1, values(2L, 2022L, Set.of(1L)));
+    facetIndex.remove(3);
+    facetIndex.remove(5);
+    FacetCounts counts = facetIndex.count(Collections.emptyMap());
+
+    assertThat(facetIndex.size()).isEqualTo(3);
+    assertThat(counts.getTotal()).isEqualTo(3);
+    assertThat(counts.getCounts().get(Facet.DEGREE))
+        .containsOnly(entry(1L, 1), entry(2L, 2));
+    assertThat(counts.getCounts().get(Facet.YEAR)).containsOnly(entry(2022L, 3));
+    assertThat(counts.getCounts().get(Facet.ROLE)).containsOnly(entry(1L, 2));
+
+    // Assert that bitmaps of values left without theses are dropped
+    assertThat(facetIndex.getMemoryUsage())
+        .extracting(FacetUsage::getFacet, FacetUsage::getValues)
+        .containsExactly(
+            tuple(Facet.DEGREE, 2),
+            tuple(Facet.YEAR, 1),
+            tuple(Facet.ROLE, 1));
+  }
+
+  @DisplayName("[TEST] Runs of consecutive ids are compressed.")
+  @Test
+  void testOptimize() {
+
+    FacetIndex index = new FacetIndex();
+    for (long thesisId = 1; thesisId <= 100_000; thesisId++) {
+      index.update(thesisId, values(thesisId <= 50_000 ? 1L : 2L, 2022L, Set.of(1L)));
+    }
+    long before = usedBytes(index.getMemoryUsage());
+    index.optimize();
+    long after = usedBytes(index.getMemoryUsage());
+
+    assertThat(index.size()).isEqualTo(100_000);
+    assertThat(after).isLessThan(before / 10);
+    assertThat(index.count(Collections.emptyMap()).getCounts().get(Facet.DEGREE))
+        .containsOnly(entry(1L, 50_000), entry(2L, 50_000));
+  }
+
+  @DisplayName("[TEST] Ids beyond unsigned 32-bit integers are rejected.")
+  @Test
+  void testIdOutOfRange() {
+
+    assertThatThrownBy(() -> facetIndex.update(0x1_0000_0000L, values(1L, 2022L, Set.of())))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    // Assert that ids beyond signed integers are stored
+    facetIndex.update(0xFFFF_FFFFL, values(3L, 2023L, Set.of()));
+    assertThat(facetIndex.count(Map.of(Facet.DEGREE, Set.of(3L))).getTotal()).isEqualTo(1);
+  }
+
+  private static Map<Facet, Set<Long>> values(long degreeId, long year, Set<Long> roleIds) {
+    Map<Facet, Set<Long>> values = new EnumMap<>(Facet.class);
+    values.put(Facet.DEGREE, Set.of(degreeId));
+    values.put(Facet.YEAR, Set.of(year));
+    values.put(Facet.ROLE, roleIds);
+    return values;
+  }
+
+  private static long usedBytes(List<FacetUsage> usage) {
+    return usage.stream().mapToLong(FacetUsage::getBytes).sum();
+  }
+}
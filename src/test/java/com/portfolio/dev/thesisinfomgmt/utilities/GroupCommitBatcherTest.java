@@ -0,0 +1,169 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class GroupCommitBatcherTest {
+
+  private MeterRegistry meterRegistry;
+  private GroupCommitBatcher<String, String> batcher;
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void shutdown() {
+    RequestDeadline.set(null);
+    if (batcher != null) {
+      batcher.shutdown();
+    }
+  }
+
+  @DisplayName("[TEST] Concurrent items are written in one batch and each gets its own result.")
+  @Test
+  void testItemsAreBatched() throws Exception {
+
+    batcher = createBatcher(3, 5000, 10, items -> items.stream()
+        .map(String::toUpperCase)
+        .collect(Collectors.toList()));
+
+    // Submit a full batch while the flusher is still waiting for more items
+    CompletableFuture<String> first = batcher.submit("a");
+    CompletableFuture<String> second = batcher.submit("b");
+    CompletableFuture<String> third = batcher.submit("c");
+
+    // Assert that a single batch was written and results were matched to their items
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+    assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("C");
+    assertThat(batches).hasSize(1);
+    assertThat(meterRegistry.get("tims.group-commit.batch-size").summary().max()).isEqualTo(3);
+  }
+
+  @DisplayName("[TEST] Every item of a batch fails when the batch handler fails.")
+  @Test
+  void testBatchFailure() {
+
+    batcher = createBatcher(2, 5000, 10, items -> {
+      throw new IllegalStateException("database down");
+    });
+
+    CompletableFuture<String> first = batcher.submit("a");
+    CompletableFuture<String> second = batcher.submit("b");
+
+    // Assert that both callers see the failure of the shared transaction
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @DisplayName("[TEST] Items are rejected once the queue is full.")
+  @Test
+  void testRejectsWhenFull() throws Exception {
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    batcher = createBatcher(1, 0, 1, items -> {
+      started.countDown();
+      await(release);
+      return items;
+    });
+
+    // Occupy the flusher and the single queue slot
+    CompletableFuture<String> running = batcher.submit("a");
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> queued = batcher.submit("b");
+
+    // Assert that the next item is rejected instead of waiting
+    assertThatThrownBy(() -> batcher.submit("c")).isInstanceOf(TaskRejectedException.class);
+    assertThat(meterRegistry.get("tims.group-commit.rejected").functionCounter().count())
+        .isEqualTo(1);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+  }
+
+  @DisplayName("[TEST] Items whose deadline passed while waiting are not written.")
+  @Test
+  void testExpiredItemsAreDropped() {
+
+    batcher = createBatcher(1, 0, 10, Function.identity());
+
+    // Submit an item of a request whose deadline has already passed
+    RequestDeadline.set(RequestDeadline.after(-1));
+    CompletableFuture<String> expired = batcher.submit("a");
+
+    // Assert that the item failed without reaching the batch handler
+    assertThatThrownBy(() -> expired.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(DeadlineExceededException.class);
+    assertThat(batches).isEmpty();
+  }
+
+  @DisplayName("[TEST] A short request deadline does not shorten the batch transaction.")
+  @Test
+  void testBatchHasItsOwnDeadline() throws Exception {
+
+    List<Long> remainingMillis = new CopyOnWriteArrayList<>();
+    batcher = createBatcher(2, 5000, 10, items -> {
+      remainingMillis.add(RequestDeadline.current().orElseThrow().remainingMillis());
+      return items;
+    });
+
+    // Submit an item of a request about to time out together with one without a deadline
+    RequestDeadline.set(RequestDeadline.after(1000));
+    CompletableFuture<String> first = batcher.submit("a");
+    RequestDeadline.set(null);
+    CompletableFuture<String> second = batcher.submit("b");
+
+    // Assert that both were written with the timeout of the batch
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    assertThat(remainingMillis).singleElement().satisfies(
+        remaining -> assertThat(remaining).isGreaterThan(1000));
+  }
+
+  private GroupCommitBatcher<String, String> createBatcher(
+      int maxBatchSize,
+      long maxDelayMs,
+      int queueCapacity,
+      Function<List<String>, List<String>> handler
+  ) {
+    return new GroupCommitBatcher<>("test", maxBatchSize, maxDelayMs, 5000, queueCapacity,
+        items -> {
+          batches.add(items);
+          return handler.apply(items);
+        }, meterRegistry);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
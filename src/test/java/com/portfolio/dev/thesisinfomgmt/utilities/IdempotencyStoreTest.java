@@ -0,0 +1,196 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static com.portfolio.dev.thesisinfomgmt.utilities.IdempotencyStore.IDEMPOTENT_REPLAYED_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class IdempotencyStoreTest {
+
+  private static final String CLIENT = "alice";
+
+  private IdempotencyStore idempotencyStore;
+
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void init() {
+    idempotencyStore = new IdempotencyStore(2, 60, 5000);
+    executions = new AtomicInteger();
+  }
+
+  @DisplayName("[TEST] Retry with the same key replays the first response.")
+  @Test
+  void testReplay() {
+
+    ResponseEntity<Object> first =
+        idempotencyStore.execute(CLIENT, "key", "request", this::created).join();
+    ResponseEntity<Object> retry =
+        idempotencyStore.execute(CLIENT, "key", "request", this::created).join();
+
+    // Assert that the action was executed once and the retry got the same response
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(retry.getBody()).isEqualTo(first.getBody());
+    assertThat(retry.getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+  }
+
+  @DisplayName("[TEST] Reusing a key for a different request is rejected.")
+  @Test
+  void testKeyReusedForDifferentRequest() {
+
+    idempotencyStore.execute(CLIENT, "key", "request", this::created).join();
+    ResponseEntity<Object> actualResponse =
+        idempotencyStore.execute(CLIENT, "key", "other request", this::created).join();
+
+    // Assert that the second request was not executed
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  @DisplayName("[TEST] Server errors are not stored so that they can be retried.")
+  @Test
+  void testServerErrorNotStored() {
+
+    idempotencyStore.execute(CLIENT, "key", "request", () -> {
+      executions.incrementAndGet();
+      return CompletableFuture.completedFuture(
+          ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }).join();
+    ResponseEntity<Object> retry =
+        idempotencyStore.execute(CLIENT, "key", "request", this::created).join();
+
+    // Assert that the retry was executed again
+    assertThat(executions.get()).isEqualTo(2);
+    assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+  }
+
+  @DisplayName("[TEST] Concurrent duplicate waits for the in-flight original.")
+  @Test
+  void testConcurrentDuplicateWaits() throws Exception {
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<ResponseEntity<Object>> original = idempotencyStore.execute(CLIENT,
+          "key", "request", () -> CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return created().join();
+          }, executor));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<ResponseEntity<Object>> duplicate =
+          idempotencyStore.execute(CLIENT, "key", "request", this::created);
+
+      // Assert that the duplicate is still waiting, then gets the original response
+      Thread.sleep(100);
+      assertThat(duplicate.isDone()).isFalse();
+      release.countDown();
+      assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody())
+          .isEqualTo(original.get(5, TimeUnit.SECONDS).getBody());
+      assertThat(executions.get()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("[TEST] Oldest entries are evicted once the store is full.")
+  @Test
+  void testEviction() {
+
+    idempotencyStore.execute(CLIENT, "key1", "request", this::created).join();
+    idempotencyStore.execute(CLIENT, "key2", "request", this::created).join();
+    idempotencyStore.execute(CLIENT, "key3", "request", this::created).join();
+
+    // Assert that the store stays bounded and the oldest key is executed again
+    assertThat(idempotencyStore.size()).isEqualTo(2);
+    idempotencyStore.execute(CLIENT, "key1", "request", this::created).join();
+    assertThat(executions.get()).isEqualTo(4);
+  }
+
+  @DisplayName("[TEST] In-flight entries are not evicted once the store is full.")
+  @Test
+  void testInFlightNotEvicted() {
+
+    CompletableFuture<ResponseEntity<Object>> inFlight = new CompletableFuture<>();
+    idempotencyStore.execute(CLIENT, "key1", "request", () -> {
+      executions.incrementAndGet();
+      return inFlight;
+    });
+    idempotencyStore.execute(CLIENT, "key2", "request", this::created).join();
+    idempotencyStore.execute(CLIENT, "key3", "request", this::created).join();
+
+    // Assert that the completed entry was evicted and a retry of the in-flight one still waits
+    CompletableFuture<ResponseEntity<Object>> retry =
+        idempotencyStore.execute(CLIENT, "key1", "request", this::created);
+    assertThat(retry.isDone()).isFalse();
+    inFlight.complete(ResponseEntity.status(HttpStatus.CREATED).body(1));
+    assertThat(retry.join().getBody()).isEqualTo(1);
+    assertThat(executions.get()).isEqualTo(3);
+  }
+
+  @DisplayName("[TEST] New keys are rejected while the store is full of in-flight entries.")
+  @Test
+  void testFullOfInFlight() {
+
+    idempotencyStore.execute(CLIENT, "key1", "request", CompletableFuture::new);
+    idempotencyStore.execute(CLIENT, "key2", "request", CompletableFuture::new);
+    ResponseEntity<Object> actualResponse =
+        idempotencyStore.execute(CLIENT, "key3", "request", this::created).join();
+
+    // Assert that the new key was not executed
+    assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(executions.get()).isZero();
+    assertThat(idempotencyStore.size()).isEqualTo(2);
+  }
+
+  @DisplayName("[TEST] Keys are scoped per authenticated client.")
+  @Test
+  void testKeyScopedPerClient() {
+
+    idempotencyStore.execute(CLIENT, "key", "request", this::created).join();
+    ResponseEntity<Object> actualResponse =
+        idempotencyStore.execute("bob", "key", "request", this::created).join();
+
+    // Assert that the other client's request was executed and not replayed
+    assertThat(executions.get()).isEqualTo(2);
+    assertThat(actualResponse.getHeaders().containsKey(IDEMPOTENT_REPLAYED_HEADER)).isFalse();
+  }
+
+  @DisplayName("[TEST] Anonymous retries are matched by the key alone.")
+  @Test
+  void testAnonymousKey() {
+
+    idempotencyStore.execute(null, "key", "request", this::created).join();
+    ResponseEntity<Object> retry =
+        idempotencyStore.execute(null, "key", "request", this::created).join();
+
+    // Assert that the retry was replayed, wherever it came from
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(retry.getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> created() {
+    return CompletableFuture.completedFuture(
+        ResponseEntity.status(HttpStatus.CREATED).body(executions.incrementAndGet()));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.MinHashIndex.Candidate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinHashIndexTest {
+
+  private static final String TEXT = "Catalogues of theses are paged with a keyset instead of"
+      + " offsets, so that deep pages are read as fast as the first one and inserted theses do"
+      + " not shift the following pages. The keyset is the sort key of the last thesis of a page,"
+      + " which the next page starts after.";
+
+  private MinHasher minHasher;
+
+  private MinHashIndex minHashIndex;
+
+  @BeforeEach
+  void init() {
+    minHasher = new MinHasher(128, 3);
+    minHashIndex = new MinHashIndex(128, 32);
+  }
+
+  @DisplayName("[TEST] Signatures estimate the share of shingles two texts have in common.")
+  @Test
+  void testSignature() {
+
+    // Assert that case and punctuation are ignored
+    assertThat(minHasher.signature("Keyset, pagination!"))
+        .isEqualTo(minHasher.signature("keyset PAGINATION"));
+    assertThat(minHasher.signature(" -- ")).isNull();
+    assertThat(minHasher.signature(null)).isNull();
+
+    // Assert that the similarity is close to the Jaccard similarity of the shingles
+    String changed = TEXT.replace("deep pages", "later pages");
+    assertThat(MinHasher.similarity(minHasher.signature(TEXT), minHasher.signature(changed)))
+        .isCloseTo(46.0 / 52.0, within(0.1));
+    assertThat(MinHasher.similarity(minHasher.signature(TEXT),
+        minHasher.signature("Caching of web applications in front of relational databases")))
+        .isLessThan(0.1);
+  }
+
+  @DisplayName("[TEST] Similar texts are found above the threshold, most similar first.")
+  @Test
+  void testFindSimilar() {
+
+    minHashIndex.put(1, minHasher.signature(TEXT));
+    minHashIndex.put(2, minHasher.signature(TEXT.replace("deep pages", "later pages")));
+    minHashIndex.put(3, minHasher.signature(TEXT));
+    minHashIndex.put(4, minHasher.signature(
+        "Caching of web applications in front of relational databases"));
+
+    List<Candidate> candidates = minHashIndex.findSimilar(1, 0.5, 10);
+    assertThat(candidates).extracting(Candidate::getId).containsExactly(3L, 2L);
+    assertThat(candidates.get(0).getSimilarity()).isEqualTo(1.0);
+    assertThat(minHashIndex.findSimilar(1, 0.5, 1)).extracting(Candidate::getId)
+        .containsExactly(3L);
+    assertThat(minHashIndex.findSimilar(5, 0.5, 10)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Replaced and removed signatures are no longer found.")
+  @Test
+  void testPutAndRemove() {
+
+    minHashIndex.put(1, minHasher.signature(TEXT));
+    minHashIndex.put(2, minHasher.signature(TEXT));
+    minHashIndex.put(3, minHasher.signature(TEXT));
+
+    minHashIndex.put(2, minHasher.signature("Caching of web applications"));
+    minHashIndex.remove(3);
+
+    assertThat(minHashIndex.size()).isEqualTo(2);
+    assertThat(minHashIndex.contains(3)).isFalse();
+    assertThat(minHashIndex.findSimilar(1, 0.5, 10)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Bands have to divide the signatures.")
+  @Test
+  void testInvalidBands() {
+
+    assertThatThrownBy(() -> new MinHashIndex(128, 30))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> minHashIndex.put(1, new int[64]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
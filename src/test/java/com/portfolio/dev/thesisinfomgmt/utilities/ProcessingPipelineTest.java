@@ -0,0 +1,150 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.Listener;
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.StageDefinition;
+import com.portfolio.dev.thesisinfomgmt.utilities.ProcessingPipeline.StageStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProcessingPipelineTest {
+
+  private MeterRegistry meterRegistry;
+  private ProcessingPipeline<StringBuilder> pipeline;
+  private final List<String> completed = new CopyOnWriteArrayList<>();
+  private final Map<String, String> failed = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void shutdown() {
+    if (pipeline != null) {
+      pipeline.shutdown();
+    }
+  }
+
+  @DisplayName("[TEST] Items pass every stage in order, failed items leave the pipeline.")
+  @Test
+  void testStages() throws Exception {
+
+    pipeline = createPipeline(
+        new StageDefinition<>("first", 2, 10, item -> item.append("-first")),
+        new StageDefinition<>("second", 2, 10, item -> {
+          if (item.toString().startsWith("bad")) {
+            throw new IOException("Unreadable");
+          }
+          item.append("-second");
+        }),
+        new StageDefinition<>("third", 1, 10, item -> item.append("-third")));
+
+    pipeline.submit(new StringBuilder("a"));
+    pipeline.submit(new StringBuilder("bad"));
+    pipeline.submit(new StringBuilder("b"));
+    awaitOutcomes(3);
+
+    // Assert that completed items went through every stage, and the failed one stopped
+    assertThat(completed).containsExactlyInAnyOrder("a-first-second-third", "b-first-second-third");
+    assertThat(failed).containsOnlyKeys("bad-first").containsEntry("bad-first", "second");
+
+    // Assert that every stage counted what it processed and what failed in it
+    assertThat(pipeline.getStatus()).extracting(StageStatus::getName, StageStatus::getProcessed,
+        StageStatus::getFailed).containsExactly(tuple("first", 3L, 0L),
+        tuple("second", 2L, 1L), tuple("third", 2L, 0L));
+    assertThat(meterRegistry.get("tims.pipeline.processed").tag("stage", "second")
+        .functionCounter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("tims.pipeline.failed").tag("stage", "second")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @DisplayName("[TEST] A slow stage holds back the stages before it and the submitter.")
+  @Test
+  void testBackpressure() throws Exception {
+
+    CountDownLatch release = new CountDownLatch(1);
+    pipeline = createPipeline(
+        new StageDefinition<>("first", 1, 1, item -> item.append("-first")),
+        new StageDefinition<>("second", 1, 1, item -> release.await()));
+
+    // One item blocks the second stage, one waits for it, one waits to be handed over to it and
+    // one waits for the first stage
+    for (int i = 0; i < 4; i++) {
+      pipeline.submit(new StringBuilder(Integer.toString(i)));
+    }
+    awaitQueued("first", 1);
+
+    // Assert that the next item waits for room in the pipeline
+    CompletableFuture<Void> submitted = CompletableFuture.runAsync(() -> {
+      try {
+        pipeline.submit(new StringBuilder("4"));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertThat(pipeline.remainingCapacity()).isZero();
+    try {
+      submitted.get(200, TimeUnit.MILLISECONDS);
+      throw new AssertionError("Submit did not wait for room in the pipeline");
+    } catch (TimeoutException e) {
+      // Expected
+    }
+
+    // Assert that every item completes once the second stage goes on
+    release.countDown();
+    submitted.get(5, TimeUnit.SECONDS);
+    awaitOutcomes(5);
+    assertThat(completed).hasSize(5);
+  }
+
+  @SafeVarargs
+  private ProcessingPipeline<StringBuilder> createPipeline(
+      StageDefinition<StringBuilder>... stages) {
+    return new ProcessingPipeline<>("test", Arrays.asList(stages),
+        new Listener<StringBuilder>() {
+
+          @Override
+          public void onCompleted(StringBuilder item) {
+            completed.add(item.toString());
+          }
+
+          @Override
+          public void onFailed(StringBuilder item, String stage, Exception exception) {
+            failed.put(item.toString(), stage);
+          }
+        }, meterRegistry);
+  }
+
+  private void awaitOutcomes(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (completed.size() + failed.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(completed.size() + failed.size()).isEqualTo(count);
+  }
+
+  private void awaitQueued(String stage, int queued) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (System.currentTimeMillis() < deadline && pipeline.getStatus().stream()
+        .noneMatch(status -> status.getName().equals(stage) && status.getQueued() == queued)) {
+      Thread.sleep(10);
+    }
+  }
+}
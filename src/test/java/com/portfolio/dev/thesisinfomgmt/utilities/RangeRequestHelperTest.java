@@ -0,0 +1,93 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class RangeRequestHelperTest {
+
+  private static final String ETAG = "\"3fa2\"";
+
+  private static final Instant LAST_MODIFIED = Instant.parse("2022-09-01T08:00:00.250Z");
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("[TEST] A single byte range is served as partial content.")
+  @Test
+  void testRange() throws Exception {
+
+    Path file = Files.write(directory.resolve("document"),
+        "0123456789".getBytes(StandardCharsets.US_ASCII));
+
+    // Assert that the range is served with its Content-Range
+    ResponseEntity<Object> response = serve(file, "bytes=2-5", null);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+        .isEqualTo("bytes 2-5/10");
+    assertThat(write(response)).isEqualTo("2345");
+
+    // Assert that open and suffix ranges are served up to the end of the file
+    assertThat(write(serve(file, "bytes=7-", null))).isEqualTo("789");
+    assertThat(write(serve(file, "bytes=-3", null))).isEqualTo("789");
+
+    // Assert that a range beyond the end of the file is not satisfiable
+    response = serve(file, "bytes=10-", null);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+
+    // Assert that malformed and multiple ranges are ignored
+    assertThat(serve(file, "bytes=5-2", null).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(serve(file, "bytes=0-1,4-5", null).getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @DisplayName("[TEST] A range is only served for the version named by If-Range.")
+  @Test
+  void testIfRange() throws Exception {
+
+    Path file = Files.write(directory.resolve("document"),
+        "0123456789".getBytes(StandardCharsets.US_ASCII));
+
+    // Assert that the range is served if the ETag or Last-Modified date matches
+    assertThat(serve(file, "bytes=2-", ETAG).getStatusCode())
+        .isEqualTo(HttpStatus.PARTIAL_CONTENT);
+    assertThat(serve(file, "bytes=2-", "Thu, 01 Sep 2022 08:00:00 GMT").getStatusCode())
+        .isEqualTo(HttpStatus.PARTIAL_CONTENT);
+
+    // Assert that the full file is served for another version or a weak ETag
+    ResponseEntity<Object> response = serve(file, "bytes=2-", "\"other\"");
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(write(response)).isEqualTo("0123456789");
+    assertThat(serve(file, "bytes=2-", "W/" + ETAG).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(serve(file, "bytes=2-", "Thu, 01 Sep 2022 08:00:01 GMT").getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+  }
+
+  private static ResponseEntity<Object> serve(Path file, String range, String ifRange) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(ETAG);
+    headers.setLastModified(LAST_MODIFIED);
+    return RangeRequestHelper.serveFile(headers, file, 10, range, ifRange);
+  }
+
+  private static String write(ResponseEntity<Object> response) throws Exception {
+    // Without a Tomcat request, the converter transfers the region to the body itself
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+    FileRegion region = (FileRegion) response.getBody();
+    new FileRegionHttpMessageConverter().write(region, null, outputMessage);
+    assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(region.getCount());
+    ByteArrayOutputStream body = (ByteArrayOutputStream) outputMessage.getBody();
+    return body.toString(StandardCharsets.US_ASCII.name());
+  }
+}
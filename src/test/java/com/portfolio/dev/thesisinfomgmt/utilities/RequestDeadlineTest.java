@@ -0,0 +1,88 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+class RequestDeadlineTest {
+
+  private final DeadlineAwareTransactionManager transactionManager =
+      new DeadlineAwareTransactionManager();
+
+  @AfterEach
+  void cleanup() {
+    RequestDeadline.set(null);
+  }
+
+  @DisplayName("[TEST] Tasks run on other threads with the deadline of the submitting request.")
+  @Test
+  void testPropagate() throws Exception {
+
+    RequestDeadline deadline = RequestDeadline.after(10000);
+    RequestDeadline.set(deadline);
+    Supplier<Optional<RequestDeadline>> task = RequestDeadline.propagate(RequestDeadline::current);
+
+    // Assert that the deadline is bound while the task runs on another thread
+    Optional<RequestDeadline> actualDeadline =
+        CompletableFuture.supplyAsync(task).get(5, TimeUnit.SECONDS);
+    assertThat(actualDeadline).contains(deadline);
+  }
+
+  @DisplayName("[TEST] Tasks are not started once the deadline has passed.")
+  @Test
+  void testPropagateExpired() {
+
+    RequestDeadline.set(RequestDeadline.after(0));
+    Supplier<Boolean> task = RequestDeadline.propagate(() -> true);
+
+    // Assert that the expired task is dropped
+    assertThatThrownBy(task::get).isInstanceOf(DeadlineExceededException.class);
+  }
+
+  @DisplayName("[TEST] Transactions keep their timeout outside of requests.")
+  @Test
+  void testTimeoutWithoutDeadline() {
+
+    // Assert that the timeout is unchanged
+    assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+        .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+  }
+
+  @DisplayName("[TEST] Transactions time out with the deadline of their request.")
+  @Test
+  void testTimeoutFromDeadline() {
+
+    RequestDeadline.set(RequestDeadline.after(2500));
+
+    // Assert that the remaining time is rounded up to whole seconds
+    assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+        .isEqualTo(3);
+
+    // Assert that a shorter configured timeout is kept
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setTimeout(1);
+    assertThat(transactionManager.determineTimeout(definition)).isEqualTo(1);
+  }
+
+  @DisplayName("[TEST] Transactions are not started once the deadline has passed.")
+  @Test
+  void testTimeoutExpired() {
+
+    RequestDeadline.set(RequestDeadline.after(0));
+
+    // Assert that no transaction is started
+    assertThatThrownBy(() ->
+        transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+        .isInstanceOf(TransactionTimedOutException.class);
+  }
+}
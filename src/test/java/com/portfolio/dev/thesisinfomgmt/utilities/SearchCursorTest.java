@@ -0,0 +1,34 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchCursorTest {
+
+  @DisplayName("[TEST] A cursor is decoded back to the exact same score and id.")
+  @Test
+  void testEncodeAndDecode() {
+
+    // A score without an exact decimal representation
+    float score = 1f / 3f;
+    String cursor = new SearchCursor(score, 42).encode();
+
+    // Assert that the decoded cursor points to the same hit
+    SearchCursor decoded = SearchCursor.decode(cursor).get();
+    assertThat(decoded.getScore()).isEqualTo(score);
+    assertThat(decoded.getId()).isEqualTo(42);
+  }
+
+  @DisplayName("[TEST] Malformed cursors are refused.")
+  @Test
+  void testInvalidCursor() {
+
+    // Assert that cursors which were not issued by the service are refused
+    assertThat(SearchCursor.decode("not a cursor!")).isEmpty();
+    assertThat(SearchCursor.decode("eHl6OjQy")).isEmpty();
+    assertThat(SearchCursor.decode(new ThesisCursor(ThesisSort.ID, 42, 0, null).encode()))
+        .isEmpty();
+  }
+}
@@ -0,0 +1,135 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.dev.thesisinfomgmt.utilities.SearchIndex.SearchHit;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SearchIndexTest {
+
+  @TempDir
+  Path directory;
+
+  private SearchIndex searchIndex;
+
+  @BeforeEach
+  void init() {
+    searchIndex = new SearchIndex(directory, 3, 2, 10_000);
+  }
+
+  @AfterEach
+  void destroy() {
+    searchIndex.close();
+  }
+
+  @DisplayName("[TEST] Hits are ranked by relevance and highlighted.")
+  @Test
+  void testSearch() {
+
+    searchIndex.update(new SearchDocument(1, "Caching in Web Applications",
+        "We compare caches.", 2021, 1, null, null), 1);
+    searchIndex.update(new SearchDocument(2, "Keyset Pagination of Large Catalogues",
+        "Paging without offsets.", 2022, 1, "key", "Catalogues are paged with a keyset."), 1);
+    searchIndex.update(new SearchDocument(3, "Indexing Theses",
+        "Full-text search.", 2022, 2, "key", "Paginated results <b>must</b> be stable."), 1);
+    searchIndex.refresh();
+
+    // Assert that title matches rank first and other forms of the word match too
+    List<SearchHit> hits = searchIndex.search("paginate", null, null, null, 10);
+    assertThat(hits).extracting(SearchHit::getId).containsExactly(2L, 3L);
+
+    // Assert that only fields with a match are highlighted, with the stored markup escaped
+    assertThat(hits.get(0).getHighlights()).containsOnlyKeys(SearchIndex.TITLE)
+        .containsEntry(SearchIndex.TITLE, "Keyset <mark>Pagination</mark> of Large Catalogues");
+    assertThat(hits.get(1).getHighlights()).containsOnlyKeys(SearchIndex.CONTENT)
+        .containsEntry(SearchIndex.CONTENT,
+            "<mark>Paginated</mark> results &lt;b&gt;must&lt;&#x2F;b&gt; be stable.");
+
+    // Assert that the filters apply
+    assertThat(searchIndex.search("paginate", 2L, null, null, 10))
+        .extracting(SearchHit::getId).containsExactly(3L);
+    assertThat(searchIndex.search("cache", null, 2022, null, 10)).isEmpty();
+  }
+
+  @DisplayName("[TEST] Pages after a cursor neither skip nor repeat hits.")
+  @Test
+  void testSearchAfter() {
+
+    // Theses with equal scores, which are only ordered by their ids
+    for (long id = 1; id <= 25; id++) {
+      searchIndex.update(new SearchDocument(id, "Thesis " + id, null, 2022, 1, null, null), 1);
+    }
+    searchIndex.refresh();
+
+    // Assert that paging through the hits returns each thesis once
+    List<Long> ids = new ArrayList<>();
+    SearchCursor cursor = null;
+    List<SearchHit> hits;
+    do {
+      hits = searchIndex.search("thesis", null, null, cursor, 10);
+      ids.addAll(hits.stream().map(SearchHit::getId).collect(Collectors.toList()));
+      if (!hits.isEmpty()) {
+        SearchHit last = hits.get(hits.size() - 1);
+        cursor = new SearchCursor(last.getScore(), last.getId());
+      }
+    } while (hits.size() == 10);
+    assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+  }
+
+  @DisplayName("[TEST] Theses are replaced, retrieved and removed.")
+  @Test
+  void testUpdateAndDelete() {
+
+    SearchDocument document =
+        new SearchDocument(1, "Draft", "Abstract", 2022, 1, "key", "Content");
+    searchIndex.update(document, 1);
+    searchIndex.update(document.withTitle("Final"), 2);
+    searchIndex.update(new SearchDocument(2, "Other", null, 2021, 2, null, null), 1);
+    searchIndex.refresh();
+
+    // Assert that the thesis was replaced, with its stored fields kept
+    assertThat(searchIndex.count()).isEqualTo(2);
+    assertThat(searchIndex.get(1)).contains(document.withTitle("Final"));
+
+    // Assert that only the thesis indexed before the cutoff is removed
+    searchIndex.deleteIndexedBefore(2);
+    searchIndex.refresh();
+    assertThat(searchIndex.get(2)).isEmpty();
+    assertThat(searchIndex.get(1)).isPresent();
+
+    searchIndex.delete(1);
+    searchIndex.refresh();
+    assertThat(searchIndex.count()).isZero();
+  }
+
+  @DisplayName("[TEST] A thesis is retrieved as last updated before the index is refreshed.")
+  @Test
+  void testGetUnrefreshed() {
+
+    SearchDocument document =
+        new SearchDocument(1, "Draft", "Abstract", 2022, 1, "key", "Content");
+    searchIndex.update(document, 1);
+
+    // Assert that updates are read back while searches do not see them yet
+    assertThat(searchIndex.get(1)).contains(document);
+    assertThat(searchIndex.search("draft", null, null, null, 10)).isEmpty();
+
+    searchIndex.refresh();
+    searchIndex.update(document.withTitle("Final"), 2);
+    assertThat(searchIndex.get(1)).contains(document.withTitle("Final"));
+
+    // Assert that a removal is read back too
+    searchIndex.delete(1);
+    assertThat(searchIndex.get(1)).isEmpty();
+    searchIndex.refresh();
+    assertThat(searchIndex.get(1)).isEmpty();
+  }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentedLogTest {
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("[TEST] Records are read back in order after a sequence.")
+  @Test
+  void testAppendAndRead() {
+
+    SegmentedLog log = new SegmentedLog(directory, 4096, 4);
+    for (int i = 1; i <= 5; i++) {
+      assertThat(log.append(payload("record " + i))).isEqualTo(i);
+    }
+
+    // Assert that only the records after the sequence are read, in order
+    assertThat(readAll(log, 2)).containsExactly("record 3", "record 4", "record 5");
+  }
+
+  @DisplayName("[TEST] Full segments are rotated and the oldest ones deleted.")
+  @Test
+  void testRotation() throws Exception {
+
+    // Room for 2 records of 20 bytes per segment, keeping 3 segments
+    int segmentSize = 2 * (SegmentedLog.HEADER_SIZE + 20) + Integer.BYTES;
+    SegmentedLog log = new SegmentedLog(directory, segmentSize, 3);
+    for (int i = 1; i <= 10; i++) {
+      log.append(payload(String.format("record %13d", i)));
+    }
+
+    // Assert that only the 3 newest segments are kept, holding records 5 to 10
+    assertThat(log.getSegmentCount()).isEqualTo(3);
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.count()).isEqualTo(3);
+    }
+    assertThat(readAll(log, 0)).hasSize(6)
+        .first().isEqualTo(String.format("record %13d", 5));
+
+    // Assert that records larger than a segment are refused
+    assertThatThrownBy(() -> log.append(new byte[segmentSize]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("[TEST] Appending resumes after the last record when the log is reopened.")
+  @Test
+  void testRecovery() {
+
+    SegmentedLog log = new SegmentedLog(directory, 4096, 4);
+    log.append(payload("before restart 1"));
+    log.append(payload("before restart 2"));
+    log.close();
+
+    // Assert that the reopened log continues the sequence and keeps the old records
+    SegmentedLog reopenedLog = new SegmentedLog(directory, 4096, 4);
+    assertThat(reopenedLog.getNextSequence()).isEqualTo(3);
+    assertThat(reopenedLog.append(payload("after restart"))).isEqualTo(3);
+    assertThat(readAll(reopenedLog, 0))
+        .containsExactly("before restart 1", "before restart 2", "after restart");
+  }
+
+  private static byte[] payload(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readAll(SegmentedLog log, long afterSequence) {
+    List<String> records = new ArrayList<>();
+    log.read(afterSequence, (sequence, payload) ->
+        records.add(new String(payload, StandardCharsets.UTF_8)));
+    return records;
+  }
+}
@@ -0,0 +1,23 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TextHelperTest {
+
+  @DisplayName("[TEST] Extracted text is joined into paragraphs of single-spaced words.")
+  @Test
+  void testNormalize() {
+
+    String extracted = "  Keyset pagina-\r\ntion  of large\ncata\u00ADlogues\u200B.\n \n\n"
+        + "The \uFB01rst\tpage is - \nalways fast.\nSee Table-\n2.  ";
+
+    // Assert that hyphenated words are joined, ligatures decomposed and invisible characters
+    // removed, while hyphens before new words and paragraph breaks are kept
+    assertThat(TextHelper.normalize(extracted)).isEqualTo(
+        "Keyset pagination of large catalogues.\n\n"
+            + "The first page is - always fast. See Table- 2.");
+  }
+}
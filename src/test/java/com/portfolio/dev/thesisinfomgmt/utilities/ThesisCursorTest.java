@@ -0,0 +1,38 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThesisCursorTest {
+
+  @DisplayName("[TEST] A cursor is decoded back to the same position.")
+  @Test
+  void testEncodeAndDecode() {
+
+    // The title holds the separator to make sure it is kept whole
+    String cursor = new ThesisCursor(ThesisSort.TITLE, 42, 2022, "Caching: A Study").encode();
+
+    // Assert that the decoded cursor points to the same thesis
+    ThesisCursor decoded = ThesisCursor.decode(cursor, ThesisSort.TITLE).get();
+    assertThat(decoded.getId()).isEqualTo(42);
+    assertThat(decoded.getYear()).isEqualTo(2022);
+    assertThat(decoded.getTitle()).isEqualTo("Caching: A Study");
+  }
+
+  @DisplayName("[TEST] Malformed cursors and cursors of another sort are refused.")
+  @Test
+  void testInvalidCursor() {
+
+    String cursor = new ThesisCursor(ThesisSort.YEAR, 42, 2022, null).encode();
+
+    // Assert that the cursor only applies to the sort it was issued for
+    assertThat(ThesisCursor.decode(cursor, ThesisSort.YEAR)).isPresent();
+    assertThat(ThesisCursor.decode(cursor, ThesisSort.TITLE)).isEmpty();
+
+    // Assert that cursors which were not issued by the service are refused
+    assertThat(ThesisCursor.decode("not a cursor!", ThesisSort.YEAR)).isEmpty();
+    assertThat(ThesisCursor.decode("WUVBUjp4", ThesisSort.YEAR)).isEmpty();
+  }
+}
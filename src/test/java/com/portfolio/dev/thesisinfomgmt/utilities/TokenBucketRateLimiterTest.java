@@ -0,0 +1,99 @@
+package com.portfolio.dev.thesisinfomgmt.utilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+  private AtomicLong nanoClock;
+
+  @BeforeEach
+  void init() {
+    nanoClock = new AtomicLong();
+  }
+
+  @DisplayName("[TEST] A client may burst up to the capacity, then has to wait for a refill.")
+  @Test
+  void testBurstThenWait() {
+
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(3, 2, 600, 10, nanoClock::get);
+
+    // Assert that the whole capacity can be used at once
+    for (int i = 0; i < 3; i++) {
+      assertThat(rateLimiter.tryAcquire("client")).isZero();
+    }
+
+    // Assert that the next request has to wait for one refill interval
+    assertThat(rateLimiter.tryAcquire("client")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+    // Assert that a single token is available again after one interval
+    nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(rateLimiter.tryAcquire("client")).isZero();
+    assertThat(rateLimiter.tryAcquire("client")).isPositive();
+  }
+
+  @DisplayName("[TEST] Clients have separate buckets.")
+  @Test
+  void testSeparateClients() {
+
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 600, 10, nanoClock::get);
+
+    // Assert that one throttled client does not affect another one
+    assertThat(rateLimiter.tryAcquire("first")).isZero();
+    assertThat(rateLimiter.tryAcquire("first")).isPositive();
+    assertThat(rateLimiter.tryAcquire("second")).isZero();
+  }
+
+  @DisplayName("[TEST] Idle buckets are evicted.")
+  @Test
+  void testEvictIdleBuckets() {
+
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 60, 10, nanoClock::get);
+    rateLimiter.tryAcquire("first");
+    rateLimiter.tryAcquire("second");
+    assertThat(rateLimiter.size()).isEqualTo(2);
+
+    // Assert that only the bucket of the active client is kept after the idle timeout
+    nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+    rateLimiter.tryAcquire("third");
+    assertThat(rateLimiter.size()).isEqualTo(1);
+  }
+
+  @DisplayName("[TEST] The number of tracked clients is bounded.")
+  @Test
+  void testMaxClients() {
+
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 600, 2, nanoClock::get);
+    rateLimiter.tryAcquire("first");
+    nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    rateLimiter.tryAcquire("second");
+
+    // Assert that a new client is admitted in place of the bucket closest to full
+    assertThat(rateLimiter.tryAcquire("third")).isZero();
+    assertThat(rateLimiter.size()).isEqualTo(2);
+    assertThat(rateLimiter.tryAcquire("second")).isPositive();
+    assertThat(rateLimiter.tryAcquire("first")).isZero();
+  }
+
+  @DisplayName("[TEST] Buckets are evicted in batches once the map is full.")
+  @Test
+  void testEvictInBatches() {
+
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 600, 20, nanoClock::get);
+    for (int i = 0; i < 20; i++) {
+      rateLimiter.tryAcquire("client" + i);
+      nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    // Assert that a single pass evicts a tenth of the clients, the ones closest to full
+    rateLimiter.tryAcquire("new1");
+    assertThat(rateLimiter.size()).isEqualTo(19);
+    assertThat(rateLimiter.tryAcquire("client0")).isZero();
+    assertThat(rateLimiter.tryAcquire("client2")).isPositive();
+  }
+}